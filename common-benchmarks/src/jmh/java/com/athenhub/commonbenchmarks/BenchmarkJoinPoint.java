@@ -0,0 +1,93 @@
+package com.athenhub.commonbenchmarks;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.SourceLocation;
+import org.aspectj.runtime.internal.AroundClosure;
+
+/**
+ * AOP 프록시 없이 LoggingAspect 의 advice 를 직접 호출하기 위한 {@link ProceedingJoinPoint} 구현.
+ *
+ * <p>{@link #proceed()}는 대상 메서드를 호출하지 않고 미리 정한 결과를 반환하므로, 측정값에는 advice 자체의 비용만 포함된다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class BenchmarkJoinPoint implements ProceedingJoinPoint {
+
+  private final BenchmarkMethodSignature signature;
+  private final Object[] args;
+  private final Object result;
+
+  BenchmarkJoinPoint(BenchmarkMethodSignature signature, Object[] args, Object result) {
+    this.signature = signature;
+    this.args = args;
+    this.result = result;
+  }
+
+  @Override
+  public Object proceed() {
+    return result;
+  }
+
+  @Override
+  public Object proceed(Object[] args) {
+    return result;
+  }
+
+  @Override
+  public void set$AroundClosure(AroundClosure arc) {}
+
+  @Override
+  public void stack$AroundClosure(AroundClosure arc) {}
+
+  @Override
+  public Object[] getArgs() {
+    return args;
+  }
+
+  @Override
+  public Signature getSignature() {
+    return signature;
+  }
+
+  @Override
+  public Object getThis() {
+    return null;
+  }
+
+  @Override
+  public Object getTarget() {
+    return null;
+  }
+
+  @Override
+  public SourceLocation getSourceLocation() {
+    return null;
+  }
+
+  @Override
+  public String getKind() {
+    return METHOD_EXECUTION;
+  }
+
+  @Override
+  public StaticPart getStaticPart() {
+    return null;
+  }
+
+  @Override
+  public String toShortString() {
+    return signature.toShortString();
+  }
+
+  @Override
+  public String toLongString() {
+    return signature.toLongString();
+  }
+
+  @Override
+  public String toString() {
+    return toShortString();
+  }
+}
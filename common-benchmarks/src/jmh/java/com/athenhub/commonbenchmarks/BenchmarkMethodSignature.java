@@ -0,0 +1,76 @@
+package com.athenhub.commonbenchmarks;
+
+import java.lang.reflect.Method;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * AOP 프록시 없이 로깅 메타 정보 계산 비용을 측정하기 위한 {@link MethodSignature} 구현.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class BenchmarkMethodSignature implements MethodSignature {
+
+  private final Method method;
+  private final String[] parameterNames;
+
+  BenchmarkMethodSignature(Method method, String... parameterNames) {
+    this.method = method;
+    this.parameterNames = parameterNames;
+  }
+
+  @Override
+  public Class getReturnType() {
+    return method.getReturnType();
+  }
+
+  @Override
+  public Method getMethod() {
+    return method;
+  }
+
+  @Override
+  public Class[] getParameterTypes() {
+    return method.getParameterTypes();
+  }
+
+  @Override
+  public String[] getParameterNames() {
+    return parameterNames;
+  }
+
+  @Override
+  public Class[] getExceptionTypes() {
+    return method.getExceptionTypes();
+  }
+
+  @Override
+  public String toShortString() {
+    return method.getName();
+  }
+
+  @Override
+  public String toLongString() {
+    return method.toString();
+  }
+
+  @Override
+  public String getName() {
+    return method.getName();
+  }
+
+  @Override
+  public int getModifiers() {
+    return method.getModifiers();
+  }
+
+  @Override
+  public Class getDeclaringType() {
+    return method.getDeclaringClass();
+  }
+
+  @Override
+  public String getDeclaringTypeName() {
+    return method.getDeclaringClass().getName();
+  }
+}
@@ -0,0 +1,124 @@
+package com.athenhub.commonbenchmarks;
+
+import com.athenhub.commoncore.error.AbstractServiceException;
+import com.athenhub.commoncore.error.ErrorResponse;
+import com.athenhub.commoncore.error.FieldError;
+import com.athenhub.commoncore.error.GlobalErrorCode;
+import com.athenhub.commonmvc.handler.MvcExceptionHandler;
+import com.athenhub.commonmvc.handler.utils.ValidationErrorParser;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+/**
+ * {@link MvcExceptionHandler} 핸들러 메서드와 {@link ValidationErrorParser} 벤치마크.
+ *
+ * <p>예외 객체는 미리 만들어 두므로 스택 트레이스 생성 비용은 포함되지 않는다. 핸들러가 남기는 ERROR 로그는 벤치마크 로그 설정에 의해 버려진다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExceptionHandlerBenchmark {
+
+  private final MvcExceptionHandler handler =
+      new MvcExceptionHandler((code, args) -> "message for " + code);
+
+  private MethodArgumentNotValidException validationException;
+  private AbstractServiceException serviceException;
+  private AccessDeniedException accessDeniedException;
+  private IllegalStateException uncaughtException;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    SignUpRequest target = new SignUpRequest("", "not-an-email", -1);
+    BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, "request");
+    bindingResult.rejectValue("name", "NotBlank", "must not be blank");
+    bindingResult.rejectValue("email", "Email", "must be a well-formed email address");
+    bindingResult.rejectValue("age", "Min", "must be greater than or equal to 0");
+    bindingResult.reject("PasswordMatch", "passwords do not match");
+    MethodParameter parameter =
+        new MethodParameter(
+            ExceptionHandlerBenchmark.class.getDeclaredMethod("signUp", SignUpRequest.class), 0);
+    validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+
+    serviceException = new SampleServiceException();
+    accessDeniedException = new AccessDeniedException("denied");
+    uncaughtException = new IllegalStateException("boom");
+  }
+
+  @Benchmark
+  public List<FieldError> parseValidationErrors() {
+    return ValidationErrorParser.from(validationException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse<List<FieldError>>> handleValidation() {
+    return handler.handleMethodArgumentNotValidException(validationException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse<Void>> handleServiceException() {
+    return handler.handleServiceException(serviceException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse<Void>> handleAccessDenied() {
+    return handler.handlerAccessDeniedException(accessDeniedException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse<Void>> handleUncaught() {
+    return handler.handleAllUncaughtException(uncaughtException);
+  }
+
+  @SuppressWarnings("unused")
+  private void signUp(SignUpRequest request) {}
+
+  /** 검증 대상 요청 DTO. */
+  public static class SignUpRequest {
+
+    private final String name;
+    private final String email;
+    private final int age;
+
+    SignUpRequest(String name, String email, int age) {
+      this.name = name;
+      this.email = email;
+      this.age = age;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public int getAge() {
+      return age;
+    }
+  }
+
+  /** 벤치마크용 비즈니스 예외. */
+  static class SampleServiceException extends AbstractServiceException {
+
+    SampleServiceException() {
+      super(GlobalErrorCode.NOT_FOUND);
+    }
+  }
+}
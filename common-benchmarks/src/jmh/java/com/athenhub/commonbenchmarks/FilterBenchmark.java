@@ -0,0 +1,77 @@
+package com.athenhub.commonbenchmarks;
+
+import com.athenhub.commonmvc.logging.filter.MdcFilter;
+import com.athenhub.commonmvc.security.AuthenticatedUser;
+import com.athenhub.commonmvc.security.filter.LoginFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 요청마다 실행되는 {@link MdcFilter}, {@link LoginFilter} 및 {@link AuthenticatedUser#getAuthorities()}
+ * 벤치마크.
+ *
+ * <p>다음 필터 체인은 아무 일도 하지 않으므로 필터 자체의 비용만 측정된다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterBenchmark {
+
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+  private final MdcFilter mdcFilter = new MdcFilter();
+  private final LoginFilter loginFilter = new LoginFilter();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  private MockHttpServletRequest request;
+  private AuthenticatedUser user;
+
+  @Setup
+  public void setup() {
+    UUID id = UUID.randomUUID();
+    request = new MockHttpServletRequest("GET", "/api/orders/1");
+    request.addHeader("X-User-Id", id.toString());
+    request.addHeader("X-Username", "athenhub");
+    request.addHeader("X-User-Name", "%EA%B9%80%ED%98%95%EC%84%AD");
+    request.addHeader("X-Slack-Id", "U123");
+    request.addHeader("X-User-Roles", "ROLE_USER,ROLE_ADMIN");
+    user = AuthenticatedUser.of(id, "athenhub", "김형섭", "U123", "ROLE_USER,ROLE_ADMIN");
+  }
+
+  @Benchmark
+  public void mdcFilter() throws ServletException, IOException {
+    mdcFilter.doFilter(request, response, NO_OP_CHAIN);
+  }
+
+  @Benchmark
+  public void loginFilter() throws ServletException, IOException {
+    try {
+      loginFilter.doFilter(request, response, NO_OP_CHAIN);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  @Benchmark
+  public Collection<? extends GrantedAuthority> authorities() {
+    return user.getAuthorities();
+  }
+}
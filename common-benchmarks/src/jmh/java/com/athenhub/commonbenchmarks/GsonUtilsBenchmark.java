@@ -0,0 +1,165 @@
+package com.athenhub.commonbenchmarks;
+
+import com.athenhub.commonutils.gson.GsonLocalDateTimeAdapter;
+import com.athenhub.commonutils.gson.GsonUtils;
+import com.athenhub.commonutils.gson.JsonBytes;
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link GsonUtils} 및 {@link GsonLocalDateTimeAdapter} 직렬화/역직렬화 벤치마크.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GsonUtilsBenchmark {
+
+  private static final TypeToken<List<Order>> ORDERS = new TypeToken<>() {};
+
+  private final Gson adapterGson =
+      new GsonBuilder()
+          .registerTypeAdapter(LocalDateTime.class, new GsonLocalDateTimeAdapter())
+          .create();
+
+  private final Order order =
+      new Order(1L, "athenhub", LocalDateTime.of(2025, 11, 17, 14, 0), List.of("a", "b", "c"));
+
+  private final List<Order> orders =
+      IntStream.range(0, 1_000)
+          .mapToObj(i -> new Order(i, "name-" + i, order.createdAt(), order.tags()))
+          .toList();
+
+  private final GeneratedOrder generatedOrder =
+      new GeneratedOrder(1L, "athenhub", order.createdAt(), order.tags());
+
+  private final String orderJson = GsonUtils.toJson(order);
+  private final String ordersJson = GsonUtils.toJson(orders);
+  private final byte[] ordersBytes = ordersJson.getBytes(StandardCharsets.UTF_8);
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream(ordersBytes.length);
+  private final LocalDateTime dateTime = order.createdAt();
+  private final String dateTimeJson = adapterGson.toJson(dateTime);
+  private final String dateTimeText = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+
+  @Benchmark
+  public String toJson() {
+    return GsonUtils.toJson(order);
+  }
+
+  @Benchmark
+  public String toJsonLargeList() {
+    return GsonUtils.toJson(orders);
+  }
+
+  @Benchmark
+  public String toJsonLargeListBounded() {
+    return GsonUtils.toJson(orders, JsonRenderLimits.DEFAULT);
+  }
+
+  @Benchmark
+  public Order fromJson() {
+    return GsonUtils.fromJson(orderJson, Order.class);
+  }
+
+  @Benchmark
+  public String toJsonGenerated() {
+    return GsonUtils.toJson(generatedOrder);
+  }
+
+  @Benchmark
+  public GeneratedOrder fromJsonGenerated() {
+    return GsonUtils.fromJson(orderJson, GeneratedOrder.class);
+  }
+
+  @Benchmark
+  public int toJsonLargeListStream() {
+    out.reset();
+    GsonUtils.toJson(orders, out);
+    return out.size();
+  }
+
+  @Benchmark
+  public byte[] toJsonLargeListStringBytes() {
+    return GsonUtils.toJson(orders).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public int toJsonLargeListPooledBytes() {
+    try (JsonBytes json = GsonUtils.toJsonBytes(orders)) {
+      return json.length();
+    }
+  }
+
+  @Benchmark
+  public List<Order> fromJsonLargeListString() {
+    return GsonUtils.fromJson(new String(ordersBytes, StandardCharsets.UTF_8), ORDERS);
+  }
+
+  @Benchmark
+  public List<Order> fromJsonLargeListBytes() {
+    return GsonUtils.fromJson(ordersBytes, ORDERS);
+  }
+
+  @Benchmark
+  public long fromJsonLargeListIterate() {
+    try (Stream<Order> stream =
+        GsonUtils.iterate(new ByteArrayInputStream(ordersBytes), Order.class).stream()) {
+      return stream.mapToLong(Order::id).sum();
+    }
+  }
+
+  @Benchmark
+  public int fromJsonLargeListIterateBatches() {
+    try (Stream<List<Order>> batches =
+        GsonUtils.iterate(new ByteArrayInputStream(ordersBytes), Order.class).batches(100)) {
+      return batches.mapToInt(List::size).sum();
+    }
+  }
+
+  @Benchmark
+  public String localDateTimeWrite() {
+    return adapterGson.toJson(dateTime);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeRead() {
+    return adapterGson.fromJson(dateTimeJson, LocalDateTime.class);
+  }
+
+  @Benchmark
+  public String localDateTimeFormatterWrite() {
+    return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeFormatterRead() {
+    return LocalDateTime.parse(dateTimeText, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+  }
+
+  /** 벤치마크용 주문 DTO. */
+  public record Order(long id, String name, LocalDateTime createdAt, List<String> tags) {}
+
+  /** 빌드 시점에 생성된 어댑터로 처리하는 {@link Order}와 같은 구조의 DTO. */
+  @GenerateGsonAdapter
+  public record GeneratedOrder(long id, String name, LocalDateTime createdAt, List<String> tags) {}
+}
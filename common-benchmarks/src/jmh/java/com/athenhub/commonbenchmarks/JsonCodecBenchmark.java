@@ -0,0 +1,98 @@
+package com.athenhub.commonbenchmarks;
+
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import com.athenhub.commonutils.json.GsonJsonCodec;
+import com.athenhub.commonutils.json.JacksonJsonCodec;
+import com.athenhub.commonutils.json.JsonCodec;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link JsonCodec} 엔진(Gson/Jackson)별 직렬화/역직렬화 처리량 비교 벤치마크.
+ *
+ * <p>서비스의 DTO 형태로 {@link Order}를 바꿔 측정한 뒤 athenhub.json.codec 값(gson/jackson)을 정한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonCodecBenchmark {
+
+  private static final Type ORDERS = new TypeToken<List<Order>>() {}.getType();
+
+  @Param({"GSON", "JACKSON"})
+  public String engine;
+
+  private final Order order =
+      new Order(1L, "athenhub", LocalDateTime.of(2025, 11, 17, 14, 0), List.of("a", "b", "c"));
+
+  private final List<Order> orders =
+      IntStream.range(0, 1_000)
+          .mapToObj(i -> new Order(i, "name-" + i, order.createdAt(), order.tags()))
+          .toList();
+
+  private JsonCodec codec;
+  private String orderJson;
+  private String ordersJson;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    codec =
+        switch (engine) {
+          case "JACKSON" ->
+              new JacksonJsonCodec(
+                  JsonMapper.builder()
+                      .findAndAddModules()
+                      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                      .build());
+          default -> new GsonJsonCodec();
+        };
+    orderJson = codec.toJson(order);
+    ordersJson = codec.toJson(orders);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return codec.toJson(order);
+  }
+
+  @Benchmark
+  public String toJsonLargeList() {
+    return codec.toJson(orders);
+  }
+
+  @Benchmark
+  public String toJsonLargeListBounded() {
+    return codec.toJson(orders, JsonRenderLimits.DEFAULT);
+  }
+
+  @Benchmark
+  public Order fromJson() {
+    return codec.fromJson(orderJson, Order.class);
+  }
+
+  @Benchmark
+  public List<Order> fromJsonLargeList() {
+    return codec.fromJson(ordersJson, ORDERS);
+  }
+
+  /** 벤치마크용 주문 DTO. */
+  public record Order(long id, String name, LocalDateTime createdAt, List<String> tags) {}
+}
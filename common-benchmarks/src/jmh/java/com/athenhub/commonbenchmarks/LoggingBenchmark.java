@@ -0,0 +1,146 @@
+package com.athenhub.commonbenchmarks;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.LogEventRenderer;
+import com.athenhub.commonmvc.logging.LogManager;
+import com.athenhub.commonmvc.logging.LoggingAspect;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+import com.athenhub.commonmvc.logging.encoder.LogFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LoggingAspect advice 전체 비용과, 그 구성 요소인 로그 메타 정보 계산, 파라미터/결과 렌더링, LogManager 포맷팅 벤치마크.
+ *
+ * <p>aspect* 벤치마크는 stub JoinPoint 로 실제 {@link LoggingAspect} advice 를 호출하므로 레벨 확인, 메타 정보 캐싱, 샘플링
+ * 분기를 포함하며, proceedBaseline 과 비교하여 advice 가 더하는 비용을 확인한다. render* 벤치마크는 레벨과 관계없이
+ * 렌더러 단독 비용을 측정한다.
+ *
+ * <p>{@code logLevel} 파라미터로 LogManager 로거의 INFO 레벨 활성화 여부에 따른 advice 비용 차이를, {@code format}
+ * 파라미터로 텍스트/구조화 출력 형식의 비용 차이를 비교한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingBenchmark {
+
+  @Param({"INFO", "WARN"})
+  public String logLevel;
+
+  @Param({"TEXT", "JSON", "LOGFMT"})
+  public String format;
+
+  private BenchmarkMethodSignature signature;
+  private MethodLogDescriptor descriptor;
+  private LogManager logManager;
+  private LogEventRenderer renderer;
+  private LoggingAspect aspect;
+  private BenchmarkJoinPoint joinPoint;
+  private LogEvent controllerEntry;
+  private Object[] args;
+  private Object result;
+
+  @Setup(Level.Trial)
+  public void setup() throws NoSuchMethodException {
+    ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(LogManager.class))
+        .setLevel(ch.qos.logback.classic.Level.toLevel(logLevel));
+
+    signature =
+        new BenchmarkMethodSignature(
+            SampleController.class.getMethod("search", String.class, int.class, List.class),
+            "keyword",
+            "page",
+            "tags");
+    descriptor = MethodLogDescriptor.of(signature);
+    logManager = new LogManager(LogFormat.valueOf(format));
+    renderer = new LogEventRenderer(logManager);
+    args = new Object[] {"athenhub", 3, List.of("a", "b")};
+    result = new SampleController.Page(List.of("x", "y", "z"), 3, 42L);
+    aspect = new LoggingAspect(logManager);
+    joinPoint = new BenchmarkJoinPoint(signature, args, result);
+    controllerEntry = LogEvent.controllerEntry("GET", "/api/search", descriptor, args);
+  }
+
+  /** 기존 extractMethodInfo/파라미터 이름 조회에 해당하는 메타 정보 계산 비용. */
+  @Benchmark
+  public MethodLogDescriptor describe() {
+    return MethodLogDescriptor.of(signature);
+  }
+
+  /**
+   * advice 없이 대상 메서드만 실행하는 기준 비용.
+   *
+   * <p>logLevel=WARN 에서 aspect* 벤치마크와 이 값의 차이가 INFO 비활성 시 advice 가 추가하는 비용이다.
+   */
+  @Benchmark
+  public Object proceedBaseline() {
+    return joinPoint.proceed();
+  }
+
+  /** {@code @LogExecution} advice 의 진입/종료 로그 기록을 포함한 전체 비용 (요청 컨텍스트 없음). */
+  @Benchmark
+  public Object aspectLogExecution() throws Throwable {
+    return aspect.logExecution(joinPoint);
+  }
+
+  /** RestController advice 의 진입/종료 로그 기록을 포함한 전체 비용 (요청 컨텍스트 없음). */
+  @Benchmark
+  public Object aspectLogController() throws Throwable {
+    return aspect.logController(joinPoint);
+  }
+
+  /** 기존 buildLogMessage 에 해당하는 파라미터 렌더링 및 진입 로그 기록 비용. */
+  @Benchmark
+  public void renderEntry() {
+    renderer.render(LogEvent.methodEntry(descriptor, args));
+  }
+
+  /** 결과 JSON 직렬화 및 종료 로그 기록 비용. */
+  @Benchmark
+  public void renderExit() {
+    renderer.render(LogEvent.methodExit(descriptor, result));
+  }
+
+  /** LogManager 포맷팅 비용 (이미 렌더링된 파라미터 문자열 전달). 구조화 형식이면 인코더를 거친다. */
+  @Benchmark
+  public void logManagerFormatting() {
+    if (logManager.isStructured()) {
+      logManager.logStructured(controllerEntry, "{keyword: athenhub}");
+    } else {
+      logManager.logControllerEntry(
+          "GET", "/api/search", descriptor.methodInfo(), ", Params: {keyword: athenhub}");
+    }
+  }
+
+  /** 벤치마크 대상 메서드 시그니처를 제공하는 컨트롤러. */
+  public static class SampleController {
+
+    /**
+     * 검색 API.
+     *
+     * @param keyword 검색어
+     * @param page 페이지
+     * @param tags 태그
+     * @return 검색 결과
+     */
+    public Page search(String keyword, int page, List<String> tags) {
+      return new Page(tags, page, 0L);
+    }
+
+    /** 검색 결과 페이지. */
+    public record Page(List<String> items, int page, long total) {}
+  }
+}
@@ -0,0 +1,105 @@
+package com.athenhub.commonbenchmarks;
+
+import com.athenhub.commonutils.gson.RecordTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Gson 기본 리플렉션 record 어댑터와 {@link RecordTypeAdapterFactory} 비교 벤치마크.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordAdapterBenchmark {
+
+  private final Gson reflectiveGson = new Gson();
+
+  private final Gson recordGson =
+      new GsonBuilder().registerTypeAdapterFactory(new RecordTypeAdapterFactory()).create();
+
+  private final Small small = new Small(1L, "athenhub", 12_500);
+
+  private final Large large =
+      new Large(
+          1L, 2L, 3, 4, 5.5, 6.5f, true, 'x', "a", "b", "c", "d", 7L, 8L, 9, 10, 11.5, 12.5f,
+          false, "e");
+
+  private final String smallJson = reflectiveGson.toJson(small);
+  private final String largeJson = reflectiveGson.toJson(large);
+
+  @Benchmark
+  public String smallToJsonReflective() {
+    return reflectiveGson.toJson(small);
+  }
+
+  @Benchmark
+  public String smallToJsonRecord() {
+    return recordGson.toJson(small);
+  }
+
+  @Benchmark
+  public Small smallFromJsonReflective() {
+    return reflectiveGson.fromJson(smallJson, Small.class);
+  }
+
+  @Benchmark
+  public Small smallFromJsonRecord() {
+    return recordGson.fromJson(smallJson, Small.class);
+  }
+
+  @Benchmark
+  public String largeToJsonReflective() {
+    return reflectiveGson.toJson(large);
+  }
+
+  @Benchmark
+  public String largeToJsonRecord() {
+    return recordGson.toJson(large);
+  }
+
+  @Benchmark
+  public Large largeFromJsonReflective() {
+    return reflectiveGson.fromJson(largeJson, Large.class);
+  }
+
+  @Benchmark
+  public Large largeFromJsonRecord() {
+    return recordGson.fromJson(largeJson, Large.class);
+  }
+
+  /** 컴포넌트 3개짜리 record. */
+  public record Small(long id, String name, int price) {}
+
+  /** 컴포넌트 20개짜리 record. */
+  public record Large(
+      long l1,
+      long l2,
+      int i1,
+      int i2,
+      double d1,
+      float f1,
+      boolean b1,
+      char c1,
+      String s1,
+      String s2,
+      String s3,
+      String s4,
+      long l3,
+      long l4,
+      int i3,
+      int i4,
+      double d2,
+      float f2,
+      boolean b2,
+      String s5) {}
+}
@@ -0,0 +1,63 @@
+package com.athenhub.commonmvc.autoconfig;
+
+import com.athenhub.commonmvc.codec.CborMessageConverterConfigurer;
+import com.athenhub.commonmvc.codec.CborProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 서비스 간 호출용 CBOR 메시지 컨버터를 자동 등록하는 AutoConfiguration.
+ *
+ * <p>이 설정은 다음 조건을 만족할 때 동작한다:
+ *
+ * <ul>
+ *   <li>Servlet 기반 Web Application 일 경우
+ *   <li>jackson-dataformat-cbor 가 클래스패스에 있을 경우
+ *   <li>설정값 athenhub.cbor.mvc.enabled=true (기본 false)
+ * </ul>
+ *
+ * <p>CBOR 는 athenhub.cbor.mvc.path-prefixes(기본 /internal/)로 시작하는 경로에서 Accept/Content-Type 이
+ * application/cbor 인 요청에만 사용되며, 그 밖의 요청은 JSON 으로 응답한다. 외부 클라이언트가 application/cbor 를 보내도 내부
+ * 호출 경로가 아니면 CBOR 로 응답하거나 CBOR 본문을 읽지 않는다. 게이트웨이는 내부 호출 경로를 외부에 노출하지 않아야 한다.
+ *
+ * <p>사용자가 {@link CborMessageConverterConfigurer} 를 직접 등록한 경우 자동 등록되지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(CBORFactory.class)
+@ConditionalOnProperty(prefix = "athenhub.cbor.mvc", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CborProperties.class)
+public class CborMessageConverterAutoConfiguration {
+
+  /**
+   * CBOR 메시지 컨버터 구성 등록.
+   *
+   * <p>Spring Boot 가 제공하는 {@link Jackson2ObjectMapperBuilder}(spring.jackson.* 설정, Jackson 모듈 반영)에
+   * CBOR 팩토리를 지정하여 JSON 응답과 같은 규칙으로 직렬화한다.
+   *
+   * @param builder 애플리케이션 Jackson ObjectMapper 빌더 (선택)
+   * @param properties CBOR 설정
+   * @return CborMessageConverterConfigurer
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public CborMessageConverterConfigurer cborMessageConverterConfigurer(
+      ObjectProvider<Jackson2ObjectMapperBuilder> builder, CborProperties properties) {
+    ObjectMapper cborMapper =
+        builder.getIfAvailable(Jackson2ObjectMapperBuilder::new).factory(new CBORFactory()).build();
+    return new CborMessageConverterConfigurer(cborMapper, properties.getPathPrefixes());
+  }
+}
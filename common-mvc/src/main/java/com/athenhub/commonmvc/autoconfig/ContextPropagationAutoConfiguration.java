@@ -0,0 +1,79 @@
+package com.athenhub.commonmvc.autoconfig;
+
+import com.athenhub.commonmvc.context.ContextExecutors;
+import com.athenhub.commonmvc.context.ContextPropagatingTaskDecorator;
+import com.athenhub.commonmvc.context.ContextPropagationProperties;
+import java.util.concurrent.ExecutorService;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 비동기 작업으로 MDC와 SecurityContext를 전파하는 AutoConfiguration.
+ *
+ * <p>이 설정은 다음 조건을 만족할 때 동작한다:
+ *
+ * <ul>
+ *   <li>설정값 athenhub.context-propagation.enabled=true (기본 true)
+ * </ul>
+ *
+ * <p>{@link TaskDecorator} 빈을 등록하면 Spring Boot 기본 TaskExecutor(@Async,
+ * spring.threads.virtual.enabled 사용 시 가상 스레드 실행기 포함)에 자동으로 적용된다. 사용자가 TaskDecorator 빈을 직접 등록한
+ * 경우 자동 등록되지 않는다.
+ *
+ * <p>athenhub.context-propagation.virtual-executor.enabled=true 인 경우 작업마다 가상 스레드를 생성하는 컨텍스트 전파
+ * ExecutorService 를 contextVirtualThreadExecutor 이름으로 등록한다. Boot 기본 TaskExecutor 이후에 등록되므로
+ * applicationTaskExecutor 를 대체하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@AutoConfiguration(after = TaskExecutionAutoConfiguration.class)
+@ConditionalOnProperty(
+    prefix = "athenhub.context-propagation",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@EnableConfigurationProperties(ContextPropagationProperties.class)
+public class ContextPropagationAutoConfiguration {
+
+  /**
+   * 컨텍스트 전파 TaskDecorator 자동 등록.
+   *
+   * @return ContextPropagatingTaskDecorator
+   */
+  @Bean
+  @ConditionalOnMissingBean(TaskDecorator.class)
+  public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+
+  /**
+   * 컨텍스트 전파 가상 스레드 실행기 등록.
+   *
+   * <p>athenhub.context-propagation.virtual-executor.enabled=true 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.context-propagation.virtual-executor",
+      name = "enabled",
+      havingValue = "true")
+  static class VirtualExecutorConfiguration {
+
+    /**
+     * 작업마다 가상 스레드를 생성하고 컨텍스트를 전파하는 ExecutorService 등록.
+     *
+     * @return 컨텍스트 전파 가상 스레드 ExecutorService
+     */
+    @Bean(name = "contextVirtualThreadExecutor", destroyMethod = "close")
+    @ConditionalOnMissingBean(name = "contextVirtualThreadExecutor")
+    public ExecutorService contextVirtualThreadExecutor() {
+      return ContextExecutors.newVirtualThreadPerTaskExecutor();
+    }
+  }
+}
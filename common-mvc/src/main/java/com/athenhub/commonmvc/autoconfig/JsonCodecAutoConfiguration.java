@@ -0,0 +1,62 @@
+package com.athenhub.commonmvc.autoconfig;
+
+import com.athenhub.commonutils.json.GsonJsonCodec;
+import com.athenhub.commonutils.json.JacksonJsonCodec;
+import com.athenhub.commonutils.json.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 로그 렌더러와 애플리케이션 코드가 공유하는 {@link JsonCodec}을 자동 등록하는 AutoConfiguration.
+ *
+ * <p>athenhub.json.codec 설정 값으로 직렬화 엔진을 선택한다:
+ *
+ * <ul>
+ *   <li>gson (기본값) — {@link GsonJsonCodec}
+ *   <li>jackson — Spring 컨텍스트의 ObjectMapper 를 사용하는 {@link JacksonJsonCodec}. ObjectMapper 빈이
+ *       없으면 gson 을 사용한다.
+ * </ul>
+ *
+ * <p>사용자가 JsonCodec 빈을 직접 등록한 경우 자동 등록되지 않는다. 엔진별 처리량은 common-benchmarks 의 JsonCodecBenchmark 로
+ * 서비스 DTO 형태에 맞춰 측정할 수 있다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@AutoConfiguration(
+    after = JacksonAutoConfiguration.class,
+    before = LoggingAspectAutoConfiguration.class)
+public class JsonCodecAutoConfiguration {
+
+  /**
+   * Jackson 코덱 등록.
+   *
+   * <p>athenhub.json.codec=jackson 이고 ObjectMapper 빈이 있는 경우에만 등록된다.
+   *
+   * @param objectMapper 애플리케이션 ObjectMapper
+   * @return JacksonJsonCodec
+   */
+  @Bean
+  @ConditionalOnMissingBean(JsonCodec.class)
+  @ConditionalOnBean(ObjectMapper.class)
+  @ConditionalOnProperty(prefix = "athenhub.json", name = "codec", havingValue = "jackson")
+  public JacksonJsonCodec jacksonJsonCodec(ObjectMapper objectMapper) {
+    return new JacksonJsonCodec(objectMapper);
+  }
+
+  /**
+   * Gson 코덱 등록. 다른 JsonCodec 빈이 없을 때 사용된다.
+   *
+   * @return GsonJsonCodec
+   */
+  @Bean
+  @ConditionalOnMissingBean(JsonCodec.class)
+  public GsonJsonCodec gsonJsonCodec() {
+    return new GsonJsonCodec();
+  }
+}
@@ -1,14 +1,44 @@
 package com.athenhub.commonmvc.autoconfig;
 
+import com.athenhub.commonmvc.context.RequestIdGenerator;
+import com.athenhub.commonmvc.logging.LogEventRenderer;
 import com.athenhub.commonmvc.logging.LogManager;
 import com.athenhub.commonmvc.logging.LoggingAspect;
+import com.athenhub.commonmvc.logging.LoggingProperties;
+import com.athenhub.commonmvc.logging.adaptive.AdaptiveLoggingController;
+import com.athenhub.commonmvc.logging.adaptive.LoadSignals;
+import com.athenhub.commonmvc.logging.async.AsyncLogDispatcher;
+import com.athenhub.commonmvc.logging.async.AsyncLogDispatcherMetrics;
+import com.athenhub.commonmvc.logging.capture.ResponseBodyCaptureFilter;
 import com.athenhub.commonmvc.logging.filter.MdcFilter;
+import com.athenhub.commonmvc.logging.latency.LatencyEndpoint;
+import com.athenhub.commonmvc.logging.latency.LatencyRecorder;
+import com.athenhub.commonmvc.logging.latency.LatencySummaryReporter;
+import com.athenhub.commonmvc.logging.sampling.LogSampler;
+import com.athenhub.commonmvc.logging.sampling.LogSamplerMetrics;
+import com.athenhub.commonmvc.logging.sampling.SamplingPolicy;
+import com.athenhub.commonmvc.logging.traffic.TrafficEndpoint;
+import com.athenhub.commonmvc.logging.traffic.TrafficFilter;
+import com.athenhub.commonmvc.logging.traffic.TrafficRecorder;
+import com.athenhub.commonmvc.logging.traffic.TrafficSummaryReporter;
+import com.athenhub.commonmvc.logging.watchdog.InFlightRequestRegistry;
+import com.athenhub.commonmvc.logging.watchdog.SlowRequestWatchdog;
+import com.athenhub.commonutils.json.GsonJsonCodec;
+import com.athenhub.commonutils.json.JsonCodec;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.IntSupplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 
 /**
@@ -23,6 +53,27 @@ import org.springframework.core.Ordered;
  *
  * <p>사용자가 동일한 Bean 을 직접 등록한 경우 자동 등록되지 않는다.
  *
+ * <p>athenhub.logging.mvc.async.enabled=true 인 경우 {@link AsyncLogDispatcher}를 등록하여 로그 렌더링/기록을 별도
+ * writer 스레드에서 수행한다.
+ *
+ * <p>athenhub.logging.mvc.sampling.enabled=true 인 경우 {@link LogSampler}를 등록하여 MdcFilter 에서 요청 단위로
+ * 컨트롤러 로그 샘플링 여부를 결정한다.
+ *
+ * <p>athenhub.logging.mvc.latency.enabled=true 인 경우 {@link LatencyRecorder}를 등록하여 엔드포인트별 응답 시간을
+ * 기록하고, Actuator 가 존재하면 latency 엔드포인트로 노출한다.
+ *
+ * <p>athenhub.logging.mvc.result.source=RESPONSE_BODY 인 경우 {@link ResponseBodyCaptureFilter}를 등록하여
+ * 종료 로그에 반환 객체 직렬화 대신 실제 응답 본문의 앞부분을 기록한다.
+ *
+ * <p>athenhub.logging.mvc.traffic.enabled=true 인 경우 {@link TrafficRecorder}를 등록하여 엔드포인트별 동시 처리 수,
+ * 완료/실패 수, 응답 바이트 수를 기록하고, Actuator 가 존재하면 traffic 엔드포인트로 노출한다.
+ *
+ * <p>athenhub.logging.mvc.adaptive.enabled=true 인 경우 {@link AdaptiveLoggingController}를 등록하여 부하가
+ * 높을 때 파라미터/결과 로그를 단계적으로 생략한다.
+ *
+ * <p>athenhub.logging.mvc.watchdog.enabled=true 인 경우 {@link InFlightRequestRegistry}와 {@link
+ * SlowRequestWatchdog}을 등록하여 임계 시간을 넘긴 요청의 스택 샘플을 로그로 남긴다.
+ *
  * @author 김지원
  * @since 0.3.0
  */
@@ -33,28 +84,115 @@ import org.springframework.core.Ordered;
     name = "enabled",
     havingValue = "true",
     matchIfMissing = true)
+@EnableConfigurationProperties(LoggingProperties.class)
 public class LoggingAspectAutoConfiguration {
 
+  /**
+   * 로그 기록기(LogManager) 자동 등록.
+   *
+   * <p>athenhub.logging.mvc.format 설정 값으로 텍스트 또는 구조화(JSON/LOGFMT) 형식을 선택한다.
+   *
+   * @param properties 로깅 설정
+   * @return LogManager
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public LogManager logManager(LoggingProperties properties) {
+    return new LogManager(properties.getFormat());
+  }
+
+  /**
+   * 로그 이벤트 렌더러 자동 등록.
+   *
+   * <p>athenhub.logging.mvc.result.* 설정 값으로 반환 결과 직렬화 크기를 제한한다. {@link JsonCodec} 빈이 존재하면 반환 결과를
+   * 해당 코덱으로 직렬화하고, 없으면 Gson 을 사용한다.
+   *
+   * @param logManager 로그 기록기
+   * @param properties 로깅 설정
+   * @param codec JSON 코덱 (선택)
+   * @return LogEventRenderer
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public LogEventRenderer logEventRenderer(
+      LogManager logManager, LoggingProperties properties, ObjectProvider<JsonCodec> codec) {
+    return new LogEventRenderer(
+        logManager, properties.getResult().toLimits(), codec.getIfAvailable(GsonJsonCodec::new));
+  }
+
   /**
    * LoggingAspect 자동 등록.
    *
-   * <p>사용자가 LoggingAspect 를 Bean 으로 직접 정의하지 않은 경우에만 등록된다. LogManager 를 기본 구현체로 사용한다.
+   * <p>사용자가 LoggingAspect 를 Bean 으로 직접 정의하지 않은 경우에만 등록된다. {@link AsyncLogDispatcher} 빈이 존재하면
+   * 비동기 모드로 동작하고, {@link LatencyRecorder} 빈이 존재하면 컨트롤러 응답 시간을, {@link TrafficRecorder} 빈이
+   * 존재하면 동시 처리 수와 완료/실패 수를 기록한다. {@link AdaptiveLoggingController} 빈이 존재하면 부하에 따라 로그 상세
+   * 수준을 낮춘다.
+   *
+   * @param logManager 로그 기록기
+   * @param renderer 로그 이벤트 렌더러
+   * @param dispatcher 비동기 디스패처 (선택)
+   * @param latencyRecorder 응답 시간 기록기 (선택)
+   * @param trafficRecorder 처리량 기록기 (선택)
+   * @param adaptive 로그 상세 수준 조절기 (선택)
+   * @return LoggingAspect
    */
   @Bean
   @ConditionalOnMissingBean(LoggingAspect.class)
-  public LoggingAspect loggingAspect() {
-    return new LoggingAspect(new LogManager());
+  public LoggingAspect loggingAspect(
+      LogManager logManager,
+      LogEventRenderer renderer,
+      ObjectProvider<AsyncLogDispatcher> dispatcher,
+      ObjectProvider<LatencyRecorder> latencyRecorder,
+      ObjectProvider<TrafficRecorder> trafficRecorder,
+      ObjectProvider<AdaptiveLoggingController> adaptive) {
+    return LoggingAspect.builder(logManager)
+        .renderer(renderer)
+        .dispatcher(dispatcher.getIfAvailable())
+        .latencyRecorder(latencyRecorder.getIfAvailable())
+        .trafficRecorder(trafficRecorder.getIfAvailable())
+        .adaptive(adaptive.getIfAvailable())
+        .build();
+  }
+
+  /**
+   * 요청 ID 생성기 자동 등록. 기본값은 시간 순서로 정렬되는 UUIDv7 이다.
+   *
+   * @return RequestIdGenerator
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public RequestIdGenerator requestIdGenerator() {
+    return RequestIdGenerator.uuidV7();
   }
 
   /**
    * 요청 단위로 MDC(traceId, requestId 등)를 설정하는 MdcFilter 등록.
    *
-   * <p>사용자가 이미 동일한 타입의 Filter 를 제공한 경우 override 하지 않는다.
+   * <p>사용자가 이미 동일한 타입의 Filter 를 제공한 경우 override 하지 않는다. {@link LogSampler} 빈이 존재하면 요청마다
+   * 샘플링 여부를 결정한다. athenhub.logging.mvc.mdc.eager=false 이면 MDC 대신 요청 컨텍스트만 바인딩한다.
+   * athenhub.logging.mvc.request-id.header 헤더에 유효한 요청 ID가 있으면 새로 생성하지 않고 재사용한다.
+   * {@link InFlightRequestRegistry} 빈이 존재하면 처리 중인 요청을 등록한다.
+   *
+   * @param sampler 로그 샘플러 (선택)
+   * @param requestIdGenerator 요청 ID 생성기
+   * @param inFlightRegistry 처리 중 요청 레지스트리 (선택)
+   * @param properties 로깅 설정
+   * @return MdcFilter
    */
   @Bean
   @ConditionalOnMissingBean
-  public MdcFilter mdcFilter() {
-    return new MdcFilter();
+  public MdcFilter mdcFilter(
+      ObjectProvider<LogSampler> sampler,
+      RequestIdGenerator requestIdGenerator,
+      ObjectProvider<InFlightRequestRegistry> inFlightRegistry,
+      LoggingProperties properties) {
+    return MdcFilter.builder()
+        .sampler(sampler.getIfAvailable())
+        .eagerMdc(properties.getMdc().isEager())
+        .requestIdGenerator(requestIdGenerator)
+        .requestIdHeader(properties.getRequestId().getHeader())
+        .inFlightRegistry(inFlightRegistry.getIfAvailable())
+        .build();
   }
 
   /**
@@ -72,4 +210,398 @@ public class LoggingAspectAutoConfiguration {
     registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10); // 요청 초기에 MDC 로깅 설정
     return registration;
   }
+
+  /**
+   * 응답 본문 캡처 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.result.source=RESPONSE_BODY 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.result",
+      name = "source",
+      havingValue = "RESPONSE_BODY")
+  static class ResponseBodyCaptureConfiguration {
+
+    /**
+     * 응답 본문 캡처 필터 등록.
+     *
+     * @param properties 로깅 설정
+     * @return ResponseBodyCaptureFilter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ResponseBodyCaptureFilter responseBodyCaptureFilter(LoggingProperties properties) {
+      return new ResponseBodyCaptureFilter(properties.getResult().getMaxLength());
+    }
+
+    /**
+     * 서블릿 필터로 ResponseBodyCaptureFilter 를 등록.
+     *
+     * <p>MdcFilter 다음(HIGHEST_PRECEDENCE + 20)에 실행되어, 보류된 종료 로그를 요청 컨텍스트가 유지된 상태에서 기록한다.
+     *
+     * @param filter ResponseBodyCaptureFilter 빈
+     * @return FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<ResponseBodyCaptureFilter> responseBodyCaptureFilterRegistration(
+        ResponseBodyCaptureFilter filter) {
+      FilterRegistrationBean<ResponseBodyCaptureFilter> registration =
+          new FilterRegistrationBean<>(filter);
+      registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+      return registration;
+    }
+  }
+
+  /**
+   * 비동기 로깅 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.async.enabled=true 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.async",
+      name = "enabled",
+      havingValue = "true")
+  static class AsyncLoggingConfiguration {
+
+    /**
+     * 비동기 로그 디스패처 등록.
+     *
+     * @param renderer 로그 이벤트 렌더러
+     * @param properties 로깅 설정
+     * @return AsyncLogDispatcher
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AsyncLogDispatcher asyncLogDispatcher(
+        LogEventRenderer renderer, LoggingProperties properties) {
+      LoggingProperties.Async async = properties.getAsync();
+      return new AsyncLogDispatcher(renderer, async.getBufferSize(), async.getOverflowPolicy());
+    }
+
+    /** Micrometer 가 존재하면 큐 깊이/drop 메트릭을 등록한다. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class AsyncLoggingMetricsConfiguration {
+
+      /**
+       * 비동기 로그 디스패처 메트릭 바인더 등록.
+       *
+       * @param dispatcher 비동기 디스패처
+       * @return AsyncLogDispatcherMetrics
+       */
+      @Bean
+      @ConditionalOnMissingBean
+      public AsyncLogDispatcherMetrics asyncLogDispatcherMetrics(AsyncLogDispatcher dispatcher) {
+        return new AsyncLogDispatcherMetrics(dispatcher);
+      }
+    }
+  }
+
+  /**
+   * 컨트롤러 로그 샘플링 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.sampling.enabled=true 인 경우에만 활성화된다. {@link SamplingPolicy} 빈을 직접 등록하면
+   * 설정 기반 정책 대신 사용된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.sampling",
+      name = "enabled",
+      havingValue = "true")
+  static class SamplingConfiguration {
+
+    /**
+     * 설정 기반 샘플링 정책 등록.
+     *
+     * @param properties 로깅 설정
+     * @return SamplingPolicy
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SamplingPolicy samplingPolicy(LoggingProperties properties) {
+      return properties.getSampling().toPolicy();
+    }
+
+    /**
+     * 로그 샘플러 등록.
+     *
+     * @param policy 샘플링 정책
+     * @return LogSampler
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogSampler logSampler(SamplingPolicy policy) {
+      return new LogSampler(policy);
+    }
+
+    /** Micrometer 가 존재하면 샘플링/제외 요청 수 메트릭을 등록한다. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class SamplingMetricsConfiguration {
+
+      /**
+       * 로그 샘플러 메트릭 바인더 등록.
+       *
+       * @param sampler 로그 샘플러
+       * @return LogSamplerMetrics
+       */
+      @Bean
+      @ConditionalOnMissingBean
+      public LogSamplerMetrics logSamplerMetrics(LogSampler sampler) {
+        return new LogSamplerMetrics(sampler);
+      }
+    }
+  }
+
+  /**
+   * 엔드포인트별 응답 시간 기록 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.latency.enabled=true 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.latency",
+      name = "enabled",
+      havingValue = "true")
+  static class LatencyConfiguration {
+
+    /**
+     * 응답 시간 기록기 등록.
+     *
+     * @param properties 로깅 설정
+     * @return LatencyRecorder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LatencyRecorder latencyRecorder(LoggingProperties properties) {
+      LoggingProperties.Latency latency = properties.getLatency();
+      return new LatencyRecorder(latency.getWindow(), latency.getSlots());
+    }
+
+    /**
+     * 응답 시간 요약 로그 리포터 등록.
+     *
+     * @param recorder 응답 시간 기록기
+     * @param properties 로깅 설정
+     * @return LatencySummaryReporter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = "athenhub.logging.mvc.latency",
+        name = "summary-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+    public LatencySummaryReporter latencySummaryReporter(
+        LatencyRecorder recorder, LoggingProperties properties) {
+      return new LatencySummaryReporter(recorder, properties.getLatency().getSummaryInterval());
+    }
+
+    /** Actuator 가 존재하고 latency 엔드포인트가 노출된 경우 등록한다. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class LatencyEndpointConfiguration {
+
+      /**
+       * 응답 시간 Actuator 엔드포인트 등록.
+       *
+       * @param recorder 응답 시간 기록기
+       * @return LatencyEndpoint
+       */
+      @Bean
+      @ConditionalOnMissingBean
+      @ConditionalOnAvailableEndpoint(endpoint = LatencyEndpoint.class)
+      public LatencyEndpoint latencyEndpoint(LatencyRecorder recorder) {
+        return new LatencyEndpoint(recorder);
+      }
+    }
+  }
+
+  /**
+   * 엔드포인트별 처리량 기록 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.traffic.enabled=true 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.traffic",
+      name = "enabled",
+      havingValue = "true")
+  static class TrafficConfiguration {
+
+    /**
+     * 처리량 기록기 등록.
+     *
+     * @return TrafficRecorder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TrafficRecorder trafficRecorder() {
+      return new TrafficRecorder();
+    }
+
+    /**
+     * 응답 바이트 수 기록 필터 등록.
+     *
+     * @param recorder 처리량 기록기
+     * @return TrafficFilter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TrafficFilter trafficFilter(TrafficRecorder recorder) {
+      return new TrafficFilter(recorder);
+    }
+
+    /**
+     * 서블릿 필터로 TrafficFilter 를 등록.
+     *
+     * <p>MdcFilter, ResponseBodyCaptureFilter 다음(HIGHEST_PRECEDENCE + 30)에 실행된다.
+     *
+     * @param filter TrafficFilter 빈
+     * @return FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<TrafficFilter> trafficFilterRegistration(TrafficFilter filter) {
+      FilterRegistrationBean<TrafficFilter> registration = new FilterRegistrationBean<>(filter);
+      registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+      return registration;
+    }
+
+    /**
+     * 처리량 요약 로그 리포터 등록.
+     *
+     * @param recorder 처리량 기록기
+     * @param properties 로깅 설정
+     * @return TrafficSummaryReporter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+        prefix = "athenhub.logging.mvc.traffic",
+        name = "summary-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+    public TrafficSummaryReporter trafficSummaryReporter(
+        TrafficRecorder recorder, LoggingProperties properties) {
+      return new TrafficSummaryReporter(recorder, properties.getTraffic().getSummaryInterval());
+    }
+
+    /** Actuator 가 존재하고 traffic 엔드포인트가 노출된 경우 등록한다. */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class TrafficEndpointConfiguration {
+
+      /**
+       * 처리량 Actuator 엔드포인트 등록.
+       *
+       * @param recorder 처리량 기록기
+       * @return TrafficEndpoint
+       */
+      @Bean
+      @ConditionalOnMissingBean
+      @ConditionalOnAvailableEndpoint(endpoint = TrafficEndpoint.class)
+      public TrafficEndpoint trafficEndpoint(TrafficRecorder recorder) {
+        return new TrafficEndpoint(recorder);
+      }
+    }
+  }
+
+  /**
+   * 부하에 따른 로그 상세 수준 조절 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.adaptive.enabled=true 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.adaptive",
+      name = "enabled",
+      havingValue = "true")
+  static class AdaptiveLoggingConfiguration {
+
+    /**
+     * 로그 상세 수준 조절기 등록.
+     *
+     * <p>처리 중 요청 수는 {@link InFlightRequestRegistry} 또는 {@link TrafficRecorder} 빈에서, p99 응답 시간은
+     * {@link LatencyRecorder} 빈에서 관측하며, 빈이 없으면 해당 신호는 사용하지 않는다.
+     *
+     * @param inFlightRegistry 처리 중 요청 레지스트리 (선택)
+     * @param trafficRecorder 처리량 기록기 (선택)
+     * @param latencyRecorder 응답 시간 기록기 (선택)
+     * @param properties 로깅 설정
+     * @return AdaptiveLoggingController
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AdaptiveLoggingController adaptiveLoggingController(
+        ObjectProvider<InFlightRequestRegistry> inFlightRegistry,
+        ObjectProvider<TrafficRecorder> trafficRecorder,
+        ObjectProvider<LatencyRecorder> latencyRecorder,
+        LoggingProperties properties) {
+      LoggingProperties.Adaptive adaptive = properties.getAdaptive();
+      LoadSignals signals =
+          new LoadSignals(
+              inFlight(inFlightRegistry.getIfAvailable(), trafficRecorder.getIfAvailable()),
+              latencyRecorder.getIfAvailable());
+      return new AdaptiveLoggingController(
+          signals, adaptive.toPolicy(), adaptive.getCheckInterval());
+    }
+
+    private static IntSupplier inFlight(
+        InFlightRequestRegistry registry, TrafficRecorder trafficRecorder) {
+      if (registry != null) {
+        return registry::size;
+      }
+      if (trafficRecorder != null) {
+        return () -> (int) trafficRecorder.totalActive();
+      }
+      return null;
+    }
+  }
+
+  /**
+   * 지연 요청 감시 관련 빈 등록.
+   *
+   * <p>athenhub.logging.mvc.watchdog.enabled=true 인 경우에만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnProperty(
+      prefix = "athenhub.logging.mvc.watchdog",
+      name = "enabled",
+      havingValue = "true")
+  static class WatchdogConfiguration {
+
+    /**
+     * 처리 중 요청 레지스트리 등록.
+     *
+     * @return InFlightRequestRegistry
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public InFlightRequestRegistry inFlightRequestRegistry() {
+      return new InFlightRequestRegistry();
+    }
+
+    /**
+     * 지연 요청 watchdog 등록.
+     *
+     * @param registry 처리 중 요청 레지스트리
+     * @param properties 로깅 설정
+     * @return SlowRequestWatchdog
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SlowRequestWatchdog slowRequestWatchdog(
+        InFlightRequestRegistry registry, LoggingProperties properties) {
+      LoggingProperties.Watchdog watchdog = properties.getWatchdog();
+      return new SlowRequestWatchdog(
+          registry,
+          watchdog.getThreshold(),
+          watchdog.toEndpointThresholds(),
+          watchdog.getCheckInterval(),
+          watchdog.getSamples(),
+          watchdog.getMaxDepth());
+    }
+  }
 }
@@ -0,0 +1,47 @@
+package com.athenhub.commonmvc.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 서비스 간 호출에 CBOR(application/cbor) 본문을 사용할 수 있도록 메시지 컨버터를 구성하는 WebMvcConfigurer.
+ *
+ * <pre>
+ * - 애플리케이션 Jackson 설정(모듈, 이름 전략, null 처리)을 그대로 적용한 CBOR ObjectMapper 사용
+ * - ErrorResponse/FieldError 등 모든 응답이 JSON과 같은 필드 구조로 인코딩됨
+ * - CBOR 컨버터를 JSON 컨버터 뒤에 두어 Accept 가 없거나 와일드카드인 요청(브라우저/외부 클라이언트)은 계속 JSON으로 응답
+ * - 내부 호출 경로 접두사로 시작하는 요청에서만 Accept: application/cbor 요청을 CBOR로 응답하고, Content-Type:
+ *   application/cbor 요청 본문을 읽음
+ * </pre>
+ *
+ * <p>Spring MVC가 기본 등록한 CBOR 컨버터는 애플리케이션 Jackson 설정을 따르지 않고 모든 경로에서 CBOR를 허용하므로 제거하고
+ * {@link InternalCborHttpMessageConverter}로 대체한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class CborMessageConverterConfigurer implements WebMvcConfigurer {
+
+  private final ObjectMapper cborMapper;
+  private final List<String> pathPrefixes;
+
+  /**
+   * 주어진 CBOR ObjectMapper로 내부 호출 경로에서만 동작하는 컨버터를 구성하는 Configurer를 생성한다.
+   *
+   * @param cborMapper CBORFactory 기반 ObjectMapper
+   * @param pathPrefixes CBOR 를 허용하는 요청 경로 접두사 목록
+   */
+  public CborMessageConverterConfigurer(ObjectMapper cborMapper, List<String> pathPrefixes) {
+    this.cborMapper = cborMapper;
+    this.pathPrefixes = pathPrefixes;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+    converters.add(new InternalCborHttpMessageConverter(cborMapper, pathPrefixes));
+  }
+}
@@ -0,0 +1,37 @@
+package com.athenhub.commonmvc.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code athenhub.cbor.mvc} 하위의 서비스 간 CBOR 메시지 컨버터 설정 값.
+ *
+ * <pre>
+ * athenhub:
+ *   cbor:
+ *     mvc:
+ *       enabled: true
+ *       path-prefixes:
+ *         - /internal/
+ * </pre>
+ *
+ * <p>CBOR 는 path-prefixes 로 시작하는 요청 경로(컨텍스트 경로 제외)에서만 읽고 쓴다. 게이트웨이가 외부에 노출하지 않는 내부 전용 경로를
+ * 지정해야 하며, 그 밖의 경로에서는 Accept/Content-Type 이 application/cbor 여도 CBOR 를 사용하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "athenhub.cbor.mvc")
+public class CborProperties {
+
+  /** CBOR 메시지 컨버터 등록 여부. */
+  private boolean enabled = false;
+
+  /** CBOR 를 허용하는 내부 호출 경로 접두사 목록. 비어 있으면 어떤 요청에도 CBOR 를 사용하지 않는다. */
+  private List<String> pathPrefixes = new ArrayList<>(List.of("/internal/"));
+}
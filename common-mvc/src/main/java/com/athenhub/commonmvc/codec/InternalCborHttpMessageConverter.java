@@ -0,0 +1,95 @@
+package com.athenhub.commonmvc.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * 내부 호출 경로의 요청에서만 CBOR 본문을 읽고 쓰는 메시지 컨버터.
+ *
+ * <pre>
+ * - 현재 요청 경로(컨텍스트 경로 제외)가 지정한 접두사로 시작할 때만 canRead/canWrite 가 true
+ * - 경로는 Spring MVC 와 같이 디코딩하고 ; 경로 파라미터를 제거한 뒤 비교하며, . / .. 세그먼트가 남은 경로는 거부
+ * - 그 밖의 경로에서 Accept: application/cbor 요청은 406, Content-Type: application/cbor 본문은 415로 거부됨
+ * - 요청 컨텍스트가 없으면(요청 처리 스레드 밖) CBOR 를 사용하지 않음
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class InternalCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+  private final List<String> pathPrefixes;
+
+  /**
+   * 주어진 경로 접두사에서만 CBOR 를 사용하는 컨버터를 생성한다.
+   *
+   * @param cborMapper CBORFactory 기반 ObjectMapper
+   * @param pathPrefixes CBOR 를 허용하는 요청 경로 접두사 목록
+   */
+  public InternalCborHttpMessageConverter(ObjectMapper cborMapper, List<String> pathPrefixes) {
+    super(cborMapper);
+    this.pathPrefixes = List.copyOf(pathPrefixes);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return isInternalRequest() && super.canRead(clazz, mediaType);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return isInternalRequest() && super.canRead(type, contextClass, mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return isInternalRequest() && super.canWrite(clazz, mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    return isInternalRequest() && super.canWrite(type, clazz, mediaType);
+  }
+
+  /**
+   * 현재 요청 경로가 내부 호출 경로 접두사로 시작하는지 확인한다.
+   *
+   * <p>원본 요청 URI는 인코딩(/%69nternal)이나 경로 파라미터(/internal/..;/public)로 라우팅 경로와 달라질 수 있으므로
+   * {@link UrlPathHelper}로 디코딩하고 경로 파라미터를 제거한 애플리케이션 내 경로를 사용한다.
+   *
+   * @return 내부 호출 경로이면 true, 요청 컨텍스트가 없거나 . / .. 세그먼트가 있으면 false
+   */
+  private boolean isInternalRequest() {
+    if (!(RequestContextHolder.getRequestAttributes()
+        instanceof ServletRequestAttributes attributes)) {
+      return false;
+    }
+    HttpServletRequest request = attributes.getRequest();
+    String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    if (hasDotSegment(path)) {
+      return false;
+    }
+    for (String prefix : pathPrefixes) {
+      if (path.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasDotSegment(String path) {
+    for (String segment : path.split("/")) {
+      if (segment.equals(".") || segment.equals("..")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
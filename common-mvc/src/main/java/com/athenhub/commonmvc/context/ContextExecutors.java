@@ -0,0 +1,60 @@
+package com.athenhub.commonmvc.context;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MDC와 SecurityContext를 전파하는 실행기 생성 유틸리티.
+ *
+ * <pre>{@code
+ * ExecutorService executor = ContextExecutors.newVirtualThreadPerTaskExecutor();
+ * List<Future<Order>> orders = executor.invokeAll(tasks); // 각 작업 로그에 requestId 유지
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class ContextExecutors {
+
+  /** 인스턴스 생성 방지를 위한 private 생성자. */
+  private ContextExecutors() {}
+
+  /**
+   * 작업마다 컨텍스트를 전파하도록 Executor를 감싼다.
+   *
+   * @param executor 대상 Executor
+   * @return 컨텍스트 전파 Executor
+   */
+  public static Executor wrap(Executor executor) {
+    if (executor instanceof ExecutorService executorService) {
+      return wrap(executorService);
+    }
+    if (executor instanceof ContextPropagatingExecutor) {
+      return executor;
+    }
+    return new ContextPropagatingExecutor(executor);
+  }
+
+  /**
+   * 작업마다 컨텍스트를 전파하도록 ExecutorService를 감싼다.
+   *
+   * @param executorService 대상 ExecutorService
+   * @return 컨텍스트 전파 ExecutorService
+   */
+  public static ExecutorService wrap(ExecutorService executorService) {
+    if (executorService instanceof ContextPropagatingExecutorService) {
+      return executorService;
+    }
+    return new ContextPropagatingExecutorService(executorService);
+  }
+
+  /**
+   * 작업마다 가상 스레드를 생성하고 컨텍스트를 전파하는 ExecutorService를 생성한다.
+   *
+   * @return 컨텍스트 전파 가상 스레드 ExecutorService
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    return wrap(Executors.newVirtualThreadPerTaskExecutor());
+  }
+}
@@ -0,0 +1,26 @@
+package com.athenhub.commonmvc.context;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 제출된 작업마다 MDC와 SecurityContext를 전파하는 {@link Executor} 래퍼.
+ *
+ * <p>{@code CompletableFuture.runAsync(task, executor)} 처럼 Executor를 인자로 받는 API에 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ * @see ContextExecutors#wrap(Executor)
+ */
+class ContextPropagatingExecutor implements Executor {
+
+  private final Executor delegate;
+
+  ContextPropagatingExecutor(Executor delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(ContextSnapshot.capture().wrap(command));
+  }
+}
@@ -0,0 +1,55 @@
+package com.athenhub.commonmvc.context;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제출된 작업마다 MDC와 SecurityContext를 전파하는 {@link ExecutorService} 래퍼.
+ *
+ * <p>submit/invokeAll/invokeAny는 {@link AbstractExecutorService}에 의해 모두 {@link #execute(Runnable)}로
+ * 모이므로, 작업당 스냅샷 캡처는 한 번만 일어난다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ * @see ContextExecutors#wrap(ExecutorService)
+ */
+class ContextPropagatingExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService delegate;
+
+  ContextPropagatingExecutorService(ExecutorService delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(ContextSnapshot.capture().wrap(command));
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+}
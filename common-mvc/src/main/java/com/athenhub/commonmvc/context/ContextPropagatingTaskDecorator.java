@@ -0,0 +1,23 @@
+package com.athenhub.commonmvc.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업 제출 시점의 MDC와 SecurityContext를 실행 스레드로 전파하는 {@link TaskDecorator}.
+ *
+ * <pre>
+ * - Spring Boot 기본 TaskExecutor(@Async, 가상 스레드 포함)에 자동 적용
+ * - ThreadPoolTaskExecutor#setTaskDecorator로 직접 구성한 실행기에도 적용 가능
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ * @see ContextSnapshot
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return ContextSnapshot.capture().wrap(runnable);
+  }
+}
@@ -0,0 +1,40 @@
+package com.athenhub.commonmvc.context;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code athenhub.context-propagation} 하위의 컨텍스트 전파 설정 값.
+ *
+ * <pre>
+ * athenhub:
+ *   context-propagation:
+ *     enabled: true
+ *     virtual-executor:
+ *       enabled: true
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "athenhub.context-propagation")
+public class ContextPropagationProperties {
+
+  /** 비동기 작업으로의 MDC/SecurityContext 전파 활성화 여부. */
+  private boolean enabled = true;
+
+  /** 컨텍스트 전파 가상 스레드 실행기 설정. */
+  private final VirtualExecutor virtualExecutor = new VirtualExecutor();
+
+  /** 컨텍스트 전파 가상 스레드 실행기 설정 값. */
+  @Getter
+  @Setter
+  public static class VirtualExecutor {
+
+    /** 가상 스레드 실행기 빈 등록 여부. */
+    private boolean enabled = false;
+  }
+}
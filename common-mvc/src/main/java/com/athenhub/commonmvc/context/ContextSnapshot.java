@@ -0,0 +1,176 @@
+package com.athenhub.commonmvc.context;
+
+import com.athenhub.commonmvc.logging.MdcUtils;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+/**
+ * 작업 제출 시점의 MDC, {@link RequestContext}, SecurityContext를 담는 불변 스냅샷.
+ *
+ * <pre>
+ * - 작업 제출 시 {@link #capture()}로 한 번만 캡처하고, 실행 스레드에서 {@link #restore()}로 복원
+ * - RequestContext는 불변 객체이므로 복사 없이 참조만 전달
+ * - 작업 종료 후 실행 스레드의 기존 MDC/RequestContext/SecurityContext를 되돌려 스레드 풀 재사용 시 컨텍스트가 섞이지 않음
+ * - 전파할 컨텍스트가 없으면 작업을 감싸지 않고 그대로 반환하여 추가 비용이 없음
+ * </pre>
+ *
+ * <pre>{@code
+ * ContextSnapshot snapshot = ContextSnapshot.capture();
+ * CompletableFuture.supplyAsync(snapshot.wrapSupplier(() -> orderClient.find(id)), executor);
+ * }</pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class ContextSnapshot {
+
+  private static final ContextSnapshot EMPTY = new ContextSnapshot(null, null, null);
+
+  private final Map<String, String> mdc;
+  private final RequestContext requestContext;
+  private final SecurityContext securityContext;
+
+  private ContextSnapshot(
+      Map<String, String> mdc, RequestContext requestContext, SecurityContext securityContext) {
+    this.mdc = mdc;
+    this.requestContext = requestContext;
+    this.securityContext = securityContext;
+  }
+
+  /**
+   * 현재 스레드의 MDC, 요청 컨텍스트, 인증 정보가 있는 SecurityContext를 캡처한다.
+   *
+   * @return 컨텍스트 스냅샷
+   */
+  public static ContextSnapshot capture() {
+    Map<String, String> mdc = MdcUtils.getContextMap();
+    RequestContext requestContext = RequestContext.current();
+    SecurityContext securityContext = SecurityContextHolder.getContextHolderStrategy().getContext();
+    if (securityContext.getAuthentication() == null) {
+      securityContext = null;
+    }
+
+    if (mdc == null && requestContext == null && securityContext == null) {
+      return EMPTY;
+    }
+    return new ContextSnapshot(mdc, requestContext, securityContext);
+  }
+
+  /**
+   * 전파할 컨텍스트가 없는지 여부를 반환한다.
+   *
+   * @return MDC, 요청 컨텍스트, 인증 정보가 모두 없으면 true
+   */
+  public boolean isEmpty() {
+    return this == EMPTY;
+  }
+
+  /**
+   * 현재 스레드에 스냅샷을 복원한다. 반환된 {@link Scope}를 닫으면 기존 컨텍스트로 되돌린다.
+   *
+   * @return 복원 범위
+   */
+  public Scope restore() {
+    SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+    Map<String, String> previousMdc = MdcUtils.getContextMap();
+    SecurityContext previousSecurityContext = strategy.getContext();
+
+    MdcUtils.setContextMap(mdc);
+    RequestContext.Scope requestScope =
+        requestContext != null ? requestContext.bind() : RequestContext.unbind();
+    if (securityContext != null) {
+      strategy.setContext(securityContext);
+    } else {
+      strategy.clearContext();
+    }
+    return new Scope(strategy, previousMdc, requestScope, previousSecurityContext);
+  }
+
+  /**
+   * 스냅샷을 복원한 상태에서 실행되도록 작업을 감싼다.
+   *
+   * @param task 실행할 작업
+   * @return 컨텍스트를 복원하는 작업, 전파할 컨텍스트가 없으면 원본 작업
+   */
+  public Runnable wrap(Runnable task) {
+    if (isEmpty()) {
+      return task;
+    }
+    return () -> {
+      try (Scope ignored = restore()) {
+        task.run();
+      }
+    };
+  }
+
+  /**
+   * 스냅샷을 복원한 상태에서 실행되도록 작업을 감싼다.
+   *
+   * @param task 실행할 작업
+   * @param <T> 작업 결과 타입
+   * @return 컨텍스트를 복원하는 작업, 전파할 컨텍스트가 없으면 원본 작업
+   */
+  public <T> Callable<T> wrap(Callable<T> task) {
+    if (isEmpty()) {
+      return task;
+    }
+    return () -> {
+      try (Scope ignored = restore()) {
+        return task.call();
+      }
+    };
+  }
+
+  /**
+   * 스냅샷을 복원한 상태에서 실행되도록 작업을 감싼다. {@code CompletableFuture.supplyAsync}에 사용한다.
+   *
+   * @param task 실행할 작업
+   * @param <T> 작업 결과 타입
+   * @return 컨텍스트를 복원하는 작업, 전파할 컨텍스트가 없으면 원본 작업
+   */
+  public <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+    if (isEmpty()) {
+      return task;
+    }
+    return () -> {
+      try (Scope ignored = restore()) {
+        return task.get();
+      }
+    };
+  }
+
+  /** 복원한 컨텍스트의 범위. 닫으면 복원 이전의 MDC, 요청 컨텍스트, SecurityContext로 되돌린다. */
+  public static final class Scope implements AutoCloseable {
+
+    private final SecurityContextHolderStrategy strategy;
+    private final Map<String, String> previousMdc;
+    private final RequestContext.Scope requestScope;
+    private final SecurityContext previousSecurityContext;
+
+    private Scope(
+        SecurityContextHolderStrategy strategy,
+        Map<String, String> previousMdc,
+        RequestContext.Scope requestScope,
+        SecurityContext previousSecurityContext) {
+      this.strategy = strategy;
+      this.previousMdc = previousMdc;
+      this.requestScope = requestScope;
+      this.previousSecurityContext = previousSecurityContext;
+    }
+
+    @Override
+    public void close() {
+      MdcUtils.setContextMap(previousMdc);
+      requestScope.close();
+      if (previousSecurityContext.getAuthentication() == null) {
+        strategy.clearContext();
+      } else {
+        strategy.setContext(previousSecurityContext);
+      }
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.athenhub.commonmvc.context;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 요청 단위 컨텍스트를 타입으로 담는 불변 객체.
+ *
+ * <pre>
+ * - 요청 ID(문자열/UUID), 인증 계정, 사용자 ID, 엔드포인트 키, 시작 시각, 제한 시간, 로그 샘플링 여부
+ * - MdcFilter에서 요청마다 한 번 생성하여 {@link #bind()}로 현재 스레드에 바인딩
+ * - MDC와 달리 Map 복사/해싱이 없고, 요청 ID를 UUID로 다시 파싱하지 않음
+ * - 비동기 작업으로는 {@link ContextSnapshot}이 참조만 전달
+ * </pre>
+ *
+ * <p>Java 21의 {@code ScopedValue}는 프리뷰 기능이므로 현재는 ThreadLocal에 바인딩한다. {@link #bind()}/{@link
+ * Scope#close()}가 바인딩 범위를 명시하는 형태이므로 ScopedValue가 정식 기능이 되면 호출 측 변경 없이 저장소만 교체할 수 있다.
+ *
+ * @param requestId 요청 ID 문자열
+ * @param requestUuid 요청 ID UUID, UUID 형식이 아니면 null
+ * @param username 인증 계정
+ * @param userId 사용자 ID, 없으면 null
+ * @param endpoint 엔드포인트 키 (예: "GET /products/{id}"), 핸들러 매핑 전이면 null
+ * @param startNanos 요청 시작 시각 ({@link System#nanoTime()})
+ * @param timeoutNanos 요청 시작 기준 제한 시간 (나노초), 0이면 제한 없음
+ * @param logSampled 로그 샘플링 대상 여부
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record RequestContext(
+    String requestId,
+    UUID requestUuid,
+    String username,
+    String userId,
+    String endpoint,
+    long startNanos,
+    long timeoutNanos,
+    boolean logSampled) {
+
+  private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+  /**
+   * 현재 시각을 시작 시각으로 하는 요청 컨텍스트를 생성한다.
+   *
+   * @param requestId 요청 ID 문자열
+   * @param requestUuid 요청 ID UUID, UUID 형식이 아니면 null
+   * @param username 인증 계정
+   * @param userId 사용자 ID, 없으면 null
+   * @param logSampled 로그 샘플링 대상 여부
+   * @return 요청 컨텍스트
+   */
+  public static RequestContext start(
+      String requestId, UUID requestUuid, String username, String userId, boolean logSampled) {
+    return new RequestContext(
+        requestId, requestUuid, username, userId, null, System.nanoTime(), 0L, logSampled);
+  }
+
+  /**
+   * 현재 스레드에 바인딩된 요청 컨텍스트를 조회한다.
+   *
+   * @return 요청 컨텍스트, 요청 처리 중이 아니면 null
+   */
+  public static RequestContext current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 엔드포인트 키를 지정한 컨텍스트를 반환한다.
+   *
+   * @param endpoint 엔드포인트 키
+   * @return 엔드포인트가 지정된 컨텍스트, 같은 키면 자기 자신
+   */
+  public RequestContext withEndpoint(String endpoint) {
+    if (endpoint == null || endpoint.equals(this.endpoint)) {
+      return this;
+    }
+    return new RequestContext(
+        requestId, requestUuid, username, userId, endpoint, startNanos, timeoutNanos, logSampled);
+  }
+
+  /**
+   * 요청 시작 기준 제한 시간을 지정한 컨텍스트를 반환한다.
+   *
+   * @param timeout 제한 시간
+   * @return 제한 시간이 지정된 컨텍스트
+   */
+  public RequestContext withTimeout(Duration timeout) {
+    return new RequestContext(
+        requestId,
+        requestUuid,
+        username,
+        userId,
+        endpoint,
+        startNanos,
+        timeout.toNanos(),
+        logSampled);
+  }
+
+  /**
+   * 요청 시작 후 경과 시간을 반환한다.
+   *
+   * @return 경과 시간 (나노초)
+   */
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /**
+   * 제한 시간까지 남은 시간을 반환한다.
+   *
+   * @return 남은 시간 (나노초, 초과 시 음수), 제한 시간이 없으면 {@link Long#MAX_VALUE}
+   */
+  public long remainingNanos() {
+    return timeoutNanos == 0L ? Long.MAX_VALUE : timeoutNanos - elapsedNanos();
+  }
+
+  /**
+   * 제한 시간이 지났는지 여부를 반환한다.
+   *
+   * @return 제한 시간이 있고 지났으면 true
+   */
+  public boolean isExpired() {
+    return remainingNanos() <= 0L;
+  }
+
+  /**
+   * 현재 스레드에 이 컨텍스트를 바인딩한다. 반환된 {@link Scope}를 닫으면 이전 컨텍스트로 되돌린다.
+   *
+   * @return 바인딩 범위
+   */
+  public Scope bind() {
+    RequestContext previous = CURRENT.get();
+    CURRENT.set(this);
+    return new Scope(previous);
+  }
+
+  /**
+   * 현재 스레드의 요청 컨텍스트 바인딩을 해제한다. 반환된 {@link Scope}를 닫으면 이전 컨텍스트로 되돌린다.
+   *
+   * @return 바인딩 범위
+   */
+  public static Scope unbind() {
+    RequestContext previous = CURRENT.get();
+    CURRENT.remove();
+    return new Scope(previous);
+  }
+
+  /** 요청 컨텍스트의 바인딩 범위. 닫으면 바인딩 이전의 컨텍스트로 되돌린다. */
+  public static final class Scope implements AutoCloseable {
+
+    private final RequestContext previous;
+
+    private Scope(RequestContext previous) {
+      this.previous = previous;
+    }
+
+    @Override
+    public void close() {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.athenhub.commonmvc.context;
+
+import java.util.UUID;
+
+/**
+ * 요청 ID 생성기.
+ *
+ * <pre>
+ * - 기본값은 시간 순서로 정렬되는 UUIDv7 ({@link #uuidV7()})
+ * - {@link #RANDOM}은 기존 {@link UUID#randomUUID()} 방식 (SecureRandom 사용)
+ * - 빈으로 등록하면 MdcFilter의 기본 생성기를 대체
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@FunctionalInterface
+public interface RequestIdGenerator {
+
+  /** {@link UUID#randomUUID()}로 요청 ID를 생성하는 생성기. */
+  RequestIdGenerator RANDOM = UUID::randomUUID;
+
+  /**
+   * 새 요청 ID를 생성한다.
+   *
+   * @return 요청 ID
+   */
+  UUID generate();
+
+  /**
+   * 시간 순서로 정렬되는 UUIDv7 생성기를 반환한다.
+   *
+   * @return UUIDv7 생성기
+   */
+  static RequestIdGenerator uuidV7() {
+    return UuidV7Generator.INSTANCE;
+  }
+}
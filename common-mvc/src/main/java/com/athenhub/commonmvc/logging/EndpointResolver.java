@@ -0,0 +1,83 @@
+package com.athenhub.commonmvc.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청을 Spring MVC가 매칭한 라우트 템플릿(예: {@code /products/{id}}) 기준으로 식별하는 리졸버.
+ *
+ * <pre>
+ * - {@link HandlerMapping#BEST_MATCHING_PATTERN_ATTRIBUTE} 요청 속성에서 매칭된 패턴을 조회 (URL 파싱 없음)
+ * - 핸들러 메서드별로 마지막으로 만든 {@link RequestEndpoint}를 캐싱하여, 같은 HTTP 메서드/패턴이면 문자열을 다시 만들지 않음
+ * - 패턴이 없으면(핸들러 매핑 이전, 비 MVC 요청 등) {@code getRequestURI()}로 대체하고, 키는 메서드 정보를 사용
+ * </pre>
+ *
+ * <p>라우트 템플릿은 경로 변수 값과 무관하므로 카디널리티가 핸들러 수로 제한되어 로그, 히스토그램, 메트릭의 키로 사용할 수 있다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class EndpointResolver {
+
+  private final ConcurrentMap<Method, RequestEndpoint> endpoints = new ConcurrentHashMap<>();
+
+  /**
+   * 요청의 엔드포인트 정보를 조회한다.
+   *
+   * @param handler 요청을 처리하는 핸들러 메서드 (없으면 null)
+   * @param descriptor 핸들러 메서드의 로그 메타 정보
+   * @param request 현재 HTTP 요청
+   * @return 요청 엔드포인트 정보
+   */
+  public RequestEndpoint resolve(
+      Method handler, MethodLogDescriptor descriptor, HttpServletRequest request) {
+    String httpMethod = request.getMethod();
+    String pattern = routePattern(request);
+    if (pattern == null) {
+      return new RequestEndpoint(httpMethod, request.getRequestURI(), descriptor.methodInfo());
+    }
+    if (handler == null) {
+      return RequestEndpoint.of(httpMethod, pattern);
+    }
+
+    RequestEndpoint cached = endpoints.get(handler);
+    if (cached != null && cached.matches(httpMethod, pattern)) {
+      return cached;
+    }
+    RequestEndpoint endpoint = RequestEndpoint.of(httpMethod, pattern);
+    endpoints.put(handler, endpoint);
+    return endpoint;
+  }
+
+  /**
+   * 요청에 매칭된 라우트 템플릿을 조회한다.
+   *
+   * @param request 현재 HTTP 요청
+   * @return 라우트 템플릿, 핸들러 매핑 전이거나 패턴이 없으면 null
+   */
+  public static String routePattern(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? pattern.toString() : null;
+  }
+
+  /**
+   * 로그/메트릭 키로 사용할 요청 엔드포인트 정보.
+   *
+   * @param httpMethod HTTP 메서드
+   * @param route 라우트 템플릿, 없으면 요청 URI
+   * @param key 카디널리티가 제한된 엔드포인트 키 (예: "GET /products/{id}")
+   */
+  public record RequestEndpoint(String httpMethod, String route, String key) {
+
+    static RequestEndpoint of(String httpMethod, String pattern) {
+      return new RequestEndpoint(httpMethod, pattern, httpMethod + " " + pattern);
+    }
+
+    boolean matches(String httpMethod, String pattern) {
+      return this.httpMethod.equals(httpMethod) && this.route.equals(pattern);
+    }
+  }
+}
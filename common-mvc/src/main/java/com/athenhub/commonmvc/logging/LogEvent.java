@@ -0,0 +1,169 @@
+package com.athenhub.commonmvc.logging;
+
+/**
+ * 로깅 Aspect가 수집한 단일 로그 이벤트를 표현하는 불변 객체.
+ *
+ * <pre>
+ * - 요청 스레드에서는 메서드 정보, MDC 값, 인자/결과 참조만 캡처
+ * - JSON 직렬화 및 메시지 조립은 {@link LogEventRenderer}가 담당
+ * - 비동기 모드에서는 writer 스레드로 전달되어 렌더링됨
+ * </pre>
+ *
+ * <p>인자와 결과는 복사본이 아닌 참조로 보관되므로, 비동기 모드에서 렌더링 전에 객체가 변경되면 변경된 값이 기록될 수 있다.
+ *
+ * @param type 이벤트 유형
+ * @param httpMethod HTTP 메서드 (컨트롤러 이벤트가 아니면 null)
+ * @param requestUri 요청 URI (컨트롤러 이벤트가 아니면 null)
+ * @param descriptor 호출된 메서드의 로그 메타 정보
+ * @param args 메서드 호출 인자 배열 (진입 이벤트가 아니면 null)
+ * @param result 메서드 반환 결과 (종료 이벤트가 아니면 null)
+ * @param error 메서드에서 발생한 예외 (실패 이벤트가 아니면 null)
+ * @param requestId 이벤트 생성 시점의 MDC 요청 ID
+ * @param username 이벤트 생성 시점의 MDC 인증 계정
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record LogEvent(
+    Type type,
+    String httpMethod,
+    String requestUri,
+    MethodLogDescriptor descriptor,
+    Object[] args,
+    Object result,
+    Throwable error,
+    String requestId,
+    String username) {
+
+  /** 로그 이벤트 유형. */
+  public enum Type {
+    CONTROLLER_ENTRY,
+    CONTROLLER_EXIT,
+    CONTROLLER_FAILURE,
+    METHOD_ENTRY,
+    METHOD_EXIT,
+    METHOD_FAILURE
+  }
+
+  /**
+   * 컨트롤러 진입 이벤트를 생성한다.
+   *
+   * @param httpMethod HTTP 메서드
+   * @param requestUri 요청 URI
+   * @param descriptor 메서드 로그 메타 정보
+   * @param args 메서드 호출 인자 배열
+   * @return 컨트롤러 진입 이벤트
+   */
+  public static LogEvent controllerEntry(
+      String httpMethod, String requestUri, MethodLogDescriptor descriptor, Object[] args) {
+    return new LogEvent(
+        Type.CONTROLLER_ENTRY,
+        httpMethod,
+        requestUri,
+        descriptor,
+        args,
+        null,
+        null,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername());
+  }
+
+  /**
+   * 컨트롤러 종료 이벤트를 생성한다.
+   *
+   * @param httpMethod HTTP 메서드
+   * @param requestUri 요청 URI
+   * @param descriptor 메서드 로그 메타 정보
+   * @param result 메서드 반환 결과
+   * @return 컨트롤러 종료 이벤트
+   */
+  public static LogEvent controllerExit(
+      String httpMethod, String requestUri, MethodLogDescriptor descriptor, Object result) {
+    return new LogEvent(
+        Type.CONTROLLER_EXIT,
+        httpMethod,
+        requestUri,
+        descriptor,
+        null,
+        result,
+        null,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername());
+  }
+
+  /**
+   * {@code @LogExecution} 메서드 진입 이벤트를 생성한다.
+   *
+   * @param descriptor 메서드 로그 메타 정보
+   * @param args 메서드 호출 인자 배열
+   * @return 메서드 진입 이벤트
+   */
+  public static LogEvent methodEntry(MethodLogDescriptor descriptor, Object[] args) {
+    return new LogEvent(
+        Type.METHOD_ENTRY,
+        null,
+        null,
+        descriptor,
+        args,
+        null,
+        null,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername());
+  }
+
+  /**
+   * {@code @LogExecution} 메서드 종료 이벤트를 생성한다.
+   *
+   * @param descriptor 메서드 로그 메타 정보
+   * @param result 메서드 반환 결과
+   * @return 메서드 종료 이벤트
+   */
+  public static LogEvent methodExit(MethodLogDescriptor descriptor, Object result) {
+    return new LogEvent(
+        Type.METHOD_EXIT,
+        null,
+        null,
+        descriptor,
+        null,
+        result,
+        null,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername());
+  }
+
+  /**
+   * 이 진입 이벤트에 대응하는 실패 이벤트를 생성한다. 요청 정보와 MDC 값은 진입 시점의 값을 그대로 사용한다.
+   *
+   * @param error 메서드에서 발생한 예외
+   * @return 컨트롤러 또는 메서드 실패 이벤트
+   */
+  public LogEvent toFailure(Throwable error) {
+    Type failureType =
+        switch (type) {
+          case CONTROLLER_ENTRY -> Type.CONTROLLER_FAILURE;
+          case METHOD_ENTRY -> Type.METHOD_FAILURE;
+          default -> throw new IllegalStateException("Not an entry event: " + type);
+        };
+    return new LogEvent(
+        failureType, httpMethod, requestUri, descriptor, null, null, error, requestId, username);
+  }
+
+  /**
+   * 결과만 바꾼 종료 이벤트를 생성한다. 요청 정보와 MDC 값은 원래 이벤트의 값을 그대로 사용한다.
+   *
+   * @param result 기록할 결과
+   * @return 결과가 바뀐 이벤트
+   */
+  public LogEvent withResult(Object result) {
+    return new LogEvent(
+        type, httpMethod, requestUri, descriptor, args, result, error, requestId, username);
+  }
+
+  /**
+   * 호출된 메서드 정보를 반환한다.
+   *
+   * @return ClassName.methodName 형식의 메서드 정보
+   */
+  public String methodInfo() {
+    return descriptor.methodInfo();
+  }
+}
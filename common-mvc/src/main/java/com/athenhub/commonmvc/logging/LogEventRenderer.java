@@ -0,0 +1,236 @@
+package com.athenhub.commonmvc.logging;
+
+import com.athenhub.commonmvc.logging.capture.CapturedResponseBody;
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import com.athenhub.commonutils.json.GsonJsonCodec;
+import com.athenhub.commonutils.json.JsonCodec;
+
+/**
+ * {@link LogEvent}를 로그 메시지로 조립하여 {@link LogManager}로 기록하는 렌더러.
+ *
+ * <pre>
+ * - 파라미터 문자열 생성 및 반환 결과 JSON 직렬화 담당
+ * - 반환 결과는 {@link JsonRenderLimits} 범위 내에서만 직렬화하여 요청당 할당량을 제한
+ * - 반환 결과 직렬화 엔진은 {@link JsonCodec}으로 교체 가능 (기본 Gson)
+ * - 캡처한 응답 본문({@link CapturedResponseBody})은 다시 직렬화하지 않고 그대로 출력
+ * - 부하 상황에서 생략된 인자(null)와 결과({@link OmittedResult})는 생략 표시로 출력
+ * - 동기 모드에서는 요청 스레드, 비동기 모드에서는 writer 스레드에서 실행
+ * - 버퍼 포화 시 직렬화 없이 요약 로그만 남기는 기능 제공
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class LogEventRenderer {
+
+  private static final String OMITTED = "(omitted)";
+
+  private final LogManager logManager;
+  private final JsonRenderLimits resultLimits;
+  private final JsonCodec codec;
+
+  /**
+   * 기본 크기 제한({@link JsonRenderLimits#DEFAULT})으로 결과를 직렬화하는 렌더러를 생성한다.
+   *
+   * @param logManager 로그 기록기
+   */
+  public LogEventRenderer(LogManager logManager) {
+    this(logManager, JsonRenderLimits.DEFAULT);
+  }
+
+  /**
+   * 지정한 크기 제한으로 결과를 직렬화하는 렌더러를 생성한다.
+   *
+   * @param logManager 로그 기록기
+   * @param resultLimits 반환 결과 직렬화 크기 제한
+   */
+  public LogEventRenderer(LogManager logManager, JsonRenderLimits resultLimits) {
+    this(logManager, resultLimits, new GsonJsonCodec());
+  }
+
+  /**
+   * 지정한 크기 제한과 JSON 코덱으로 결과를 직렬화하는 렌더러를 생성한다.
+   *
+   * @param logManager 로그 기록기
+   * @param resultLimits 반환 결과 직렬화 크기 제한
+   * @param codec 반환 결과 JSON 코덱
+   */
+  public LogEventRenderer(LogManager logManager, JsonRenderLimits resultLimits, JsonCodec codec) {
+    this.logManager = logManager;
+    this.resultLimits = resultLimits;
+    this.codec = codec;
+  }
+
+  /**
+   * 이벤트 유형에 맞춰 파라미터/결과를 렌더링하고 로그를 기록한다.
+   *
+   * @param event 기록할 로그 이벤트
+   */
+  public void render(LogEvent event) {
+    if (logManager.isStructured()) {
+      logManager.logStructured(event, renderResult(event));
+      return;
+    }
+
+    switch (event.type()) {
+      case CONTROLLER_ENTRY ->
+          logManager.logControllerEntry(
+              event.httpMethod(),
+              event.requestUri(),
+              event.methodInfo(),
+              buildLogMessage(event.descriptor(), event.args()));
+      case CONTROLLER_EXIT ->
+          logManager.logControllerExit(
+              event.httpMethod(), event.requestUri(), event.methodInfo(), toJson(event.result()));
+      case CONTROLLER_FAILURE ->
+          logManager.logControllerFailure(
+              event.httpMethod(), event.requestUri(), event.methodInfo(), event.error().toString());
+      case METHOD_ENTRY ->
+          logManager.logMethodEntry(
+              event.methodInfo(), buildLogMessage(event.descriptor(), event.args()));
+      case METHOD_EXIT -> logManager.logMethodExit(event.methodInfo(), toJson(event.result()));
+      case METHOD_FAILURE ->
+          logManager.logMethodFailure(event.methodInfo(), event.error().toString());
+      default -> throw new IllegalStateException("Unknown log event type: " + event.type());
+    }
+  }
+
+  /**
+   * 파라미터 및 결과 직렬화 없이 이벤트의 요약 로그만 기록한다.
+   *
+   * <p>비동기 버퍼가 가득 찼을 때 호출 스레드에서 최소 비용으로 로그를 남기기 위해 사용된다. 실패 이벤트는 직렬화 비용이 없으므로 그대로
+   * 기록한다.
+   *
+   * @param event 기록할 로그 이벤트
+   */
+  public void renderSummary(LogEvent event) {
+    if (logManager.isStructured()) {
+      renderStructuredSummary(event);
+      return;
+    }
+
+    switch (event.type()) {
+      case CONTROLLER_ENTRY ->
+          logManager.logControllerEntry(
+              event.httpMethod(), event.requestUri(), event.methodInfo(), ", Params: " + OMITTED);
+      case CONTROLLER_EXIT ->
+          logManager.logControllerExit(
+              event.httpMethod(),
+              event.requestUri(),
+              event.methodInfo(),
+              summarize(event.result()));
+      case METHOD_ENTRY -> logManager.logMethodEntry(event.methodInfo(), ", Params: " + OMITTED);
+      case METHOD_EXIT -> logManager.logMethodExit(event.methodInfo(), summarize(event.result()));
+      case CONTROLLER_FAILURE, METHOD_FAILURE -> render(event);
+      default -> throw new IllegalStateException("Unknown log event type: " + event.type());
+    }
+  }
+
+  /**
+   * 구조화 형식으로 이벤트의 요약 로그를 기록한다. 진입 이벤트는 파라미터를, 종료 이벤트는 결과 직렬화를 생략한다.
+   *
+   * @param event 기록할 로그 이벤트
+   */
+  private void renderStructuredSummary(LogEvent event) {
+    switch (event.type()) {
+      case CONTROLLER_ENTRY, METHOD_ENTRY ->
+          logManager.logStructured(
+              new LogEvent(
+                  event.type(),
+                  event.httpMethod(),
+                  event.requestUri(),
+                  event.descriptor(),
+                  null,
+                  null,
+                  null,
+                  event.requestId(),
+                  event.username()),
+              null);
+      case CONTROLLER_EXIT, METHOD_EXIT ->
+          logManager.logStructured(event, summarize(event.result()));
+      default -> logManager.logStructured(event, null);
+    }
+  }
+
+  /**
+   * 구조화 로그의 result 필드 값을 생성한다. 종료 이벤트만 결과를 가진다.
+   *
+   * @param event 로그 이벤트
+   * @return 크기 제한이 적용된 결과 JSON, 종료 이벤트가 아니면 null
+   */
+  private String renderResult(LogEvent event) {
+    return switch (event.type()) {
+      case CONTROLLER_EXIT, METHOD_EXIT -> toJson(event.result());
+      default -> null;
+    };
+  }
+
+  /**
+   * 메서드 로그 메타 정보와 인자를 기반으로 파라미터 로깅용 문자열을 생성한다. 인자 값은 메서드별로 미리 결정된 {@link ParameterLogMode}에
+   * 따라 출력, 마스킹, 요약 또는 제외된다.
+   *
+   * @param descriptor 메서드 로그 메타 정보
+   * @param args 메서드 호출 인자 배열, 생략된 경우 null
+   * @return ", Params: {name1: value1, ...}" 형식의 파라미터 정보 (인자가 없으면 빈 문자열)
+   */
+  private String buildLogMessage(MethodLogDescriptor descriptor, Object[] args) {
+    if (!descriptor.hasParameters()) {
+      return "";
+    }
+    if (args == null) {
+      return ", Params: " + OMITTED;
+    }
+
+    String[] parameterNames = descriptor.parameterNames();
+    StringBuilder logMessage = new StringBuilder(descriptor.paramsCapacity());
+    logMessage.append(MethodLogDescriptor.PARAMS_PREFIX);
+    boolean first = true;
+    for (int i = 0; i < parameterNames.length; i++) {
+      String value = descriptor.renderArgument(i, args[i]);
+      if (value == null) {
+        continue;
+      }
+      if (!first) {
+        logMessage.append(MethodLogDescriptor.PARAMS_DELIMITER);
+      }
+      logMessage
+          .append(parameterNames[i])
+          .append(MethodLogDescriptor.NAME_VALUE_SEPARATOR)
+          .append(value);
+      first = false;
+    }
+    logMessage.append(MethodLogDescriptor.PARAMS_SUFFIX);
+
+    return logMessage.toString();
+  }
+
+  /**
+   * 반환 결과를 크기 제한 내에서 JSON 문자열로 변환한다. 직렬화에 실패하면 클래스명을 반환한다.
+   *
+   * @param result 반환 결과
+   * @return JSON 문자열 또는 클래스명
+   */
+  private String toJson(Object result) {
+    if (result instanceof CapturedResponseBody body) {
+      return body.text();
+    }
+    if (result instanceof OmittedResult omitted) {
+      return omitted.toString();
+    }
+    try {
+      return codec.toJson(result, resultLimits);
+    } catch (Exception e) {
+      return result.getClass().getName();
+    }
+  }
+
+  private String summarize(Object result) {
+    if (result instanceof CapturedResponseBody body) {
+      return body.text();
+    }
+    if (result instanceof OmittedResult omitted) {
+      return omitted.toString();
+    }
+    return result == null ? "null" : OMITTED + " " + result.getClass().getName();
+  }
+}
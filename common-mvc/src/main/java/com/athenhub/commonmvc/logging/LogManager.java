@@ -1,6 +1,8 @@
 package com.athenhub.commonmvc.logging;
 
-import lombok.RequiredArgsConstructor;
+import com.athenhub.commonmvc.logging.encoder.LogBufferPool;
+import com.athenhub.commonmvc.logging.encoder.LogFormat;
+import com.athenhub.commonmvc.logging.encoder.StructuredLogEncoder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -10,17 +12,109 @@ import org.springframework.stereotype.Component;
  * <pre>
  * - RestController 요청 진입/종료 시점 로그 기록
  * - {@code @LogExecution } 어노테이션 적용 메서드 진입/종료 시점 로그 기록
+ * - 대상 메서드가 예외로 종료된 경우 종료 로그 대신 실패 로그 기록
  * - 예외 발생 시 MDC 정보와 함께 에러 로그 기록
- * - MDCUtils를 통해 요청 ID 및 인증 계정 정보 포함
+ * - MDCUtils를 통해 요청 ID 및 인증 계정 정보 포함 (MDC가 비어 있으면 기록하는 동안에만 요청 컨텍스트를 MDC에 반영)
+ * - 메시지는 SLF4J 파라미터 치환으로 조립되어, INFO 레벨이 꺼져 있으면 포맷팅 비용이 발생하지 않음
+ * - JSON/LOGFMT 형식에서는 key/value 필드를 재사용 버퍼에 바로 인코딩하여 한 줄의 구조화 로그로 기록
  * </pre>
  *
+ * <p>호출 측에서 파라미터 문자열/JSON 생성 비용까지 피하려면 {@link #isInfoEnabled()}로 먼저 확인한 뒤 메시지를 만든다.
+ *
  * @author 김형섭
  * @since 0.3.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LogManager {
+
+  private static final String CONTROLLER_ENTRY_FORMAT =
+      "{} {} - Request ID: {}, Username: {}, Method: {} {}";
+  private static final String CONTROLLER_EXIT_FORMAT =
+      "{} {} - Request ID: {}, Username: {}, Method: {}, Return: {}";
+  private static final String CONTROLLER_FAILURE_FORMAT =
+      "{} {} - Request ID: {}, Username: {}, Method: {}, Failed: {}";
+  private static final String METHOD_ENTRY_FORMAT = "Request ID: {}, Username: {}, Method: {} {}";
+  private static final String METHOD_EXIT_FORMAT =
+      "Request ID: {}, Username: {}, Method: {}, Return: {}";
+  private static final String METHOD_FAILURE_FORMAT =
+      "Request ID: {}, Username: {}, Method: {}, Failed: {}";
+
+  private final LogFormat format;
+  private final StructuredLogEncoder encoder;
+  private final LogBufferPool bufferPool;
+
+  /** 기존 텍스트 형식으로 기록하는 LogManager를 생성한다. */
+  public LogManager() {
+    this(LogFormat.TEXT);
+  }
+
+  /**
+   * 지정한 출력 형식으로 기록하는 LogManager를 생성한다.
+   *
+   * @param format 로그 출력 형식
+   */
+  public LogManager(LogFormat format) {
+    this.format = format;
+    this.encoder = format == LogFormat.TEXT ? null : StructuredLogEncoder.of(format);
+    this.bufferPool = format == LogFormat.TEXT ? null : new LogBufferPool();
+  }
+
+  /**
+   * 진입/종료 로그가 기록되는 INFO 레벨이 활성화되어 있는지 확인한다.
+   *
+   * @return INFO 레벨 활성화 여부
+   */
+  public boolean isInfoEnabled() {
+    return log.isInfoEnabled();
+  }
+
+  /**
+   * 구조화 형식(JSON/LOGFMT)으로 기록하는지 여부를 반환한다.
+   *
+   * @return 구조화 형식이면 true
+   */
+  public boolean isStructured() {
+    return encoder != null;
+  }
+
+  /**
+   * 로그 출력 형식을 반환한다.
+   *
+   * @return 로그 출력 형식
+   */
+  public LogFormat getFormat() {
+    return format;
+  }
+
+  /**
+   * 로그 이벤트를 구조화 형식으로 인코딩하여 INFO 레벨로 기록한다.
+   *
+   * <p>요청 ID와 계정은 MDC가 아닌 이벤트에 캡처된 값을 사용한다. 텍스트 형식으로 생성된 경우에는 아무것도 기록하지 않는다.
+   *
+   * @param event 로그 이벤트
+   * @param result 렌더링된 반환 결과 또는 파라미터 생략 표시 (없으면 null)
+   */
+  public void logStructured(final LogEvent event, final String result) {
+    if (encoder == null || !log.isInfoEnabled()) {
+      return;
+    }
+    StringBuilder buffer = bufferPool.acquire();
+    try {
+      encoder.encode(event, result, buffer);
+      boolean mirrored = MdcUtils.mirrorRequestContext();
+      try {
+        log.info(buffer.toString());
+      } finally {
+        if (mirrored) {
+          MdcUtils.removeMirroredContext();
+        }
+      }
+    } finally {
+      bufferPool.release(buffer);
+    }
+  }
+
   /**
    * 컨트롤러 진입 시점에 HTTP 메서드, URI, 메서드 정보 및 추가 메시지를 INFO 레벨로 기록한다.
    *
@@ -34,8 +128,14 @@ public class LogManager {
       final String requestUri,
       final String methodInfo,
       final String logMessage) {
-
-    log.info("{} {}", formLogMessage(httpMethod, requestUri, methodInfo), logMessage);
+    info(
+        CONTROLLER_ENTRY_FORMAT,
+        httpMethod,
+        requestUri,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername(),
+        methodInfo,
+        logMessage);
   }
 
   /**
@@ -51,7 +151,39 @@ public class LogManager {
       final String requestUri,
       final String methodInfo,
       final String resultJson) {
-    log.info("{}, Return: {}", formLogMessage(httpMethod, requestUri, methodInfo), resultJson);
+    info(
+        CONTROLLER_EXIT_FORMAT,
+        httpMethod,
+        requestUri,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername(),
+        methodInfo,
+        resultJson);
+  }
+
+  /**
+   * 컨트롤러가 예외로 종료된 시점에 HTTP 메서드, URI, 메서드 정보 및 예외 요약을 INFO 레벨로 기록한다.
+   *
+   * <p>스택 트레이스는 예외 처리기에서 기록하므로 여기서는 예외 타입과 메시지만 남긴다.
+   *
+   * @param httpMethod HTTP 메서드 (GET, POST 등)
+   * @param requestUri 요청 URI
+   * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+   * @param error 예외 요약 (예외 클래스명: 메시지)
+   */
+  public void logControllerFailure(
+      final String httpMethod,
+      final String requestUri,
+      final String methodInfo,
+      final String error) {
+    info(
+        CONTROLLER_FAILURE_FORMAT,
+        httpMethod,
+        requestUri,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername(),
+        methodInfo,
+        error);
   }
 
   /**
@@ -61,7 +193,12 @@ public class LogManager {
    * @param logMessage 추가 로그 메시지 (파라미터 정보 등)
    */
   public void logMethodEntry(final String methodInfo, final String logMessage) {
-    log.info("{} {}", formCoreLogMessage(methodInfo), logMessage);
+    info(
+        METHOD_ENTRY_FORMAT,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername(),
+        methodInfo,
+        logMessage);
   }
 
   /**
@@ -71,7 +208,27 @@ public class LogManager {
    * @param resultJson 반환된 결과(JSON 또는 클래스명)
    */
   public void logMethodExit(final String methodInfo, final String resultJson) {
-    log.info("{}, Return: {}", formCoreLogMessage(methodInfo), resultJson);
+    info(
+        METHOD_EXIT_FORMAT,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername(),
+        methodInfo,
+        resultJson);
+  }
+
+  /**
+   * {@code @LogExecution} 애노테이션이 적용된 메서드가 예외로 종료된 시점에 메서드 정보 및 예외 요약을 INFO 레벨로 기록한다.
+   *
+   * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+   * @param error 예외 요약 (예외 클래스명: 메시지)
+   */
+  public void logMethodFailure(final String methodInfo, final String error) {
+    info(
+        METHOD_FAILURE_FORMAT,
+        MdcUtils.getRequestId(),
+        MdcUtils.getRequestUsername(),
+        methodInfo,
+        error);
   }
 
   /**
@@ -80,20 +237,34 @@ public class LogManager {
    * @param e 처리된 예외 객체
    */
   public void logException(final Exception e) {
-    log.error(
-        "Request ID: {}, Username: {}", MdcUtils.getRequestId(), MdcUtils.getRequestUsername(), e);
-  }
-
-  // 내부 로그 메시지 포맷팅 헬퍼 메서드 (private)
-  private String formLogMessage(
-      final String httpMethod, final String requestUri, final String methodInfo) {
-    return String.format("%s %s - %s", httpMethod, requestUri, formCoreLogMessage(methodInfo));
+    boolean mirrored = MdcUtils.mirrorRequestContext();
+    try {
+      log.error(
+          "Request ID: {}, Username: {}",
+          MdcUtils.getRequestId(),
+          MdcUtils.getRequestUsername(),
+          e);
+    } finally {
+      if (mirrored) {
+        MdcUtils.removeMirroredContext();
+      }
+    }
   }
 
-  // 내부 공통 로그 메시지 포맷팅 헬퍼 메서드 (private)
-  private String formCoreLogMessage(final String methodInfo) {
-    return String.format(
-        "Request ID: %s, Username: %s, Method: %s",
-        MdcUtils.getRequestId(), MdcUtils.getRequestUsername(), methodInfo);
+  /**
+   * INFO 레벨 로그를 기록한다. 요청 컨텍스트가 MDC에 없으면 기록하는 동안에만 MDC에 반영한다.
+   *
+   * @param format SLF4J 메시지 형식
+   * @param arguments 메시지 인자
+   */
+  private void info(final String format, final Object... arguments) {
+    boolean mirrored = MdcUtils.mirrorRequestContext();
+    try {
+      log.info(format, arguments);
+    } finally {
+      if (mirrored) {
+        MdcUtils.removeMirroredContext();
+      }
+    }
   }
 }
@@ -0,0 +1,22 @@
+package com.athenhub.commonmvc.logging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그에 값 대신 타입과 크기만 출력할 파라미터를 지정하는 애노테이션.
+ *
+ * <pre>
+ * - 문자열은 길이, 컬렉션/맵/배열은 요소 수, 파일은 바이트 크기만 출력 (예
+ * -  ArrayList(size=120)):대용량 DTO, 컬렉션의 전체 toString() 비용을 제거
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ * @see ParameterLogMode
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LogSummary {}
@@ -1,10 +1,21 @@
 package com.athenhub.commonmvc.logging;
 
-import com.athenhub.commonutils.gson.GsonUtils;
+import com.athenhub.commonmvc.context.RequestContext;
+import com.athenhub.commonmvc.logging.EndpointResolver.RequestEndpoint;
+import com.athenhub.commonmvc.logging.adaptive.AdaptiveLoggingController;
+import com.athenhub.commonmvc.logging.adaptive.LogDetail;
+import com.athenhub.commonmvc.logging.async.AsyncLogDispatcher;
+import com.athenhub.commonmvc.logging.capture.ResponseBodyCapture;
+import com.athenhub.commonmvc.logging.latency.LatencyRecorder;
+import com.athenhub.commonmvc.logging.traffic.EndpointTraffic;
+import com.athenhub.commonmvc.logging.traffic.TrafficRecorder;
+import com.athenhub.commonmvc.logging.watchdog.InFlightRequest;
 import jakarta.servlet.http.HttpServletRequest;
-import java.net.URI;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -17,20 +28,67 @@ import org.springframework.web.context.request.ServletRequestAttributes;
  * 애플리케이션 전반의 컨트롤러 진입/종료 시점을 AOP로 로깅 처리하는 Aspect 클래스.
  *
  * <pre>
- * - RestController 내의 모든 요청에 대해 HTTP 메서드, URI, 메서드명, 파라미터, 응답 결과를 로깅
+ * - RestController 내의 모든 요청에 대해 HTTP 메서드, 라우트 템플릿, 메서드명, 파라미터, 응답 결과를 로깅
+ * - LogManager의 INFO 레벨이 꺼져 있으면 파라미터/결과 렌더링 없이 대상 메서드만 실행
+ * - 대상 메서드가 예외로 종료되면 종료 로그 대신 예외 요약을 담은 실패 로그를 기록
+ * - MdcFilter에서 샘플링 제외된 요청은 로그를 남기지 않되, 예외가 발생하면 진입/실패 로그를 기록
+ * - {@link LatencyRecorder}가 주어지면 로깅/샘플링 여부와 관계없이 컨트롤러 실행 시간을 엔드포인트별로 기록
+ * - {@link TrafficRecorder}가 주어지면 엔드포인트별 동시 처리 수와 완료/실패 수를 기록
+ * - 요청 경로는 {@link EndpointResolver}로 매칭된 라우트 템플릿(예: /products/{id})을 사용하여 키 카디널리티를 제한
+ * - {@link RequestContext}가 바인딩되어 있으면 컨트롤러 실행 동안 엔드포인트 키를 컨텍스트에 반영
+ * - 요청이 {@link InFlightRequest}로 등록되어 있으면 엔드포인트 키를 반영하여 엔드포인트별 지연 임계 시간을 적용
+ * - 메서드별 로그 메타 정보({@link MethodLogDescriptor})는 최초 호출 시 한 번만 계산하여 캐싱
+ * - 요청에 {@link ResponseBodyCapture}가 등록되어 있으면 종료 로그를 응답 본문이 쓰일 때까지 보류
+ * - {@link AdaptiveLoggingController}가 주어지면 부하에 따라 파라미터/결과 로그를 단계적으로 생략
+ * - {@link AsyncLogDispatcher}가 주어지면 이벤트만 캡처하고 렌더링/기록은 writer 스레드에 위임
  * </pre>
  *
  * @author 김형섭
  * @since 0.3.0
  */
 @Aspect
-@RequiredArgsConstructor
-@Slf4j
 public class LoggingAspect {
 
-  private static final String NOT_APPLICABLE = "N/A";
+  private static final RequestEndpoint NOT_APPLICABLE = new RequestEndpoint("N/A", "N/A", null);
 
   private final LogManager logManager;
+  private final LogEventRenderer renderer;
+  private final AsyncLogDispatcher dispatcher;
+  private final LatencyRecorder latencyRecorder;
+  private final TrafficRecorder trafficRecorder;
+  private final AdaptiveLoggingController adaptive;
+  private final EndpointResolver endpointResolver = new EndpointResolver();
+  private final ConcurrentMap<Method, MethodLogDescriptor> descriptors = new ConcurrentHashMap<>();
+  private final Consumer<LogEvent> publisher = this::publish;
+
+  /**
+   * 요청 스레드에서 동기적으로 로그를 기록하는 Aspect를 생성한다.
+   *
+   * @param logManager 로그 기록기
+   */
+  public LoggingAspect(LogManager logManager) {
+    this(builder(logManager));
+  }
+
+  private LoggingAspect(Builder builder) {
+    this.logManager = builder.logManager;
+    this.renderer =
+        builder.renderer != null ? builder.renderer : new LogEventRenderer(builder.logManager);
+    this.dispatcher = builder.dispatcher;
+    this.latencyRecorder = builder.latencyRecorder;
+    this.trafficRecorder = builder.trafficRecorder;
+    this.adaptive = builder.adaptive;
+  }
+
+  /**
+   * Aspect 빌더를 생성한다. 지정하지 않은 선택 항목은 사용하지 않으며, 렌더러를 지정하지 않으면 logManager로 기록하는 기본 렌더러를 사용한다.
+   *
+   * @param logManager 로그 기록기
+   * @return Aspect 빌더
+   */
+  public static Builder builder(LogManager logManager) {
+    return new Builder(logManager);
+  }
 
   /**
    * RestController 범위 내의 모든 메서드 실행 시점에 대해 진입과 종료를 로깅한다.
@@ -41,25 +99,58 @@ public class LoggingAspect {
    */
   @Around("within(@org.springframework.web.bind.annotation.RestController *)")
   public Object logController(ProceedingJoinPoint pjp) throws Throwable {
-    HttpServletRequest request = getCurrentHttpRequest();
-    String httpMethod = request == null ? NOT_APPLICABLE : request.getMethod();
-    String requestUri =
-        request == null ? NOT_APPLICABLE : extractPath(request.getRequestURL().toString());
-    String methodInfo = extractMethodInfo(pjp);
-    MethodSignature signature = (MethodSignature) pjp.getSignature();
-    String logMessage = buildLogMessage(signature, pjp.getArgs());
+    boolean logging = logManager.isInfoEnabled();
+    RequestContext context = RequestContext.current();
+    if (!logging && latencyRecorder == null && trafficRecorder == null && context == null) {
+      return pjp.proceed();
+    }
 
-    logManager.logControllerEntry(httpMethod, requestUri, methodInfo, logMessage);
+    RequestEndpoint endpoint = resolveEndpoint(pjp);
+    if (context == null || endpoint.key() == null) {
+      return logController(pjp, logging, endpoint);
+    }
+    try (RequestContext.Scope ignored = context.withEndpoint(endpoint.key()).bind()) {
+      return logController(pjp, logging, endpoint);
+    }
+  }
 
-    Object result = pjp.proceed();
-    String resultJson;
-    try {
-      resultJson = GsonUtils.toJson(result);
-    } catch (Exception e) {
-      resultJson = result.getClass().getName();
+  /**
+   * 엔드포인트가 결정된 컨트롤러 메서드를 실행하며 진입/종료 로그와 실행 시간을 기록한다.
+   *
+   * @param pjp 호출 대상 JoinPoint
+   * @param logging INFO 로그 기록 여부
+   * @param endpoint 현재 요청의 엔드포인트 정보
+   * @return 실제 메서드 실행 결과
+   * @throws Throwable 내부 메서드 예외 발생 시 전달
+   */
+  private Object logController(
+      ProceedingJoinPoint pjp, boolean logging, RequestEndpoint endpoint) throws Throwable {
+    String metricsKey = metricsKey(pjp, endpoint);
+    if (!logging) {
+      return proceed(pjp, metricsKey);
     }
 
-    logManager.logControllerExit(httpMethod, requestUri, methodInfo, resultJson);
+    if (!MdcUtils.isLogSampled()) {
+      return proceedSampledOut(
+          pjp, metricsKey, () -> controllerEntry(pjp, endpoint, pjp.getArgs()));
+    }
+
+    LogDetail detail = logDetail();
+    LogEvent entry = controllerEntry(pjp, endpoint, detail.logsParams() ? pjp.getArgs() : null);
+    publish(entry);
+
+    Object result = proceedSampled(pjp, metricsKey, entry);
+
+    LogEvent exit =
+        LogEvent.controllerExit(
+            entry.httpMethod(), entry.requestUri(), entry.descriptor(), exitResult(result, detail));
+    ResponseBodyCapture capture =
+        detail.logsResult() ? ResponseBodyCapture.from(getCurrentHttpRequest()) : null;
+    if (capture != null) {
+      capture.defer(exit, publisher);
+    } else {
+      publish(exit);
+    }
 
     return result;
   }
@@ -73,91 +164,293 @@ public class LoggingAspect {
    */
   @Around("@annotation(com.athenhub.commonmvc.logging.LogExecution)")
   public Object logExecution(ProceedingJoinPoint pjp) throws Throwable {
-    String methodInfo = extractMethodInfo(pjp);
-    MethodSignature signature = (MethodSignature) pjp.getSignature();
-    String logMessage = buildLogMessage(signature, pjp.getArgs());
+    if (!logManager.isInfoEnabled()) {
+      return pjp.proceed();
+    }
+
+    if (!MdcUtils.isLogSampled()) {
+      return proceedSampledOut(
+          pjp, null, () -> LogEvent.methodEntry(describe(pjp), pjp.getArgs()));
+    }
 
-    logManager.logMethodEntry(methodInfo, logMessage);
+    MethodLogDescriptor descriptor = describe(pjp);
+    LogDetail detail = logDetail();
 
-    Object result = pjp.proceed();
-    String resultJson;
+    LogEvent entry =
+        LogEvent.methodEntry(descriptor, detail.logsParams() ? pjp.getArgs() : null);
+    publish(entry);
 
-    try {
-      resultJson = GsonUtils.toJson(result);
-    } catch (Exception e) {
-      resultJson = result.getClass().getName();
-    }
+    Object result = proceedSampled(pjp, null, entry);
 
-    logManager.logMethodExit(methodInfo, resultJson);
+    publish(LogEvent.methodExit(descriptor, exitResult(result, detail)));
 
     return result;
   }
 
   /**
-   * 현재 HTTP 요청 객체를 조회한다.
+   * 진입 로그를 남긴 대상 메서드를 실행한다. 예외가 발생하면 실패 로그를 기록한 뒤 예외를 다시 던진다.
    *
-   * @return HttpServletRequest 현재 요청, 없으면 null
+   * @param pjp 호출 대상 JoinPoint
+   * @param metricsKey 실행 시간/처리량 기록 키, null이면 기록하지 않음
+   * @param entry 기록된 진입 로그 이벤트
+   * @return 실제 메서드 실행 결과
+   * @throws Throwable 내부 메서드 예외 발생 시 전달
    */
-  private HttpServletRequest getCurrentHttpRequest() {
-    ServletRequestAttributes attributes =
-        (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-    return attributes != null ? attributes.getRequest() : null;
+  private Object proceedSampled(ProceedingJoinPoint pjp, String metricsKey, LogEvent entry)
+      throws Throwable {
+    try {
+      return proceed(pjp, metricsKey);
+    } catch (Throwable e) {
+      publish(entry.toFailure(e));
+      throw e;
+    }
   }
 
-  private String extractSimpleClassName(String fullClassName) {
-    int lastDotIndex = fullClassName.lastIndexOf(".");
-    return lastDotIndex != -1 ? fullClassName.substring(lastDotIndex + 1) : fullClassName;
+  /**
+   * 샘플링에서 제외된 요청의 대상 메서드를 실행한다. 예외가 발생한 경우에만 진입/실패 로그를 기록한 뒤 예외를 다시 던진다.
+   *
+   * @param pjp 호출 대상 JoinPoint
+   * @param metricsKey 실행 시간/처리량 기록 키, null이면 기록하지 않음
+   * @param entry 진입 로그 이벤트 생성 함수
+   * @return 실제 메서드 실행 결과
+   * @throws Throwable 내부 메서드 예외 발생 시 전달
+   */
+  private Object proceedSampledOut(
+      ProceedingJoinPoint pjp, String metricsKey, Supplier<LogEvent> entry) throws Throwable {
+    try {
+      return proceed(pjp, metricsKey);
+    } catch (Throwable e) {
+      LogEvent entryEvent = entry.get();
+      publish(entryEvent);
+      publish(entryEvent.toFailure(e));
+      throw e;
+    }
   }
 
   /**
-   * 전체 URL 문자열에서 경로(path)를 추출한다.
+   * 대상 메서드를 실행한다. 기록 키가 주어지면 성공/실패와 관계없이 실행 시간을 {@link LatencyRecorder}에, 동시 처리 수와
+   * 완료/실패 수를 {@link TrafficRecorder}에 기록한다.
    *
-   * @param fullUrl 전체 URL
-   * @return URL 경로, 추출 실패 시 원본 문자열
+   * @param pjp 호출 대상 JoinPoint
+   * @param metricsKey 실행 시간/처리량 기록 키, null이면 기록하지 않음
+   * @return 실제 메서드 실행 결과
+   * @throws Throwable 내부 메서드 예외 발생 시 전달
    */
-  private String extractPath(String fullUrl) {
+  private Object proceed(ProceedingJoinPoint pjp, String metricsKey) throws Throwable {
+    if (metricsKey == null) {
+      return pjp.proceed();
+    }
+
+    EndpointTraffic traffic = trafficRecorder != null ? trafficRecorder.begin(metricsKey) : null;
+    long start = System.nanoTime();
+    boolean failed = true;
     try {
-      URI uri = new URI(fullUrl);
-      return uri.getPath();
-    } catch (Exception e) {
-      log.warn("Failed to extract path from URL: {}", fullUrl, e);
-      return fullUrl;
+      Object result = pjp.proceed();
+      failed = false;
+      return result;
+    } finally {
+      if (latencyRecorder != null) {
+        latencyRecorder.record(metricsKey, System.nanoTime() - start, failed);
+      }
+      if (traffic != null) {
+        traffic.end(failed);
+      }
     }
   }
 
   /**
-   * ProceedingJoinPoint로부터 클래스명과 메서드명을 결합한 식별 문자열을 생성한다.
+   * 현재 HTTP 요청 정보를 포함한 컨트롤러 진입 이벤트를 생성한다.
    *
-   * @param joinPoint 호출 대상 JoinPoint
-   * @return ClassName.methodName 형식의 메서드 정보
+   * @param pjp 호출 대상 JoinPoint
+   * @param endpoint 현재 요청의 엔드포인트 정보
+   * @param args 로그에 기록할 인자 배열, 생략하면 null
+   * @return 컨트롤러 진입 이벤트
    */
-  private String extractMethodInfo(JoinPoint joinPoint) {
-    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    return extractSimpleClassName(signature.getDeclaringTypeName()) + "." + signature.getName();
+  private LogEvent controllerEntry(
+      ProceedingJoinPoint pjp, RequestEndpoint endpoint, Object[] args) {
+    return LogEvent.controllerEntry(endpoint.httpMethod(), endpoint.route(), describe(pjp), args);
   }
 
   /**
-   * 메서드 시그니처와 인자를 기반으로 파라미터 로깅용 문자열을 생성한다.
+   * 현재 로그 상세 수준을 조회한다.
    *
-   * @param signature 메서드 시그니처
-   * @param args 메서드 호출 인자 배열
-   * @return ", Params: {name1: value1, ...}" 형식의 파라미터 정보 (인자가 없으면 빈 문자열)
+   * @return 로그 상세 수준, 조절기가 없으면 FULL
    */
-  private String buildLogMessage(MethodSignature signature, Object[] args) {
-    String[] parameterNames = signature.getParameterNames();
-    StringBuilder logMessage = new StringBuilder();
+  private LogDetail logDetail() {
+    return adaptive != null ? adaptive.current() : LogDetail.FULL;
+  }
 
-    if (parameterNames.length > 0) {
-      logMessage.append(", Params: {");
-      for (int i = 0; i < parameterNames.length; i++) {
-        logMessage.append(parameterNames[i]).append(": ").append(args[i]);
-        if (i < parameterNames.length - 1) {
-          logMessage.append(", ");
-        }
-      }
-      logMessage.append("}");
+  /**
+   * 로그 상세 수준에 맞춰 종료 로그에 기록할 결과를 결정한다.
+   *
+   * @param result 메서드 반환 결과
+   * @param detail 로그 상세 수준
+   * @return 반환 결과, 결과를 직렬화하지 않는 수준이면 타입만 남긴 {@link OmittedResult}
+   */
+  private static Object exitResult(Object result, LogDetail detail) {
+    return detail.logsResult() ? result : OmittedResult.of(result);
+  }
+
+  /**
+   * 현재 HTTP 요청의 엔드포인트 정보를 조회한다. 요청 컨텍스트가 없으면 "N/A"를 사용한다. 처리 중 요청 레지스트리에 등록된 요청이면
+   * 항목의 엔드포인트 키도 갱신한다.
+   *
+   * @param pjp 호출 대상 JoinPoint
+   * @return 요청 엔드포인트 정보
+   */
+  private RequestEndpoint resolveEndpoint(ProceedingJoinPoint pjp) {
+    HttpServletRequest request = getCurrentHttpRequest();
+    if (request == null) {
+      return NOT_APPLICABLE;
+    }
+    MethodSignature signature = (MethodSignature) pjp.getSignature();
+    RequestEndpoint endpoint =
+        endpointResolver.resolve(signature.getMethod(), describe(pjp), request);
+
+    InFlightRequest inFlight = InFlightRequest.from(request);
+    if (inFlight != null && endpoint.key() != null) {
+      inFlight.setEndpoint(endpoint.key());
     }
+    return endpoint;
+  }
 
-    return logMessage.toString();
+  /**
+   * 응답 시간/처리량 기록 키를 결정한다. 요청 컨텍스트가 없으면 메서드 정보를 사용한다.
+   *
+   * @param pjp 호출 대상 JoinPoint
+   * @param endpoint 현재 요청의 엔드포인트 정보
+   * @return 기록 키, {@link LatencyRecorder}와 {@link TrafficRecorder}가 모두 없으면 null
+   */
+  private String metricsKey(ProceedingJoinPoint pjp, RequestEndpoint endpoint) {
+    if (latencyRecorder == null && trafficRecorder == null) {
+      return null;
+    }
+    return endpoint.key() != null ? endpoint.key() : describe(pjp).methodInfo();
+  }
+
+  /**
+   * 로그 이벤트를 비동기 디스패처로 전달하거나, 디스패처가 없으면 즉시 렌더링한다.
+   *
+   * @param event 기록할 로그 이벤트
+   */
+  private void publish(LogEvent event) {
+    if (dispatcher != null) {
+      dispatcher.dispatch(event);
+    } else {
+      renderer.render(event);
+    }
+  }
+
+  /**
+   * 현재 HTTP 요청 객체를 조회한다.
+   *
+   * @return HttpServletRequest 현재 요청, 없으면 null
+   */
+  private HttpServletRequest getCurrentHttpRequest() {
+    ServletRequestAttributes attributes =
+        (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+    return attributes != null ? attributes.getRequest() : null;
+  }
+
+  /**
+   * JoinPoint에 해당하는 메서드의 로그 메타 정보를 조회한다.
+   *
+   * <p>Spring AOP의 JoinPoint는 호출마다 새로 생성되므로 캐시 키로는 {@link Method}를 사용한다. 메서드 정보를 얻을 수 없는 경우에는
+   * 캐싱하지 않고 매번 계산한다.
+   *
+   * @param joinPoint 호출 대상 JoinPoint
+   * @return 메서드 로그 메타 정보
+   */
+  private MethodLogDescriptor describe(JoinPoint joinPoint) {
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    Method method = signature.getMethod();
+    if (method == null) {
+      return MethodLogDescriptor.of(signature);
+    }
+
+    MethodLogDescriptor descriptor = descriptors.get(method);
+    if (descriptor == null) {
+      descriptor = descriptors.computeIfAbsent(method, m -> MethodLogDescriptor.of(signature));
+    }
+    return descriptor;
+  }
+
+  /** {@link LoggingAspect} 빌더. */
+  public static final class Builder {
+
+    private final LogManager logManager;
+    private LogEventRenderer renderer;
+    private AsyncLogDispatcher dispatcher;
+    private LatencyRecorder latencyRecorder;
+    private TrafficRecorder trafficRecorder;
+    private AdaptiveLoggingController adaptive;
+
+    private Builder(LogManager logManager) {
+      this.logManager = logManager;
+    }
+
+    /**
+     * 동기 모드에서 사용할 로그 이벤트 렌더러를 지정한다.
+     *
+     * @param renderer 로그 이벤트 렌더러, null이면 기본 렌더러
+     * @return this
+     */
+    public Builder renderer(LogEventRenderer renderer) {
+      this.renderer = renderer;
+      return this;
+    }
+
+    /**
+     * 비동기 디스패처를 지정한다.
+     *
+     * @param dispatcher 비동기 디스패처, null이면 동기 기록
+     * @return this
+     */
+    public Builder dispatcher(AsyncLogDispatcher dispatcher) {
+      this.dispatcher = dispatcher;
+      return this;
+    }
+
+    /**
+     * 응답 시간 기록기를 지정한다.
+     *
+     * @param latencyRecorder 응답 시간 기록기, null이면 시간을 기록하지 않음
+     * @return this
+     */
+    public Builder latencyRecorder(LatencyRecorder latencyRecorder) {
+      this.latencyRecorder = latencyRecorder;
+      return this;
+    }
+
+    /**
+     * 처리량 기록기를 지정한다.
+     *
+     * @param trafficRecorder 처리량 기록기, null이면 처리량을 기록하지 않음
+     * @return this
+     */
+    public Builder trafficRecorder(TrafficRecorder trafficRecorder) {
+      this.trafficRecorder = trafficRecorder;
+      return this;
+    }
+
+    /**
+     * 부하에 따른 로그 상세 수준 조절기를 지정한다.
+     *
+     * @param adaptive 로그 상세 수준 조절기, null이면 항상 전체 기록
+     * @return this
+     */
+    public Builder adaptive(AdaptiveLoggingController adaptive) {
+      this.adaptive = adaptive;
+      return this;
+    }
+
+    /**
+     * 지정한 설정으로 Aspect를 생성한다.
+     *
+     * @return LoggingAspect
+     */
+    public LoggingAspect build() {
+      return new LoggingAspect(this);
+    }
   }
 }
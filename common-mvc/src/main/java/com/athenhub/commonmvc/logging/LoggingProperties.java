@@ -0,0 +1,387 @@
+package com.athenhub.commonmvc.logging;
+
+import com.athenhub.commonmvc.logging.adaptive.DegradationPolicy;
+import com.athenhub.commonmvc.logging.async.OverflowPolicy;
+import com.athenhub.commonmvc.logging.capture.ResultSource;
+import com.athenhub.commonmvc.logging.encoder.LogFormat;
+import com.athenhub.commonmvc.logging.sampling.EndpointSamplingPolicy;
+import com.athenhub.commonmvc.logging.sampling.SamplingPolicy;
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code athenhub.logging.mvc} 하위의 요청 로깅 설정 값.
+ *
+ * <pre>
+ * athenhub:
+ *   logging:
+ *     mvc:
+ *       format: JSON
+ *       mdc:
+ *         eager: false
+ *       request-id:
+ *         header: X-Request-Id
+ *       async:
+ *         enabled: true
+ *         buffer-size: 8192
+ *         overflow-policy: DROP
+ *       result:
+ *         source: RESPONSE_BODY
+ *         max-length: 4096
+ *         max-elements: 100
+ *         max-depth: 8
+ *       sampling:
+ *         enabled: true
+ *         rate: 0.1
+ *         endpoints:
+ *           - pattern: /api/v1/orders/**
+ *             rate: 1.0
+ *             max-per-second: 50
+ *       latency:
+ *         enabled: true
+ *         window: 1m
+ *         slots: 6
+ *         summary-enabled: true
+ *         summary-interval: 1m
+ *       traffic:
+ *         enabled: true
+ *         summary-enabled: true
+ *         summary-interval: 1m
+ *       adaptive:
+ *         enabled: true
+ *         check-interval: 1s
+ *         in-flight:
+ *           params-only: 200
+ *           ids-only: 400
+ *         p99-millis:
+ *           params-only: 1000
+ *           ids-only: 3000
+ *       watchdog:
+ *         enabled: true
+ *         threshold: 10s
+ *         check-interval: 1s
+ *         samples: 3
+ *         max-depth: 32
+ *         endpoints:
+ *           - endpoint: GET /api/v1/reports/{id}
+ *             threshold: 60s
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "athenhub.logging.mvc")
+public class LoggingProperties {
+
+  /** 요청 로깅 AutoConfiguration 활성화 여부. */
+  private boolean enabled = true;
+
+  /** 진입/종료 로그 출력 형식 (TEXT, JSON, LOGFMT). */
+  private LogFormat format = LogFormat.TEXT;
+
+  /** MDC 반영 설정. */
+  private final Mdc mdc = new Mdc();
+
+  /** 요청 ID 설정. */
+  private final RequestId requestId = new RequestId();
+
+  /** 비동기 로깅 설정. */
+  private final Async async = new Async();
+
+  /** 반환 결과 로그 직렬화 설정. */
+  private final Result result = new Result();
+
+  /** 컨트롤러 로그 샘플링 설정. */
+  private final Sampling sampling = new Sampling();
+
+  /** 엔드포인트별 응답 시간 기록 설정. */
+  private final Latency latency = new Latency();
+
+  /** 엔드포인트별 처리량 기록 설정. */
+  private final Traffic traffic = new Traffic();
+
+  /** 부하에 따른 로그 상세 수준 조절 설정. */
+  private final Adaptive adaptive = new Adaptive();
+
+  /** 지연 요청 감시 설정. */
+  private final Watchdog watchdog = new Watchdog();
+
+  /** MDC 반영 설정 값. */
+  @Getter
+  @Setter
+  public static class Mdc {
+
+    /**
+     * 요청 시작 시 MDC에 요청 정보를 저장할지 여부. false면 요청 컨텍스트만 바인딩하고 로그 기록 시점에만 MDC에 반영한다. 애플리케이션 로그
+     * 패턴에서 %X{requestId}를 사용한다면 true로 유지한다.
+     */
+    private boolean eager = true;
+  }
+
+  /** 요청 ID 설정 값. */
+  @Getter
+  @Setter
+  public static class RequestId {
+
+    /** 게이트웨이가 전달한 요청 ID를 재사용할 헤더 이름. 비워 두면 항상 새로 생성한다. */
+    private String header = "X-Request-Id";
+  }
+
+  /** 비동기 로깅 설정 값. */
+  @Getter
+  @Setter
+  public static class Async {
+
+    /** 비동기 로깅 활성화 여부. 기본값은 요청 스레드에서 동기 기록. */
+    private boolean enabled = false;
+
+    /** 링 버퍼 용량. 2의 거듭제곱으로 올림된다. */
+    private int bufferSize = 8192;
+
+    /** 버퍼 포화 시 처리 정책. */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+  }
+
+  /** 반환 결과 로그 직렬화 크기 제한 값. */
+  @Getter
+  @Setter
+  public static class Result {
+
+    /**
+     * 종료 로그에 기록할 결과의 출처. RESPONSE_BODY면 반환 객체를 직렬화하지 않고 실제 응답 본문의 앞부분(최대 max-length
+     * 바이트)을 기록한다.
+     */
+    private ResultSource source = ResultSource.SERIALIZE;
+
+    /** 결과 JSON 최대 길이(문자 수). RESPONSE_BODY 모드에서는 캡처할 최대 바이트 수. */
+    private int maxLength = JsonRenderLimits.DEFAULT.maxLength();
+
+    /** 배열/컬렉션당 최대 출력 요소 수. */
+    private int maxElements = JsonRenderLimits.DEFAULT.maxElements();
+
+    /** 최대 중첩 깊이. */
+    private int maxDepth = JsonRenderLimits.DEFAULT.maxDepth();
+
+    /**
+     * 설정 값을 {@link JsonRenderLimits}로 변환한다.
+     *
+     * @return JSON 렌더링 크기 제한
+     */
+    public JsonRenderLimits toLimits() {
+      return new JsonRenderLimits(maxLength, maxElements, maxDepth);
+    }
+  }
+
+  /** 컨트롤러 로그 샘플링 설정 값. */
+  @Getter
+  @Setter
+  public static class Sampling {
+
+    /** 샘플링 활성화 여부. 기본값은 모든 요청 기록. */
+    private boolean enabled = false;
+
+    /** 경로별 규칙과 일치하지 않는 요청의 기록 비율 (0.0 ~ 1.0). */
+    private double rate = 1.0;
+
+    /** 경로별 샘플링 규칙. 먼저 선언된 규칙이 우선한다. */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    /**
+     * 설정 값을 {@link SamplingPolicy}로 변환한다.
+     *
+     * @return 샘플링 정책
+     */
+    public SamplingPolicy toPolicy() {
+      SamplingPolicy fallback = SamplingPolicy.rate(rate);
+      if (endpoints.isEmpty()) {
+        return fallback;
+      }
+
+      List<EndpointSamplingPolicy.Rule> rules = new ArrayList<>(endpoints.size());
+      for (Endpoint endpoint : endpoints) {
+        rules.add(EndpointSamplingPolicy.Rule.of(endpoint.getPattern(), endpoint.toPolicy(rate)));
+      }
+      return new EndpointSamplingPolicy(rules, fallback);
+    }
+  }
+
+  /** 경로별 샘플링 규칙 설정 값. */
+  @Getter
+  @Setter
+  public static class Endpoint {
+
+    /** 요청 경로 패턴 (예: /api/v1/orders/**). */
+    private String pattern;
+
+    /** 기록 비율 (0.0 ~ 1.0). 지정하지 않으면 전역 비율을 따른다. */
+    private Double rate;
+
+    /** 초당 최대 기록 요청 수. 지정하지 않으면 제한 없음. */
+    private Double maxPerSecond;
+
+    SamplingPolicy toPolicy(double defaultRate) {
+      SamplingPolicy policy = SamplingPolicy.rate(rate != null ? rate : defaultRate);
+      return maxPerSecond != null ? policy.and(SamplingPolicy.tokenBucket(maxPerSecond)) : policy;
+    }
+  }
+
+  /** 엔드포인트별 응답 시간 기록 설정 값. */
+  @Getter
+  @Setter
+  public static class Latency {
+
+    /** 응답 시간 기록 활성화 여부. */
+    private boolean enabled = false;
+
+    /** 백분위 계산에 포함할 최근 구간 길이. */
+    private Duration window = Duration.ofMinutes(1);
+
+    /** 최근 구간을 나눌 칸 수. 칸 하나 길이만큼씩 오래된 기록이 빠진다. */
+    private int slots = 6;
+
+    /** 주기적 요약 로그 활성화 여부. */
+    private boolean summaryEnabled = true;
+
+    /** 요약 로그 기록 주기. */
+    private Duration summaryInterval = Duration.ofMinutes(1);
+  }
+
+  /** 엔드포인트별 처리량 기록 설정 값. */
+  @Getter
+  @Setter
+  public static class Traffic {
+
+    /** 동시 처리 수/처리량 기록 활성화 여부. */
+    private boolean enabled = false;
+
+    /** 주기적 요약 로그 활성화 여부. */
+    private boolean summaryEnabled = true;
+
+    /** 요약 로그 기록 주기. */
+    private Duration summaryInterval = Duration.ofMinutes(1);
+  }
+
+  /** 부하에 따른 로그 상세 수준 조절 설정 값. */
+  @Getter
+  @Setter
+  public static class Adaptive {
+
+    /** 로그 상세 수준 조절 활성화 여부. */
+    private boolean enabled = false;
+
+    /** 부하 신호 검사 주기. */
+    private Duration checkInterval = Duration.ofSeconds(1);
+
+    /** 한 단계 복구에 필요한 연속 안정 관측 수. */
+    private int recoveryChecks = 5;
+
+    /** 복구 판단 시 임계 값에 곱하는 비율. */
+    private double recoveryRatio = 0.8;
+
+    /** 처리 중 요청 수 임계 값. watchdog 또는 traffic 기록이 활성화된 경우에만 관측된다. */
+    private final Threshold inFlight = new Threshold(0, 0);
+
+    /** p99 응답 시간(ms) 임계 값. latency 기록이 활성화된 경우에만 관측된다. */
+    private final Threshold p99Millis = new Threshold(1000, 3000);
+
+    /** 힙 사용률 임계 값 (0.0 ~ 1.0). */
+    private final Threshold heapUsage = new Threshold(0.85, 0.95);
+
+    /** GC 시간 비율 임계 값 (0.0 ~ 1.0). */
+    private final Threshold gcTimeRatio = new Threshold(0.1, 0.25);
+
+    /**
+     * 설정 값을 {@link DegradationPolicy}로 변환한다.
+     *
+     * @return 로그 상세 수준 조절 정책
+     */
+    public DegradationPolicy toPolicy() {
+      return new DegradationPolicy(
+          inFlight.toThreshold(),
+          p99Millis.toThreshold(),
+          heapUsage.toThreshold(),
+          gcTimeRatio.toThreshold(),
+          recoveryChecks,
+          recoveryRatio);
+    }
+  }
+
+  /** 부하 신호 하나의 단계별 임계 값. 0 이하면 해당 단계로 낮추지 않는다. */
+  @Getter
+  @Setter
+  public static class Threshold {
+
+    /** PARAMS_ONLY(결과 직렬화 생략)로 낮추는 값. */
+    private double paramsOnly;
+
+    /** IDS_ONLY(파라미터/결과 생략)로 낮추는 값. */
+    private double idsOnly;
+
+    Threshold(double paramsOnly, double idsOnly) {
+      this.paramsOnly = paramsOnly;
+      this.idsOnly = idsOnly;
+    }
+
+    DegradationPolicy.Threshold toThreshold() {
+      return new DegradationPolicy.Threshold(paramsOnly, idsOnly);
+    }
+  }
+
+  /** 지연 요청 감시 설정 값. */
+  @Getter
+  @Setter
+  public static class Watchdog {
+
+    /** 지연 요청 감시 활성화 여부. */
+    private boolean enabled = false;
+
+    /** 엔드포인트별 임계 시간이 없을 때 적용할 기본 임계 시간. */
+    private Duration threshold = Duration.ofSeconds(10);
+
+    /** 처리 중 요청 검사 및 스택 샘플링 주기. */
+    private Duration checkInterval = Duration.ofSeconds(1);
+
+    /** 지연 요청당 수집할 스택 샘플 수. 검사 주기마다 하나씩 수집한다. */
+    private int samples = 3;
+
+    /** 샘플당 기록할 최대 스택 프레임 수. */
+    private int maxDepth = 32;
+
+    /** 엔드포인트별 임계 시간. */
+    private List<WatchdogEndpoint> endpoints = new ArrayList<>();
+
+    /**
+     * 엔드포인트별 임계 시간을 Map으로 변환한다.
+     *
+     * @return 엔드포인트 키별 임계 시간
+     */
+    public Map<String, Duration> toEndpointThresholds() {
+      Map<String, Duration> thresholds = new HashMap<>();
+      for (WatchdogEndpoint endpoint : endpoints) {
+        thresholds.put(endpoint.getEndpoint(), endpoint.getThreshold());
+      }
+      return thresholds;
+    }
+  }
+
+  /** 엔드포인트별 지연 임계 시간 설정 값. */
+  @Getter
+  @Setter
+  public static class WatchdogEndpoint {
+
+    /** 엔드포인트 키. HTTP 메서드와 라우트 템플릿 (예: GET /api/v1/reports/{id}). */
+    private String endpoint;
+
+    /** 임계 시간. */
+    private Duration threshold;
+  }
+}
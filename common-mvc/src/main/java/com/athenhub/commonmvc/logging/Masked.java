@@ -0,0 +1,22 @@
+package com.athenhub.commonmvc.logging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그에 값을 가려서 출력할 파라미터를 지정하는 애노테이션.
+ *
+ * <pre>
+ * - 파라미터 이름은 출력하고 값은 "****"로 대체
+ * - toString()을 호출하지 않으므로 민감 정보가 로그로 새지 않음
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ * @see ParameterLogMode
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Masked {}
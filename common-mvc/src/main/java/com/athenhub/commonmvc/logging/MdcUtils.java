@@ -1,6 +1,7 @@
 package com.athenhub.commonmvc.logging;
 
-import io.micrometer.common.util.StringUtils;
+import com.athenhub.commonmvc.context.RequestContext;
+import java.util.Map;
 import java.util.UUID;
 import org.slf4j.MDC;
 
@@ -9,9 +10,14 @@ import org.slf4j.MDC;
  *
  * <pre>
  * - 요청 ID 및 인증 계정 등 로그 컨텍스트를 위한 MDC 키 관리
+ * - 요청 단위 로그 샘플링 결정 결과 보관
  * - MDC에 값 저장, 조회, 제거, 전체 클리어 기능 제공
+ * - 다른 스레드로 컨텍스트를 전파하기 위한 전체 복사/복원 기능 제공
  * </pre>
  *
+ * <p>요청 ID, 인증 계정, 샘플링 여부는 현재 스레드에 {@link RequestContext}가 바인딩되어 있으면 MDC 대신 타입 객체에서 바로 읽는다.
+ * MDC를 미리 채우지 않는 모드에서는 {@link #mirrorRequestContext()}로 로그를 실제로 기록하는 동안에만 MDC에 반영한다.
+ *
  * @author 김형섭
  * @since 0.3.0
  */
@@ -19,6 +25,9 @@ public class MdcUtils {
 
   public static final String REQUEST_ID = "requestId";
   public static final String REQUEST_USERNAME = "requestUsername";
+  public static final String LOG_SAMPLED = "logSampled";
+
+  private static final int UUID_LENGTH = 36;
 
   /** 인스턴스 생성 방지를 위한 private 생성자. */
   private MdcUtils() {}
@@ -61,6 +70,29 @@ public class MdcUtils {
     MDC.clear();
   }
 
+  /**
+   * 현재 스레드의 MDC 전체를 복사하여 반환한다.
+   *
+   * @return MDC 키-값 복사본, 비어 있으면 null
+   */
+  public static Map<String, String> getContextMap() {
+    Map<String, String> contextMap = MDC.getCopyOfContextMap();
+    return contextMap == null || contextMap.isEmpty() ? null : contextMap;
+  }
+
+  /**
+   * 현재 스레드의 MDC를 주어진 키-값으로 교체한다. null이면 MDC를 클리어한다.
+   *
+   * @param contextMap 설정할 MDC 키-값
+   */
+  public static void setContextMap(Map<String, String> contextMap) {
+    if (contextMap == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(contextMap);
+    }
+  }
+
   /**
    * MDC에 요청 ID를 저장한다.
    *
@@ -76,20 +108,38 @@ public class MdcUtils {
    * @return 요청 ID 문자열, 없으면 null
    */
   public static String getRequestId() {
-    return get(REQUEST_ID);
+    RequestContext context = RequestContext.current();
+    return context != null ? context.requestId() : get(REQUEST_ID);
   }
 
   /**
-   * MDC에서 요청 ID를 UUID 형식으로 조회한다.
+   * 요청 ID를 UUID 형식으로 조회한다. {@link RequestContext}가 있으면 문자열을 다시 파싱하지 않는다.
    *
-   * @return 요청 ID UUID, 없거나 형식이 올바르지 않으면 null
+   * @return 요청 ID UUID, 없거나 UUID 형식이 아닌 요청 ID면 null
    */
   public static UUID getRequestUuid() {
-    String requestId = get(REQUEST_ID);
-    if (StringUtils.isBlank(requestId)) {
+    RequestContext context = RequestContext.current();
+    if (context != null) {
+      return context.requestUuid();
+    }
+    return toRequestUuid(get(REQUEST_ID));
+  }
+
+  /**
+   * 요청 ID 문자열을 UUID로 변환한다. 게이트웨이가 전달한 UUID 형식이 아닌 요청 ID도 허용하므로 변환 실패 시 예외 대신 null을 반환한다.
+   *
+   * @param requestId 요청 ID 문자열
+   * @return 요청 ID UUID, 비어 있거나 UUID 형식이 아니면 null
+   */
+  public static UUID toRequestUuid(String requestId) {
+    if (requestId == null || requestId.length() != UUID_LENGTH) {
+      return null;
+    }
+    try {
+      return UUID.fromString(requestId);
+    } catch (IllegalArgumentException e) {
       return null;
     }
-    return UUID.fromString(requestId);
   }
 
   /**
@@ -107,6 +157,52 @@ public class MdcUtils {
    * @return 인증 계정 문자열, 없으면 null
    */
   public static String getRequestUsername() {
-    return get(REQUEST_USERNAME);
+    RequestContext context = RequestContext.current();
+    return context != null ? context.username() : get(REQUEST_USERNAME);
+  }
+
+  /**
+   * MDC에 현재 요청의 로그 샘플링 결정 결과를 저장한다.
+   *
+   * @param sampled 로그 기록 여부
+   */
+  public static void setLogSampled(boolean sampled) {
+    put(LOG_SAMPLED, Boolean.toString(sampled));
+  }
+
+  /**
+   * 현재 요청의 로그가 샘플링 대상인지 조회한다. 결정 결과가 없으면 기록 대상으로 간주한다.
+   *
+   * @return 로그 기록 여부
+   */
+  public static boolean isLogSampled() {
+    RequestContext context = RequestContext.current();
+    if (context != null) {
+      return context.logSampled();
+    }
+    return !"false".equals(get(LOG_SAMPLED));
+  }
+
+  /**
+   * 현재 {@link RequestContext}의 요청 ID와 인증 계정을 MDC에 반영한다. MDC에 이미 요청 ID가 있으면 아무것도 하지 않는다.
+   *
+   * <p>로그 한 줄을 기록하기 직전에 호출하고, true를 반환한 경우 기록 후 {@link #removeMirroredContext()}로 정리한다.
+   *
+   * @return MDC에 값을 반영했으면 true
+   */
+  public static boolean mirrorRequestContext() {
+    RequestContext context = RequestContext.current();
+    if (context == null || MDC.get(REQUEST_ID) != null) {
+      return false;
+    }
+    put(REQUEST_ID, context.requestId());
+    put(REQUEST_USERNAME, context.username());
+    return true;
+  }
+
+  /** {@link #mirrorRequestContext()}로 반영한 MDC 값을 제거한다. */
+  public static void removeMirroredContext() {
+    MDC.remove(REQUEST_ID);
+    MDC.remove(REQUEST_USERNAME);
   }
 }
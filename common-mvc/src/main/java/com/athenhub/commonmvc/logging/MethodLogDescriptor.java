@@ -0,0 +1,134 @@
+package com.athenhub.commonmvc.logging;
+
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * 로깅 대상 메서드마다 한 번만 계산해 두는 로그 메타 정보.
+ *
+ * <pre>
+ * - 단순 클래스명, 메서드명, "ClassName.methodName" 문자열
+ * - 파라미터 이름 배열과 파라미터별 출력 방식({@link ParameterLogMode})
+ * - 파라미터 로그 문자열 생성 시 사용할 StringBuilder 초기 용량
+ * </pre>
+ *
+ * <p>{@link LoggingAspect}가 {@link java.lang.reflect.Method} 단위로 캐싱하여, 매 요청마다 반복되던 리플렉션 호출과 문자열
+ * 조립을 제거한다.
+ *
+ * @param simpleClassName 선언 클래스의 단순 이름
+ * @param methodName 메서드명
+ * @param methodInfo ClassName.methodName 형식의 메서드 정보 (intern 처리됨)
+ * @param parameterNames 파라미터 이름 배열
+ * @param paramsCapacity 파라미터 로그 문자열의 예상 길이
+ * @param parameterModes 파라미터별 출력 방식
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record MethodLogDescriptor(
+    String simpleClassName,
+    String methodName,
+    String methodInfo,
+    String[] parameterNames,
+    int paramsCapacity,
+    ParameterLogMode[] parameterModes) {
+
+  static final String PARAMS_PREFIX = ", Params: {";
+  static final String PARAMS_SUFFIX = "}";
+  static final String PARAMS_DELIMITER = ", ";
+  static final String NAME_VALUE_SEPARATOR = ": ";
+
+  /** 인자 1개의 값 문자열 길이 추정치. */
+  private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+  private static final String[] NO_PARAMETERS = new String[0];
+
+  /**
+   * 모든 파라미터 값을 그대로 출력하는 로그 메타 정보를 생성한다.
+   *
+   * @param simpleClassName 선언 클래스의 단순 이름
+   * @param methodName 메서드명
+   * @param methodInfo ClassName.methodName 형식의 메서드 정보
+   * @param parameterNames 파라미터 이름 배열
+   * @param paramsCapacity 파라미터 로그 문자열의 예상 길이
+   */
+  public MethodLogDescriptor(
+      String simpleClassName,
+      String methodName,
+      String methodInfo,
+      String[] parameterNames,
+      int paramsCapacity) {
+    this(
+        simpleClassName,
+        methodName,
+        methodInfo,
+        parameterNames,
+        paramsCapacity,
+        ParameterLogMode.defaults(parameterNames.length));
+  }
+
+  /**
+   * 메서드 시그니처로부터 로그 메타 정보를 생성한다. 파라미터별 출력 방식은 파라미터 애노테이션({@link NoLog}, {@link Masked},
+   * {@link LogSummary})과 타입으로 이 시점에 한 번만 결정한다.
+   *
+   * @param signature 메서드 시그니처
+   * @return 로그 메타 정보
+   */
+  public static MethodLogDescriptor of(MethodSignature signature) {
+    String simpleClassName = extractSimpleClassName(signature.getDeclaringTypeName());
+    String methodName = signature.getName();
+    String[] names = signature.getParameterNames();
+    String[] parameterNames = names == null ? NO_PARAMETERS : names;
+
+    return new MethodLogDescriptor(
+        simpleClassName,
+        methodName,
+        (simpleClassName + "." + methodName).intern(),
+        parameterNames,
+        estimateParamsCapacity(parameterNames),
+        ParameterLogMode.resolve(signature.getMethod(), parameterNames.length));
+  }
+
+  /**
+   * 로그에 출력할 파라미터가 존재하는지 여부를 반환한다.
+   *
+   * @return 로그에서 제외되지 않은 파라미터가 하나 이상이면 true
+   */
+  public boolean hasParameters() {
+    for (ParameterLogMode mode : parameterModes) {
+      if (mode != ParameterLogMode.OMIT) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 파라미터 출력 방식에 따라 인자 값을 로그 문자열로 변환한다.
+   *
+   * @param index 파라미터 인덱스
+   * @param arg 인자 값
+   * @return 로그에 출력할 문자열, 로그에서 제외되는 파라미터면 null
+   */
+  public String renderArgument(int index, Object arg) {
+    return parameterModes[index].render(arg);
+  }
+
+  private static String extractSimpleClassName(String fullClassName) {
+    int lastDotIndex = fullClassName.lastIndexOf('.');
+    return lastDotIndex != -1 ? fullClassName.substring(lastDotIndex + 1) : fullClassName;
+  }
+
+  private static int estimateParamsCapacity(String[] parameterNames) {
+    if (parameterNames.length == 0) {
+      return 0;
+    }
+    int capacity = PARAMS_PREFIX.length() + PARAMS_SUFFIX.length();
+    for (String parameterName : parameterNames) {
+      capacity +=
+          parameterName.length()
+              + NAME_VALUE_SEPARATOR.length()
+              + ESTIMATED_VALUE_LENGTH
+              + PARAMS_DELIMITER.length();
+    }
+    return capacity;
+  }
+}
@@ -0,0 +1,22 @@
+package com.athenhub.commonmvc.logging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그에서 제외할 파라미터를 지정하는 애노테이션.
+ *
+ * <pre>
+ * - 파라미터 이름과 값 모두 로그에 출력하지 않음
+ * - 비밀번호, 토큰 등 존재 여부조차 남길 필요가 없는 값에 사용
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ * @see ParameterLogMode
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NoLog {}
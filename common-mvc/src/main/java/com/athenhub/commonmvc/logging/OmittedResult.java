@@ -0,0 +1,26 @@
+package com.athenhub.commonmvc.logging;
+
+/**
+ * 직렬화를 생략한 반환 결과. 로그에는 결과 대신 타입명만 기록된다.
+ *
+ * @param typeName 반환 결과의 클래스명
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record OmittedResult(String typeName) {
+
+  /**
+   * 반환 결과의 타입만 남긴 객체를 생성한다.
+   *
+   * @param result 반환 결과
+   * @return 타입만 남긴 결과, 결과가 null이면 null
+   */
+  public static OmittedResult of(Object result) {
+    return result == null ? null : new OmittedResult(result.getClass().getName());
+  }
+
+  @Override
+  public String toString() {
+    return "(omitted) " + typeName;
+  }
+}
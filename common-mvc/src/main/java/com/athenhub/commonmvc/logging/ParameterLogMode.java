@@ -0,0 +1,194 @@
+package com.athenhub.commonmvc.logging;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.core.io.Resource;
+import org.springframework.ui.Model;
+import org.springframework.validation.Errors;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 파라미터 값을 로그에 출력하는 방식.
+ *
+ * <pre>
+ * - VALUE : 값의 toString() 출력 (기본값)
+ * - OMIT : 파라미터 이름과 값 모두 제외 ({@link NoLog}, 서블릿 요청/응답, 스트림, Model, BindingResult 등)
+ * - MASK : 값을 "****"로 대체 ({@link Masked})
+ * - SUMMARY : 타입과 크기만 출력 ({@link LogSummary}, MultipartFile, byte[], Resource 등)
+ * </pre>
+ *
+ * <p>{@link MethodLogDescriptor} 생성 시 메서드마다 한 번만 결정되며, 요청마다 애노테이션이나 타입을 다시 조회하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public enum ParameterLogMode {
+  VALUE {
+    @Override
+    public String render(Object arg) {
+      return String.valueOf(arg);
+    }
+  },
+  OMIT {
+    @Override
+    public String render(Object arg) {
+      return null;
+    }
+  },
+  MASK {
+    @Override
+    public String render(Object arg) {
+      return MASKED_VALUE;
+    }
+  },
+  SUMMARY {
+    @Override
+    public String render(Object arg) {
+      return summarize(arg);
+    }
+  };
+
+  /** 가려진 값 대신 출력하는 문자열. */
+  public static final String MASKED_VALUE = "****";
+
+  /** 로그에서 제외하는 타입. */
+  private static final Class<?>[] OMITTED_TYPES = {
+    ServletRequest.class,
+    ServletResponse.class,
+    HttpSession.class,
+    InputStream.class,
+    OutputStream.class,
+    Reader.class,
+    Writer.class,
+    Model.class,
+    Errors.class
+  };
+
+  /** 값 대신 타입과 크기만 출력하는 타입. */
+  private static final Class<?>[] SUMMARIZED_TYPES = {
+    MultipartFile.class, Resource.class, byte[].class, char[].class
+  };
+
+  private static final ParameterLogMode[] NO_MODES = new ParameterLogMode[0];
+
+  /**
+   * 인자 값을 로그 문자열로 변환한다.
+   *
+   * @param arg 인자 값
+   * @return 로그에 출력할 문자열, 로그에서 제외하면 null
+   */
+  public abstract String render(Object arg);
+
+  /**
+   * 메서드의 파라미터별 출력 방식을 결정한다. 애노테이션이 타입 기본 규칙보다 우선한다.
+   *
+   * @param method 대상 메서드, 알 수 없으면 null
+   * @param parameterCount 파라미터 수
+   * @return 파라미터별 출력 방식 (메서드를 알 수 없으면 모두 VALUE)
+   */
+  public static ParameterLogMode[] resolve(Method method, int parameterCount) {
+    if (parameterCount == 0) {
+      return NO_MODES;
+    }
+
+    ParameterLogMode[] modes = defaults(parameterCount);
+    if (method == null || method.getParameterCount() != parameterCount) {
+      return modes;
+    }
+
+    Class<?>[] types = method.getParameterTypes();
+    Annotation[][] annotations = method.getParameterAnnotations();
+    for (int i = 0; i < parameterCount; i++) {
+      modes[i] = resolveParameter(types[i], annotations[i]);
+    }
+    return modes;
+  }
+
+  /**
+   * 모든 파라미터를 VALUE 방식으로 출력하는 배열을 생성한다.
+   *
+   * @param parameterCount 파라미터 수
+   * @return 파라미터별 출력 방식
+   */
+  public static ParameterLogMode[] defaults(int parameterCount) {
+    if (parameterCount == 0) {
+      return NO_MODES;
+    }
+    ParameterLogMode[] modes = new ParameterLogMode[parameterCount];
+    Arrays.fill(modes, VALUE);
+    return modes;
+  }
+
+  private static ParameterLogMode resolveParameter(Class<?> type, Annotation[] annotations) {
+    for (Annotation annotation : annotations) {
+      Class<? extends Annotation> annotationType = annotation.annotationType();
+      if (annotationType == NoLog.class) {
+        return OMIT;
+      }
+      if (annotationType == Masked.class) {
+        return MASK;
+      }
+      if (annotationType == LogSummary.class) {
+        return SUMMARY;
+      }
+    }
+
+    if (isAssignableToAny(type, OMITTED_TYPES)) {
+      return OMIT;
+    }
+    if (isAssignableToAny(type, SUMMARIZED_TYPES)) {
+      return SUMMARY;
+    }
+    return VALUE;
+  }
+
+  private static boolean isAssignableToAny(Class<?> type, Class<?>[] candidates) {
+    for (Class<?> candidate : candidates) {
+      if (candidate.isAssignableFrom(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 값의 타입과 크기를 요약한 문자열을 생성한다.
+   *
+   * @param arg 인자 값
+   * @return "타입(size=N)" 형식의 요약, 크기를 알 수 없으면 타입명
+   */
+  private static String summarize(Object arg) {
+    if (arg == null) {
+      return "null";
+    }
+
+    String type = arg.getClass().getSimpleName();
+    long size;
+    if (arg instanceof CharSequence value) {
+      size = value.length();
+    } else if (arg instanceof Collection<?> value) {
+      size = value.size();
+    } else if (arg instanceof Map<?, ?> value) {
+      size = value.size();
+    } else if (arg instanceof MultipartFile value) {
+      size = value.getSize();
+      type = "MultipartFile";
+    } else if (arg.getClass().isArray()) {
+      size = Array.getLength(arg);
+    } else {
+      return type;
+    }
+    return type + "(size=" + size + ")";
+  }
+}
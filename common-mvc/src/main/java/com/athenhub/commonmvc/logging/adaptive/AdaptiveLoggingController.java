@@ -0,0 +1,123 @@
+package com.athenhub.commonmvc.logging.adaptive;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 신호를 주기적으로 관측하여 요청 로그의 상세 수준({@link LogDetail})을 조절하는 컨트롤러.
+ *
+ * <pre>
+ * - 전용 daemon 스레드에서 검사 주기마다 부하 신호를 관측
+ * - 신호가 임계 값을 넘으면 즉시 해당 수준으로 낮춤 (FULL → PARAMS_ONLY → IDS_ONLY, 단계를 건너뛸 수 있음)
+ * - 복구는 {@link DegradationPolicy}의 복구 조건을 만족할 때마다 한 단계씩
+ * - 수준이 바뀔 때마다 이전/이후 수준과 관측 값을 로그로 남김
+ * </pre>
+ *
+ * <p>요청 스레드는 volatile 필드 하나만 읽으므로 {@link com.athenhub.commonmvc.logging.LoggingAspect}에 추가되는 비용이
+ * 없다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Slf4j
+public class AdaptiveLoggingController implements AutoCloseable {
+
+  private static final String CONTROLLER_THREAD_NAME = "athenhub-adaptive-logging";
+
+  private final Supplier<LoadSample> signals;
+  private final DegradationPolicy policy;
+  private final ScheduledExecutorService scheduler;
+  private volatile LogDetail current = LogDetail.FULL;
+  private int calmChecks;
+
+  /**
+   * 컨트롤러를 생성하고 주기적 검사를 시작한다.
+   *
+   * @param signals 부하 신호 수집기
+   * @param policy 수준 조절 정책
+   * @param checkInterval 검사 주기
+   */
+  public AdaptiveLoggingController(
+      Supplier<LoadSample> signals, DegradationPolicy policy, Duration checkInterval) {
+    this.signals = signals;
+    this.policy = policy;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, CONTROLLER_THREAD_NAME);
+              thread.setDaemon(true);
+              return thread;
+            });
+    long periodMillis = checkInterval.toMillis();
+    scheduler.scheduleAtFixedRate(
+        this::evaluate, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 현재 로그 상세 수준을 반환한다.
+   *
+   * @return 로그 상세 수준
+   */
+  public LogDetail current() {
+    return current;
+  }
+
+  /** 부하 신호를 관측하여 로그 상세 수준을 조절한다. */
+  void evaluate() {
+    try {
+      LoadSample sample = signals.get();
+      LogDetail pressure = policy.levelFor(sample, 1.0);
+      LogDetail calm = policy.levelFor(sample, policy.recoveryRatio());
+      LogDetail previous = current;
+
+      if (pressure.ordinal() > previous.ordinal()) {
+        calmChecks = 0;
+        transition(previous, pressure, sample);
+      } else if (calm.ordinal() < previous.ordinal()) {
+        if (++calmChecks >= policy.recoveryChecks()) {
+          calmChecks = 0;
+          transition(previous, LogDetail.values()[previous.ordinal() - 1], sample);
+        }
+      } else {
+        calmChecks = 0;
+      }
+    } catch (RuntimeException e) {
+      // 예외가 전파되면 이후 스케줄이 취소되므로 여기서 끊는다
+      log.warn("Failed to evaluate load for adaptive logging", e);
+    }
+  }
+
+  private void transition(LogDetail from, LogDetail to, LoadSample sample) {
+    current = to;
+    String format =
+        "Request logging {} - Detail: {} -> {}, InFlight: {}, p99: {}ms, Heap: {}, GC: {}";
+    Object[] args = {
+      to.ordinal() > from.ordinal() ? "degraded" : "recovered",
+      from,
+      to,
+      format(sample.inFlight()),
+      format(sample.p99Millis()),
+      format(sample.heapUsage()),
+      format(sample.gcTimeRatio())
+    };
+    if (to.ordinal() > from.ordinal()) {
+      log.warn(format, args);
+    } else {
+      log.info(format, args);
+    }
+  }
+
+  private static String format(double value) {
+    return Double.isNaN(value) ? "N/A" : String.format("%.2f", value);
+  }
+
+  /** 주기적 검사를 중단한다. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,66 @@
+package com.athenhub.commonmvc.logging.adaptive;
+
+/**
+ * 부하 신호별로 로그 상세 수준을 낮추는 임계 값과 복구 조건.
+ *
+ * <p>신호마다 PARAMS_ONLY, IDS_ONLY로 낮추는 임계 값을 두고, 가장 심한 신호가 요구하는 수준을 적용한다. 복구는 모든 신호가 임계 값에
+ * recoveryRatio를 곱한 값보다 낮은 상태가 recoveryChecks번 연속 관측될 때마다 한 단계씩 이루어지므로, 임계 값 근처에서 수준이
+ * 오르내리지 않는다.
+ *
+ * @param inFlight 처리 중인 요청 수 임계 값
+ * @param p99Millis p99 응답 시간(ms) 임계 값
+ * @param heapUsage 힙 사용률 임계 값
+ * @param gcTimeRatio GC 시간 비율 임계 값
+ * @param recoveryChecks 한 단계 복구에 필요한 연속 안정 관측 수
+ * @param recoveryRatio 복구 판단 시 임계 값에 곱하는 비율 (0.0 ~ 1.0)
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record DegradationPolicy(
+    Threshold inFlight,
+    Threshold p99Millis,
+    Threshold heapUsage,
+    Threshold gcTimeRatio,
+    int recoveryChecks,
+    double recoveryRatio) {
+
+  /**
+   * 관측 값이 요구하는 로그 상세 수준을 결정한다.
+   *
+   * @param sample 부하 신호 관측 값
+   * @param ratio 임계 값에 곱할 비율 (저하 판단 시 1.0, 복구 판단 시 recoveryRatio)
+   * @return 가장 심한 신호가 요구하는 수준
+   */
+  public LogDetail levelFor(LoadSample sample, double ratio) {
+    return inFlight
+        .levelFor(sample.inFlight(), ratio)
+        .min(p99Millis.levelFor(sample.p99Millis(), ratio))
+        .min(heapUsage.levelFor(sample.heapUsage(), ratio))
+        .min(gcTimeRatio.levelFor(sample.gcTimeRatio(), ratio));
+  }
+
+  /**
+   * 신호 하나의 단계별 임계 값. 0 이하인 임계 값은 사용하지 않는다.
+   *
+   * @param paramsOnly PARAMS_ONLY로 낮추는 값
+   * @param idsOnly IDS_ONLY로 낮추는 값
+   */
+  public record Threshold(double paramsOnly, double idsOnly) {
+
+    /** 사용하지 않는 임계 값. */
+    public static final Threshold DISABLED = new Threshold(0, 0);
+
+    LogDetail levelFor(double value, double ratio) {
+      if (Double.isNaN(value)) {
+        return LogDetail.FULL;
+      }
+      if (idsOnly > 0 && value >= idsOnly * ratio) {
+        return LogDetail.IDS_ONLY;
+      }
+      if (paramsOnly > 0 && value >= paramsOnly * ratio) {
+        return LogDetail.PARAMS_ONLY;
+      }
+      return LogDetail.FULL;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.athenhub.commonmvc.logging.adaptive;
+
+/**
+ * 한 시점에 관측한 부하 신호 값. 관측할 수 없는 신호는 {@link Double#NaN}이다.
+ *
+ * @param inFlight 처리 중인 요청 수
+ * @param p99Millis 최근 구간 p99 응답 시간 (ms, 엔드포인트별 호출 수 가중 평균)
+ * @param heapUsage 힙 사용률 (0.0 ~ 1.0)
+ * @param gcTimeRatio 직전 관측 이후 GC에 사용된 시간 비율 (0.0 ~ 1.0)
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record LoadSample(double inFlight, double p99Millis, double heapUsage, double gcTimeRatio) {}
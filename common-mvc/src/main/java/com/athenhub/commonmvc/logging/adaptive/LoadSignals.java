@@ -0,0 +1,103 @@
+package com.athenhub.commonmvc.logging.adaptive;
+
+import com.athenhub.commonmvc.logging.latency.LatencyRecorder;
+import com.athenhub.commonmvc.logging.latency.LatencySnapshot;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 요청 처리 경로에 비용을 더하지 않고 관측할 수 있는 부하 신호를 수집한다.
+ *
+ * <pre>
+ * - 처리 중 요청 수 : 이미 유지 중인 레지스트리/카운터에서 조회 (없으면 관측하지 않음)
+ * - p99 응답 시간 : {@link LatencyRecorder}의 엔드포인트별 p99를 호출 수로 가중 평균 (없으면 관측하지 않음)
+ * - 힙 사용률 : {@link MemoryMXBean}
+ * - GC 시간 비율 : {@link GarbageCollectorMXBean} 누적 수집 시간의 직전 관측 대비 증가분
+ * </pre>
+ *
+ * <p>{@link AdaptiveLoggingController}의 검사 스레드에서만 호출된다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class LoadSignals implements Supplier<LoadSample> {
+
+  private final IntSupplier inFlight;
+  private final LatencyRecorder latencyRecorder;
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+  private final List<GarbageCollectorMXBean> collectors =
+      ManagementFactory.getGarbageCollectorMXBeans();
+
+  private long previousGcMillis = totalGcMillis();
+  private long previousNanos = System.nanoTime();
+
+  /**
+   * 부하 신호 수집기를 생성한다.
+   *
+   * @param inFlight 처리 중 요청 수 조회 함수, null이면 관측하지 않음
+   * @param latencyRecorder 응답 시간 기록기, null이면 p99를 관측하지 않음
+   */
+  public LoadSignals(IntSupplier inFlight, LatencyRecorder latencyRecorder) {
+    this.inFlight = inFlight;
+    this.latencyRecorder = latencyRecorder;
+  }
+
+  /**
+   * 현재 부하 신호를 관측한다.
+   *
+   * @return 부하 신호 관측 값
+   */
+  @Override
+  public LoadSample get() {
+    return new LoadSample(
+        inFlight != null ? inFlight.getAsInt() : Double.NaN,
+        p99Millis(),
+        heapUsage(),
+        gcTimeRatio());
+  }
+
+  private double p99Millis() {
+    if (latencyRecorder == null) {
+      return Double.NaN;
+    }
+    double weighted = 0;
+    long count = 0;
+    for (LatencySnapshot snapshot : latencyRecorder.snapshot().values()) {
+      weighted += snapshot.p99() * snapshot.count();
+      count += snapshot.count();
+    }
+    return count > 0 ? weighted / count : Double.NaN;
+  }
+
+  private double heapUsage() {
+    MemoryUsage heap = memory.getHeapMemoryUsage();
+    long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+    return max > 0 ? (double) heap.getUsed() / max : Double.NaN;
+  }
+
+  private double gcTimeRatio() {
+    long now = System.nanoTime();
+    long gcMillis = totalGcMillis();
+    double elapsedMillis = (now - previousNanos) / 1_000_000.0;
+    double ratio = elapsedMillis > 0 ? (gcMillis - previousGcMillis) / elapsedMillis : Double.NaN;
+    previousGcMillis = gcMillis;
+    previousNanos = now;
+    return ratio;
+  }
+
+  private long totalGcMillis() {
+    long total = 0;
+    for (GarbageCollectorMXBean collector : collectors) {
+      long time = collector.getCollectionTime();
+      if (time > 0) {
+        total += time;
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,57 @@
+package com.athenhub.commonmvc.logging.adaptive;
+
+/**
+ * 부하에 따라 단계적으로 낮추는 컨트롤러/메서드 로그의 상세 수준.
+ *
+ * <pre>
+ * - FULL : 파라미터와 반환 결과 JSON 모두 기록 (기본값)
+ * - PARAMS_ONLY : 파라미터는 기록하고, 반환 결과는 직렬화 없이 타입만 기록
+ * - IDS_ONLY : 파라미터와 반환 결과 없이 요청 ID, 엔드포인트, 메서드 정보만 기록
+ * </pre>
+ *
+ * <p>실패 로그는 직렬화 비용이 없으므로 수준과 관계없이 그대로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public enum LogDetail {
+  FULL(true, true),
+  PARAMS_ONLY(true, false),
+  IDS_ONLY(false, false);
+
+  private final boolean params;
+  private final boolean result;
+
+  LogDetail(boolean params, boolean result) {
+    this.params = params;
+    this.result = result;
+  }
+
+  /**
+   * 파라미터를 기록하는지 여부를 반환한다.
+   *
+   * @return 파라미터를 기록하면 true
+   */
+  public boolean logsParams() {
+    return params;
+  }
+
+  /**
+   * 반환 결과를 직렬화하여 기록하는지 여부를 반환한다.
+   *
+   * @return 반환 결과를 직렬화하면 true
+   */
+  public boolean logsResult() {
+    return result;
+  }
+
+  /**
+   * 두 수준 중 더 낮은(덜 상세한) 수준을 반환한다.
+   *
+   * @param other 비교할 수준
+   * @return 더 낮은 수준
+   */
+  public LogDetail min(LogDetail other) {
+    return ordinal() >= other.ordinal() ? this : other;
+  }
+}
@@ -0,0 +1,278 @@
+package com.athenhub.commonmvc.logging.async;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.LogEventRenderer;
+import com.athenhub.commonmvc.logging.MdcUtils;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그 이벤트를 요청 스레드 밖에서 렌더링/기록하는 비동기 디스패처.
+ *
+ * <pre>
+ * - 요청 스레드는 {@link LogEvent}를 lock-free 링 버퍼에 넣고 즉시 반환
+ * - 전용 writer 스레드가 버퍼를 비우며 JSON 직렬화 및 로그 기록 수행
+ * - writer 스레드는 이벤트에 캡처된 요청 ID/계정으로 MDC를 복원한 뒤 기록
+ * - 버퍼 포화 시 {@link OverflowPolicy}에 따라 drop/block/summary 처리
+ * - 큐 깊이, drop/summary/처리 건수를 메트릭으로 제공
+ * - 종료 후 버퍼에 남은 이벤트는 close/dispatch 호출 스레드가 직접 비워 유실되지 않음
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Slf4j
+public class AsyncLogDispatcher implements AutoCloseable {
+
+  private static final String WRITER_THREAD_NAME = "athenhub-log-writer";
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long OVERFLOW_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+  private final LogEventRenderer renderer;
+  private final LogEventRingBuffer buffer;
+  private final OverflowPolicy overflowPolicy;
+  private final Thread writer;
+  private final long shutdownTimeoutMillis;
+
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder degraded = new LongAdder();
+  private final LongAdder processed = new LongAdder();
+
+  private volatile boolean running = true;
+  private volatile boolean writerParked;
+
+  private long lastReportedOverflow;
+  private long lastOverflowReportNanos = System.nanoTime();
+
+  /**
+   * 디스패처를 생성하고 writer 스레드를 시작한다.
+   *
+   * @param renderer 이벤트 렌더러
+   * @param capacity 버퍼 용량 (2의 거듭제곱으로 올림)
+   * @param overflowPolicy 버퍼 포화 시 처리 정책
+   */
+  public AsyncLogDispatcher(
+      LogEventRenderer renderer, int capacity, OverflowPolicy overflowPolicy) {
+    this(renderer, capacity, overflowPolicy, SHUTDOWN_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * writer 스레드 종료 대기 시간을 지정하여 디스패처를 생성한다.
+   *
+   * @param renderer 이벤트 렌더러
+   * @param capacity 버퍼 용량 (2의 거듭제곱으로 올림)
+   * @param overflowPolicy 버퍼 포화 시 처리 정책
+   * @param shutdownTimeoutMillis close 시 writer 스레드 종료 대기 시간 (밀리초)
+   */
+  AsyncLogDispatcher(
+      LogEventRenderer renderer,
+      int capacity,
+      OverflowPolicy overflowPolicy,
+      long shutdownTimeoutMillis) {
+    this.renderer = renderer;
+    this.buffer = new LogEventRingBuffer(capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    this.writer = new Thread(this::drainLoop, WRITER_THREAD_NAME);
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * 로그 이벤트를 비동기 기록 대상으로 전달한다.
+   *
+   * <p>디스패처가 이미 종료된 경우에는 호출 스레드에서 즉시 렌더링한다. 버퍼에 넣은 직후 종료가 확인되면 writer 스레드가 마지막 drain 을
+   * 마쳤을 수 있으므로 남은 이벤트를 호출 스레드에서 비운다.
+   *
+   * @param event 기록할 로그 이벤트
+   */
+  public void dispatch(LogEvent event) {
+    if (!running) {
+      renderer.render(event);
+      return;
+    }
+
+    if (buffer.offer(event)) {
+      wakeWriter();
+      drainIfClosed();
+      return;
+    }
+
+    switch (overflowPolicy) {
+      case BLOCK -> blockingOffer(event);
+      case SUMMARY -> {
+        degraded.increment();
+        renderer.renderSummary(event);
+      }
+      default -> dropped.increment();
+    }
+  }
+
+  /**
+   * 현재 버퍼에 대기 중인 이벤트 수를 반환한다.
+   *
+   * @return 큐 깊이
+   */
+  public int getQueueDepth() {
+    return buffer.size();
+  }
+
+  /**
+   * 버퍼 용량을 반환한다.
+   *
+   * @return 버퍼 용량
+   */
+  public int getCapacity() {
+    return buffer.capacity();
+  }
+
+  /**
+   * 버퍼 포화로 버려진 이벤트 누적 건수를 반환한다.
+   *
+   * @return drop 건수
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * 버퍼 포화로 요약 로그로 대체된 이벤트 누적 건수를 반환한다.
+   *
+   * @return summary 처리 건수
+   */
+  public long getDegradedCount() {
+    return degraded.sum();
+  }
+
+  /**
+   * writer 스레드가 처리한 이벤트 누적 건수를 반환한다.
+   *
+   * @return 처리 건수
+   */
+  public long getProcessedCount() {
+    return processed.sum();
+  }
+
+  /**
+   * 버퍼 포화 처리 정책을 반환한다.
+   *
+   * @return 포화 처리 정책
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * 남은 이벤트를 모두 기록한 뒤 writer 스레드를 종료한다.
+   *
+   * <p>writer 스레드가 제한 시간 안에 끝나지 않아도 버퍼에 남은 이벤트는 호출 스레드에서 기록한다.
+   */
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(writer);
+    try {
+      writer.join(shutdownTimeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    drainOnCaller();
+  }
+
+  private void blockingOffer(LogEvent event) {
+    while (!buffer.offer(event)) {
+      if (!running) {
+        renderer.render(event);
+        return;
+      }
+      wakeWriter();
+      LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+    }
+    wakeWriter();
+    drainIfClosed();
+  }
+
+  private void drainIfClosed() {
+    if (!running) {
+      drainOnCaller();
+    }
+  }
+
+  // 링 버퍼는 다중 소비자를 지원하므로 writer 스레드가 아직 drain 중이어도 호출 스레드에서 함께 비울 수 있다.
+  // write 가 MDC 를 이벤트 값으로 교체하므로 호출 스레드의 MDC 를 복원한다.
+  private void drainOnCaller() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    Map<String, String> callerContext = MdcUtils.getContextMap();
+    try {
+      LogEvent event;
+      while ((event = buffer.poll()) != null) {
+        write(event);
+      }
+    } finally {
+      MdcUtils.setContextMap(callerContext);
+    }
+  }
+
+  private void wakeWriter() {
+    if (writerParked) {
+      LockSupport.unpark(writer);
+    }
+  }
+
+  private void drainLoop() {
+    while (running || !buffer.isEmpty()) {
+      LogEvent event = buffer.poll();
+      if (event == null) {
+        reportOverflow();
+        writerParked = true;
+        if (running && buffer.isEmpty()) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        writerParked = false;
+        continue;
+      }
+      write(event);
+    }
+    reportOverflow();
+  }
+
+  private void write(LogEvent event) {
+    MdcUtils.setRequestId(event.requestId());
+    MdcUtils.setRequestUsername(event.username());
+    try {
+      renderer.render(event);
+    } catch (RuntimeException e) {
+      log.warn("Failed to write async log event: {}", event.methodInfo(), e);
+    } finally {
+      MdcUtils.clear();
+      processed.increment();
+    }
+  }
+
+  // 버퍼 포화가 발생했다면 주기적으로 누적 건수를 WARN 레벨로 남긴다.
+  private void reportOverflow() {
+    long now = System.nanoTime();
+    if (running && now - lastOverflowReportNanos < OVERFLOW_REPORT_INTERVAL_NANOS) {
+      return;
+    }
+    lastOverflowReportNanos = now;
+
+    long overflow = dropped.sum() + degraded.sum();
+    if (overflow > lastReportedOverflow) {
+      log.warn(
+          "Async log buffer overflow (policy: {}, capacity: {}): dropped={}, degraded={}",
+          overflowPolicy,
+          buffer.capacity(),
+          dropped.sum(),
+          degraded.sum());
+      lastReportedOverflow = overflow;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.athenhub.commonmvc.logging.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link AsyncLogDispatcher}의 상태를 Micrometer 메트릭으로 노출하는 바인더.
+ *
+ * <ul>
+ *   <li>{@code athenhub.logging.async.queue.depth} — 현재 큐 깊이
+ *   <li>{@code athenhub.logging.async.queue.capacity} — 버퍼 용량
+ *   <li>{@code athenhub.logging.async.dropped} — 버려진 이벤트 수
+ *   <li>{@code athenhub.logging.async.degraded} — 요약 로그로 대체된 이벤트 수
+ *   <li>{@code athenhub.logging.async.processed} — writer 스레드가 처리한 이벤트 수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@RequiredArgsConstructor
+public class AsyncLogDispatcherMetrics implements MeterBinder {
+
+  private static final String PREFIX = "athenhub.logging.async";
+
+  private final AsyncLogDispatcher dispatcher;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(PREFIX + ".queue.depth", dispatcher, AsyncLogDispatcher::getQueueDepth)
+        .description("Number of log events waiting for the async writer")
+        .register(registry);
+    Gauge.builder(PREFIX + ".queue.capacity", dispatcher, AsyncLogDispatcher::getCapacity)
+        .description("Capacity of the async log buffer")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".dropped", dispatcher, AsyncLogDispatcher::getDroppedCount)
+        .description("Log events dropped because the async buffer was full")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".degraded", dispatcher, AsyncLogDispatcher::getDegradedCount)
+        .description("Log events degraded to a summary because the async buffer was full")
+        .register(registry);
+    FunctionCounter.builder(
+            PREFIX + ".processed", dispatcher, AsyncLogDispatcher::getProcessedCount)
+        .description("Log events written by the async writer")
+        .register(registry);
+  }
+}
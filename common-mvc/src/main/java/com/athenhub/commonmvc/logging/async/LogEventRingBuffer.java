@@ -0,0 +1,128 @@
+package com.athenhub.commonmvc.logging.async;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link LogEvent}를 담는 고정 크기 lock-free 링 버퍼.
+ *
+ * <p>슬롯마다 시퀀스 번호를 두어 생산자/소비자가 CAS만으로 슬롯을 선점하는 방식(Vyukov bounded queue)으로 구현되었다. 다수의 요청 스레드가
+ * 동시에 {@link #offer(LogEvent)}를 호출해도 락을 잡지 않으며, 버퍼가 가득 차면 대기하지 않고 즉시 {@code false}를 반환한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class LogEventRingBuffer {
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final int mask;
+  private final AtomicReferenceArray<LogEvent> slots;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerCursor = new AtomicLong();
+  private final AtomicLong consumerCursor = new AtomicLong();
+
+  /**
+   * 요청 용량 이상의 2의 거듭제곱 크기로 버퍼를 생성한다.
+   *
+   * @param requestedCapacity 요청 용량
+   */
+  LogEventRingBuffer(int requestedCapacity) {
+    int capacity = roundUpToPowerOfTwo(requestedCapacity);
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * 이벤트를 버퍼에 추가한다.
+   *
+   * @param event 추가할 이벤트
+   * @return 추가 성공 여부 (버퍼가 가득 찼으면 false)
+   */
+  boolean offer(LogEvent event) {
+    long position = producerCursor.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long diff = sequences.get(index) - position;
+      if (diff == 0) {
+        if (producerCursor.compareAndSet(position, position + 1)) {
+          slots.lazySet(index, event);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = producerCursor.get();
+      } else if (diff < 0) {
+        return false;
+      } else {
+        position = producerCursor.get();
+      }
+    }
+  }
+
+  /**
+   * 가장 오래된 이벤트를 꺼낸다.
+   *
+   * @return 꺼낸 이벤트, 버퍼가 비어 있으면 null
+   */
+  LogEvent poll() {
+    long position = consumerCursor.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long diff = sequences.get(index) - (position + 1);
+      if (diff == 0) {
+        if (consumerCursor.compareAndSet(position, position + 1)) {
+          LogEvent event = slots.get(index);
+          slots.lazySet(index, null);
+          sequences.set(index, position + mask + 1);
+          return event;
+        }
+        position = consumerCursor.get();
+      } else if (diff < 0) {
+        return null;
+      } else {
+        position = consumerCursor.get();
+      }
+    }
+  }
+
+  /**
+   * 현재 버퍼에 쌓여 있는 이벤트 수를 반환한다. 동시 접근 중에는 근사치이다.
+   *
+   * @return 대기 중인 이벤트 수
+   */
+  int size() {
+    long size = producerCursor.get() - consumerCursor.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  /**
+   * 버퍼가 비어 있는지 여부를 반환한다.
+   *
+   * @return 비어 있으면 true
+   */
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * 실제 할당된 버퍼 용량을 반환한다.
+   *
+   * @return 버퍼 용량
+   */
+  int capacity() {
+    return mask + 1;
+  }
+
+  private static int roundUpToPowerOfTwo(int requested) {
+    if (requested >= MAX_CAPACITY) {
+      return MAX_CAPACITY;
+    }
+    return 1 << (32 - Integer.numberOfLeadingZeros(Math.max(2, requested) - 1));
+  }
+}
@@ -0,0 +1,19 @@
+package com.athenhub.commonmvc.logging.async;
+
+/**
+ * 비동기 로그 버퍼가 가득 찼을 때의 처리 정책.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public enum OverflowPolicy {
+
+  /** 이벤트를 버리고 drop 카운터만 증가시킨다. 요청 스레드 지연이 전혀 없다. */
+  DROP,
+
+  /** 버퍼에 빈 공간이 생길 때까지 요청 스레드를 대기시킨다. 로그 유실이 없다. */
+  BLOCK,
+
+  /** 직렬화 없이 요약 로그만 요청 스레드에서 즉시 기록한다. */
+  SUMMARY
+}
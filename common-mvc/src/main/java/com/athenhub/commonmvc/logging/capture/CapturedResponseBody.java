@@ -0,0 +1,76 @@
+package com.athenhub.commonmvc.logging.capture;
+
+import com.athenhub.commonutils.gson.GsonUtils;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.MediaType;
+
+/**
+ * 응답에 실제로 쓰인 본문의 앞부분을 담는 객체.
+ *
+ * <pre>
+ * - 요청 스레드에서는 바이트 배열 참조만 전달하고, 문자열 변환은 {@link #text()} 호출 시점(렌더러)에 수행
+ * - 텍스트 형식(text/*, JSON, XML 등)이 아니면 본문 대신 Content-Type과 전체 크기만 출력
+ * - 캡처 한도를 넘은 본문은 잘린 지점 뒤에 {@link GsonUtils#TRUNCATED_MARKER}를 붙임
+ * </pre>
+ *
+ * @param bytes 캡처한 본문 바이트 (앞에서부터 length 바이트만 유효)
+ * @param length 캡처한 바이트 수
+ * @param totalLength 응답에 쓰인 전체 바이트 수
+ * @param contentType 응답 Content-Type, 지정되지 않았으면 null
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record CapturedResponseBody(
+    byte[] bytes, int length, long totalLength, String contentType) {
+
+  /**
+   * 로그에 출력할 본문 문자열을 생성한다.
+   *
+   * @return 본문 문자열, 텍스트 형식이 아니면 "(Content-Type, N bytes)" 형식의 요약
+   */
+  public String text() {
+    MediaType mediaType = parseMediaType(contentType);
+    if (totalLength > 0 && mediaType != null && !isTextual(mediaType)) {
+      return "(" + contentType + ", " + totalLength + " bytes)";
+    }
+
+    String text = new String(bytes, 0, length, charset(mediaType));
+    return totalLength > length ? text + GsonUtils.TRUNCATED_MARKER : text;
+  }
+
+  @Override
+  public String toString() {
+    return text();
+  }
+
+  private static MediaType parseMediaType(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    try {
+      return MediaType.parseMediaType(contentType);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static boolean isTextual(MediaType mediaType) {
+    String subtype = mediaType.getSubtype();
+    return "text".equals(mediaType.getType())
+        || "json".equals(subtype)
+        || "xml".equals(subtype)
+        || subtype.endsWith("+json")
+        || subtype.endsWith("+xml")
+        || "x-www-form-urlencoded".equals(subtype)
+        || "javascript".equals(subtype);
+  }
+
+  /** Content-Type에 charset이 없으면 JSON 메시지 컨버터의 기본값인 UTF-8로 해석한다. */
+  private static Charset charset(MediaType mediaType) {
+    if (mediaType != null && mediaType.getCharset() != null) {
+      return mediaType.getCharset();
+    }
+    return StandardCharsets.UTF_8;
+  }
+}
@@ -0,0 +1,86 @@
+package com.athenhub.commonmvc.logging.capture;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.function.Consumer;
+
+/**
+ * 응답 본문이 쓰일 때까지 컨트롤러 종료 로그를 보류하는 요청 단위 핸들.
+ *
+ * <pre>
+ * - {@link ResponseBodyCaptureFilter}가 요청 속성으로 등록
+ * - LoggingAspect는 핸들이 있으면 종료 이벤트를 바로 기록하지 않고 {@link #defer}로 맡김
+ * - 필터 체인이 끝나면 필터가 캡처한 본문을 결과로 하여 보류된 이벤트를 기록
+ * </pre>
+ *
+ * <p>하나의 요청 스레드에서만 사용되므로 동기화하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class ResponseBodyCapture {
+
+  /** 핸들을 저장하는 요청 속성 이름. */
+  public static final String ATTRIBUTE = ResponseBodyCapture.class.getName();
+
+  private LogEvent deferredExit;
+  private Consumer<LogEvent> publisher;
+
+  /**
+   * 요청에 등록된 핸들을 조회한다.
+   *
+   * @param request HTTP 요청, 없으면 null
+   * @return 응답 본문 캡처 핸들, 캡처 필터가 적용되지 않은 요청이면 null
+   */
+  public static ResponseBodyCapture from(HttpServletRequest request) {
+    if (request == null) {
+      return null;
+    }
+    return request.getAttribute(ATTRIBUTE) instanceof ResponseBodyCapture capture
+        ? capture
+        : null;
+  }
+
+  /**
+   * 종료 이벤트를 응답 본문이 쓰일 때까지 보류한다. 이미 보류된 이벤트가 있으면 먼저 그대로 기록한다.
+   *
+   * @param exit 컨트롤러 종료 이벤트
+   * @param publisher 이벤트를 기록할 함수
+   */
+  public void defer(LogEvent exit, Consumer<LogEvent> publisher) {
+    publishOriginal();
+    this.deferredExit = exit;
+    this.publisher = publisher;
+  }
+
+  /**
+   * 보류된 이벤트가 있는지 여부를 반환한다.
+   *
+   * @return 보류된 종료 이벤트가 있으면 true
+   */
+  public boolean hasDeferred() {
+    return deferredExit != null;
+  }
+
+  /**
+   * 캡처한 응답 본문을 결과로 하여 보류된 이벤트를 기록한다.
+   *
+   * @param body 캡처한 응답 본문
+   */
+  public void publish(CapturedResponseBody body) {
+    if (deferredExit != null) {
+      LogEvent exit = deferredExit.withResult(body);
+      deferredExit = null;
+      publisher.accept(exit);
+    }
+  }
+
+  /** 보류된 이벤트를 컨트롤러 반환 객체 그대로 기록한다. 본문을 캡처할 수 없는 비동기 요청에 사용한다. */
+  public void publishOriginal() {
+    if (deferredExit != null) {
+      LogEvent exit = deferredExit;
+      deferredExit = null;
+      publisher.accept(exit);
+    }
+  }
+}
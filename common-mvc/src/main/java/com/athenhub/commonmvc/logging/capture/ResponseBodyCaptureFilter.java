@@ -0,0 +1,71 @@
+package com.athenhub.commonmvc.logging.capture;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 컨트롤러 종료 로그의 결과로 실제 응답 본문의 앞부분을 사용하도록 하는 필터.
+ *
+ * <pre>
+ * - 응답을 {@link TeeResponseWrapper}로 감싸 본문을 그대로 전송하면서 앞부분 최대 N 바이트만 복사
+ * - 요청 속성에 {@link ResponseBodyCapture}를 등록하여 LoggingAspect가 종료 로그를 보류하도록 함
+ * - 필터 체인이 끝나면(메시지 컨버터가 본문을 쓴 뒤) 캡처한 본문으로 보류된 종료 로그를 기록
+ * </pre>
+ *
+ * <p>반환 객체를 Gson으로 한 번 더 직렬화하지 않으므로 응답당 직렬화가 한 번으로 줄고, 로그에는 Jackson 설정(@JsonIgnore, 네이밍 전략
+ * 등)이 적용된 실제 응답이 남는다. 비동기 요청(DeferredResult, Callable 등)은 본문이 다른 디스패치에서 쓰이므로 반환 객체를 그대로
+ * 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class ResponseBodyCaptureFilter extends OncePerRequestFilter {
+
+  private final int maxBytes;
+
+  /**
+   * 필터를 생성한다.
+   *
+   * @param maxBytes 캡처할 응답 본문 최대 바이트 수
+   */
+  public ResponseBodyCaptureFilter(int maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * 응답을 캡처 래퍼로 감싸 필터 체인을 실행하고, 체인이 끝나면 보류된 종료 로그를 기록한다.
+   *
+   * @param request HTTP 요청
+   * @param response HTTP 응답
+   * @param filterChain 필터 체인
+   * @throws ServletException 필터 처리 중 서블릿 예외 발생 시
+   * @throws IOException 필터 처리 중 I/O 예외 발생 시
+   */
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ResponseBodyCapture capture = new ResponseBodyCapture();
+    TeeResponseWrapper wrapper = new TeeResponseWrapper(response, maxBytes);
+    request.setAttribute(ResponseBodyCapture.ATTRIBUTE, capture);
+
+    try {
+      filterChain.doFilter(request, wrapper);
+    } finally {
+      request.removeAttribute(ResponseBodyCapture.ATTRIBUTE);
+      try {
+        wrapper.flushWriter();
+      } finally {
+        if (isAsyncStarted(request)) {
+          capture.publishOriginal();
+        } else {
+          capture.publish(wrapper.captured());
+        }
+      }
+    }
+  }
+}
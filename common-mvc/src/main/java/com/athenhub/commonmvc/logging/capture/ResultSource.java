@@ -0,0 +1,16 @@
+package com.athenhub.commonmvc.logging.capture;
+
+/**
+ * 컨트롤러 종료 로그에 기록할 반환 결과의 출처.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public enum ResultSource {
+
+  /** 컨트롤러 반환 객체를 Gson으로 다시 직렬화하여 기록한다. */
+  SERIALIZE,
+
+  /** 실제로 응답에 쓰인 본문의 앞부분을 그대로 기록한다. */
+  RESPONSE_BODY
+}
@@ -0,0 +1,185 @@
+package com.athenhub.commonmvc.logging.capture;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * 응답 본문을 원래 스트림으로 그대로 흘려보내면서 앞부분만 복사해 두는 응답 래퍼.
+ *
+ * <p>{@link org.springframework.web.util.ContentCachingResponseWrapper}와 달리 본문 전체를 버퍼링하지 않으므로 응답
+ * 전송이 지연되지 않고, 요청당 추가 메모리는 캡처 한도를 넘지 않는다. 캡처 한도를 0으로 주면 버퍼 없이 전송한 바이트 수만 센다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private final int limit;
+  private byte[] buffer;
+  private int count;
+  private long total;
+  private TeeOutputStream outputStream;
+  private PrintWriter writer;
+
+  /**
+   * 응답 래퍼를 생성한다.
+   *
+   * @param response 원본 응답
+   * @param limit 캡처할 최대 바이트 수
+   */
+  public TeeResponseWrapper(HttpServletResponse response, int limit) {
+    super(response);
+    this.limit = Math.max(limit, 0);
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() throws IOException {
+    if (writer != null) {
+      throw new IllegalStateException("getWriter() has already been called on this response");
+    }
+    if (outputStream == null) {
+      outputStream = new TeeOutputStream(super.getOutputStream());
+    }
+    return outputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter() throws IOException {
+    if (writer == null) {
+      if (outputStream != null) {
+        throw new IllegalStateException(
+            "getOutputStream() has already been called on this response");
+      }
+      TeeOutputStream out = new TeeOutputStream(super.getOutputStream());
+      writer = new PrintWriter(new OutputStreamWriter(out, getCharacterEncoding()));
+    }
+    return writer;
+  }
+
+  @Override
+  public void flushBuffer() throws IOException {
+    flushWriter();
+    super.flushBuffer();
+  }
+
+  @Override
+  public void resetBuffer() {
+    super.resetBuffer();
+    clearCapture();
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    clearCapture();
+  }
+
+  /**
+   * Writer의 인코딩 버퍼에 남은 문자를 원래 스트림으로 내보낸다. 필터 체인이 끝난 뒤 반드시 호출해야 한다.
+   */
+  public void flushWriter() {
+    if (writer != null) {
+      writer.flush();
+    }
+  }
+
+  /**
+   * 지금까지 캡처한 본문을 반환한다. 캡처 버퍼는 복사하지 않고 그대로 넘긴다.
+   *
+   * @return 캡처한 응답 본문
+   */
+  public CapturedResponseBody captured() {
+    byte[] bytes = buffer != null ? buffer : new byte[0];
+    return new CapturedResponseBody(bytes, count, total, getContentType());
+  }
+
+  /**
+   * 응답에 쓰인 전체 바이트 수를 반환한다.
+   *
+   * @return 전체 바이트 수
+   */
+  public long getTotalBytes() {
+    return total;
+  }
+
+  private void capture(int b) {
+    total++;
+    if (count < limit) {
+      ensureCapacity(count + 1);
+      buffer[count++] = (byte) b;
+    }
+  }
+
+  private void capture(byte[] b, int off, int len) {
+    total += len;
+    int n = Math.min(len, limit - count);
+    if (n > 0) {
+      ensureCapacity(count + n);
+      System.arraycopy(b, off, buffer, count, n);
+      count += n;
+    }
+  }
+
+  private void ensureCapacity(int required) {
+    if (buffer == null) {
+      buffer = new byte[Math.min(limit, Math.max(INITIAL_CAPACITY, required))];
+    } else if (buffer.length < required) {
+      buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(buffer.length * 2, required)));
+    }
+  }
+
+  private void clearCapture() {
+    count = 0;
+    total = 0;
+  }
+
+  /** 원래 스트림에 쓰면서 캡처 버퍼에도 복사하는 출력 스트림. */
+  private final class TeeOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+
+    private TeeOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      delegate.write(b);
+      capture(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      delegate.write(b, off, len);
+      capture(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener listener) {
+      delegate.setWriteListener(listener);
+    }
+  }
+}
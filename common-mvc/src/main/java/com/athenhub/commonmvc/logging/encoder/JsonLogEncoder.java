@@ -0,0 +1,98 @@
+package com.athenhub.commonmvc.logging.encoder;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+
+/**
+ * 로그 이벤트를 한 줄짜리 JSON 객체로 기록하는 인코더.
+ *
+ * <pre>
+ * {"event":"controller_exit","requestId":"...","username":"...","httpMethod":"GET",
+ *  "uri":"/api/orders/1","method":"OrderController.getOrder","result":"{\"id\":1}"}
+ * </pre>
+ *
+ * <p>파라미터는 {@code "params":{"name":"value"}} 객체로 기록한다. 반환 결과는 크기 제한으로 잘린 경우 유효한 JSON이 아닐 수 있으므로 항상
+ * 문자열 값으로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class JsonLogEncoder implements StructuredLogEncoder {
+
+  static final JsonLogEncoder INSTANCE = new JsonLogEncoder();
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private JsonLogEncoder() {}
+
+  @Override
+  public void encode(LogEvent event, String result, StringBuilder out) {
+    out.append("{\"event\":\"").append(StructuredLogEncoder.eventName(event.type())).append('"');
+    field(out, "requestId", event.requestId());
+    field(out, "username", event.username());
+    field(out, "httpMethod", event.httpMethod());
+    field(out, "uri", event.requestUri());
+    field(out, "method", event.methodInfo());
+    params(out, event);
+    field(out, "result", result);
+    if (event.error() != null) {
+      field(out, "error", event.error().toString());
+    }
+    out.append('}');
+  }
+
+  private static void params(StringBuilder out, LogEvent event) {
+    Object[] args = event.args();
+    MethodLogDescriptor descriptor = event.descriptor();
+    if (args == null || !descriptor.hasParameters()) {
+      return;
+    }
+    String[] names = descriptor.parameterNames();
+    out.append(",\"params\":{");
+    boolean first = true;
+    for (int i = 0; i < names.length; i++) {
+      String value = descriptor.renderArgument(i, args[i]);
+      if (value == null) {
+        continue;
+      }
+      if (!first) {
+        out.append(',');
+      }
+      string(out, names[i]);
+      out.append(':');
+      string(out, value);
+      first = false;
+    }
+    out.append('}');
+  }
+
+  private static void field(StringBuilder out, String name, String value) {
+    if (value == null) {
+      return;
+    }
+    out.append(",\"").append(name).append("\":");
+    string(out, value);
+  }
+
+  private static void string(StringBuilder out, String value) {
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> out.append("\\\"");
+        case '\\' -> out.append("\\\\");
+        case '\n' -> out.append("\\n");
+        case '\r' -> out.append("\\r");
+        case '\t' -> out.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            out.append(c);
+          }
+        }
+      }
+    }
+    out.append('"');
+  }
+}
@@ -0,0 +1,71 @@
+package com.athenhub.commonmvc.logging.encoder;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 구조화 로그 인코딩에 사용하는 {@link StringBuilder}를 재사용하는 lock-free 풀.
+ *
+ * <pre>
+ * - ThreadLocal 대신 스레드 ID로 고른 슬롯에서 버퍼를 꺼내고 반납하므로, 가상 스레드가 많아도 버퍼 수가 슬롯 수로 제한됨
+ * - 슬롯이 비어 있으면(다른 스레드가 사용 중) 새 버퍼를 할당하고, 반납 시 슬롯이 차 있으면 버림
+ * - 큰 로그로 용량이 과도하게 늘어난 버퍼는 반납하지 않아 메모리를 붙잡지 않음
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class LogBufferPool {
+
+  private static final int INITIAL_CAPACITY = 512;
+  private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+  private final AtomicReferenceArray<StringBuilder> slots;
+  private final int mask;
+
+  /** 사용 가능한 프로세서 수의 2배 이상의 슬롯을 가진 풀을 생성한다. */
+  public LogBufferPool() {
+    this(Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  /**
+   * 슬롯 수를 지정하여 풀을 생성한다.
+   *
+   * <p>슬롯 인덱스를 비트 마스크로 계산하기 위해 실제 슬롯 수는 minSlots 이상인 가장 작은 2의 거듭제곱(최소 2)으로 올림한다.
+   *
+   * @param minSlots 최소 슬롯 수, 동시에 버퍼를 재사용할 수 있는 최대 스레드 수의 기준
+   */
+  public LogBufferPool(int minSlots) {
+    int size = Integer.highestOneBit(Math.max(1, minSlots - 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * 비어 있는 버퍼를 꺼낸다.
+   *
+   * @return 길이가 0인 버퍼
+   */
+  public StringBuilder acquire() {
+    StringBuilder buffer = slots.getAndSet(slot(), null);
+    if (buffer == null) {
+      return new StringBuilder(INITIAL_CAPACITY);
+    }
+    buffer.setLength(0);
+    return buffer;
+  }
+
+  /**
+   * 사용이 끝난 버퍼를 반납한다.
+   *
+   * @param buffer 반납할 버퍼
+   */
+  public void release(StringBuilder buffer) {
+    if (buffer.capacity() <= MAX_RETAINED_CAPACITY) {
+      slots.compareAndSet(slot(), null, buffer);
+    }
+  }
+
+  private int slot() {
+    return (int) (Thread.currentThread().threadId() & mask);
+  }
+}
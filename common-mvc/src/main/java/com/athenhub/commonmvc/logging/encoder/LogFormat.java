@@ -0,0 +1,19 @@
+package com.athenhub.commonmvc.logging.encoder;
+
+/**
+ * 진입/종료 로그의 출력 형식.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public enum LogFormat {
+
+  /** 사람이 읽기 위한 기존 텍스트 형식. */
+  TEXT,
+
+  /** 한 줄짜리 JSON 객체. */
+  JSON,
+
+  /** key=value 쌍을 공백으로 구분한 logfmt 형식. */
+  LOGFMT
+}
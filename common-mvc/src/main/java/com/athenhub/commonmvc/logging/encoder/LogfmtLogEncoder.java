@@ -0,0 +1,96 @@
+package com.athenhub.commonmvc.logging.encoder;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+
+/**
+ * 로그 이벤트를 logfmt(key=value) 형식으로 기록하는 인코더.
+ *
+ * <pre>
+ * event=controller_entry requestId=... username=... httpMethod=GET uri=/api/orders
+ * method=OrderController.create params.request="CreateOrderRequest[amount=1]"
+ * </pre>
+ *
+ * <p>공백, 따옴표, '=' 또는 제어 문자가 포함된 값은 큰따옴표로 감싸고 이스케이프한다. 파라미터는 {@code params.<이름>} 키로 기록한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class LogfmtLogEncoder implements StructuredLogEncoder {
+
+  static final LogfmtLogEncoder INSTANCE = new LogfmtLogEncoder();
+
+  private LogfmtLogEncoder() {}
+
+  @Override
+  public void encode(LogEvent event, String result, StringBuilder out) {
+    out.append("event=").append(StructuredLogEncoder.eventName(event.type()));
+    field(out, "requestId", event.requestId());
+    field(out, "username", event.username());
+    field(out, "httpMethod", event.httpMethod());
+    field(out, "uri", event.requestUri());
+    field(out, "method", event.methodInfo());
+    params(out, event);
+    field(out, "result", result);
+    if (event.error() != null) {
+      field(out, "error", event.error().toString());
+    }
+  }
+
+  private static void params(StringBuilder out, LogEvent event) {
+    Object[] args = event.args();
+    if (args == null) {
+      return;
+    }
+    MethodLogDescriptor descriptor = event.descriptor();
+    String[] names = descriptor.parameterNames();
+    for (int i = 0; i < names.length; i++) {
+      String value = descriptor.renderArgument(i, args[i]);
+      if (value != null) {
+        out.append(" params.").append(names[i]).append('=');
+        value(out, value);
+      }
+    }
+  }
+
+  private static void field(StringBuilder out, String name, String value) {
+    if (value == null) {
+      return;
+    }
+    out.append(' ').append(name).append('=');
+    value(out, value);
+  }
+
+  private static void value(StringBuilder out, String value) {
+    if (!needsQuoting(value)) {
+      out.append(value);
+      return;
+    }
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> out.append("\\\"");
+        case '\\' -> out.append("\\\\");
+        case '\n' -> out.append("\\n");
+        case '\r' -> out.append("\\r");
+        case '\t' -> out.append("\\t");
+        default -> out.append(c);
+      }
+    }
+    out.append('"');
+  }
+
+  private static boolean needsQuoting(String value) {
+    if (value.isEmpty()) {
+      return true;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c <= ' ' || c == '"' || c == '=' || c == '\\') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,58 @@
+package com.athenhub.commonmvc.logging.encoder;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+
+/**
+ * 로그 이벤트를 구조화된 key/value 형식으로 버퍼에 기록하는 인코더.
+ *
+ * <pre>
+ * - 필드: event, requestId, username, httpMethod, uri, method, params, result, error
+ * - 값이 없는 필드는 출력하지 않음
+ * - 중간 문자열을 만들지 않고 전달받은 버퍼에 바로 기록
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public interface StructuredLogEncoder {
+
+  /**
+   * 로그 이벤트를 인코딩하여 버퍼 끝에 추가한다.
+   *
+   * @param event 로그 이벤트
+   * @param result 렌더링된 반환 결과 (종료 이벤트가 아니면 null)
+   * @param out 기록할 버퍼
+   */
+  void encode(LogEvent event, String result, StringBuilder out);
+
+  /**
+   * 출력 형식에 맞는 인코더를 반환한다.
+   *
+   * @param format 출력 형식 (TEXT 제외)
+   * @return 구조화 로그 인코더
+   */
+  static StructuredLogEncoder of(LogFormat format) {
+    return switch (format) {
+      case JSON -> JsonLogEncoder.INSTANCE;
+      case LOGFMT -> LogfmtLogEncoder.INSTANCE;
+      case TEXT -> throw new IllegalArgumentException("TEXT format has no structured encoder");
+    };
+  }
+
+  /**
+   * 이벤트 유형을 필드 값으로 사용할 소문자 이름으로 변환한다.
+   *
+   * @param type 이벤트 유형
+   * @return 이벤트 이름 (예: controller_entry)
+   */
+  static String eventName(LogEvent.Type type) {
+    return switch (type) {
+      case CONTROLLER_ENTRY -> "controller_entry";
+      case CONTROLLER_EXIT -> "controller_exit";
+      case CONTROLLER_FAILURE -> "controller_failure";
+      case METHOD_ENTRY -> "method_entry";
+      case METHOD_EXIT -> "method_exit";
+      case METHOD_FAILURE -> "method_failure";
+    };
+  }
+}
@@ -1,6 +1,11 @@
 package com.athenhub.commonmvc.logging.filter;
 
+import com.athenhub.commonmvc.context.RequestContext;
+import com.athenhub.commonmvc.context.RequestIdGenerator;
 import com.athenhub.commonmvc.logging.MdcUtils;
+import com.athenhub.commonmvc.logging.sampling.LogSampler;
+import com.athenhub.commonmvc.logging.watchdog.InFlightRequest;
+import com.athenhub.commonmvc.logging.watchdog.InFlightRequestRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,9 +19,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * 요청 단위로 MDC(Context Map)를 초기화하고 관리하는 필터.
  *
- * <p>이 필터는 각 HTTP 요청마다 고유한 requestId를 생성해 MDC에 저장하고, Spring Security 인증 정보가 존재할 경우 사용자명을 MDC에 함께
+ * <p>이 필터는 각 HTTP 요청마다 고유한 requestId(기본 UUIDv7)를 생성해 MDC에 저장하고, Spring Security 인증 정보가 존재할 경우 사용자명을 MDC에 함께
  * 저장합니다. 로깅 시 requestId 및 username을 자동으로 포함할 수 있어 로그 추적성(Traceability)을 향상시키는 데 사용됩니다.
  *
+ * <p>{@link LogSampler}가 주어지면 요청마다 한 번 샘플링 여부를 결정하여 MDC에 함께 저장한다. 이후 컨트롤러 진입/종료 및 중첩된
+ * {@code @LogExecution} 로그는 이 값을 기준으로 일관되게 기록 여부가 정해진다.
+ *
+ * <p>신뢰하는 요청 ID 헤더가 지정되면 게이트웨이가 전달한 요청 ID를 새로 생성하지 않고 그대로 사용한다. 로그 인젝션을 막기 위해
+ * 64자 이하의 영문/숫자/{@code -_.:} 로만 이루어진 값만 허용하며, UUID 형식이면 요청 시작 시 한 번만 UUID로 변환한다.
+ *
+ * <p>같은 정보를 {@link RequestContext}로 만들어 현재 스레드에 바인딩한다. MDC 반영을 미루도록 설정하면 요청마다 MDC Map을 채우지 않고,
+ * 로그를 실제로 기록할 때만 {@link com.athenhub.commonmvc.logging.LogManager}가 MDC에 반영한다.
+ *
+ * <p>{@link InFlightRequestRegistry}가 주어지면 요청 처리 동안 처리 스레드와 요청 ID를 레지스트리에 등록하여, 오래 걸리는 요청을
+ * {@link com.athenhub.commonmvc.logging.watchdog.SlowRequestWatchdog}이 찾을 수 있도록 한다.
+ *
  * <p>{@link OncePerRequestFilter}를 상속하여 요청당 한 번만 실행되며, 요청 처리가 완료된 후에는 MDC를 반드시 초기화하여 메모리 누수 및 정보
  * 오염을 방지합니다.
  *
@@ -26,10 +43,41 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class MdcFilter extends OncePerRequestFilter {
 
   private static final String REQUEST_USERNAME_KEY = "X-Username";
+  private static final String REQUEST_USER_ID_KEY = "X-User-Id";
   private static final String DEFAULT_REQUEST_USERNAME = "SYSTEM";
+  private static final int MAX_INCOMING_REQUEST_ID_LENGTH = 64;
+
+  private final LogSampler sampler;
+  private final boolean eagerMdc;
+  private final RequestIdGenerator requestIdGenerator;
+  private final String requestIdHeader;
+  private final InFlightRequestRegistry inFlightRegistry;
+
+  /** 샘플링 없이 모든 요청을 기록 대상으로 하는 필터를 생성한다. */
+  public MdcFilter() {
+    this(builder());
+  }
+
+  private MdcFilter(Builder builder) {
+    this.sampler = builder.sampler;
+    this.eagerMdc = builder.eagerMdc;
+    this.requestIdGenerator = builder.requestIdGenerator;
+    this.requestIdHeader =
+        StringUtils.hasText(builder.requestIdHeader) ? builder.requestIdHeader : null;
+    this.inFlightRegistry = builder.inFlightRegistry;
+  }
 
   /**
-   * 요청마다 requestId와 인증 사용자명을 MDC에 저장하고, 요청 처리가 끝나면 MDC를 초기화한다.
+   * 필터 빌더를 생성한다. 지정하지 않은 항목은 샘플링 없음, 즉시 MDC 저장, UUIDv7 요청 ID 생성, 요청 ID 헤더 무시, 레지스트리 미등록이다.
+   *
+   * @return 필터 빌더
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 요청마다 requestId와 인증 사용자명으로 요청 컨텍스트를 바인딩하고, 요청 처리가 끝나면 컨텍스트와 MDC를 초기화한다.
    *
    * @param request HTTP 요청
    * @param response HTTP 응답
@@ -41,17 +89,73 @@ public class MdcFilter extends OncePerRequestFilter {
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
-    String requestId = UUID.randomUUID().toString();
-    MdcUtils.setRequestId(requestId);
-    MdcUtils.setRequestUsername(getUsername(request));
+    boolean sampled = sampler == null || sampler.decide(request);
+    RequestContext context = startContext(request, sampled);
+
+    if (eagerMdc) {
+      MdcUtils.setRequestId(context.requestId());
+      MdcUtils.setRequestUsername(context.username());
+      if (sampler != null) {
+        MdcUtils.setLogSampled(sampled);
+      }
+    }
 
-    try {
+    InFlightRequest inFlight =
+        inFlightRegistry != null ? inFlightRegistry.register(request, context) : null;
+    try (RequestContext.Scope ignored = context.bind()) {
       filterChain.doFilter(request, response);
     } finally {
+      if (inFlight != null) {
+        inFlightRegistry.unregister(inFlight);
+      }
       MDC.clear();
     }
   }
 
+  /**
+   * 요청 컨텍스트를 생성한다. 신뢰하는 헤더에 유효한 요청 ID가 있으면 재사용하고, 없으면 새로 생성한다.
+   *
+   * @param request HTTP 요청
+   * @param sampled 로그 샘플링 대상 여부
+   * @return 요청 컨텍스트
+   */
+  private RequestContext startContext(HttpServletRequest request, boolean sampled) {
+    String username = getUsername(request);
+    String userId = request.getHeader(REQUEST_USER_ID_KEY);
+
+    String incoming = requestIdHeader != null ? request.getHeader(requestIdHeader) : null;
+    if (isValidRequestId(incoming)) {
+      return RequestContext.start(
+          incoming, MdcUtils.toRequestUuid(incoming), username, userId, sampled);
+    }
+
+    UUID requestUuid = requestIdGenerator.generate();
+    return RequestContext.start(requestUuid.toString(), requestUuid, username, userId, sampled);
+  }
+
+  private static boolean isValidRequestId(String requestId) {
+    if (requestId == null
+        || requestId.isEmpty()
+        || requestId.length() > MAX_INCOMING_REQUEST_ID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < requestId.length(); i++) {
+      char c = requestId.charAt(i);
+      boolean allowed =
+          (c >= '0' && c <= '9')
+              || (c >= 'a' && c <= 'z')
+              || (c >= 'A' && c <= 'Z')
+              || c == '-'
+              || c == '_'
+              || c == '.'
+              || c == ':';
+      if (!allowed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * 현재 RequestContextHolder에서 인증된 사용자명을 조회한다. 인증 정보가 없을 경우 "SYSTEM"를 반환한다.
    *
@@ -61,4 +165,80 @@ public class MdcFilter extends OncePerRequestFilter {
     String username = request.getHeader(REQUEST_USERNAME_KEY);
     return StringUtils.hasText(username) ? username : DEFAULT_REQUEST_USERNAME;
   }
+
+  /** {@link MdcFilter} 빌더. */
+  public static final class Builder {
+
+    private LogSampler sampler;
+    private boolean eagerMdc = true;
+    private RequestIdGenerator requestIdGenerator = RequestIdGenerator.uuidV7();
+    private String requestIdHeader;
+    private InFlightRequestRegistry inFlightRegistry;
+
+    private Builder() {}
+
+    /**
+     * 요청마다 기록 여부를 결정하는 샘플러를 지정한다.
+     *
+     * @param sampler 로그 샘플러, null이면 모든 요청을 기록
+     * @return this
+     */
+    public Builder sampler(LogSampler sampler) {
+      this.sampler = sampler;
+      return this;
+    }
+
+    /**
+     * MDC 저장 시점을 지정한다.
+     *
+     * @param eagerMdc true면 요청 시작 시 MDC에 저장, false면 로그 기록 시점에만 반영
+     * @return this
+     */
+    public Builder eagerMdc(boolean eagerMdc) {
+      this.eagerMdc = eagerMdc;
+      return this;
+    }
+
+    /**
+     * 요청 ID 생성기를 지정한다.
+     *
+     * @param requestIdGenerator 요청 ID 생성기
+     * @return this
+     */
+    public Builder requestIdGenerator(RequestIdGenerator requestIdGenerator) {
+      this.requestIdGenerator = requestIdGenerator;
+      return this;
+    }
+
+    /**
+     * 게이트웨이가 전달한 요청 ID를 재사용할 신뢰 헤더를 지정한다.
+     *
+     * @param requestIdHeader 재사용할 요청 ID 헤더 이름, null이면 항상 새로 생성
+     * @return this
+     */
+    public Builder requestIdHeader(String requestIdHeader) {
+      this.requestIdHeader = requestIdHeader;
+      return this;
+    }
+
+    /**
+     * 처리 중 요청 레지스트리를 지정한다.
+     *
+     * @param inFlightRegistry 처리 중 요청 레지스트리, null이면 등록하지 않음
+     * @return this
+     */
+    public Builder inFlightRegistry(InFlightRequestRegistry inFlightRegistry) {
+      this.inFlightRegistry = inFlightRegistry;
+      return this;
+    }
+
+    /**
+     * 지정한 설정으로 필터를 생성한다.
+     *
+     * @return MdcFilter
+     */
+    public MdcFilter build() {
+      return new MdcFilter(this);
+    }
+  }
 }
@@ -0,0 +1,57 @@
+package com.athenhub.commonmvc.logging.latency;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.Selector.Match;
+
+/**
+ * 엔드포인트별 응답 시간 통계를 노출하는 Actuator 엔드포인트.
+ *
+ * <pre>
+ * - GET /actuator/latency : 전체 엔드포인트 통계
+ * - GET /actuator/latency/{method}/{route} : 특정 엔드포인트 통계 (예: /actuator/latency/GET/products/{id})
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+  private final LatencyRecorder recorder;
+
+  /**
+   * 전체 엔드포인트의 응답 시간 통계를 조회한다.
+   *
+   * @return 엔드포인트별 응답 시간 통계
+   */
+  @ReadOperation
+  public Map<String, LatencySnapshot> latencies() {
+    return recorder.snapshot();
+  }
+
+  /**
+   * 특정 엔드포인트의 응답 시간 통계를 조회한다.
+   *
+   * <p>엔드포인트 키("GET /products/{id}")는 경로 구분자를 포함하므로 남은 경로 전체를 받아 키를 복원한다. 라우트 템플릿이 없어
+   * 메서드 정보(ClassName.methodName)로 기록된 경우에는 한 단계 경로로 조회한다.
+   *
+   * @param path HTTP 메서드와 라우트 템플릿 경로 조각
+   * @return 응답 시간 통계, 기록이 없으면 null (404 응답)
+   */
+  @ReadOperation
+  public LatencySnapshot latency(@Selector(match = Match.ALL_REMAINING) String[] path) {
+    if (path.length == 1) {
+      return recorder.snapshot(path[0]);
+    }
+    StringBuilder key = new StringBuilder(path[0]).append(' ');
+    for (int i = 1; i < path.length; i++) {
+      key.append('/').append(path[i]);
+    }
+    return recorder.snapshot(key.toString());
+  }
+}
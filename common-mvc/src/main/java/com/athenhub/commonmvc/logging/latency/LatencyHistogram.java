@@ -0,0 +1,209 @@
+package com.athenhub.commonmvc.logging.latency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 고정 메모리로 최근 구간의 응답 시간 분포를 기록하는 lock-free 히스토그램.
+ *
+ * <pre>
+ * - HDR 방식의 log-linear 버킷: 2의 거듭제곱 구간마다 8개의 선형 하위 버킷 (상대 오차 약 6%)
+ * - 마이크로초 단위로 최대 {@link #MAX_TRACKABLE_MICROS}까지 기록, 초과 값은 마지막 버킷에 누적
+ * - 롤링 윈도우: 전체 구간을 slot 개의 시간 칸으로 나누고, 만료된 칸은 재사용 시 초기화
+ * - 각 칸의 카운터는 스레드별 stripe로 분산하여 동일 엔드포인트 동시 기록 시 경합을 줄임
+ * </pre>
+ *
+ * <p>칸을 초기화하는 순간과 겹친 기록은 이전 칸 또는 새 칸에 반영될 수 있다. 통계 용도의 근사값으로 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class LatencyHistogram {
+
+  /** 기록 가능한 최대 응답 시간 (마이크로초, 약 67초). */
+  static final long MAX_TRACKABLE_MICROS = (1L << 26) - 1;
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+  static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_MICROS) + 1;
+
+  private static final int STRIPES = 4;
+
+  private final Window[] windows;
+  private final long slotNanos;
+  private final long originNanos;
+  private final LongSupplier nanoClock;
+
+  /**
+   * 히스토그램을 생성한다.
+   *
+   * @param window 통계에 포함할 최근 구간 길이
+   * @param slots 구간을 나눌 칸 수
+   */
+  public LatencyHistogram(Duration window, int slots) {
+    this(window, slots, System::nanoTime);
+  }
+
+  LatencyHistogram(Duration window, int slots, LongSupplier nanoClock) {
+    if (slots <= 0 || window.toNanos() < slots) {
+      throw new IllegalArgumentException(
+          "Invalid latency window: window=" + window + ", slots=" + slots);
+    }
+    this.windows = new Window[slots];
+    for (int i = 0; i < slots; i++) {
+      windows[i] = new Window();
+    }
+    this.slotNanos = window.toNanos() / slots;
+    this.nanoClock = nanoClock;
+    this.originNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * 응답 시간을 기록한다.
+   *
+   * @param durationNanos 응답 시간 (나노초)
+   * @param failed 예외로 종료되었는지 여부
+   */
+  public void record(long durationNanos, boolean failed) {
+    long micros = Math.min(Math.max(0L, durationNanos / 1_000L), MAX_TRACKABLE_MICROS);
+    Window window = currentWindow(currentEpoch());
+    int stripe = (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+    window.counts.incrementAndGet(stripe * BUCKET_COUNT + bucketIndex(micros));
+    window.updateMax(micros);
+    if (failed) {
+      window.failures.increment();
+    }
+  }
+
+  /**
+   * 최근 구간에 기록된 값으로 통계를 계산한다.
+   *
+   * @return 응답 시간 통계
+   */
+  public LatencySnapshot snapshot() {
+    long epoch = currentEpoch();
+    long[] merged = new long[BUCKET_COUNT];
+    long count = 0;
+    long failures = 0;
+    long max = 0;
+
+    for (Window window : windows) {
+      long windowEpoch = window.epoch;
+      if (windowEpoch < 0 || windowEpoch > epoch || windowEpoch <= epoch - windows.length) {
+        continue;
+      }
+      for (int stripe = 0; stripe < STRIPES; stripe++) {
+        int offset = stripe * BUCKET_COUNT;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+          long value = window.counts.get(offset + bucket);
+          merged[bucket] += value;
+          count += value;
+        }
+      }
+      failures += window.failures.sum();
+      max = Math.max(max, window.max.get());
+    }
+
+    return new LatencySnapshot(
+        count,
+        failures,
+        toMillis(percentile(merged, count, 0.50, max)),
+        toMillis(percentile(merged, count, 0.90, max)),
+        toMillis(percentile(merged, count, 0.99, max)),
+        toMillis(max));
+  }
+
+  /**
+   * 값이 속하는 버킷 번호를 계산한다. 하위 버킷 수 미만의 값은 1:1로, 그 이상은 2의 거듭제곱 구간마다 절반 크기의 선형 버킷으로 나눈다.
+   *
+   * @param micros 마이크로초 값
+   * @return 버킷 번호
+   */
+  static int bucketIndex(long micros) {
+    if (micros < SUB_BUCKET_COUNT) {
+      return (int) micros;
+    }
+    int shift = 64 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKET_HALF + (int) (micros >>> shift);
+  }
+
+  /**
+   * 버킷에 속하는 가장 큰 값을 반환한다.
+   *
+   * @param index 버킷 번호
+   * @return 버킷 상한 값 (마이크로초)
+   */
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_HALF - 1;
+    long subBucket = index - (long) shift * SUB_BUCKET_HALF;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  private static long percentile(long[] counts, long total, double quantile, long max) {
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(total * quantile));
+    long cumulative = 0;
+    for (int bucket = 0; bucket < counts.length; bucket++) {
+      cumulative += counts[bucket];
+      if (cumulative >= rank) {
+        return Math.min(bucketUpperBound(bucket), max);
+      }
+    }
+    return max;
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1_000.0;
+  }
+
+  private long currentEpoch() {
+    return (nanoClock.getAsLong() - originNanos) / slotNanos;
+  }
+
+  private Window currentWindow(long epoch) {
+    Window window = windows[(int) (epoch % windows.length)];
+    if (window.epoch < epoch) {
+      window.rotate(epoch);
+    }
+    return window;
+  }
+
+  /** 롤링 윈도우의 시간 칸 하나. */
+  private static final class Window {
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+    private final LongAdder failures = new LongAdder();
+    private volatile long epoch = -1;
+
+    void updateMax(long micros) {
+      long current = max.get();
+      while (micros > current && !max.compareAndSet(current, micros)) {
+        current = max.get();
+      }
+    }
+
+    /** 칸이 새 시간 구간을 담당하도록 초기화한다. 칸이 바뀌는 시점에만 진입한다. */
+    synchronized void rotate(long newEpoch) {
+      if (epoch >= newEpoch) {
+        return;
+      }
+      for (int i = 0; i < counts.length(); i++) {
+        counts.set(i, 0L);
+      }
+      max.set(0L);
+      failures.reset();
+      epoch = newEpoch;
+    }
+  }
+}
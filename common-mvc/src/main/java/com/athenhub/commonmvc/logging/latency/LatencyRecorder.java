@@ -0,0 +1,86 @@
+package com.athenhub.commonmvc.logging.latency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트별 응답 시간 히스토그램을 관리하는 기록기.
+ *
+ * <pre>
+ * - 엔드포인트 키는 HTTP 메서드와 라우트 템플릿(예: "GET /products/{id}")을 사용하여 카디널리티를 제한
+ * - 엔드포인트마다 {@link LatencyHistogram}을 최초 기록 시 한 번 생성
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class LatencyRecorder {
+
+  private final Duration window;
+  private final int slots;
+  private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+  /**
+   * 기록기를 생성한다.
+   *
+   * @param window 통계에 포함할 최근 구간 길이
+   * @param slots 구간을 나눌 칸 수
+   */
+  public LatencyRecorder(Duration window, int slots) {
+    this.window = window;
+    this.slots = slots;
+  }
+
+  /**
+   * 엔드포인트의 응답 시간을 기록한다.
+   *
+   * @param endpoint 엔드포인트 키
+   * @param durationNanos 응답 시간 (나노초)
+   * @param failed 예외로 종료되었는지 여부
+   */
+  public void record(String endpoint, long durationNanos, boolean failed) {
+    LatencyHistogram histogram = histograms.get(endpoint);
+    if (histogram == null) {
+      histogram =
+          histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram(window, slots));
+    }
+    histogram.record(durationNanos, failed);
+  }
+
+  /**
+   * 모든 엔드포인트의 응답 시간 통계를 엔드포인트 이름 순으로 반환한다.
+   *
+   * @return 엔드포인트별 응답 시간 통계
+   */
+  public SortedMap<String, LatencySnapshot> snapshot() {
+    SortedMap<String, LatencySnapshot> snapshots = new TreeMap<>();
+    for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+      snapshots.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return snapshots;
+  }
+
+  /**
+   * 특정 엔드포인트의 응답 시간 통계를 반환한다.
+   *
+   * @param endpoint 엔드포인트 키
+   * @return 응답 시간 통계, 기록이 없으면 null
+   */
+  public LatencySnapshot snapshot(String endpoint) {
+    LatencyHistogram histogram = histograms.get(endpoint);
+    return histogram != null ? histogram.snapshot() : null;
+  }
+
+  /**
+   * 통계 집계 구간 길이를 반환한다.
+   *
+   * @return 최근 구간 길이
+   */
+  public Duration getWindow() {
+    return window;
+  }
+}
@@ -0,0 +1,16 @@
+package com.athenhub.commonmvc.logging.latency;
+
+/**
+ * 최근 구간의 엔드포인트 응답 시간 통계.
+ *
+ * @param count 기록된 호출 수
+ * @param failureCount 예외로 종료된 호출 수
+ * @param p50 50번째 백분위 응답 시간 (ms)
+ * @param p90 90번째 백분위 응답 시간 (ms)
+ * @param p99 99번째 백분위 응답 시간 (ms)
+ * @param max 최대 응답 시간 (ms)
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record LatencySnapshot(
+    long count, long failureCount, double p50, double p90, double p99, double max) {}
@@ -0,0 +1,79 @@
+package com.athenhub.commonmvc.logging.latency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔드포인트별 응답 시간 통계를 주기적으로 한 줄씩 로그로 남기는 리포터.
+ *
+ * <p>전용 daemon 스레드에서 실행되며, 집계 구간 동안 호출이 없었던 엔드포인트는 기록하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Slf4j
+public class LatencySummaryReporter implements AutoCloseable {
+
+  private static final String REPORTER_THREAD_NAME = "athenhub-latency-reporter";
+
+  private final LatencyRecorder recorder;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * 리포터를 생성하고 주기적 기록을 시작한다.
+   *
+   * @param recorder 응답 시간 기록기
+   * @param interval 기록 주기
+   */
+  public LatencySummaryReporter(LatencyRecorder recorder, Duration interval) {
+    this.recorder = recorder;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, REPORTER_THREAD_NAME);
+              thread.setDaemon(true);
+              return thread;
+            });
+    long periodMillis = interval.toMillis();
+    scheduler.scheduleAtFixedRate(this::report, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** 현재 통계를 엔드포인트별로 기록한다. */
+  void report() {
+    if (!log.isInfoEnabled()) {
+      return;
+    }
+    try {
+      for (Map.Entry<String, LatencySnapshot> entry : recorder.snapshot().entrySet()) {
+        LatencySnapshot snapshot = entry.getValue();
+        if (snapshot.count() == 0) {
+          continue;
+        }
+        log.info(
+            "Latency - Endpoint: {}, Window: {}, Count: {}, Failures: {}, "
+                + "p50: {}ms, p90: {}ms, p99: {}ms, max: {}ms",
+            entry.getKey(),
+            recorder.getWindow(),
+            snapshot.count(),
+            snapshot.failureCount(),
+            snapshot.p50(),
+            snapshot.p90(),
+            snapshot.p99(),
+            snapshot.max());
+      }
+    } catch (RuntimeException e) {
+      // 예외가 전파되면 이후 스케줄이 취소되므로 여기서 끊는다
+      log.warn("Failed to report latency summary", e);
+    }
+  }
+
+  /** 주기적 기록을 중단한다. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,69 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 요청 경로 패턴별로 서로 다른 샘플링 정책을 적용하는 정책.
+ *
+ * <p>등록 순서대로 경로 패턴을 비교하여 처음 일치한 규칙의 정책을 사용하며, 일치하는 규칙이 없으면 기본 정책을 사용한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class EndpointSamplingPolicy implements SamplingPolicy {
+
+  private final List<Rule> rules;
+  private final SamplingPolicy fallback;
+
+  /**
+   * 경로별 샘플링 정책을 생성한다.
+   *
+   * @param rules 경로 패턴별 규칙 (먼저 등록된 규칙이 우선)
+   * @param fallback 일치하는 규칙이 없을 때 사용할 정책
+   */
+  public EndpointSamplingPolicy(List<Rule> rules, SamplingPolicy fallback) {
+    this.rules = List.copyOf(rules);
+    this.fallback = fallback;
+  }
+
+  @Override
+  public boolean sample(HttpServletRequest request) {
+    if (rules.isEmpty()) {
+      return fallback.sample(request);
+    }
+
+    PathContainer path =
+        PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    for (Rule rule : rules) {
+      if (rule.pattern().matches(path)) {
+        return rule.policy().sample(request);
+      }
+    }
+    return fallback.sample(request);
+  }
+
+  /**
+   * 경로 패턴과 해당 경로에 적용할 샘플링 정책.
+   *
+   * @param pattern 요청 경로 패턴
+   * @param policy 적용할 샘플링 정책
+   */
+  public record Rule(PathPattern pattern, SamplingPolicy policy) {
+
+    /**
+     * 경로 패턴 문자열로 규칙을 생성한다.
+     *
+     * @param pattern 요청 경로 패턴 (예: /api/v1/orders/**)
+     * @param policy 적용할 샘플링 정책
+     * @return 경로별 샘플링 규칙
+     */
+    public static Rule of(String pattern, SamplingPolicy policy) {
+      return new Rule(PathPatternParser.defaultInstance.parse(pattern), policy);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SamplingPolicy}를 평가하고 결정 결과를 집계하는 샘플러.
+ *
+ * <p>샘플링된 요청 수와 제외된 요청 수를 함께 보관하여, 샘플링된 로그만으로도 전체 요청 수를 역산할 수 있도록 한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class LogSampler {
+
+  private final SamplingPolicy policy;
+  private final LongAdder sampledCount = new LongAdder();
+  private final LongAdder sampledOutCount = new LongAdder();
+
+  /**
+   * 샘플러를 생성한다.
+   *
+   * @param policy 샘플링 정책
+   */
+  public LogSampler(SamplingPolicy policy) {
+    this.policy = policy;
+  }
+
+  /**
+   * 요청의 로그 기록 여부를 결정하고 결과를 집계한다.
+   *
+   * @param request HTTP 요청
+   * @return 로그를 기록하면 true
+   */
+  public boolean decide(HttpServletRequest request) {
+    boolean sampled = policy.sample(request);
+    if (sampled) {
+      sampledCount.increment();
+    } else {
+      sampledOutCount.increment();
+    }
+    return sampled;
+  }
+
+  /**
+   * 샘플링된(로그가 기록된) 요청 수를 반환한다.
+   *
+   * @return 샘플링된 요청 수
+   */
+  public long getSampledCount() {
+    return sampledCount.sum();
+  }
+
+  /**
+   * 샘플링에서 제외된 요청 수를 반환한다.
+   *
+   * @return 제외된 요청 수
+   */
+  public long getSampledOutCount() {
+    return sampledOutCount.sum();
+  }
+}
@@ -0,0 +1,37 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link LogSampler}의 결정 결과를 Micrometer 메트릭으로 노출하는 바인더.
+ *
+ * <ul>
+ *   <li>{@code athenhub.logging.sampling.requests{decision=sampled}} — 로그가 기록된 요청 수
+ *   <li>{@code athenhub.logging.sampling.requests{decision=sampled_out}} — 샘플링에서 제외된 요청 수
+ * </ul>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@RequiredArgsConstructor
+public class LogSamplerMetrics implements MeterBinder {
+
+  private static final String REQUESTS = "athenhub.logging.sampling.requests";
+
+  private final LogSampler sampler;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(REQUESTS, sampler, LogSampler::getSampledCount)
+        .tag("decision", "sampled")
+        .description("Requests whose controller logs were sampled")
+        .register(registry);
+    FunctionCounter.builder(REQUESTS, sampler, LogSampler::getSampledOutCount)
+        .tag("decision", "sampled_out")
+        .description("Requests whose controller logs were skipped by sampling")
+        .register(registry);
+  }
+}
@@ -0,0 +1,40 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청을 고정 비율로 샘플링하는 정책.
+ *
+ * <p>1.0 이상이면 모든 요청을, 0.0 이하이면 어떤 요청도 기록하지 않으며 그 사이 값은 난수로 결정한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class RateSamplingPolicy implements SamplingPolicy {
+
+  private final double rate;
+
+  /**
+   * 비율 샘플링 정책을 생성한다.
+   *
+   * @param rate 기록 비율 (0.0 ~ 1.0)
+   */
+  public RateSamplingPolicy(double rate) {
+    if (Double.isNaN(rate) || rate < 0.0 || rate > 1.0) {
+      throw new IllegalArgumentException("Sampling rate must be between 0.0 and 1.0: " + rate);
+    }
+    this.rate = rate;
+  }
+
+  @Override
+  public boolean sample(HttpServletRequest request) {
+    if (rate >= 1.0) {
+      return true;
+    }
+    if (rate <= 0.0) {
+      return false;
+    }
+    return ThreadLocalRandom.current().nextDouble() < rate;
+  }
+}
@@ -0,0 +1,60 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 단위로 컨트롤러 로그를 남길지 결정하는 샘플링 정책.
+ *
+ * <pre>
+ * - {@link com.athenhub.commonmvc.logging.filter.MdcFilter}에서 요청마다 한 번만 평가
+ * - 결정 결과는 MDC에 저장되어 진입/종료 및 중첩된 {@code @LogExecution} 로그에 동일하게 적용
+ * - 샘플링에서 제외된 요청이라도 예외가 발생하면 진입 로그는 항상 기록
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@FunctionalInterface
+public interface SamplingPolicy {
+
+  /** 모든 요청을 기록하는 정책. */
+  SamplingPolicy ALWAYS = request -> true;
+
+  /**
+   * 요청의 로그 기록 여부를 결정한다.
+   *
+   * @param request HTTP 요청
+   * @return 로그를 기록하면 true
+   */
+  boolean sample(HttpServletRequest request);
+
+  /**
+   * 이 정책과 다른 정책을 모두 통과한 요청만 기록하는 정책을 반환한다. 이 정책에서 제외된 요청은 다른 정책을 평가하지 않는다.
+   *
+   * @param other 함께 적용할 정책
+   * @return 결합된 정책
+   */
+  default SamplingPolicy and(SamplingPolicy other) {
+    return request -> sample(request) && other.sample(request);
+  }
+
+  /**
+   * 고정 비율 샘플링 정책을 생성한다.
+   *
+   * @param rate 기록 비율 (0.0 ~ 1.0)
+   * @return 비율 샘플링 정책
+   */
+  static SamplingPolicy rate(double rate) {
+    return new RateSamplingPolicy(rate);
+  }
+
+  /**
+   * 초당 최대 기록 요청 수를 제한하는 토큰 버킷 정책을 생성한다.
+   *
+   * @param permitsPerSecond 초당 기록 가능한 요청 수
+   * @return 토큰 버킷 샘플링 정책
+   */
+  static SamplingPolicy tokenBucket(double permitsPerSecond) {
+    return new TokenBucketSamplingPolicy(permitsPerSecond);
+  }
+}
@@ -0,0 +1,63 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 기록 가능한 요청 수를 제한하는 토큰 버킷 샘플링 정책.
+ *
+ * <pre>
+ * - 초당 permitsPerSecond 개의 토큰이 채워지며, 최대 1초 분량(burst)까지 누적
+ * - 토큰이 남아 있으면 기록하고, 없으면 샘플링에서 제외
+ * - 다음 토큰 도착 예정 시각 하나만 CAS로 갱신하므로 락 없이 동작 (GCRA)
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class TokenBucketSamplingPolicy implements SamplingPolicy {
+
+  private final long intervalNanos;
+  private final long burstToleranceNanos;
+  private final LongSupplier nanoClock;
+
+  // 버킷이 비어 있다고 가정했을 때 다음 토큰이 도착하는 시각
+  private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * 토큰 버킷 샘플링 정책을 생성한다.
+   *
+   * @param permitsPerSecond 초당 기록 가능한 요청 수
+   */
+  public TokenBucketSamplingPolicy(double permitsPerSecond) {
+    this(permitsPerSecond, System::nanoTime);
+  }
+
+  TokenBucketSamplingPolicy(double permitsPerSecond, LongSupplier nanoClock) {
+    if (Double.isNaN(permitsPerSecond) || permitsPerSecond <= 0.0) {
+      throw new IllegalArgumentException(
+          "Permits per second must be positive: " + permitsPerSecond);
+    }
+    long burst = Math.max(1L, (long) permitsPerSecond);
+    this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    this.burstToleranceNanos = intervalNanos * (burst - 1);
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public boolean sample(HttpServletRequest request) {
+    long now = nanoClock.getAsLong();
+    while (true) {
+      long arrival = theoreticalArrival.get();
+      long base = Math.max(arrival, now);
+      if (base - now > burstToleranceNanos) {
+        return false;
+      }
+      if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+}
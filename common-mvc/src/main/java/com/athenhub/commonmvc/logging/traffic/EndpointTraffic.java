@@ -0,0 +1,69 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 동시 처리 수와 처리량 카운터.
+ *
+ * <p>요청 스레드가 많아도 경합하지 않도록 {@link LongAdder}를 사용한다. 카운터별로 따로 읽으므로 스냅샷은 정확한 한 시점의 값이 아닐 수
+ * 있지만, 포화 추세를 보는 용도로는 충분하다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class EndpointTraffic {
+
+  private final LongAdder active = new LongAdder();
+  private final LongAdder started = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder bytesOut = new LongAdder();
+
+  /** 요청 처리 시작을 기록한다. */
+  public void begin() {
+    started.increment();
+    active.increment();
+  }
+
+  /**
+   * 요청 처리 종료를 기록한다.
+   *
+   * @param failed 예외로 종료되었는지 여부
+   */
+  public void end(boolean failed) {
+    active.decrement();
+    if (failed) {
+      this.failed.increment();
+    } else {
+      completed.increment();
+    }
+  }
+
+  /**
+   * 응답 본문 바이트 수를 더한다.
+   *
+   * @param bytes 응답 본문 바이트 수
+   */
+  public void addBytesOut(long bytes) {
+    bytesOut.add(bytes);
+  }
+
+  /**
+   * 처리 중인 요청 수를 반환한다.
+   *
+   * @return 처리 중인 요청 수
+   */
+  public long active() {
+    return active.sum();
+  }
+
+  /**
+   * 현재 카운터 값을 반환한다.
+   *
+   * @return 처리량 스냅샷
+   */
+  public TrafficSnapshot snapshot() {
+    return new TrafficSnapshot(
+        active.sum(), started.sum(), completed.sum(), failed.sum(), bytesOut.sum());
+  }
+}
@@ -0,0 +1,59 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.Selector.Match;
+
+/**
+ * 엔드포인트별 동시 처리 수와 누적 처리량을 노출하는 Actuator 엔드포인트.
+ *
+ * <pre>
+ * - GET /actuator/traffic : 전체 엔드포인트 처리량
+ * - GET /actuator/traffic/{method}/{route} : 특정 엔드포인트 처리량 (예: /actuator/traffic/GET/products/{id})
+ * </pre>
+ *
+ * <p>카운터 합계만 읽으므로 요청 처리에 영향을 주지 않는다. 처리율은 두 번 조회한 누적 값의 차이로 계산한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Endpoint(id = "traffic")
+@RequiredArgsConstructor
+public class TrafficEndpoint {
+
+  private final TrafficRecorder recorder;
+
+  /**
+   * 전체 엔드포인트의 처리량을 조회한다.
+   *
+   * @return 엔드포인트별 처리량
+   */
+  @ReadOperation
+  public Map<String, TrafficSnapshot> traffics() {
+    return recorder.snapshot();
+  }
+
+  /**
+   * 특정 엔드포인트의 처리량을 조회한다.
+   *
+   * <p>엔드포인트 키("GET /products/{id}")는 경로 구분자를 포함하므로 남은 경로 전체를 받아 키를 복원한다. 라우트 템플릿이 없어
+   * 메서드 정보(ClassName.methodName)로 기록된 경우에는 한 단계 경로로 조회한다.
+   *
+   * @param path HTTP 메서드와 라우트 템플릿 경로 조각
+   * @return 처리량, 기록이 없으면 null (404 응답)
+   */
+  @ReadOperation
+  public TrafficSnapshot traffic(@Selector(match = Match.ALL_REMAINING) String[] path) {
+    if (path.length == 1) {
+      return recorder.snapshot(path[0]);
+    }
+    StringBuilder key = new StringBuilder(path[0]).append(' ');
+    for (int i = 1; i < path.length; i++) {
+      key.append('/').append(path[i]);
+    }
+    return recorder.snapshot(key.toString());
+  }
+}
@@ -0,0 +1,59 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+import com.athenhub.commonmvc.logging.EndpointResolver;
+import com.athenhub.commonmvc.logging.capture.TeeResponseWrapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 엔드포인트별 응답 본문 바이트 수를 기록하는 필터.
+ *
+ * <p>응답을 캡처 한도 0의 {@link TeeResponseWrapper}로 감싸 버퍼 없이 전송 바이트 수만 세고, 필터 체인이 끝나면 매칭된 라우트
+ * 템플릿 기준 엔드포인트 키로 {@link TrafficRecorder}에 기록한다. 컨트롤러에 매칭되지 않은 요청(정적 리소스, 404 등)과 비동기
+ * 디스패치에서 쓰인 본문은 기록하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class TrafficFilter extends OncePerRequestFilter {
+
+  private final TrafficRecorder recorder;
+
+  /**
+   * 필터를 생성한다.
+   *
+   * @param recorder 처리량 기록기
+   */
+  public TrafficFilter(TrafficRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  /**
+   * 응답을 바이트 수를 세는 래퍼로 감싸 필터 체인을 실행하고, 체인이 끝나면 응답 바이트 수를 기록한다.
+   *
+   * @param request HTTP 요청
+   * @param response HTTP 응답
+   * @param filterChain 필터 체인
+   * @throws ServletException 필터 처리 중 서블릿 예외 발생 시
+   * @throws IOException 필터 처리 중 I/O 예외 발생 시
+   */
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    TeeResponseWrapper wrapper = new TeeResponseWrapper(response, 0);
+    try {
+      filterChain.doFilter(request, wrapper);
+    } finally {
+      wrapper.flushWriter();
+      String pattern = EndpointResolver.routePattern(request);
+      if (pattern != null) {
+        recorder.recordBytesOut(request.getMethod() + " " + pattern, wrapper.getTotalBytes());
+      }
+    }
+  }
+}
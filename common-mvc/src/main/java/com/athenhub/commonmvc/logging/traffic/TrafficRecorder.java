@@ -0,0 +1,91 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트별 동시 처리 수와 처리량을 관리하는 기록기.
+ *
+ * <pre>
+ * - 동시 처리/완료/실패 수는 LoggingAspect가 컨트롤러 실행 전후로 기록
+ * - 응답 바이트 수는 {@link TrafficFilter}가 응답 본문 전송 후 기록
+ * - 엔드포인트 키는 응답 시간 기록과 같은 "GET /products/{id}" 형식을 사용
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class TrafficRecorder {
+
+  private final ConcurrentMap<String, EndpointTraffic> traffics = new ConcurrentHashMap<>();
+
+  /**
+   * 엔드포인트의 요청 처리 시작을 기록한다. 반환된 카운터로 {@link EndpointTraffic#end(boolean)}를 호출해야 한다.
+   *
+   * @param endpoint 엔드포인트 키
+   * @return 엔드포인트 카운터
+   */
+  public EndpointTraffic begin(String endpoint) {
+    EndpointTraffic traffic = traffic(endpoint);
+    traffic.begin();
+    return traffic;
+  }
+
+  /**
+   * 엔드포인트의 응답 본문 바이트 수를 기록한다.
+   *
+   * @param endpoint 엔드포인트 키
+   * @param bytes 응답 본문 바이트 수
+   */
+  public void recordBytesOut(String endpoint, long bytes) {
+    traffic(endpoint).addBytesOut(bytes);
+  }
+
+  /**
+   * 모든 엔드포인트의 처리량을 엔드포인트 이름 순으로 반환한다.
+   *
+   * @return 엔드포인트별 처리량
+   */
+  public SortedMap<String, TrafficSnapshot> snapshot() {
+    SortedMap<String, TrafficSnapshot> snapshots = new TreeMap<>();
+    for (Map.Entry<String, EndpointTraffic> entry : traffics.entrySet()) {
+      snapshots.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return snapshots;
+  }
+
+  /**
+   * 특정 엔드포인트의 처리량을 반환한다.
+   *
+   * @param endpoint 엔드포인트 키
+   * @return 처리량, 기록이 없으면 null
+   */
+  public TrafficSnapshot snapshot(String endpoint) {
+    EndpointTraffic traffic = traffics.get(endpoint);
+    return traffic != null ? traffic.snapshot() : null;
+  }
+
+  /**
+   * 모든 엔드포인트의 처리 중 요청 수 합계를 반환한다.
+   *
+   * @return 처리 중 요청 수
+   */
+  public long totalActive() {
+    long active = 0;
+    for (EndpointTraffic traffic : traffics.values()) {
+      active += traffic.active();
+    }
+    return active;
+  }
+
+  private EndpointTraffic traffic(String endpoint) {
+    EndpointTraffic traffic = traffics.get(endpoint);
+    if (traffic == null) {
+      traffic = traffics.computeIfAbsent(endpoint, key -> new EndpointTraffic());
+    }
+    return traffic;
+  }
+}
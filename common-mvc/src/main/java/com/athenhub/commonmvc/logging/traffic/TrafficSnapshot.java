@@ -0,0 +1,15 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+/**
+ * 엔드포인트의 누적 처리량과 현재 동시 처리 수.
+ *
+ * @param active 현재 처리 중인 요청 수
+ * @param started 누적 시작 요청 수
+ * @param completed 누적 정상 완료 요청 수
+ * @param failed 누적 예외 종료 요청 수
+ * @param bytesOut 누적 응답 본문 바이트 수
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record TrafficSnapshot(
+    long active, long started, long completed, long failed, long bytesOut) {}
@@ -0,0 +1,90 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔드포인트별 동시 처리 수와 직전 기록 이후의 처리량을 주기적으로 한 줄씩 로그로 남기는 리포터.
+ *
+ * <p>전용 daemon 스레드에서 실행되며, 직전 기록의 누적 값과의 차이로 구간 처리율(req/s)을 계산한다. 처리 중인 요청이 없고 구간 동안
+ * 시작된 요청도 없는 엔드포인트는 기록하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Slf4j
+public class TrafficSummaryReporter implements AutoCloseable {
+
+  private static final String REPORTER_THREAD_NAME = "athenhub-traffic-reporter";
+  private static final TrafficSnapshot EMPTY = new TrafficSnapshot(0, 0, 0, 0, 0);
+
+  private final TrafficRecorder recorder;
+  private final ScheduledExecutorService scheduler;
+  private Map<String, TrafficSnapshot> previous = new HashMap<>();
+  private long previousNanos = System.nanoTime();
+
+  /**
+   * 리포터를 생성하고 주기적 기록을 시작한다.
+   *
+   * @param recorder 처리량 기록기
+   * @param interval 기록 주기
+   */
+  public TrafficSummaryReporter(TrafficRecorder recorder, Duration interval) {
+    this.recorder = recorder;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, REPORTER_THREAD_NAME);
+              thread.setDaemon(true);
+              return thread;
+            });
+    long periodMillis = interval.toMillis();
+    scheduler.scheduleAtFixedRate(this::report, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** 직전 기록 이후의 처리량을 엔드포인트별로 기록한다. */
+  void report() {
+    try {
+      long now = System.nanoTime();
+      double seconds = Math.max(now - previousNanos, 1L) / 1_000_000_000.0;
+      Map<String, TrafficSnapshot> current = recorder.snapshot();
+
+      if (log.isInfoEnabled()) {
+        for (Map.Entry<String, TrafficSnapshot> entry : current.entrySet()) {
+          TrafficSnapshot snapshot = entry.getValue();
+          TrafficSnapshot last = previous.getOrDefault(entry.getKey(), EMPTY);
+          long started = snapshot.started() - last.started();
+          if (snapshot.active() == 0 && started == 0) {
+            continue;
+          }
+          log.info(
+              "Traffic - Endpoint: {}, Active: {}, Rate: {}/s, Completed: {}, Failed: {}, "
+                  + "BytesOut: {}",
+              entry.getKey(),
+              snapshot.active(),
+              String.format("%.2f", started / seconds),
+              snapshot.completed() - last.completed(),
+              snapshot.failed() - last.failed(),
+              snapshot.bytesOut() - last.bytesOut());
+        }
+      }
+
+      previous = current;
+      previousNanos = now;
+    } catch (RuntimeException e) {
+      // 예외가 전파되면 이후 스케줄이 취소되므로 여기서 끊는다
+      log.warn("Failed to report traffic summary", e);
+    }
+  }
+
+  /** 주기적 기록을 중단한다. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,104 @@
+package com.athenhub.commonmvc.logging.watchdog;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 처리 중인 요청 하나를 나타내는 레지스트리 항목.
+ *
+ * <pre>
+ * - 요청을 처리하는 스레드, 요청 ID, 엔드포인트, 시작 시각을 보관
+ * - 엔드포인트는 MdcFilter 등록 시점에는 "GET /raw/uri" 형식이며, LoggingAspect가 라우트 템플릿 키로 갱신
+ * - 스택 샘플과 보고 여부는 watchdog 스레드에서만 접근
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class InFlightRequest {
+
+  /** 항목을 저장하는 요청 속성 이름. */
+  public static final String ATTRIBUTE = InFlightRequest.class.getName();
+
+  /** 요청을 처리하는 스레드. */
+  @Getter private final Thread thread;
+
+  /** 요청 ID. */
+  @Getter private final String requestId;
+
+  /** 엔드포인트 키. */
+  @Getter private volatile String endpoint;
+
+  private final long startNanos;
+  private volatile boolean active = true;
+
+  private final List<StackTraceElement[]> samples = new ArrayList<>();
+  private boolean reported;
+
+  InFlightRequest(Thread thread, String requestId, String endpoint, long startNanos) {
+    this.thread = thread;
+    this.requestId = requestId;
+    this.endpoint = endpoint;
+    this.startNanos = startNanos;
+  }
+
+  /**
+   * 요청에 등록된 항목을 조회한다.
+   *
+   * @param request HTTP 요청, 없으면 null
+   * @return 처리 중 요청 항목, 레지스트리에 등록되지 않은 요청이면 null
+   */
+  public static InFlightRequest from(HttpServletRequest request) {
+    if (request == null) {
+      return null;
+    }
+    return request.getAttribute(ATTRIBUTE) instanceof InFlightRequest inFlight ? inFlight : null;
+  }
+
+  /**
+   * 엔드포인트 키를 갱신한다.
+   *
+   * @param endpoint 엔드포인트 키 (예: "GET /products/{id}")
+   */
+  public void setEndpoint(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  /**
+   * 요청 시작 후 경과 시간을 반환한다.
+   *
+   * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+   * @return 경과 시간 (나노초)
+   */
+  public long elapsedNanos(long nowNanos) {
+    return nowNanos - startNanos;
+  }
+
+  /**
+   * 요청 처리가 아직 끝나지 않았는지 여부를 반환한다.
+   *
+   * @return 처리 중이면 true
+   */
+  public boolean isActive() {
+    return active;
+  }
+
+  void deactivate() {
+    active = false;
+  }
+
+  List<StackTraceElement[]> samples() {
+    return samples;
+  }
+
+  boolean isReported() {
+    return reported;
+  }
+
+  void markReported() {
+    reported = true;
+    samples.clear();
+  }
+}
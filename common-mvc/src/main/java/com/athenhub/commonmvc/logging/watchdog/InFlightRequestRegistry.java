@@ -0,0 +1,72 @@
+package com.athenhub.commonmvc.logging.watchdog;
+
+import com.athenhub.commonmvc.context.RequestContext;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리 중인 요청을 추적하는 레지스트리.
+ *
+ * <pre>
+ * - MdcFilter가 요청 시작 시 {@link #register}, 종료 시 {@link #unregister}
+ * - 요청당 항목 하나의 할당과 ConcurrentHashMap 추가/삭제만 발생하며 락을 잡지 않음
+ * - {@link SlowRequestWatchdog}이 주기적으로 순회하여 오래 걸리는 요청을 찾음
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class InFlightRequestRegistry {
+
+  private final Set<InFlightRequest> requests = ConcurrentHashMap.newKeySet();
+
+  /**
+   * 현재 스레드에서 처리하는 요청을 등록하고 요청 속성에 항목을 저장한다.
+   *
+   * @param request HTTP 요청
+   * @param context 요청 컨텍스트
+   * @return 등록된 항목
+   */
+  public InFlightRequest register(HttpServletRequest request, RequestContext context) {
+    InFlightRequest inFlight =
+        new InFlightRequest(
+            Thread.currentThread(),
+            context.requestId(),
+            request.getMethod() + " " + request.getRequestURI(),
+            context.startNanos());
+    requests.add(inFlight);
+    request.setAttribute(InFlightRequest.ATTRIBUTE, inFlight);
+    return inFlight;
+  }
+
+  /**
+   * 요청 처리가 끝난 항목을 제거한다.
+   *
+   * @param inFlight 등록된 항목
+   */
+  public void unregister(InFlightRequest inFlight) {
+    inFlight.deactivate();
+    requests.remove(inFlight);
+  }
+
+  /**
+   * 처리 중인 요청 목록을 반환한다. 반환된 컬렉션은 등록/제거를 약하게 일관된 방식으로 반영한다.
+   *
+   * @return 처리 중인 요청 목록
+   */
+  public Collection<InFlightRequest> inFlight() {
+    return Collections.unmodifiableSet(requests);
+  }
+
+  /**
+   * 처리 중인 요청 수를 반환한다.
+   *
+   * @return 처리 중인 요청 수
+   */
+  public int size() {
+    return requests.size();
+  }
+}
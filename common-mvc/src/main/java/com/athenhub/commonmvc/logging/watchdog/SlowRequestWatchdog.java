@@ -0,0 +1,147 @@
+package com.athenhub.commonmvc.logging.watchdog;
+
+import com.athenhub.commonmvc.logging.MdcUtils;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제한 시간을 넘긴 처리 중 요청을 찾아 처리 스레드의 스택을 샘플링해 로그로 남기는 watchdog.
+ *
+ * <pre>
+ * - 전용 daemon 스레드에서 검사 주기마다 {@link InFlightRequestRegistry}를 순회
+ * - 엔드포인트별 임계 시간(없으면 기본 임계 시간)을 넘긴 요청은 검사 주기마다 스택을 하나씩 샘플링
+ * - 샘플이 지정한 개수만큼 모이면 요청 ID를 MDC에 넣고 한 번만 경고 로그를 기록
+ * - 샘플링 도중 요청이 끝나면 다른 요청의 스택이 섞이지 않도록 해당 샘플을 버림
+ * </pre>
+ *
+ * <p>스택 샘플링은 임계 시간을 넘긴 요청에만 수행되므로 정상 요청에는 레지스트리 등록/제거 외의 비용이 없다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Slf4j
+public class SlowRequestWatchdog implements AutoCloseable {
+
+  private static final String WATCHDOG_THREAD_NAME = "athenhub-slow-request-watchdog";
+
+  private final InFlightRequestRegistry registry;
+  private final long thresholdNanos;
+  private final Map<String, Long> endpointThresholdNanos;
+  private final int samples;
+  private final int maxDepth;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * watchdog을 생성하고 주기적 검사를 시작한다.
+   *
+   * @param registry 처리 중 요청 레지스트리
+   * @param threshold 기본 임계 시간
+   * @param endpointThresholds 엔드포인트 키(예: "GET /reports/{id}")별 임계 시간
+   * @param checkInterval 검사 및 스택 샘플링 주기
+   * @param samples 요청당 수집할 스택 샘플 수
+   * @param maxDepth 샘플당 기록할 최대 스택 프레임 수
+   */
+  public SlowRequestWatchdog(
+      InFlightRequestRegistry registry,
+      Duration threshold,
+      Map<String, Duration> endpointThresholds,
+      Duration checkInterval,
+      int samples,
+      int maxDepth) {
+    this.registry = registry;
+    this.thresholdNanos = threshold.toNanos();
+    this.endpointThresholdNanos = new HashMap<>();
+    endpointThresholds.forEach((key, value) -> endpointThresholdNanos.put(key, value.toNanos()));
+    this.samples = Math.max(samples, 1);
+    this.maxDepth = Math.max(maxDepth, 1);
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, WATCHDOG_THREAD_NAME);
+              thread.setDaemon(true);
+              return thread;
+            });
+    long periodMillis = checkInterval.toMillis();
+    scheduler.scheduleAtFixedRate(this::check, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** 처리 중 요청을 검사하여 임계 시간을 넘긴 요청의 스택을 샘플링한다. */
+  void check() {
+    if (!log.isWarnEnabled()) {
+      return;
+    }
+    try {
+      long now = System.nanoTime();
+      for (InFlightRequest inFlight : registry.inFlight()) {
+        if (!inFlight.isReported() && inFlight.elapsedNanos(now) >= thresholdOf(inFlight)) {
+          sample(inFlight, now);
+        }
+      }
+    } catch (RuntimeException e) {
+      // 예외가 전파되면 이후 스케줄이 취소되므로 여기서 끊는다
+      log.warn("Failed to check slow requests", e);
+    }
+  }
+
+  private long thresholdOf(InFlightRequest inFlight) {
+    return endpointThresholdNanos.getOrDefault(inFlight.getEndpoint(), thresholdNanos);
+  }
+
+  private void sample(InFlightRequest inFlight, long now) {
+    StackTraceElement[] stack = inFlight.getThread().getStackTrace();
+    if (!inFlight.isActive()) {
+      return;
+    }
+
+    List<StackTraceElement[]> collected = inFlight.samples();
+    collected.add(stack);
+    if (collected.size() >= samples) {
+      report(inFlight, collected, now);
+      inFlight.markReported();
+    }
+  }
+
+  private void report(InFlightRequest inFlight, List<StackTraceElement[]> collected, long now) {
+    StringBuilder message = new StringBuilder(256 * collected.size());
+    for (int i = 0; i < collected.size(); i++) {
+      message.append(System.lineSeparator()).append("  Sample ").append(i + 1).append(':');
+      StackTraceElement[] stack = collected.get(i);
+      int depth = Math.min(stack.length, maxDepth);
+      for (int j = 0; j < depth; j++) {
+        message.append(System.lineSeparator()).append("    at ").append(stack[j]);
+      }
+      if (stack.length > depth) {
+        message
+            .append(System.lineSeparator())
+            .append("    ... ")
+            .append(stack.length - depth)
+            .append(" more");
+      }
+    }
+
+    MdcUtils.setRequestId(inFlight.getRequestId());
+    try {
+      log.warn(
+          "Slow request - Endpoint: {}, Thread: {}, Elapsed: {}ms, Samples: {}{}",
+          inFlight.getEndpoint(),
+          inFlight.getThread().getName(),
+          TimeUnit.NANOSECONDS.toMillis(inFlight.elapsedNanos(now)),
+          collected.size(),
+          message);
+    } finally {
+      MdcUtils.remove(MdcUtils.REQUEST_ID);
+    }
+  }
+
+  /** 주기적 검사를 중단한다. */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
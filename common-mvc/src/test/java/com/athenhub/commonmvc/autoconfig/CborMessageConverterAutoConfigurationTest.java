@@ -0,0 +1,142 @@
+package com.athenhub.commonmvc.autoconfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commoncore.error.ErrorResponse;
+import com.athenhub.commoncore.error.FieldError;
+import com.athenhub.commonmvc.codec.CborMessageConverterConfigurer;
+import com.athenhub.commonmvc.codec.CborProperties;
+import com.athenhub.commonmvc.codec.InternalCborHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/** CborMessageConverterAutoConfiguration Test. */
+class CborMessageConverterAutoConfigurationTest {
+
+  private WebApplicationContextRunner contextRunner;
+
+  @BeforeEach
+  void setup() {
+    contextRunner =
+        new WebApplicationContextRunner()
+            .withConfiguration(
+                AutoConfigurations.of(
+                    JacksonAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class,
+                    WebMvcAutoConfiguration.class,
+                    CborMessageConverterAutoConfiguration.class));
+  }
+
+  @Test
+  @DisplayName("기본 설정에서는 CBOR 컨버터 구성이 등록되지 않는다")
+  void disabledByDefault() {
+    contextRunner.run(
+        context -> assertThat(context).doesNotHaveBean(CborMessageConverterConfigurer.class));
+  }
+
+  @Test
+  @DisplayName("enabled=true 이면 애플리케이션 Jackson 설정을 따르는 CBOR 컨버터가 JSON 컨버터 뒤에 하나만 등록된다")
+  void cborConverterRegisteredAfterJson() {
+    contextRunner
+        .withPropertyValues(
+            "athenhub.cbor.mvc.enabled=true", "spring.jackson.property-naming-strategy=SNAKE_CASE")
+        .run(
+            context -> {
+              List<HttpMessageConverter<?>> converters =
+                  context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters();
+              List<HttpMessageConverter<?>> cborConverters =
+                  converters.stream()
+                      .filter(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                      .toList();
+
+              int jsonIndex = indexOf(converters, MappingJackson2HttpMessageConverter.class);
+
+              assertThat(cborConverters)
+                  .singleElement()
+                  .isInstanceOf(InternalCborHttpMessageConverter.class);
+              assertThat(jsonIndex).isNotNegative();
+              assertThat(converters.indexOf(cborConverters.get(0))).isGreaterThan(jsonIndex);
+
+              ObjectMapper cborMapper =
+                  ((MappingJackson2CborHttpMessageConverter) cborConverters.get(0))
+                      .getObjectMapper();
+              assertThat(cborMapper.getFactory()).isInstanceOf(CBORFactory.class);
+              assertThat(cborMapper.getPropertyNamingStrategy())
+                  .isSameAs(context.getBean(ObjectMapper.class).getPropertyNamingStrategy());
+            });
+  }
+
+  @Test
+  @DisplayName("CBOR 허용 경로는 기본 /internal/ 이며 path-prefixes 로 변경할 수 있다")
+  void pathPrefixesConfigurable() {
+    contextRunner
+        .withPropertyValues("athenhub.cbor.mvc.enabled=true")
+        .run(
+            context ->
+                assertThat(context.getBean(CborProperties.class).getPathPrefixes())
+                    .containsExactly("/internal/"));
+    contextRunner
+        .withPropertyValues(
+            "athenhub.cbor.mvc.enabled=true", "athenhub.cbor.mvc.path-prefixes=/svc/,/batch/")
+        .run(
+            context ->
+                assertThat(context.getBean(CborProperties.class).getPathPrefixes())
+                    .containsExactly("/svc/", "/batch/"));
+  }
+
+  @Test
+  @DisplayName("ErrorResponse/FieldError 는 CBOR 로도 JSON 과 같은 필드 구조로 인코딩된다")
+  void errorResponseEncodesSameAsJson() {
+    contextRunner
+        .withPropertyValues("athenhub.cbor.mvc.enabled=true")
+        .run(
+            context -> {
+              ObjectMapper jsonMapper = context.getBean(ObjectMapper.class);
+              ObjectMapper cborMapper =
+                  context
+                      .getBean(RequestMappingHandlerAdapter.class)
+                      .getMessageConverters()
+                      .stream()
+                      .filter(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                      .map(MappingJackson2CborHttpMessageConverter.class::cast)
+                      .findFirst()
+                      .orElseThrow()
+                      .getObjectMapper();
+              ErrorResponse<List<FieldError>> response =
+                  ErrorResponse.of(
+                      "VALIDATION_ERROR",
+                      "요청 데이터가 유효하지 않습니다.",
+                      List.of(FieldError.of("age", -1, "0 이상이어야 합니다."), FieldError.global("오류")));
+
+              Map<?, ?> fromJson =
+                  jsonMapper.readValue(jsonMapper.writeValueAsBytes(response), Map.class);
+              Map<?, ?> fromCbor =
+                  cborMapper.readValue(cborMapper.writeValueAsBytes(response), Map.class);
+
+              assertThat(fromCbor).isEqualTo(fromJson);
+            });
+  }
+
+  private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+    for (int i = 0; i < converters.size(); i++) {
+      if (type.isInstance(converters.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,74 @@
+package com.athenhub.commonmvc.autoconfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.context.ContextPropagatingTaskDecorator;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.TaskDecorator;
+
+/** ContextPropagationAutoConfiguration Test. */
+class ContextPropagationAutoConfigurationTest {
+
+  private ApplicationContextRunner contextRunner;
+
+  @BeforeEach
+  void setup() {
+    contextRunner =
+        new ApplicationContextRunner()
+            .withConfiguration(
+                AutoConfigurations.of(
+                    ContextPropagationAutoConfiguration.class,
+                    TaskExecutionAutoConfiguration.class));
+  }
+
+  @Test
+  @DisplayName("기본 설정이면 TaskDecorator만 등록되고 Boot 기본 TaskExecutor는 유지된다")
+  void defaultAutoConfigurationWorks() {
+    contextRunner.run(
+        context -> {
+          assertThat(context).hasSingleBean(ContextPropagatingTaskDecorator.class);
+          assertThat(context).hasBean("applicationTaskExecutor");
+          assertThat(context).doesNotHaveBean("contextVirtualThreadExecutor");
+        });
+  }
+
+  @Test
+  @DisplayName("사용자가 TaskDecorator를 등록하면 자동 등록되지 않는다")
+  void userTaskDecoratorTakesPrecedence() {
+    contextRunner
+        .withBean(TaskDecorator.class, () -> runnable -> runnable)
+        .run(
+            context -> {
+              assertThat(context).doesNotHaveBean(ContextPropagatingTaskDecorator.class);
+              assertThat(context).hasSingleBean(TaskDecorator.class);
+            });
+  }
+
+  @Test
+  @DisplayName("virtual-executor.enabled=true 이면 가상 스레드 실행기가 추가로 등록된다")
+  void virtualExecutorEnabled() {
+    contextRunner
+        .withPropertyValues("athenhub.context-propagation.virtual-executor.enabled=true")
+        .run(
+            context -> {
+              assertThat(context).hasBean("contextVirtualThreadExecutor");
+              assertThat(context.getBean("contextVirtualThreadExecutor"))
+                  .isInstanceOf(ExecutorService.class);
+              assertThat(context).hasBean("applicationTaskExecutor");
+            });
+  }
+
+  @Test
+  @DisplayName("enabled=false 이면 아무 빈도 등록되지 않는다")
+  void disabledProperty() {
+    contextRunner
+        .withPropertyValues("athenhub.context-propagation.enabled=false")
+        .run(context -> assertThat(context).doesNotHaveBean(ContextPropagatingTaskDecorator.class));
+  }
+}
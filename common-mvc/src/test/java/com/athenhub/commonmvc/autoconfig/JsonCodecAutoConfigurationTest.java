@@ -0,0 +1,73 @@
+package com.athenhub.commonmvc.autoconfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.logging.LogEventRenderer;
+import com.athenhub.commonutils.json.GsonJsonCodec;
+import com.athenhub.commonutils.json.JacksonJsonCodec;
+import com.athenhub.commonutils.json.JsonCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+/** JsonCodecAutoConfiguration Test. */
+class JsonCodecAutoConfigurationTest {
+
+  private WebApplicationContextRunner contextRunner;
+
+  @BeforeEach
+  void setup() {
+    contextRunner =
+        new WebApplicationContextRunner()
+            .withConfiguration(
+                AutoConfigurations.of(
+                    JacksonAutoConfiguration.class,
+                    JsonCodecAutoConfiguration.class,
+                    LoggingAspectAutoConfiguration.class));
+  }
+
+  @Test
+  @DisplayName("기본 설정이면 Gson 코덱이 등록되고 로그 렌더러가 이를 사용한다")
+  void defaultCodecIsGson() {
+    contextRunner.run(
+        context -> {
+          assertThat(context).hasSingleBean(JsonCodec.class);
+          assertThat(context.getBean(JsonCodec.class)).isInstanceOf(GsonJsonCodec.class);
+          assertThat(context.getBean(LogEventRenderer.class))
+              .extracting("codec")
+              .isSameAs(context.getBean(JsonCodec.class));
+        });
+  }
+
+  @Test
+  @DisplayName("codec=jackson 이면 컨텍스트의 ObjectMapper 를 사용하는 Jackson 코덱이 등록된다")
+  void jacksonCodecEnabled() {
+    contextRunner
+        .withPropertyValues("athenhub.json.codec=jackson")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(JsonCodec.class);
+              assertThat(context.getBean(JsonCodec.class)).isInstanceOf(JacksonJsonCodec.class);
+              assertThat(context.getBean(LogEventRenderer.class))
+                  .extracting("codec")
+                  .isSameAs(context.getBean(JsonCodec.class));
+            });
+  }
+
+  @Test
+  @DisplayName("사용자가 JsonCodec 을 등록하면 자동 등록되지 않는다")
+  void userCodecTakesPrecedence() {
+    JsonCodec custom = new GsonJsonCodec();
+    contextRunner
+        .withPropertyValues("athenhub.json.codec=jackson")
+        .withBean(JsonCodec.class, () -> custom)
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(JsonCodec.class);
+              assertThat(context.getBean(JsonCodec.class)).isSameAs(custom);
+            });
+  }
+}
@@ -3,7 +3,17 @@ package com.athenhub.commonmvc.autoconfig;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.athenhub.commonmvc.logging.LoggingAspect;
+import com.athenhub.commonmvc.logging.async.AsyncLogDispatcher;
+import com.athenhub.commonmvc.logging.async.AsyncLogDispatcherMetrics;
+import com.athenhub.commonmvc.logging.async.OverflowPolicy;
 import com.athenhub.commonmvc.logging.filter.MdcFilter;
+import com.athenhub.commonmvc.logging.latency.LatencyEndpoint;
+import com.athenhub.commonmvc.logging.latency.LatencyRecorder;
+import com.athenhub.commonmvc.logging.latency.LatencySummaryReporter;
+import com.athenhub.commonmvc.logging.sampling.EndpointSamplingPolicy;
+import com.athenhub.commonmvc.logging.sampling.LogSampler;
+import com.athenhub.commonmvc.logging.sampling.LogSamplerMetrics;
+import com.athenhub.commonmvc.logging.sampling.SamplingPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,4 +56,74 @@ class LoggingAspectAutoConfigurationTest {
               assertThat(context).doesNotHaveBean(FilterRegistrationBean.class);
             });
   }
+
+  @Test
+  @DisplayName("async.enabled=true 이면 AsyncLogDispatcher 와 메트릭 바인더가 등록된다")
+  void asyncEnabled() {
+    contextRunner
+        .withPropertyValues(
+            "athenhub.logging.mvc.async.enabled=true",
+            "athenhub.logging.mvc.async.buffer-size=100",
+            "athenhub.logging.mvc.async.overflow-policy=SUMMARY")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(AsyncLogDispatcher.class);
+              assertThat(context).hasSingleBean(AsyncLogDispatcherMetrics.class);
+
+              AsyncLogDispatcher dispatcher = context.getBean(AsyncLogDispatcher.class);
+              assertThat(dispatcher.getCapacity()).isEqualTo(128);
+              assertThat(dispatcher.getOverflowPolicy()).isEqualTo(OverflowPolicy.SUMMARY);
+            });
+  }
+
+  @Test
+  @DisplayName("기본 설정에서는 AsyncLogDispatcher 가 등록되지 않는다")
+  void asyncDisabledByDefault() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(AsyncLogDispatcher.class));
+  }
+
+  @Test
+  @DisplayName("sampling.enabled=true 이면 경로별 SamplingPolicy 와 LogSampler, 메트릭 바인더가 등록된다")
+  void samplingEnabled() {
+    contextRunner
+        .withPropertyValues(
+            "athenhub.logging.mvc.sampling.enabled=true",
+            "athenhub.logging.mvc.sampling.rate=0.1",
+            "athenhub.logging.mvc.sampling.endpoints[0].pattern=/api/orders/**",
+            "athenhub.logging.mvc.sampling.endpoints[0].max-per-second=50")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(LogSampler.class);
+              assertThat(context).hasSingleBean(LogSamplerMetrics.class);
+              assertThat(context.getBean(SamplingPolicy.class))
+                  .isInstanceOf(EndpointSamplingPolicy.class);
+            });
+  }
+
+  @Test
+  @DisplayName("기본 설정에서는 LogSampler 가 등록되지 않는다")
+  void samplingDisabledByDefault() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(LogSampler.class));
+  }
+
+  @Test
+  @DisplayName("latency.enabled=true 이면 LatencyRecorder 와 요약 리포터, 노출된 Actuator 엔드포인트가 등록된다")
+  void latencyEnabled() {
+    contextRunner
+        .withPropertyValues(
+            "athenhub.logging.mvc.latency.enabled=true",
+            "management.endpoints.web.exposure.include=latency")
+        .run(
+            context -> {
+              assertThat(context).hasSingleBean(LatencyRecorder.class);
+              assertThat(context).hasSingleBean(LatencySummaryReporter.class);
+              assertThat(context).hasSingleBean(LatencyEndpoint.class);
+            });
+  }
+
+  @Test
+  @DisplayName("기본 설정에서는 LatencyRecorder 가 등록되지 않는다")
+  void latencyDisabledByDefault() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(LatencyRecorder.class));
+  }
 }
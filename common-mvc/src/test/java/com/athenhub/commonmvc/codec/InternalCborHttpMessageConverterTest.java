@@ -0,0 +1,82 @@
+package com.athenhub.commonmvc.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class InternalCborHttpMessageConverterTest {
+
+  private final InternalCborHttpMessageConverter converter =
+      new InternalCborHttpMessageConverter(
+          new ObjectMapper(new CBORFactory()), List.of("/internal/"));
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("내부 호출 경로의 요청에서는 CBOR 본문을 읽고 쓴다")
+  void allowInternalPath() {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/app/internal/orders");
+    request.setContextPath("/app");
+    bind(request);
+
+    assertThat(converter.canRead(Map.class, MediaType.APPLICATION_CBOR)).isTrue();
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isTrue();
+    assertThat(converter.canWrite(Map.class, Map.class, MediaType.APPLICATION_CBOR)).isTrue();
+  }
+
+  @Test
+  @DisplayName("외부 경로의 요청은 application/cbor 를 요청해도 CBOR 를 사용하지 않는다")
+  void rejectExternalPath() {
+    bind(new MockHttpServletRequest("POST", "/api/orders"));
+
+    assertThat(converter.canRead(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+    assertThat(converter.canRead(Map.class, null, MediaType.APPLICATION_CBOR)).isFalse();
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+    assertThat(converter.canWrite(Map.class, Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+  }
+
+  @Test
+  @DisplayName("인코딩되거나 경로 파라미터가 붙은 경로는 Spring MVC 와 같이 디코딩한 경로로 판단한다")
+  void matchDecodedPathWithoutPathParameters() {
+    bind(new MockHttpServletRequest("POST", "/%69nternal/orders"));
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isTrue();
+
+    bind(new MockHttpServletRequest("POST", "/internal;v=1/orders"));
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isTrue();
+  }
+
+  @Test
+  @DisplayName("경로 파라미터나 인코딩으로 내부 경로 밖을 가리키는 요청은 CBOR 를 사용하지 않는다")
+  void rejectDotSegmentEscape() {
+    bind(new MockHttpServletRequest("POST", "/internal/..;/public"));
+    assertThat(converter.canRead(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+
+    bind(new MockHttpServletRequest("POST", "/internal/%2e%2e/public"));
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+  }
+
+  @Test
+  @DisplayName("요청 컨텍스트가 없으면 CBOR 를 사용하지 않는다")
+  void rejectWithoutRequest() {
+    assertThat(converter.canRead(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+    assertThat(converter.canWrite(Map.class, MediaType.APPLICATION_CBOR)).isFalse();
+  }
+
+  private static void bind(MockHttpServletRequest request) {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+}
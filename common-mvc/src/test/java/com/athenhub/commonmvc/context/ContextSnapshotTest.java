@@ -0,0 +1,88 @@
+package com.athenhub.commonmvc.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.logging.MdcUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ContextSnapshotTest {
+
+  @AfterEach
+  void tearDown() {
+    MdcUtils.clear();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("전파할 컨텍스트가 없으면 작업을 감싸지 않는다")
+  void emptySnapshotReturnsOriginalTask() {
+    Runnable task = () -> {};
+
+    ContextSnapshot snapshot = ContextSnapshot.capture();
+
+    assertThat(snapshot.isEmpty()).isTrue();
+    assertThat(snapshot.wrap(task)).isSameAs(task);
+  }
+
+  @Test
+  @DisplayName("제출 시점의 MDC와 인증 정보를 실행 스레드에 복원하고 종료 후 정리한다")
+  void propagatesMdcAndSecurityContext() throws Exception {
+    Authentication authentication = new TestingAuthenticationToken("user", null, "ROLE_USER");
+    MdcUtils.setRequestId("req-1");
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    AtomicReference<String> requestId = new AtomicReference<>();
+    AtomicReference<Authentication> propagated = new AtomicReference<>();
+    AtomicReference<String> leftover = new AtomicReference<>("not-run");
+    try (ExecutorService thread = Executors.newSingleThreadExecutor()) {
+      ContextExecutors.wrap(thread)
+          .submit(
+              () -> {
+                requestId.set(MdcUtils.getRequestId());
+                propagated.set(SecurityContextHolder.getContext().getAuthentication());
+              })
+          .get();
+      thread.submit(() -> leftover.set(MdcUtils.getRequestId())).get();
+    }
+
+    assertThat(requestId.get()).isEqualTo("req-1");
+    assertThat(propagated.get()).isSameAs(authentication);
+    assertThat(leftover.get()).isNull();
+  }
+
+  @Test
+  @DisplayName("스냅샷 범위를 닫으면 실행 스레드의 기존 컨텍스트로 되돌린다")
+  void restoresPreviousContextOnClose() {
+    MdcUtils.setRequestId("req-1");
+    ContextSnapshot snapshot = ContextSnapshot.capture();
+    MdcUtils.setRequestId("req-2");
+
+    try (ContextSnapshot.Scope ignored = snapshot.restore()) {
+      assertThat(MdcUtils.getRequestId()).isEqualTo("req-1");
+    }
+
+    assertThat(MdcUtils.getRequestId()).isEqualTo("req-2");
+  }
+
+  @Test
+  @DisplayName("CompletableFuture 작업에도 요청 ID가 전파된다")
+  void propagatesToCompletableFuture() {
+    MdcUtils.setRequestId("req-1");
+
+    try (ExecutorService executor = ContextExecutors.newVirtualThreadPerTaskExecutor()) {
+      String requestId =
+          CompletableFuture.supplyAsync(MdcUtils::getRequestId, executor).join();
+
+      assertThat(requestId).isEqualTo("req-1");
+    }
+  }
+}
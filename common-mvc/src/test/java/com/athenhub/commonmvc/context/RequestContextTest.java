@@ -0,0 +1,105 @@
+package com.athenhub.commonmvc.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.logging.MdcUtils;
+import com.athenhub.commonmvc.logging.filter.MdcFilter;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestContextTest {
+
+  @AfterEach
+  void tearDown() {
+    MdcUtils.clear();
+  }
+
+  @Test
+  @DisplayName("바인딩 범위를 닫으면 이전 컨텍스트로 되돌린다")
+  void bindAndRestore() {
+    RequestContext outer = RequestContext.start("req-1", null, "user", null, true);
+
+    try (RequestContext.Scope ignored = outer.bind()) {
+      try (RequestContext.Scope nested = outer.withEndpoint("GET /products/{id}").bind()) {
+        assertThat(RequestContext.current().endpoint()).isEqualTo("GET /products/{id}");
+      }
+      assertThat(RequestContext.current()).isSameAs(outer);
+    }
+
+    assertThat(RequestContext.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("MdcUtils는 바인딩된 컨텍스트에서 요청 정보를 파싱 없이 읽는다")
+  void mdcUtilsReadsTypedContext() {
+    UUID uuid = UUID.randomUUID();
+    RequestContext context = RequestContext.start(uuid.toString(), uuid, "user", "42", false);
+
+    try (RequestContext.Scope ignored = context.bind()) {
+      assertThat(MdcUtils.getRequestId()).isEqualTo(uuid.toString());
+      assertThat(MdcUtils.getRequestUuid()).isSameAs(uuid);
+      assertThat(MdcUtils.getRequestUsername()).isEqualTo("user");
+      assertThat(MdcUtils.isLogSampled()).isFalse();
+      assertThat(MDC.get(MdcUtils.REQUEST_ID)).isNull();
+    }
+  }
+
+  @Test
+  @DisplayName("로그 기록 시점에만 요청 정보를 MDC에 반영하고 정리한다")
+  void mirrorOnlyWhileLogging() {
+    RequestContext context = RequestContext.start("req-1", null, "user", null, true);
+
+    try (RequestContext.Scope ignored = context.bind()) {
+      assertThat(MdcUtils.mirrorRequestContext()).isTrue();
+      assertThat(MDC.get(MdcUtils.REQUEST_ID)).isEqualTo("req-1");
+      assertThat(MdcUtils.mirrorRequestContext()).isFalse();
+      MdcUtils.removeMirroredContext();
+    }
+
+    assertThat(MDC.get(MdcUtils.REQUEST_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("제한 시간이 없으면 만료되지 않고, 지정하면 남은 시간을 계산한다")
+  void timeout() {
+    RequestContext context = RequestContext.start("req-1", null, "user", null, true);
+
+    assertThat(context.isExpired()).isFalse();
+    assertThat(context.withTimeout(Duration.ZERO.minusNanos(1)).isExpired()).isTrue();
+    assertThat(context.withTimeout(Duration.ofMinutes(1)).remainingNanos()).isPositive();
+  }
+
+  @Test
+  @DisplayName("MDC 반영을 미루면 필터는 요청 컨텍스트만 바인딩하고 요청 후 해제한다")
+  void lazyMdcFilterBindsContextOnly() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+    request.addHeader("X-Username", "user");
+    request.addHeader("X-User-Id", "42");
+    AtomicReference<RequestContext> captured = new AtomicReference<>();
+    AtomicReference<String> mdcRequestId = new AtomicReference<>("not-run");
+
+    MdcFilter.builder()
+        .eagerMdc(false)
+        .build()
+        .doFilter(
+            request,
+            new MockHttpServletResponse(),
+            (req, res) -> {
+              captured.set(RequestContext.current());
+              mdcRequestId.set(MDC.get(MdcUtils.REQUEST_ID));
+            });
+
+    assertThat(captured.get().username()).isEqualTo("user");
+    assertThat(captured.get().userId()).isEqualTo("42");
+    assertThat(captured.get().requestUuid().toString()).isEqualTo(captured.get().requestId());
+    assertThat(mdcRequestId.get()).isNull();
+    assertThat(RequestContext.current()).isNull();
+  }
+}
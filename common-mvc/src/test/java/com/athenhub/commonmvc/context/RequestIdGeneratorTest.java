@@ -0,0 +1,33 @@
+package com.athenhub.commonmvc.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestIdGeneratorTest {
+
+  @Test
+  @DisplayName("UUIDv7 생성기는 버전 7, RFC 변형, 현재 시각 타임스탬프를 가진 UUID를 생성한다")
+  void uuidV7Layout() {
+    long before = System.currentTimeMillis();
+    UUID uuid = RequestIdGenerator.uuidV7().generate();
+    long after = System.currentTimeMillis();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after);
+    assertThat(UUID.fromString(uuid.toString())).isEqualTo(uuid);
+  }
+
+  @Test
+  @DisplayName("UUIDv7 은 생성 시각 순서대로 정렬된다")
+  void uuidV7IsTimeOrdered() throws InterruptedException {
+    UUID first = RequestIdGenerator.uuidV7().generate();
+    Thread.sleep(2);
+    UUID second = RequestIdGenerator.uuidV7().generate();
+
+    assertThat(first.toString()).isLessThan(second.toString());
+  }
+}
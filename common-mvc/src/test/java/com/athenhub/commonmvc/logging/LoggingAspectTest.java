@@ -1,18 +1,41 @@
 package com.athenhub.commonmvc.logging;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.athenhub.commonmvc.logging.adaptive.AdaptiveLoggingController;
+import com.athenhub.commonmvc.logging.adaptive.LogDetail;
+import com.athenhub.commonmvc.logging.latency.LatencyRecorder;
+import com.athenhub.commonmvc.logging.traffic.TrafficRecorder;
+import com.athenhub.commonmvc.logging.traffic.TrafficSnapshot;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 class LoggingAspectTest {
+  @AfterEach
+  void tearDown() {
+    MdcUtils.clear();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
   @Test
   void logController_shouldCallLogManagerEntryAndExit() throws Throwable {
     LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
 
     ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
     MethodSignature signature = mock(MethodSignature.class);
@@ -29,4 +52,225 @@ class LoggingAspectTest {
     verify(logManager).logControllerEntry(any(), any(), any(), any());
     verify(logManager).logControllerExit(any(), any(), any(), any());
   }
+
+  @Test
+  void logExecution_shouldComputeMethodDescriptorOnlyOnce() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getMethod()).thenReturn(Object.class.getMethod("toString"));
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestService");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {"id"});
+    when(pjp.getArgs()).thenReturn(new Object[] {1L});
+    when(pjp.proceed()).thenReturn("result");
+
+    LoggingAspect aspect = new LoggingAspect(logManager);
+    aspect.logExecution(pjp);
+    aspect.logExecution(pjp);
+
+    verify(signature, times(1)).getParameterNames();
+    verify(logManager, times(2)).logMethodEntry("TestService.testMethod", ", Params: {id: 1}");
+    verify(logManager, times(2)).logMethodExit("TestService.testMethod", "\"result\"");
+  }
+
+  @Test
+  void logController_shouldSkipRenderingWhenInfoDisabled() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(false);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    when(pjp.proceed()).thenReturn("result");
+
+    LoggingAspect aspect = new LoggingAspect(logManager);
+    Object result = aspect.logController(pjp);
+
+    assertThat(result).isEqualTo("result");
+    verify(logManager, never()).logControllerEntry(any(), any(), any(), any());
+    verify(logManager, never()).logControllerExit(any(), any(), any(), any());
+    verify(pjp, never()).getArgs();
+    verify(pjp, never()).getSignature();
+  }
+
+  @Test
+  void logController_shouldSkipLoggingWhenSampledOut() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+    MdcUtils.setLogSampled(false);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    when(pjp.proceed()).thenReturn("result");
+
+    LoggingAspect aspect = new LoggingAspect(logManager);
+    Object result = aspect.logController(pjp);
+
+    assertThat(result).isEqualTo("result");
+    verify(logManager, never()).logControllerEntry(any(), any(), any(), any());
+    verify(logManager, never()).logControllerExit(any(), any(), any(), any());
+    verify(pjp, never()).getSignature();
+  }
+
+  @Test
+  void logExecution_shouldLogEntryWhenSampledOutCallFails() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+    MdcUtils.setLogSampled(false);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestService");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {"id"});
+    when(pjp.getArgs()).thenReturn(new Object[] {1L});
+    when(pjp.proceed()).thenThrow(new IllegalStateException("boom"));
+
+    LoggingAspect aspect = new LoggingAspect(logManager);
+
+    assertThatThrownBy(() -> aspect.logExecution(pjp)).isInstanceOf(IllegalStateException.class);
+    verify(logManager).logMethodEntry("TestService.testMethod", ", Params: {id: 1}");
+    verify(logManager)
+        .logMethodFailure("TestService.testMethod", "java.lang.IllegalStateException: boom");
+    verify(logManager, never()).logMethodExit(any(), any());
+  }
+
+  @Test
+  void logController_shouldRecordLatencyAndFailureLogWhenControllerThrows() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+    LatencyRecorder latencyRecorder = mock(LatencyRecorder.class);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestController");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {});
+    when(pjp.getArgs()).thenReturn(new Object[] {});
+    when(pjp.proceed()).thenThrow(new IllegalStateException("boom"));
+
+    LoggingAspect aspect =
+        LoggingAspect.builder(logManager).latencyRecorder(latencyRecorder).build();
+
+    assertThatThrownBy(() -> aspect.logController(pjp)).isInstanceOf(IllegalStateException.class);
+    verify(logManager).logControllerEntry(any(), any(), any(), any());
+    verify(logManager)
+        .logControllerFailure(
+            any(),
+            any(),
+            eq("TestController.testMethod"),
+            eq("java.lang.IllegalStateException: boom"));
+    verify(logManager, never()).logControllerExit(any(), any(), any(), any());
+    verify(latencyRecorder).record(eq("TestController.testMethod"), anyLong(), eq(true));
+  }
+
+  @Test
+  void logController_shouldUseMatchedRoutePatternForLogAndLatencyKey() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+    LatencyRecorder latencyRecorder = mock(LatencyRecorder.class);
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/8f1e");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getMethod()).thenReturn(Object.class.getMethod("toString"));
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestController");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {});
+    when(pjp.getArgs()).thenReturn(new Object[] {});
+    when(pjp.proceed()).thenReturn("result");
+
+    LoggingAspect aspect =
+        LoggingAspect.builder(logManager).latencyRecorder(latencyRecorder).build();
+    aspect.logController(pjp);
+    aspect.logController(pjp);
+
+    verify(logManager, times(2))
+        .logControllerEntry(
+            eq("GET"), eq("/products/{id}"), eq("TestController.testMethod"), any());
+    verify(latencyRecorder, times(2)).record(eq("GET /products/{id}"), anyLong(), eq(false));
+  }
+
+  @Test
+  void logController_shouldFallBackToRequestUriWhenNoPatternMatched() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest("POST", "/raw/path")));
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestController");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {});
+    when(pjp.getArgs()).thenReturn(new Object[] {});
+    when(pjp.proceed()).thenReturn("result");
+
+    new LoggingAspect(logManager).logController(pjp);
+
+    verify(logManager).logControllerEntry(eq("POST"), eq("/raw/path"), any(), any());
+  }
+
+  @Test
+  void logController_shouldCountTrafficEvenWhenInfoDisabled() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(false);
+    TrafficRecorder trafficRecorder = new TrafficRecorder();
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/8f1e");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getMethod()).thenReturn(Object.class.getMethod("toString"));
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestController");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {});
+    when(pjp.proceed()).thenReturn("result").thenThrow(new IllegalStateException("boom"));
+
+    LoggingAspect aspect =
+        LoggingAspect.builder(logManager).trafficRecorder(trafficRecorder).build();
+    aspect.logController(pjp);
+    assertThatThrownBy(() -> aspect.logController(pjp)).isInstanceOf(IllegalStateException.class);
+
+    assertThat(trafficRecorder.snapshot("GET /products/{id}"))
+        .isEqualTo(new TrafficSnapshot(0, 2, 1, 1, 0));
+    verify(logManager, never()).logControllerEntry(any(), any(), any(), any());
+  }
+
+  @Test
+  void logController_shouldOmitParamsAndResultWhenDegradedToIdsOnly() throws Throwable {
+    LogManager logManager = mock(LogManager.class);
+    when(logManager.isInfoEnabled()).thenReturn(true);
+    AdaptiveLoggingController adaptive = mock(AdaptiveLoggingController.class);
+    when(adaptive.current()).thenReturn(LogDetail.IDS_ONLY);
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestController");
+    when(signature.getName()).thenReturn("testMethod");
+    when(signature.getParameterNames()).thenReturn(new String[] {"id"});
+    when(pjp.getArgs()).thenReturn(new Object[] {"p-1"});
+    when(pjp.proceed()).thenReturn("result");
+
+    LoggingAspect.builder(logManager).adaptive(adaptive).build().logController(pjp);
+
+    verify(logManager)
+        .logControllerEntry(
+            any(), any(), eq("TestController.testMethod"), eq(", Params: (omitted)"));
+    verify(logManager)
+        .logControllerExit(
+            any(), any(), eq("TestController.testMethod"), eq("(omitted) java.lang.String"));
+  }
 }
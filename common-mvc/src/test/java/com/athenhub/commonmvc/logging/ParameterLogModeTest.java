@@ -0,0 +1,104 @@
+package com.athenhub.commonmvc.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+class ParameterLogModeTest {
+
+  @SuppressWarnings("unused")
+  static class SampleController {
+    void create(
+        String name,
+        @NoLog String token,
+        @Masked String password,
+        @LogSummary List<String> tags,
+        MultipartFile file,
+        byte[] payload,
+        HttpServletRequest request) {}
+  }
+
+  private static final Method CREATE = SampleController.class.getDeclaredMethods()[0];
+
+  @Test
+  @DisplayName("애노테이션과 타입 기본 규칙으로 파라미터별 출력 방식을 결정한다")
+  void resolveModes() {
+    ParameterLogMode[] modes = ParameterLogMode.resolve(CREATE, CREATE.getParameterCount());
+
+    assertThat(modes)
+        .containsExactly(
+            ParameterLogMode.VALUE,
+            ParameterLogMode.OMIT,
+            ParameterLogMode.MASK,
+            ParameterLogMode.SUMMARY,
+            ParameterLogMode.SUMMARY,
+            ParameterLogMode.SUMMARY,
+            ParameterLogMode.OMIT);
+  }
+
+  @Test
+  @DisplayName("메서드를 알 수 없으면 모든 파라미터 값을 그대로 출력한다")
+  void resolveWithoutMethod() {
+    assertThat(ParameterLogMode.resolve(null, 2))
+        .containsExactly(ParameterLogMode.VALUE, ParameterLogMode.VALUE);
+  }
+
+  @Test
+  @DisplayName("요약 방식은 값 대신 타입과 크기만 출력한다")
+  void renderSummary() {
+    assertThat(ParameterLogMode.SUMMARY.render(new ArrayList<>(List.of("a", "b"))))
+        .isEqualTo("ArrayList(size=2)");
+    assertThat(ParameterLogMode.SUMMARY.render(new byte[1024])).isEqualTo("byte[](size=1024)");
+    assertThat(
+            ParameterLogMode.SUMMARY.render(
+                new MockMultipartFile("file", new byte[] {1, 2, 3})))
+        .isEqualTo("MultipartFile(size=3)");
+    assertThat(ParameterLogMode.SUMMARY.render(null)).isEqualTo("null");
+  }
+
+  @Test
+  @DisplayName("파라미터 로그는 제외 대상을 빼고 마스킹/요약 규칙을 적용한다")
+  void renderParams() {
+    MethodSignature signature = mock(MethodSignature.class);
+    when(signature.getMethod()).thenReturn(CREATE);
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.SampleController");
+    when(signature.getName()).thenReturn("create");
+    when(signature.getParameterNames())
+        .thenReturn(
+            new String[] {"name", "token", "password", "tags", "file", "payload", "request"});
+    MethodLogDescriptor descriptor = MethodLogDescriptor.of(signature);
+    LogManager logManager = mock(LogManager.class);
+
+    new LogEventRenderer(logManager)
+        .render(
+            LogEvent.methodEntry(
+                descriptor,
+                new Object[] {
+                  "book",
+                  "secret-token",
+                  "p@ss",
+                  new ArrayList<>(List.of("a")),
+                  null,
+                  new byte[4],
+                  new MockHttpServletRequest()
+                }));
+
+    verify(logManager)
+        .logMethodEntry(
+            "SampleController.create",
+            ", Params: {name: book, password: ****, tags: ArrayList(size=1),"
+                + " file: null, payload: byte[](size=4)}");
+  }
+}
@@ -0,0 +1,81 @@
+package com.athenhub.commonmvc.logging.adaptive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.logging.adaptive.DegradationPolicy.Threshold;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLoggingControllerTest {
+
+  private static final DegradationPolicy POLICY =
+      new DegradationPolicy(
+          new Threshold(100, 200),
+          Threshold.DISABLED,
+          Threshold.DISABLED,
+          Threshold.DISABLED,
+          2,
+          0.5);
+
+  private final AtomicReference<LoadSample> sample = new AtomicReference<>(inFlight(0));
+  private final AdaptiveLoggingController controller =
+      new AdaptiveLoggingController(sample::get, POLICY, Duration.ofHours(1));
+
+  @AfterEach
+  void tearDown() {
+    controller.close();
+  }
+
+  @Test
+  @DisplayName("부하가 임계 값을 넘으면 즉시 해당 수준으로 낮춘다")
+  void degradeImmediately() {
+    sample.set(inFlight(250));
+    controller.evaluate();
+    assertThat(controller.current()).isEqualTo(LogDetail.IDS_ONLY);
+  }
+
+  @Test
+  @DisplayName("복구는 안정 관측이 연속으로 쌓일 때마다 한 단계씩 이루어진다")
+  void recoverStepByStep() {
+    sample.set(inFlight(250));
+    controller.evaluate();
+
+    sample.set(inFlight(10));
+    controller.evaluate();
+    assertThat(controller.current()).isEqualTo(LogDetail.IDS_ONLY);
+    controller.evaluate();
+    assertThat(controller.current()).isEqualTo(LogDetail.PARAMS_ONLY);
+    controller.evaluate();
+    controller.evaluate();
+    assertThat(controller.current()).isEqualTo(LogDetail.FULL);
+  }
+
+  @Test
+  @DisplayName("임계 값 아래라도 복구 비율을 곱한 값 이상이면 복구하지 않는다")
+  void hysteresis() {
+    sample.set(inFlight(150));
+    controller.evaluate();
+    assertThat(controller.current()).isEqualTo(LogDetail.PARAMS_ONLY);
+
+    sample.set(inFlight(60));
+    for (int i = 0; i < 5; i++) {
+      controller.evaluate();
+    }
+    assertThat(controller.current()).isEqualTo(LogDetail.PARAMS_ONLY);
+  }
+
+  @Test
+  @DisplayName("관측할 수 없는 신호는 수준 결정에 사용하지 않는다")
+  void ignoreUnavailableSignal() {
+    sample.set(inFlight(Double.NaN));
+    controller.evaluate();
+    assertThat(controller.current()).isEqualTo(LogDetail.FULL);
+  }
+
+  private static LoadSample inFlight(double inFlight) {
+    return new LoadSample(inFlight, Double.NaN, Double.NaN, Double.NaN);
+  }
+}
@@ -0,0 +1,157 @@
+package com.athenhub.commonmvc.logging.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.LogEventRenderer;
+import com.athenhub.commonmvc.logging.MdcUtils;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncLogDispatcherTest {
+
+  private static final MethodLogDescriptor DESCRIPTOR =
+      new MethodLogDescriptor("Service", "call", "Service.call", new String[0], 0);
+
+  @AfterEach
+  void tearDown() {
+    MdcUtils.clear();
+  }
+
+  @Test
+  @DisplayName("writer 스레드에서 이벤트에 캡처된 MDC 값으로 렌더링한다")
+  void dispatch_shouldRenderOnWriterThreadWithCapturedMdc() throws Exception {
+    LogEventRenderer renderer = mock(LogEventRenderer.class);
+    AtomicReference<String> renderedRequestId = new AtomicReference<>();
+    AtomicReference<String> renderedThread = new AtomicReference<>();
+    CountDownLatch rendered = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              renderedRequestId.set(MdcUtils.getRequestId());
+              renderedThread.set(Thread.currentThread().getName());
+              rendered.countDown();
+              return null;
+            })
+        .when(renderer)
+        .render(any());
+
+    MdcUtils.setRequestId("req-1");
+    LogEvent event = LogEvent.methodExit(DESCRIPTOR, "ok");
+
+    try (AsyncLogDispatcher dispatcher =
+        new AsyncLogDispatcher(renderer, 16, OverflowPolicy.DROP)) {
+      dispatcher.dispatch(event);
+
+      assertThat(rendered.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(renderedRequestId.get()).isEqualTo("req-1");
+      assertThat(renderedThread.get()).isEqualTo("athenhub-log-writer");
+    }
+  }
+
+  @Test
+  @DisplayName("DROP 정책은 버퍼가 가득 차면 이벤트를 버리고 카운트한다")
+  void dropPolicy_shouldCountDroppedEvents() {
+    CountDownLatch release = new CountDownLatch(1);
+    LogEventRenderer renderer = blockingRenderer(release);
+
+    AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(renderer, 2, OverflowPolicy.DROP);
+    for (int i = 0; i < 10; i++) {
+      dispatcher.dispatch(LogEvent.methodExit(DESCRIPTOR, i));
+    }
+
+    // writer 가 처리 중인 1건 + 버퍼 2건을 제외한 나머지는 버려진다
+    assertThat(dispatcher.getDroppedCount()).isGreaterThanOrEqualTo(7);
+
+    release.countDown();
+    dispatcher.close();
+  }
+
+  @Test
+  @DisplayName("SUMMARY 정책은 버퍼가 가득 차면 요약 로그를 호출 스레드에서 기록한다")
+  void summaryPolicy_shouldRenderSummaryOnCaller() {
+    CountDownLatch release = new CountDownLatch(1);
+    LogEventRenderer renderer = blockingRenderer(release);
+
+    AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(renderer, 2, OverflowPolicy.SUMMARY);
+    for (int i = 0; i < 10; i++) {
+      dispatcher.dispatch(LogEvent.methodExit(DESCRIPTOR, i));
+    }
+
+    long degraded = dispatcher.getDegradedCount();
+    assertThat(degraded).isGreaterThanOrEqualTo(7);
+    assertThat(dispatcher.getDroppedCount()).isZero();
+    verify(renderer, times((int) degraded)).renderSummary(any());
+
+    release.countDown();
+    dispatcher.close();
+  }
+
+  @Test
+  @DisplayName("close 시 버퍼에 남은 이벤트를 모두 기록한다")
+  void close_shouldDrainRemainingEvents() {
+    LogEventRenderer renderer = mock(LogEventRenderer.class);
+    AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(renderer, 64, OverflowPolicy.BLOCK);
+
+    for (int i = 0; i < 50; i++) {
+      dispatcher.dispatch(LogEvent.methodExit(DESCRIPTOR, i));
+    }
+    dispatcher.close();
+
+    verify(renderer, times(50)).render(any());
+    assertThat(dispatcher.getProcessedCount()).isEqualTo(50);
+    assertThat(dispatcher.getQueueDepth()).isZero();
+  }
+
+  @Test
+  @DisplayName("writer 종료 대기가 시간 초과되어도 버퍼에 남은 이벤트를 호출 스레드에서 기록한다")
+  void close_shouldDrainLeftoversOnCallerAfterJoinTimeout() {
+    CountDownLatch release = new CountDownLatch(1);
+    LogEventRenderer renderer = mock(LogEventRenderer.class);
+    doAnswer(
+            invocation -> {
+              if (Thread.currentThread().getName().equals("athenhub-log-writer")) {
+                release.await(5, TimeUnit.SECONDS);
+              }
+              return null;
+            })
+        .when(renderer)
+        .render(any());
+
+    AsyncLogDispatcher dispatcher =
+        new AsyncLogDispatcher(renderer, 16, OverflowPolicy.BLOCK, 100);
+    for (int i = 0; i < 5; i++) {
+      dispatcher.dispatch(LogEvent.methodExit(DESCRIPTOR, i));
+    }
+    MdcUtils.setRequestId("caller");
+    dispatcher.close();
+
+    // writer 가 붙잡고 있는 1건을 제외한 나머지는 close 호출 스레드가 기록한다
+    verify(renderer, times(5)).render(any());
+    assertThat(dispatcher.getQueueDepth()).isZero();
+    assertThat(MdcUtils.getRequestId()).isEqualTo("caller");
+
+    release.countDown();
+  }
+
+  private LogEventRenderer blockingRenderer(CountDownLatch release) {
+    LogEventRenderer renderer = mock(LogEventRenderer.class);
+    doAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(renderer)
+        .render(any());
+    return renderer;
+  }
+}
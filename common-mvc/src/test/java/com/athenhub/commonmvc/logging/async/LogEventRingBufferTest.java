@@ -0,0 +1,40 @@
+package com.athenhub.commonmvc.logging.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogEventRingBufferTest {
+
+  private static final MethodLogDescriptor DESCRIPTOR =
+      new MethodLogDescriptor("Service", "call", "Service.call", new String[0], 0);
+
+  @Test
+  @DisplayName("용량은 2의 거듭제곱으로 올림된다")
+  void capacity_shouldRoundUpToPowerOfTwo() {
+    assertThat(new LogEventRingBuffer(1).capacity()).isEqualTo(2);
+    assertThat(new LogEventRingBuffer(5).capacity()).isEqualTo(8);
+    assertThat(new LogEventRingBuffer(8).capacity()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("가득 찬 버퍼는 offer에 실패하고, 꺼낸 순서는 넣은 순서와 같다")
+  void offerAndPoll_shouldBeFifoAndBounded() {
+    LogEventRingBuffer buffer = new LogEventRingBuffer(2);
+    LogEvent first = LogEvent.methodExit(DESCRIPTOR, 1);
+    LogEvent second = LogEvent.methodExit(DESCRIPTOR, 2);
+
+    assertThat(buffer.offer(first)).isTrue();
+    assertThat(buffer.offer(second)).isTrue();
+    assertThat(buffer.offer(LogEvent.methodExit(DESCRIPTOR, 3))).isFalse();
+    assertThat(buffer.size()).isEqualTo(2);
+
+    assertThat(buffer.poll()).isSameAs(first);
+    assertThat(buffer.poll()).isSameAs(second);
+    assertThat(buffer.poll()).isNull();
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,121 @@
+package com.athenhub.commonmvc.logging.capture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+import com.athenhub.commonutils.gson.GsonUtils;
+import jakarta.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ResponseBodyCaptureFilterTest {
+
+  private final List<LogEvent> published = new ArrayList<>();
+
+  @Test
+  @DisplayName("보류된 종료 로그는 응답에 실제로 쓰인 본문을 결과로 기록한다")
+  void publishCapturedBody() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter(
+        16,
+        response,
+        (req, res) -> {
+          deferExit((MockHttpServletRequest) req, Map.of("id", 1));
+          res.setContentType("application/json");
+          res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        });
+
+    assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    assertThat(published).singleElement().satisfies(event -> assertText(event, "{\"id\":1}"));
+  }
+
+  @Test
+  @DisplayName("캡처 한도를 넘은 본문은 잘라서 기록하되 응답은 그대로 전송한다")
+  void truncateLongBody() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    String body = "가나다라마바사아자차";
+
+    filter(
+        9,
+        response,
+        (req, res) -> {
+          deferExit((MockHttpServletRequest) req, body);
+          res.setContentType("text/plain;charset=UTF-8");
+          res.getWriter().write(body);
+        });
+
+    assertThat(response.getContentAsString()).isEqualTo(body);
+    assertThat(published)
+        .singleElement()
+        .satisfies(event -> assertText(event, "가나다" + GsonUtils.TRUNCATED_MARKER));
+  }
+
+  @Test
+  @DisplayName("텍스트 형식이 아닌 본문은 Content-Type과 크기만 기록한다")
+  void summarizeBinaryBody() throws Exception {
+    filter(
+        16,
+        new MockHttpServletResponse(),
+        (req, res) -> {
+          deferExit((MockHttpServletRequest) req, new byte[0]);
+          res.setContentType("image/png");
+          res.getOutputStream().write(new byte[100]);
+        });
+
+    assertThat(published)
+        .singleElement()
+        .satisfies(event -> assertText(event, "(image/png, 100 bytes)"));
+  }
+
+  @Test
+  @DisplayName("종료 로그가 보류되지 않은 요청은 아무것도 기록하지 않는다")
+  void nothingDeferred() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+
+    new ResponseBodyCaptureFilter(16)
+        .doFilter(
+            request,
+            new MockHttpServletResponse(),
+            (req, res) -> res.getWriter().write("ok"));
+
+    assertThat(published).isEmpty();
+    assertThat(request.getAttribute(ResponseBodyCapture.ATTRIBUTE)).isNull();
+  }
+
+  private void filter(int maxBytes, MockHttpServletResponse response, FilterChain chain)
+      throws Exception {
+    new ResponseBodyCaptureFilter(maxBytes).doFilter(new MockHttpServletRequest(), response, chain);
+  }
+
+  private void deferExit(MockHttpServletRequest request, Object result) {
+    ResponseBodyCapture capture = ResponseBodyCapture.from(request);
+    assertThat(capture).isNotNull();
+    capture.defer(
+        LogEvent.controllerExit("GET", "/items/{id}", descriptor(), result), published::add);
+  }
+
+  private static void assertText(LogEvent event, String expected) {
+    assertThat(event.type()).isEqualTo(LogEvent.Type.CONTROLLER_EXIT);
+    assertThat(event.result()).isInstanceOf(CapturedResponseBody.class);
+    assertThat(((CapturedResponseBody) event.result()).text()).isEqualTo(expected);
+  }
+
+  private static MethodLogDescriptor descriptor() {
+    MethodSignature signature = mock(MethodSignature.class);
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.ItemController");
+    when(signature.getName()).thenReturn("find");
+    when(signature.getParameterNames()).thenReturn(new String[0]);
+    return MethodLogDescriptor.of(signature);
+  }
+}
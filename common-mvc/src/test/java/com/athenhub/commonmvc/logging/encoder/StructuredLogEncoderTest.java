@@ -0,0 +1,75 @@
+package com.athenhub.commonmvc.logging.encoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.logging.LogEvent;
+import com.athenhub.commonmvc.logging.MethodLogDescriptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StructuredLogEncoderTest {
+
+  private static final MethodLogDescriptor DESCRIPTOR =
+      new MethodLogDescriptor(
+          "OrderController", "create", "OrderController.create", new String[] {"name", "memo"}, 0);
+
+  private final LogEvent entry =
+      new LogEvent(
+          LogEvent.Type.CONTROLLER_ENTRY,
+          "POST",
+          "/api/orders",
+          DESCRIPTOR,
+          new Object[] {"book", "say \"hi\"\n"},
+          null,
+          null,
+          "req-1",
+          "user");
+
+  @Test
+  @DisplayName("JSON 인코더는 null 필드를 생략하고 문자열 값을 이스케이프한다")
+  void encodeJson() {
+    StringBuilder out = new StringBuilder();
+
+    StructuredLogEncoder.of(LogFormat.JSON).encode(entry, null, out);
+
+    assertThat(out)
+        .hasToString(
+            "{\"event\":\"controller_entry\",\"requestId\":\"req-1\",\"username\":\"user\","
+                + "\"httpMethod\":\"POST\",\"uri\":\"/api/orders\","
+                + "\"method\":\"OrderController.create\","
+                + "\"params\":{\"name\":\"book\",\"memo\":\"say \\\"hi\\\"\\n\"}}");
+  }
+
+  @Test
+  @DisplayName("logfmt 인코더는 공백/따옴표가 포함된 값만 따옴표로 감싼다")
+  void encodeLogfmt() {
+    StringBuilder out = new StringBuilder();
+    LogEvent exit = LogEvent.controllerExit("GET", "/api/orders/1", DESCRIPTOR, null);
+
+    StructuredLogEncoder.of(LogFormat.LOGFMT).encode(entry, null, out);
+    assertThat(out)
+        .hasToString(
+            "event=controller_entry requestId=req-1 username=user httpMethod=POST"
+                + " uri=/api/orders method=OrderController.create"
+                + " params.name=book params.memo=\"say \\\"hi\\\"\\n\"");
+
+    out.setLength(0);
+    StructuredLogEncoder.of(LogFormat.LOGFMT).encode(exit, "{\"id\":1}", out);
+    assertThat(out.toString())
+        .startsWith("event=controller_exit")
+        .endsWith(" method=OrderController.create result=\"{\\\"id\\\":1}\"");
+  }
+
+  @Test
+  @DisplayName("버퍼 풀은 같은 스레드에서 반납한 버퍼를 비운 상태로 재사용한다")
+  void reuseBuffer() {
+    LogBufferPool pool = new LogBufferPool(1);
+
+    StringBuilder first = pool.acquire();
+    first.append("log");
+    pool.release(first);
+    StringBuilder second = pool.acquire();
+
+    assertThat(second).isSameAs(first).isEmpty();
+  }
+}
@@ -0,0 +1,120 @@
+package com.athenhub.commonmvc.logging.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.context.RequestContext;
+import com.athenhub.commonmvc.context.RequestIdGenerator;
+import com.athenhub.commonmvc.logging.MdcUtils;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class MdcFilterTest {
+
+  private static final UUID GENERATED = UUID.fromString("0190a6f2-3c4d-7e5f-8a6b-7c8d9e0f1a2b");
+
+  private final MdcFilter filter =
+      MdcFilter.builder()
+          .requestIdGenerator(() -> GENERATED)
+          .requestIdHeader("X-Request-Id")
+          .build();
+
+  @Test
+  @DisplayName("요청 ID 헤더가 없으면 생성기로 새 요청 ID를 만든다")
+  void generateRequestId() throws Exception {
+    RequestContext context = filter(new MockHttpServletRequest());
+
+    assertThat(context.requestUuid()).isSameAs(GENERATED);
+    assertThat(context.requestId()).isEqualTo(GENERATED.toString());
+  }
+
+  @Test
+  @DisplayName("게이트웨이가 전달한 UUID 요청 ID를 재사용한다")
+  void reuseIncomingUuid() throws Exception {
+    UUID incoming = UUID.randomUUID();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-Request-Id", incoming.toString());
+
+    RequestContext context = filter(request);
+
+    assertThat(context.requestId()).isEqualTo(incoming.toString());
+    assertThat(context.requestUuid()).isEqualTo(incoming);
+  }
+
+  @Test
+  @DisplayName("UUID 형식이 아닌 요청 ID도 재사용하되 UUID 값은 비워 둔다")
+  void reuseIncomingOpaqueId() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-Request-Id", "gw-20250101.abc:1");
+
+    RequestContext context = filter(request);
+
+    assertThat(context.requestId()).isEqualTo("gw-20250101.abc:1");
+    assertThat(context.requestUuid()).isNull();
+  }
+
+  @Test
+  @DisplayName("MDC만 전파된 스레드에서도 UUID 형식이 아닌 요청 ID의 UUID 조회는 예외 없이 null을 반환한다")
+  void opaqueIdWithoutRequestContext() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-Request-Id", "gw-20250101.abc:1");
+    AtomicReference<Map<String, String>> propagated = new AtomicReference<>();
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> propagated.set(MdcUtils.getContextMap()));
+
+    MdcUtils.setContextMap(propagated.get());
+    try {
+      assertThat(RequestContext.current()).isNull();
+      assertThat(MdcUtils.getRequestId()).isEqualTo("gw-20250101.abc:1");
+      assertThat(MdcUtils.getRequestUuid()).isNull();
+    } finally {
+      MdcUtils.clear();
+    }
+  }
+
+  @Test
+  @DisplayName("허용되지 않은 문자나 길이의 요청 ID는 무시하고 새로 생성한다")
+  void rejectInvalidIncomingId() throws Exception {
+    MockHttpServletRequest injected = new MockHttpServletRequest();
+    injected.addHeader("X-Request-Id", "abc\nFAKE LOG LINE");
+    MockHttpServletRequest tooLong = new MockHttpServletRequest();
+    tooLong.addHeader("X-Request-Id", "a".repeat(65));
+
+    assertThat(filter(injected).requestUuid()).isSameAs(GENERATED);
+    assertThat(filter(tooLong).requestUuid()).isSameAs(GENERATED);
+  }
+
+  @Test
+  @DisplayName("신뢰하는 헤더를 지정하지 않으면 요청 ID 헤더를 무시한다")
+  void ignoreIncomingIdWithoutTrustedHeader() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-Request-Id", "gw-1");
+    MdcFilter untrusted =
+        MdcFilter.builder().requestIdGenerator(RequestIdGenerator.uuidV7()).build();
+    AtomicReference<RequestContext> captured = new AtomicReference<>();
+
+    untrusted.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> captured.set(RequestContext.current()));
+
+    assertThat(captured.get().requestId()).isNotEqualTo("gw-1");
+    assertThat(captured.get().requestUuid().version()).isEqualTo(7);
+  }
+
+  private RequestContext filter(MockHttpServletRequest request) throws Exception {
+    AtomicReference<RequestContext> captured = new AtomicReference<>();
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> captured.set(RequestContext.current()));
+    return captured.get();
+  }
+}
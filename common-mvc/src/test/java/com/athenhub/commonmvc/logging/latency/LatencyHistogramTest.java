@@ -0,0 +1,72 @@
+package com.athenhub.commonmvc.logging.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  private final AtomicLong now = new AtomicLong(0L);
+  private final LatencyHistogram histogram =
+      new LatencyHistogram(Duration.ofSeconds(60), 6, now::get);
+
+  @Test
+  @DisplayName("버킷 번호는 연속적이며 각 값은 자신이 속한 버킷 상한 이하이고 상대 오차는 1/8 미만이다")
+  void bucketBoundaries() {
+    for (long micros = 0; micros < 100_000; micros++) {
+      int index = LatencyHistogram.bucketIndex(micros);
+      long upper = LatencyHistogram.bucketUpperBound(index);
+
+      assertThat(upper).isGreaterThanOrEqualTo(micros);
+      assertThat(upper - micros).isLessThanOrEqualTo(Math.max(0, micros / 8));
+      if (micros > 0) {
+        assertThat(index - LatencyHistogram.bucketIndex(micros - 1)).isBetween(0, 1);
+      }
+    }
+    assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_TRACKABLE_MICROS))
+        .isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+  }
+
+  @Test
+  @DisplayName("기록된 값으로 백분위와 최대값, 실패 건수를 계산한다")
+  void percentiles() {
+    for (int millis = 1; millis <= 100; millis++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(millis), millis > 95);
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+
+    assertThat(snapshot.count()).isEqualTo(100);
+    assertThat(snapshot.failureCount()).isEqualTo(5);
+    assertThat(snapshot.p50()).isCloseTo(50.0, within(50.0 * 0.07));
+    assertThat(snapshot.p90()).isCloseTo(90.0, within(90.0 * 0.07));
+    assertThat(snapshot.p99()).isCloseTo(99.0, within(99.0 * 0.07));
+    assertThat(snapshot.max()).isEqualTo(100.0);
+  }
+
+  @Test
+  @DisplayName("집계 구간이 지난 기록은 통계에서 제외된다")
+  void rollingWindow() {
+    histogram.record(TimeUnit.SECONDS.toNanos(5), false);
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(10), false);
+    assertThat(histogram.snapshot().count()).isEqualTo(2);
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(40));
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.count()).isEqualTo(1);
+    assertThat(snapshot.max()).isEqualTo(10.0);
+  }
+
+  @Test
+  @DisplayName("기록이 없으면 모든 값이 0이다")
+  void emptySnapshot() {
+    assertThat(histogram.snapshot()).isEqualTo(new LatencySnapshot(0, 0, 0.0, 0.0, 0.0, 0.0));
+  }
+}
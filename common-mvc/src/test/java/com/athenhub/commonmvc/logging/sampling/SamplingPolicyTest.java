@@ -0,0 +1,72 @@
+package com.athenhub.commonmvc.logging.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class SamplingPolicyTest {
+
+  private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+
+  @Test
+  @DisplayName("비율 1.0은 모든 요청을, 0.0은 어떤 요청도 기록하지 않는다")
+  void rateBoundaries() {
+    assertThat(SamplingPolicy.rate(1.0).sample(request)).isTrue();
+    assertThat(SamplingPolicy.rate(0.0).sample(request)).isFalse();
+  }
+
+  @Test
+  @DisplayName("0.0 ~ 1.0 범위를 벗어난 비율은 IllegalArgumentException 발생")
+  void rejectInvalidRate() {
+    assertThatThrownBy(() -> SamplingPolicy.rate(1.5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("토큰 버킷은 초당 허용량을 넘는 요청을 제외하고 시간이 지나면 다시 허용한다")
+  void tokenBucketLimitsPerSecond() {
+    AtomicLong now = new AtomicLong(0L);
+    TokenBucketSamplingPolicy policy = new TokenBucketSamplingPolicy(2.0, now::get);
+
+    assertThat(policy.sample(request)).isTrue();
+    assertThat(policy.sample(request)).isTrue();
+    assertThat(policy.sample(request)).isFalse();
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(policy.sample(request)).isTrue();
+    assertThat(policy.sample(request)).isFalse();
+  }
+
+  @Test
+  @DisplayName("경로별 정책은 처음 일치한 규칙을 사용하고, 일치하지 않으면 기본 정책을 사용한다")
+  void endpointRules() {
+    EndpointSamplingPolicy policy =
+        new EndpointSamplingPolicy(
+            List.of(
+                EndpointSamplingPolicy.Rule.of("/api/orders/**", SamplingPolicy.rate(1.0)),
+                EndpointSamplingPolicy.Rule.of("/api/**", SamplingPolicy.rate(0.0))),
+            SamplingPolicy.rate(0.0));
+
+    assertThat(policy.sample(new MockHttpServletRequest("GET", "/api/orders/1"))).isTrue();
+    assertThat(policy.sample(new MockHttpServletRequest("GET", "/api/members"))).isFalse();
+    assertThat(policy.sample(new MockHttpServletRequest("GET", "/health"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("LogSampler는 샘플링된 요청 수와 제외된 요청 수를 집계한다")
+  void samplerCountsDecisions() {
+    LogSampler sampler = new LogSampler(SamplingPolicy.rate(0.0));
+
+    sampler.decide(request);
+    sampler.decide(request);
+
+    assertThat(sampler.getSampledCount()).isZero();
+    assertThat(sampler.getSampledOutCount()).isEqualTo(2);
+  }
+}
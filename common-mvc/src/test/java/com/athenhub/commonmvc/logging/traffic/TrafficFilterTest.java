@@ -0,0 +1,63 @@
+package com.athenhub.commonmvc.logging.traffic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class TrafficFilterTest {
+
+  private final TrafficRecorder recorder = new TrafficRecorder();
+  private final TrafficFilter filter = new TrafficFilter(recorder);
+
+  @Test
+  @DisplayName("매칭된 라우트 템플릿 기준으로 응답 본문 바이트 수를 누적한다")
+  void recordBytesOut() throws Exception {
+    for (String body : new String[] {"{\"id\":1}", "가나다"}) {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+      filter.doFilter(
+          request,
+          response,
+          (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}");
+            res.getWriter().write(body);
+          });
+
+      assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    assertThat(recorder.snapshot("GET /products/{id}").bytesOut()).isEqualTo(8 + 9);
+  }
+
+  @Test
+  @DisplayName("컨트롤러에 매칭되지 않은 요청은 기록하지 않는다")
+  void skipUnmatched() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/static/app.js"),
+        new MockHttpServletResponse(),
+        (req, res) -> res.getOutputStream().write(new byte[16]));
+
+    assertThat(recorder.snapshot()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("동시 처리 수는 시작 시 증가하고 종료 시 감소하며 완료/실패를 구분한다")
+  void countActive() {
+    EndpointTraffic first = recorder.begin("GET /products/{id}");
+    EndpointTraffic second = recorder.begin("GET /products/{id}");
+    assertThat(recorder.snapshot("GET /products/{id}").active()).isEqualTo(2);
+
+    first.end(false);
+    second.end(true);
+
+    assertThat(recorder.snapshot("GET /products/{id}"))
+        .isEqualTo(new TrafficSnapshot(0, 2, 1, 1, 0));
+  }
+}
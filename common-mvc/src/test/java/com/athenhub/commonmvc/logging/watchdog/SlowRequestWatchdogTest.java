@@ -0,0 +1,106 @@
+package com.athenhub.commonmvc.logging.watchdog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.commonmvc.context.RequestContext;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class SlowRequestWatchdogTest {
+
+  private final InFlightRequestRegistry registry = new InFlightRequestRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private SlowRequestWatchdog watchdog;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (watchdog != null) {
+      watchdog.close();
+    }
+  }
+
+  @Test
+  @DisplayName("임계 시간을 넘긴 요청은 검사마다 처리 스레드의 스택을 샘플링하고 한 번만 보고한다")
+  void sampleSlowRequest() throws Exception {
+    watchdog = watchdog(Duration.ZERO, Map.of());
+    InFlightRequest inFlight = startBlockedRequest("GET", "/reports/1");
+
+    watchdog.check();
+    assertThat(inFlight.samples()).singleElement().satisfies(SlowRequestWatchdogTest::isBlocked);
+
+    watchdog.check();
+    assertThat(inFlight.isReported()).isTrue();
+    assertThat(inFlight.samples()).isEmpty();
+
+    watchdog.check();
+    assertThat(inFlight.samples()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("엔드포인트별 임계 시간이 있으면 기본 임계 시간 대신 적용한다")
+  void endpointThreshold() throws Exception {
+    watchdog = watchdog(Duration.ZERO, Map.of("GET /reports/{id}", Duration.ofHours(1)));
+    InFlightRequest inFlight = startBlockedRequest("GET", "/reports/1");
+    inFlight.setEndpoint("GET /reports/{id}");
+
+    watchdog.check();
+
+    assertThat(inFlight.samples()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("요청이 끝나면 레지스트리에서 제거되어 더 이상 샘플링하지 않는다")
+  void unregister() throws Exception {
+    watchdog = watchdog(Duration.ZERO, Map.of());
+    InFlightRequest inFlight = startBlockedRequest("GET", "/reports/1");
+
+    registry.unregister(inFlight);
+    watchdog.check();
+
+    assertThat(registry.size()).isZero();
+    assertThat(inFlight.isActive()).isFalse();
+    assertThat(inFlight.samples()).isEmpty();
+  }
+
+  private SlowRequestWatchdog watchdog(Duration threshold, Map<String, Duration> endpoints) {
+    return new SlowRequestWatchdog(registry, threshold, endpoints, Duration.ofHours(1), 2, 16);
+  }
+
+  private InFlightRequest startBlockedRequest(String method, String uri) throws Exception {
+    AtomicReference<InFlightRequest> registered = new AtomicReference<>();
+    CountDownLatch started = new CountDownLatch(1);
+    Thread thread =
+        new Thread(
+            () -> {
+              MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+              RequestContext context = RequestContext.start("req-1", null, "user", null, true);
+              registered.set(registry.register(request, context));
+              started.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    thread.setDaemon(true);
+    thread.start();
+    started.await();
+    // 스레드가 release.await()에서 대기할 때까지 기다린다
+    while (thread.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+    return registered.get();
+  }
+
+  private static void isBlocked(StackTraceElement[] stack) {
+    assertThat(Arrays.stream(stack).map(StackTraceElement::getMethodName)).contains("await");
+  }
+}
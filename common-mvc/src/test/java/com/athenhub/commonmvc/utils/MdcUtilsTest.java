@@ -1,7 +1,6 @@
 package com.athenhub.commonmvc.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.athenhub.commonmvc.logging.MdcUtils;
 import java.util.UUID;
@@ -71,7 +70,7 @@ class MdcUtilsTest {
   void getRequestUuid_invalidFormat_shouldReturnNull() {
     MdcUtils.setRequestId("not-a-uuid");
 
-    assertThatThrownBy(MdcUtils::getRequestUuid).isInstanceOf(IllegalArgumentException.class);
+    assertThat(MdcUtils.getRequestUuid()).isNull();
   }
 
   @Test
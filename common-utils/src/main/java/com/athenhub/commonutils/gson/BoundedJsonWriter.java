@@ -0,0 +1,235 @@
+package com.athenhub.commonutils.gson;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * 배열당 요소 수와 중첩 깊이를 제한하며 JSON을 기록하는 {@link JsonWriter}.
+ *
+ * <pre>
+ * - 배열 요소가 maxElements를 넘으면 이후 요소는 출력하지 않고, 배열 끝에 원래 요소 수를 담은 생략 표시를 추가
+ * - 중첩 깊이가 maxDepth에 도달하면 해당 객체/배열 대신 생략 표시를 출력
+ * - 생략된 값 내부의 이벤트는 모두 무시되어 출력 버퍼를 사용하지 않음
+ * </pre>
+ *
+ * <p>출력 길이 제한은 하위 {@link LengthLimitedWriter}가 담당한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class BoundedJsonWriter extends JsonWriter {
+
+  static final String DEPTH_MARKER = "...(max depth)";
+
+  private static final int INITIAL_STACK_SIZE = 16;
+
+  private final int maxElements;
+  private final int maxDepth;
+
+  // 열린 컨테이너별 배열 여부와 (배열인 경우) 지금까지 만난 요소 수
+  private boolean[] arrayStack = new boolean[INITIAL_STACK_SIZE];
+  private int[] countStack = new int[INITIAL_STACK_SIZE];
+  private int depth;
+
+  // 0 이상이면 depth 가 이 값으로 돌아올 때까지 출력하지 않는다
+  private int skipUntilDepth = -1;
+
+  BoundedJsonWriter(Writer out, JsonRenderLimits limits) {
+    super(out);
+    this.maxElements = limits.maxElements();
+    this.maxDepth = limits.maxDepth();
+  }
+
+  /**
+   * 생략 표시를 포함하여 배열을 닫는다. 호출 측이 요소 일부만 기록한 경우 사용한다.
+   *
+   * @param totalElements 원래 요소 수
+   * @return this
+   * @throws IOException 기록 실패 시
+   */
+  JsonWriter endTruncatedArray(int totalElements) throws IOException {
+    countStack[depth - 1] = totalElements;
+    return endArray();
+  }
+
+  static String truncatedMarker(int totalElements) {
+    return "...(" + totalElements + " elements)";
+  }
+
+  @Override
+  public JsonWriter beginArray() throws IOException {
+    return open(true);
+  }
+
+  @Override
+  public JsonWriter endArray() throws IOException {
+    return close(true);
+  }
+
+  @Override
+  public JsonWriter beginObject() throws IOException {
+    return open(false);
+  }
+
+  @Override
+  public JsonWriter endObject() throws IOException {
+    return close(false);
+  }
+
+  @Override
+  public JsonWriter name(String name) throws IOException {
+    if (isSkipping()) {
+      return this;
+    }
+    return super.name(name);
+  }
+
+  @Override
+  public JsonWriter value(String value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return value == null ? super.nullValue() : super.value(value);
+  }
+
+  @Override
+  public JsonWriter jsonValue(String value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return value == null ? super.nullValue() : super.jsonValue(value);
+  }
+
+  @Override
+  public JsonWriter nullValue() throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return super.nullValue();
+  }
+
+  @Override
+  public JsonWriter value(boolean value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return super.value(value);
+  }
+
+  @Override
+  public JsonWriter value(Boolean value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return value == null ? super.nullValue() : super.value(value.booleanValue());
+  }
+
+  @Override
+  public JsonWriter value(float value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return super.value(value);
+  }
+
+  @Override
+  public JsonWriter value(double value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return super.value(value);
+  }
+
+  @Override
+  public JsonWriter value(long value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return super.value(value);
+  }
+
+  @Override
+  public JsonWriter value(Number value) throws IOException {
+    if (!admitValue()) {
+      return this;
+    }
+    return value == null ? super.nullValue() : super.value(value);
+  }
+
+  private JsonWriter open(boolean array) throws IOException {
+    if (isSkipping()) {
+      push(array);
+      return this;
+    }
+
+    if (!admitValue()) {
+      skipUntilDepth = depth;
+      push(array);
+      return this;
+    }
+
+    if (depth >= maxDepth) {
+      super.value(DEPTH_MARKER);
+      skipUntilDepth = depth;
+      push(array);
+      return this;
+    }
+
+    if (array) {
+      super.beginArray();
+    } else {
+      super.beginObject();
+    }
+    push(array);
+    return this;
+  }
+
+  private JsonWriter close(boolean array) throws IOException {
+    depth--;
+    if (isSkipping()) {
+      if (depth == skipUntilDepth) {
+        skipUntilDepth = -1;
+      }
+      return this;
+    }
+
+    if (!array) {
+      return super.endObject();
+    }
+    if (countStack[depth] > maxElements) {
+      super.value(truncatedMarker(countStack[depth]));
+    }
+    return super.endArray();
+  }
+
+  /**
+   * 다음 값을 출력할지 결정한다. 배열 안이라면 요소 수를 세고 제한을 넘은 요소는 생략한다.
+   *
+   * @return 출력 여부
+   */
+  private boolean admitValue() {
+    if (isSkipping()) {
+      return false;
+    }
+    if (depth > 0 && arrayStack[depth - 1]) {
+      return ++countStack[depth - 1] <= maxElements;
+    }
+    return true;
+  }
+
+  private boolean isSkipping() {
+    return skipUntilDepth >= 0;
+  }
+
+  private void push(boolean array) {
+    if (depth == arrayStack.length) {
+      arrayStack = Arrays.copyOf(arrayStack, depth * 2);
+      countStack = Arrays.copyOf(countStack, depth * 2);
+    }
+    arrayStack[depth] = array;
+    countStack[depth] = 0;
+    depth++;
+  }
+}
@@ -0,0 +1,98 @@
+package com.athenhub.commonutils.gson;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * JSON 바이트 직렬화에 사용하는 byte[] 버퍼 풀.
+ *
+ * <pre>
+ * - 고정 개수의 슬롯을 CAS로 빌려주고 돌려받으며, 락을 잡지 않으므로 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않음
+ * - ThreadLocal 풀과 달리 스레드 수에 비례해 버퍼가 늘어나지 않아, 요청마다 가상 스레드를 만드는 환경에서도 풀 크기가 고정됨
+ * - 슬롯 탐색은 스레드 ID에서 시작하여 경합을 분산
+ * - 최대 보관 크기를 넘게 커진 버퍼는 돌려받지 않고 GC에 맡겨, 큰 응답 하나로 풀 메모리가 늘어나지 않음
+ * - 빈 슬롯이 없으면 새로 할당하고, 돌려줄 자리가 없으면 버린다
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class ByteArrayPool {
+
+  /** GsonUtils가 공유하는 기본 풀. 슬롯은 CPU 수의 2배(최대 64개), 버퍼는 8KB로 시작하여 1MB까지 보관한다. */
+  static final ByteArrayPool SHARED =
+      new ByteArrayPool(
+          Math.min(64, Runtime.getRuntime().availableProcessors() * 2), 8 * 1024, 1024 * 1024);
+
+  private final AtomicReferenceArray<byte[]> slots;
+  private final int initialSize;
+  private final int maxRetainedSize;
+
+  /**
+   * 버퍼 풀을 생성한다.
+   *
+   * @param slotCount 보관할 최대 버퍼 수
+   * @param initialSize 새로 할당하는 버퍼 크기
+   * @param maxRetainedSize 풀에 돌려받을 최대 버퍼 크기
+   */
+  ByteArrayPool(int slotCount, int initialSize, int maxRetainedSize) {
+    this.slots = new AtomicReferenceArray<>(slotCount);
+    this.initialSize = initialSize;
+    this.maxRetainedSize = maxRetainedSize;
+  }
+
+  /**
+   * 풀에서 버퍼를 빌린다. 남은 버퍼가 없으면 새로 할당한다.
+   *
+   * @return 최소 초기 크기 이상의 버퍼
+   */
+  byte[] acquire() {
+    int length = slots.length();
+    int start = probe(length);
+    for (int i = 0; i < length; i++) {
+      int index = (start + i) % length;
+      byte[] buffer = slots.get(index);
+      if (buffer != null && slots.compareAndSet(index, buffer, null)) {
+        return buffer;
+      }
+    }
+    return new byte[initialSize];
+  }
+
+  /**
+   * 버퍼를 풀에 돌려준다. 최대 보관 크기를 넘거나 빈 슬롯이 없으면 버린다.
+   *
+   * @param buffer 돌려줄 버퍼
+   */
+  void release(byte[] buffer) {
+    if (buffer == null || buffer.length > maxRetainedSize) {
+      return;
+    }
+    int length = slots.length();
+    int start = probe(length);
+    for (int i = 0; i < length; i++) {
+      int index = (start + i) % length;
+      if (slots.get(index) == null && slots.compareAndSet(index, null, buffer)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 풀에 보관 중인 버퍼 수를 반환한다.
+   *
+   * @return 보관 중인 버퍼 수
+   */
+  int pooled() {
+    int count = 0;
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int probe(int length) {
+    return (int) (Thread.currentThread().threadId() % length);
+  }
+}
@@ -0,0 +1,44 @@
+package com.athenhub.commonutils.gson;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ByteBuffer}의 남은 바이트를 복사 없이 읽는 입력 스트림.
+ *
+ * <p>원본 버퍼의 position을 바꾸지 않도록 {@link ByteBuffer#duplicate()}로 읽는다. 힙/다이렉트 버퍼 모두 지원한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class ByteBufferInputStream extends InputStream {
+
+  private final ByteBuffer buffer;
+
+  ByteBufferInputStream(ByteBuffer buffer) {
+    this.buffer = buffer.duplicate();
+  }
+
+  @Override
+  public int read() {
+    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    int n = Math.min(len, buffer.remaining());
+    buffer.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+}
@@ -0,0 +1,39 @@
+package com.athenhub.commonutils.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Gson에서 {@link Duration}을 ISO-8601 기간 형식(예: {@code PT8H6M12.345S})의 JSON 문자열로 직렬화 및 역직렬화하기 위한
+ * 어댑터 클래스.
+ *
+ * <p>{@code PT[nH][nM][n[.f]S]} 형태는 {@link Duration#parse}의 정규식 대신 직접 읽으며, 일 단위/음수 등 그 밖의 입력만
+ * {@link Duration#parse}로 처리합니다. 쓰기는 {@link Duration#toString()}을 사용합니다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class GsonDurationAdapter extends TypeAdapter<Duration> {
+
+  @Override
+  public void write(JsonWriter jsonWriter, Duration value) throws IOException {
+    if (value == null) {
+      jsonWriter.nullValue();
+    } else {
+      jsonWriter.value(value.toString());
+    }
+  }
+
+  @Override
+  public Duration read(JsonReader jsonReader) throws IOException {
+    if (jsonReader.peek() == JsonToken.NULL) {
+      jsonReader.nextNull();
+      return null;
+    }
+    return IsoTimeCodec.parseDuration(jsonReader.nextString());
+  }
+}
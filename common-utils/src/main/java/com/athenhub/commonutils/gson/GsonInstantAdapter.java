@@ -0,0 +1,40 @@
+package com.athenhub.commonutils.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Gson에서 {@link Instant}을 {@link DateTimeFormatter#ISO_INSTANT} 형식의 JSON 문자열로 직렬화 및 역직렬화하기 위한
+ * 어댑터 클래스.
+ *
+ * <p>{@code yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z} 형태는 포맷터 없이 직접 읽고 쓰며, 그 밖의 입력(오프셋 포함 등)만 포맷터로
+ * 처리합니다. 소수점 이하 자리는 {@link Instant#toString()}과 같이 3자리 단위로 기록합니다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class GsonInstantAdapter extends TypeAdapter<Instant> {
+
+  @Override
+  public void write(JsonWriter jsonWriter, Instant value) throws IOException {
+    if (value == null) {
+      jsonWriter.nullValue();
+    } else {
+      jsonWriter.value(IsoTimeCodec.formatInstant(value));
+    }
+  }
+
+  @Override
+  public Instant read(JsonReader jsonReader) throws IOException {
+    if (jsonReader.peek() == JsonToken.NULL) {
+      jsonReader.nextNull();
+      return null;
+    }
+    return IsoTimeCodec.parseInstant(jsonReader.nextString());
+  }
+}
@@ -0,0 +1,39 @@
+package com.athenhub.commonutils.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Gson에서 {@link LocalDate}을 {@link DateTimeFormatter#ISO_LOCAL_DATE} 형식의 JSON 문자열로 직렬화 및 역직렬화하기 위한
+ * 어댑터 클래스.
+ *
+ * <p>{@code yyyy-MM-dd} 형태는 포맷터 없이 직접 읽고 쓰며, 그 밖의 입력만 포맷터로 처리합니다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class GsonLocalDateAdapter extends TypeAdapter<LocalDate> {
+
+  @Override
+  public void write(JsonWriter jsonWriter, LocalDate value) throws IOException {
+    if (value == null) {
+      jsonWriter.nullValue();
+    } else {
+      jsonWriter.value(IsoTimeCodec.formatLocalDate(value));
+    }
+  }
+
+  @Override
+  public LocalDate read(JsonReader jsonReader) throws IOException {
+    if (jsonReader.peek() == JsonToken.NULL) {
+      jsonReader.nextNull();
+      return null;
+    }
+    return IsoTimeCodec.parseLocalDate(jsonReader.nextString());
+  }
+}
@@ -2,6 +2,7 @@ package com.athenhub.commonutils.gson;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -13,6 +14,9 @@ import java.time.format.DateTimeFormatter;
  * <p>이 어댑터는 {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} 형식을 사용하여 LocalDateTime 객체를 문자열로 변환하며,
  * JSON 문자열을 다시 LocalDateTime으로 읽을 수 있도록 지원합니다.
  *
+ * <p>{@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]} 형태는 포맷터 없이 직접 읽고 쓰며, 그 밖의 입력만 포맷터로 처리합니다. 결과는
+ * 포맷터를 사용할 때와 같습니다.
+ *
  * <p>사용 예시:
  *
  * <pre>
@@ -27,19 +31,22 @@ import java.time.format.DateTimeFormatter;
  * @since 0.3.0
  */
 public class GsonLocalDateTimeAdapter extends TypeAdapter<LocalDateTime> {
-  private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
   @Override
   public void write(JsonWriter jsonWriter, LocalDateTime localDateTime) throws IOException {
     if (localDateTime == null) {
       jsonWriter.nullValue();
     } else {
-      jsonWriter.value(localDateTime.format(formatter));
+      jsonWriter.value(IsoTimeCodec.formatLocalDateTime(localDateTime));
     }
   }
 
   @Override
   public LocalDateTime read(JsonReader jsonReader) throws IOException {
-    return LocalDateTime.parse(jsonReader.nextString(), formatter);
+    if (jsonReader.peek() == JsonToken.NULL) {
+      jsonReader.nextNull();
+      return null;
+    }
+    return IsoTimeCodec.parseLocalDateTime(jsonReader.nextString());
   }
 }
@@ -1,27 +1,80 @@
 package com.athenhub.commonutils.gson;
 
+import com.athenhub.commonutils.gson.codegen.GeneratedTypeAdapters;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * JSON 변환을 위한 유틸리티 클래스.
  *
  * <pre>
  * - 싱글톤 Gson 인스턴스를 제공
- * - LocalDateTime 직렬화/역직렬화 어댑터 등록
+ * - LocalDateTime, LocalDate, Instant, OffsetDateTime, ZonedDateTime, Duration ISO-8601 어댑터 등록
+ * - 로그 등 부가 용도를 위한 크기 제한 직렬화 제공
+ * - Appendable/OutputStream으로 바로 쓰고 Reader/InputStream/byte[]/ByteBuffer에서 바로 읽는 스트리밍 API 제공
+ * - {@link Type}/{@link TypeToken}으로 List&lt;Foo&gt; 같은 제네릭 타입 역직렬화 지원
+ * - 타입별 {@link TypeAdapter}를 캐싱하여 호출마다 TypeToken 생성과 어댑터 조회를 반복하지 않음
+ * - String(UTF-16)을 만들지 않고 풀 버퍼에 바로 UTF-8로 인코딩하는 바이트 직렬화 제공
+ * - {@link com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter}로 빌드 시 생성된 어댑터 자동 등록 (리플렉션 없음)
+ * - 그 밖의 레코드는 MethodHandle 기반 {@link RecordTypeAdapterFactory}로 처리 (생성된 어댑터가 우선)
+ * - 큰 JSON 배열을 요소/묶음 단위로 지연 디코딩하는 {@link #iterate(Reader, Class)} 제공
  * </pre>
  *
+ * <p>바이트 입출력은 UTF-8을 사용하며, {@code iterate}를 제외하면 전달받은 스트림은 닫지 않는다.
+ *
  * @author 김형섭
  * @since 0.3.0
  */
 public class GsonUtils {
 
+  /** 최대 출력 길이를 초과해 직렬화를 중단했을 때 결과 끝에 붙는 표시. */
+  public static final String TRUNCATED_MARKER = "...(truncated)";
+
   private static final Gson GSON =
       new GsonBuilder()
           .registerTypeAdapter(LocalDateTime.class, new GsonLocalDateTimeAdapter())
+          .registerTypeAdapter(LocalDate.class, new GsonLocalDateAdapter())
+          .registerTypeAdapter(Instant.class, new GsonInstantAdapter())
+          .registerTypeAdapter(OffsetDateTime.class, new GsonOffsetDateTimeAdapter())
+          .registerTypeAdapter(ZonedDateTime.class, new GsonZonedDateTimeAdapter())
+          .registerTypeAdapter(Duration.class, new GsonDurationAdapter())
+          .registerTypeAdapterFactory(new RecordTypeAdapterFactory())
+          .registerTypeAdapterFactory(GeneratedTypeAdapters.load())
           .create();
 
+  private static final ConcurrentMap<Type, TypeAdapter<?>> ADAPTERS = new ConcurrentHashMap<>();
+
   /** 인스턴스 생성 방지를 위한 private 생성자. */
   private GsonUtils() {}
 
@@ -35,6 +88,116 @@ public class GsonUtils {
     return GSON.toJson(object);
   }
 
+  /**
+   * 주어진 객체를 크기 제한을 적용하여 JSON 문자열로 변환한다.
+   *
+   * <p>전체 결과를 만든 뒤 자르는 것이 아니라 {@link com.google.gson.stream.JsonWriter}로 스트리밍하면서 제한에 도달하는 즉시
+   * 직렬화를 중단하므로, 큰 객체를 로그로 남길 때에도 할당량이 제한 값 이내로 유지된다.
+   *
+   * <ul>
+   *   <li>최대 길이를 넘으면 그 지점까지의 결과 뒤에 {@link #TRUNCATED_MARKER}를 붙인다. (이 경우 결과는 유효한 JSON이 아니다)
+   *   <li>배열 요소가 최대 개수를 넘으면 나머지 요소 대신 원래 요소 수를 담은 생략 표시를 넣는다.
+   *   <li>최대 깊이보다 깊은 객체/배열은 생략 표시로 대체한다.
+   * </ul>
+   *
+   * @param object 변환할 객체
+   * @param limits 크기 제한
+   * @return 크기 제한이 적용된 JSON 문자열
+   */
+  public static String toJson(Object object, JsonRenderLimits limits) {
+    LengthLimitedWriter out = new LengthLimitedWriter(limits.maxLength());
+    BoundedJsonWriter writer = new BoundedJsonWriter(out, limits);
+    try {
+      if (object instanceof Collection<?> collection
+          && collection.size() > limits.maxElements()) {
+        writeTruncatedCollection(collection, limits.maxElements(), writer);
+      } else {
+        writeValue(object, writer);
+      }
+    } catch (JsonIOException e) {
+      if (e.getCause() instanceof LengthLimitedWriter.LimitExceededException) {
+        return out + TRUNCATED_MARKER;
+      }
+      throw e;
+    } catch (LengthLimitedWriter.LimitExceededException e) {
+      return out + TRUNCATED_MARKER;
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+    return out.toString();
+  }
+
+  /**
+   * 주어진 객체를 JSON으로 직렬화하여 {@link Appendable}(StringBuilder, Writer 등)에 바로 쓴다. 중간 String을 만들지 않는다.
+   *
+   * @param object 변환할 객체
+   * @param out 대상 Appendable
+   * @throws JsonIOException 기록 실패 시
+   */
+  public static void toJson(Object object, Appendable out) {
+    Writer writer = out instanceof Writer w ? w : new AppendableWriter(out);
+    try {
+      JsonWriter jsonWriter = GSON.newJsonWriter(writer);
+      write(object, jsonWriter);
+      jsonWriter.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * 주어진 객체를 UTF-8 JSON으로 직렬화하여 {@link OutputStream}에 바로 쓴다. 스트림은 flush만 하고 닫지 않는다.
+   *
+   * <p>풀에서 빌린 버퍼 하나에 인코딩하고 버퍼가 찰 때마다 스트림으로 내보내므로, 결과 크기와 관계없이 버퍼 크기만큼만 메모리를 사용한다.
+   *
+   * @param object 변환할 객체
+   * @param out 대상 출력 스트림
+   * @throws JsonIOException 기록 실패 시
+   */
+  public static void toJson(Object object, OutputStream out) {
+    Utf8ByteWriter writer = new Utf8ByteWriter(ByteArrayPool.SHARED, out);
+    try {
+      toJson(object, (Appendable) writer);
+    } finally {
+      writer.release();
+    }
+  }
+
+  /**
+   * 주어진 객체를 UTF-8 JSON으로 직렬화하여 대상 버퍼의 현재 position부터 기록한다.
+   *
+   * @param object 변환할 객체
+   * @param target 대상 버퍼 (힙/다이렉트)
+   * @return 기록한 바이트 수
+   * @throws java.nio.BufferOverflowException 남은 공간이 부족한 경우 (대상 버퍼는 변경되지 않음)
+   */
+  public static int toJson(Object object, ByteBuffer target) {
+    try (JsonBytes json = toJsonBytes(object)) {
+      json.writeTo(target);
+      return json.length();
+    }
+  }
+
+  /**
+   * 주어진 객체를 String을 거치지 않고 풀 버퍼에 UTF-8 JSON으로 직렬화한다.
+   *
+   * <p>반환된 {@link JsonBytes}는 풀 버퍼를 담고 있으므로 사용 후 반드시 닫아야 한다. 풀은 ThreadLocal이 아닌 고정 크기의 공유 슬롯이므로
+   * 가상 스레드에서도 스레드 수만큼 버퍼가 늘어나지 않는다.
+   *
+   * @param object 변환할 객체
+   * @return UTF-8 JSON 바이트 리스
+   * @throws JsonIOException 직렬화 실패 시
+   */
+  public static JsonBytes toJsonBytes(Object object) {
+    Utf8ByteWriter writer = new Utf8ByteWriter(ByteArrayPool.SHARED);
+    try {
+      toJson(object, (Appendable) writer);
+      return writer.toJsonBytes();
+    } finally {
+      writer.release();
+    }
+  }
+
   /**
    * 주어진 JSON 문자열을 지정된 클래스 타입의 객체로 변환한다.
    *
@@ -46,4 +209,346 @@ public class GsonUtils {
   public static <T> T fromJson(String json, Class<T> clazz) {
     return GSON.fromJson(json, clazz);
   }
+
+  /**
+   * 주어진 JSON 문자열을 지정된 타입의 객체로 변환한다.
+   *
+   * @param json 변환할 JSON 문자열
+   * @param type 대상 타입 (제네릭 타입 가능)
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 빈 문자열이면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   */
+  public static <T> T fromJson(String json, Type type) {
+    return json == null ? null : fromJson(new StringReader(json), type);
+  }
+
+  /**
+   * 주어진 JSON 문자열을 지정된 타입의 객체로 변환한다.
+   *
+   * <pre>{@code
+   * List<Order> orders = GsonUtils.fromJson(json, new TypeToken<List<Order>>() {});
+   * }</pre>
+   *
+   * @param json 변환할 JSON 문자열
+   * @param typeToken 대상 타입
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 빈 문자열이면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   */
+  public static <T> T fromJson(String json, TypeToken<T> typeToken) {
+    return fromJson(json, typeToken.getType());
+  }
+
+  /**
+   * Reader에서 JSON을 읽어 지정된 타입의 객체로 변환한다. Reader는 닫지 않는다.
+   *
+   * @param reader JSON 입력
+   * @param type 대상 타입 (제네릭 타입 가능)
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   * @throws JsonIOException 읽기 실패 시
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T fromJson(Reader reader, Type type) {
+    return read(reader, (TypeAdapter<T>) adapter(type));
+  }
+
+  /**
+   * Reader에서 JSON을 읽어 지정된 타입의 객체로 변환한다. Reader는 닫지 않는다.
+   *
+   * @param reader JSON 입력
+   * @param typeToken 대상 타입
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   * @throws JsonIOException 읽기 실패 시
+   */
+  public static <T> T fromJson(Reader reader, TypeToken<T> typeToken) {
+    return fromJson(reader, typeToken.getType());
+  }
+
+  /**
+   * UTF-8 입력 스트림에서 JSON을 읽어 지정된 타입의 객체로 변환한다. 스트림은 닫지 않는다.
+   *
+   * @param in JSON 입력 스트림
+   * @param type 대상 타입 (제네릭 타입 가능)
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   * @throws JsonIOException 읽기 실패 시
+   */
+  public static <T> T fromJson(InputStream in, Type type) {
+    return fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), type);
+  }
+
+  /**
+   * UTF-8 입력 스트림에서 JSON을 읽어 지정된 타입의 객체로 변환한다. 스트림은 닫지 않는다.
+   *
+   * @param in JSON 입력 스트림
+   * @param typeToken 대상 타입
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   * @throws JsonIOException 읽기 실패 시
+   */
+  public static <T> T fromJson(InputStream in, TypeToken<T> typeToken) {
+    return fromJson(in, typeToken.getType());
+  }
+
+  /**
+   * UTF-8 바이트 배열의 JSON을 String으로 변환하지 않고 바로 읽어 지정된 타입의 객체로 변환한다.
+   *
+   * @param json UTF-8 JSON 바이트
+   * @param type 대상 타입 (제네릭 타입 가능)
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   */
+  public static <T> T fromJson(byte[] json, Type type) {
+    return fromJson(new ByteArrayInputStream(json), type);
+  }
+
+  /**
+   * UTF-8 바이트 배열의 JSON을 String으로 변환하지 않고 바로 읽어 지정된 타입의 객체로 변환한다.
+   *
+   * @param json UTF-8 JSON 바이트
+   * @param typeToken 대상 타입
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   */
+  public static <T> T fromJson(byte[] json, TypeToken<T> typeToken) {
+    return fromJson(json, typeToken.getType());
+  }
+
+  /**
+   * ByteBuffer에 남은 UTF-8 JSON을 복사 없이 읽어 지정된 타입의 객체로 변환한다. 버퍼의 position은 바뀌지 않는다.
+   *
+   * @param json UTF-8 JSON 버퍼 (힙/다이렉트)
+   * @param type 대상 타입 (제네릭 타입 가능)
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   */
+  public static <T> T fromJson(ByteBuffer json, Type type) {
+    return fromJson(new ByteBufferInputStream(json), type);
+  }
+
+  /**
+   * ByteBuffer에 남은 UTF-8 JSON을 복사 없이 읽어 지정된 타입의 객체로 변환한다. 버퍼의 position은 바뀌지 않는다.
+   *
+   * @param json UTF-8 JSON 버퍼 (힙/다이렉트)
+   * @param typeToken 대상 타입
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   */
+  public static <T> T fromJson(ByteBuffer json, TypeToken<T> typeToken) {
+    return fromJson(json, typeToken.getType());
+  }
+
+  /**
+   * Reader의 최상위 JSON 배열을 요소 단위로 지연 디코딩하는 반복자를 만든다. 다른 읽기 API와 달리 반복이 끝나거나 실패하면 Reader를
+   * 닫는다.
+   *
+   * @param reader JSON 배열 입력
+   * @param clazz 요소 클래스
+   * @param <T> 요소 타입
+   * @return 지연 반복자
+   */
+  public static <T> JsonArrayIterator<T> iterate(Reader reader, Class<T> clazz) {
+    return new JsonArrayIterator<>(GSON.newJsonReader(reader), adapter(clazz));
+  }
+
+  /**
+   * Reader의 최상위 JSON 배열을 요소 단위로 지연 디코딩하는 반복자를 만든다. 다른 읽기 API와 달리 반복이 끝나거나 실패하면 Reader를
+   * 닫는다.
+   *
+   * @param reader JSON 배열 입력
+   * @param typeToken 요소 타입 (제네릭 타입 가능)
+   * @param <T> 요소 타입
+   * @return 지연 반복자
+   */
+  public static <T> JsonArrayIterator<T> iterate(Reader reader, TypeToken<T> typeToken) {
+    return new JsonArrayIterator<>(GSON.newJsonReader(reader), adapter(typeToken));
+  }
+
+  /**
+   * UTF-8 입력 스트림의 최상위 JSON 배열을 요소 단위로 지연 디코딩하는 반복자를 만든다. 다른 읽기 API와 달리 반복이 끝나거나 실패하면
+   * 스트림을 닫는다.
+   *
+   * @param in JSON 배열 입력 스트림
+   * @param clazz 요소 클래스
+   * @param <T> 요소 타입
+   * @return 지연 반복자
+   */
+  public static <T> JsonArrayIterator<T> iterate(InputStream in, Class<T> clazz) {
+    return iterate(new InputStreamReader(in, StandardCharsets.UTF_8), clazz);
+  }
+
+  /**
+   * UTF-8 입력 스트림의 최상위 JSON 배열을 요소 단위로 지연 디코딩하는 반복자를 만든다. 다른 읽기 API와 달리 반복이 끝나거나 실패하면
+   * 스트림을 닫는다.
+   *
+   * @param in JSON 배열 입력 스트림
+   * @param typeToken 요소 타입 (제네릭 타입 가능)
+   * @param <T> 요소 타입
+   * @return 지연 반복자
+   */
+  public static <T> JsonArrayIterator<T> iterate(InputStream in, TypeToken<T> typeToken) {
+    return iterate(new InputStreamReader(in, StandardCharsets.UTF_8), typeToken);
+  }
+
+  /**
+   * 타입에 맞는 {@link TypeAdapter}를 조회한다. 최초 조회 시 한 번만 생성하여 캐싱한다.
+   *
+   * @param type 대상 타입
+   * @return 타입 어댑터
+   */
+  public static TypeAdapter<?> adapter(Type type) {
+    TypeAdapter<?> adapter = ADAPTERS.get(type);
+    if (adapter == null) {
+      adapter = ADAPTERS.computeIfAbsent(type, key -> GSON.getAdapter(TypeToken.get(key)));
+    }
+    return adapter;
+  }
+
+  /**
+   * 클래스에 맞는 {@link TypeAdapter}를 조회한다. 최초 조회 시 한 번만 생성하여 캐싱한다.
+   *
+   * @param clazz 대상 클래스
+   * @param <T> 대상 타입
+   * @return 타입 어댑터
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> TypeAdapter<T> adapter(Class<T> clazz) {
+    return (TypeAdapter<T>) adapter((Type) clazz);
+  }
+
+  /**
+   * 타입에 맞는 {@link TypeAdapter}를 조회한다. 최초 조회 시 한 번만 생성하여 캐싱한다.
+   *
+   * @param typeToken 대상 타입
+   * @param <T> 대상 타입
+   * @return 타입 어댑터
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> TypeAdapter<T> adapter(TypeToken<T> typeToken) {
+    return (TypeAdapter<T>) adapter(typeToken.getType());
+  }
+
+  /**
+   * 객체의 런타임 타입 어댑터로 JSON을 쓴다.
+   *
+   * @param object 변환할 객체
+   * @param writer 대상 writer
+   * @throws IOException 기록 실패 시
+   */
+  @SuppressWarnings("unchecked")
+  private static void write(Object object, JsonWriter writer) throws IOException {
+    if (object == null) {
+      writer.nullValue();
+      return;
+    }
+    ((TypeAdapter<Object>) adapter(object.getClass())).write(writer, object);
+  }
+
+  /**
+   * JSON 문서 하나를 읽는다. {@link Gson#fromJson(Reader, TypeToken)}과 같이 관대한(lenient) 모드로 읽어 {@link
+   * #fromJson(String, Class)}와 같은 입력을 허용하며, 빈 입력은 null로, 중간에 끝난 문서와 문서 뒤에 남은 내용은 {@link
+   * JsonSyntaxException}으로 처리한다.
+   *
+   * @param reader JSON 입력
+   * @param adapter 타입 어댑터
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체, 입력이 비어 있으면 null
+   */
+  private static <T> T read(Reader reader, TypeAdapter<T> adapter) {
+    JsonReader jsonReader = GSON.newJsonReader(reader);
+    jsonReader.setStrictness(Strictness.LENIENT);
+    try {
+      try {
+        jsonReader.peek();
+      } catch (EOFException e) {
+        return null;
+      }
+      T value = adapter.read(jsonReader);
+      if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+        throw new JsonSyntaxException("JSON document was not fully consumed.");
+      }
+      return value;
+    } catch (EOFException | MalformedJsonException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * 최상위 컬렉션의 앞쪽 요소만 직렬화한다. 생략될 요소는 순회하지 않으므로 큰 목록에서도 비용이 제한된다.
+   *
+   * @param collection 직렬화할 컬렉션
+   * @param maxElements 출력할 최대 요소 수
+   * @param writer 대상 writer
+   * @throws IOException 기록 실패 시
+   */
+  private static void writeTruncatedCollection(
+      Collection<?> collection, int maxElements, BoundedJsonWriter writer) throws IOException {
+    writer.beginArray();
+    int written = 0;
+    for (Object element : collection) {
+      if (written++ == maxElements) {
+        break;
+      }
+      writeValue(element, writer);
+    }
+    writer.endTruncatedArray(collection.size());
+  }
+
+  private static void writeValue(Object value, BoundedJsonWriter writer) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+    } else {
+      GSON.toJson(value, value.getClass(), writer);
+    }
+  }
+
+  /** Writer가 아닌 {@link Appendable}(StringBuilder 등)을 Writer로 감싼다. */
+  private static final class AppendableWriter extends Writer {
+
+    private final Appendable out;
+
+    private AppendableWriter(Appendable out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      out.append(CharBuffer.wrap(cbuf, off, len));
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+      out.append(str, off, off + len);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      out.append((char) c);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+      out.append(csq);
+      return this;
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
 }
@@ -0,0 +1,40 @@
+package com.athenhub.commonutils.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Gson에서 {@link ZonedDateTime}을 {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} 형식의 JSON 문자열로 직렬화 및
+ * 역직렬화하기 위한 어댑터 클래스.
+ *
+ * <p>오프셋 뒤에 선택적으로 {@code [Asia/Seoul]} 같은 지역 ID가 붙는 형태는 포맷터 없이 직접 읽고 쓰며, 그 밖의 입력만 포맷터로
+ * 처리합니다. 읽을 때는 포맷터와 같이 오프셋으로 시각을 정한 뒤 지역 ID를 적용합니다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public class GsonZonedDateTimeAdapter extends TypeAdapter<ZonedDateTime> {
+
+  @Override
+  public void write(JsonWriter jsonWriter, ZonedDateTime value) throws IOException {
+    if (value == null) {
+      jsonWriter.nullValue();
+    } else {
+      jsonWriter.value(IsoTimeCodec.formatZonedDateTime(value));
+    }
+  }
+
+  @Override
+  public ZonedDateTime read(JsonReader jsonReader) throws IOException {
+    if (jsonReader.peek() == JsonToken.NULL) {
+      jsonReader.nextNull();
+      return null;
+    }
+    return IsoTimeCodec.parseZonedDateTime(jsonReader.nextString());
+  }
+}
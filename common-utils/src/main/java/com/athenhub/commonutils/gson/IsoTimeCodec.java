@@ -0,0 +1,401 @@
+package com.athenhub.commonutils.gson;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 자주 쓰이는 ISO-8601 날짜/시간 형태를 {@link DateTimeFormatter} 없이 변환하는 코덱.
+ *
+ * <pre>
+ * - 고정 자리 숫자와 선택적인 초/소수점 이하 자리만 직접 읽고 쓰며, 파싱 중간 객체(Parsed, ParsePosition 등)를 만들지 않음
+ * - 출력은 대응하는 ISO 포맷터와 글자 단위로 같음 (예: ISO_LOCAL_DATE_TIME은 소수점 이하 끝자리 0 제거, ISO_INSTANT는 3자리 단위)
+ * - 연도가 0~9999 범위를 벗어나거나, 소문자 구분자/초 단위 오프셋 등 흔하지 않은 입력은 기존 포맷터로 처리
+ * - 빠른 경로에서 값 범위 오류(예: 2월 30일)가 나면 포맷터로 다시 파싱하여 기존과 같은 {@link
+ *   java.time.format.DateTimeParseException}을 던짐
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class IsoTimeCodec {
+
+  private static final long MIN_FAST_EPOCH_SECOND =
+      LocalDateTime.of(0, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+  private static final long MAX_FAST_EPOCH_SECOND =
+      LocalDateTime.of(9999, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC);
+
+  /** 숫자 하나의 최대 자리 수. 시간 단위 곱셈에서 overflow가 나지 않는 범위로 제한한다. */
+  private static final int MAX_DURATION_DIGITS = 12;
+
+  private IsoTimeCodec() {}
+
+  static String formatLocalDate(LocalDate value) {
+    if (!isFastYear(value.getYear())) {
+      return DateTimeFormatter.ISO_LOCAL_DATE.format(value);
+    }
+    StringBuilder out = new StringBuilder(10);
+    appendDate(out, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    return out.toString();
+  }
+
+  static String formatLocalDateTime(LocalDateTime value) {
+    if (!isFastYear(value.getYear())) {
+      return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+    StringBuilder out = new StringBuilder(29);
+    appendLocalDateTime(out, value, false);
+    return out.toString();
+  }
+
+  static String formatOffsetDateTime(OffsetDateTime value) {
+    if (!isFastYear(value.getYear())) {
+      return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+    }
+    StringBuilder out = new StringBuilder(35);
+    appendLocalDateTime(out, value.toLocalDateTime(), false);
+    out.append(value.getOffset().getId());
+    return out.toString();
+  }
+
+  static String formatZonedDateTime(ZonedDateTime value) {
+    if (!isFastYear(value.getYear())) {
+      return DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value);
+    }
+    StringBuilder out = new StringBuilder(64);
+    appendLocalDateTime(out, value.toLocalDateTime(), false);
+    out.append(value.getOffset().getId());
+    if (!(value.getZone() instanceof ZoneOffset)) {
+      out.append('[').append(value.getZone().getId()).append(']');
+    }
+    return out.toString();
+  }
+
+  static String formatInstant(Instant value) {
+    long epochSecond = value.getEpochSecond();
+    if (epochSecond < MIN_FAST_EPOCH_SECOND || epochSecond > MAX_FAST_EPOCH_SECOND) {
+      return DateTimeFormatter.ISO_INSTANT.format(value);
+    }
+    StringBuilder out = new StringBuilder(30);
+    LocalDateTime utc = LocalDateTime.ofEpochSecond(epochSecond, value.getNano(), ZoneOffset.UTC);
+    appendLocalDateTime(out, utc, true);
+    out.append('Z');
+    return out.toString();
+  }
+
+  static LocalDate parseLocalDate(String text) {
+    if (text.length() == 10 && isDate(text)) {
+      try {
+        return LocalDate.of(number(text, 0, 4), number(text, 5, 7), number(text, 8, 10));
+      } catch (DateTimeException ignored) {
+        // 포맷터로 다시 파싱하여 같은 예외를 던진다
+      }
+    }
+    return LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
+  }
+
+  static LocalDateTime parseLocalDateTime(String text) {
+    int end = localDateTimeEnd(text);
+    if (end == text.length()) {
+      try {
+        return localDateTime(text, end);
+      } catch (DateTimeException ignored) {
+        // 포맷터로 다시 파싱하여 같은 예외를 던진다
+      }
+    }
+    return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+  }
+
+  static OffsetDateTime parseOffsetDateTime(String text) {
+    int end = localDateTimeEnd(text);
+    if (end > 0 && offsetEnd(text, end) == text.length()) {
+      try {
+        return OffsetDateTime.of(localDateTime(text, end), offset(text, end));
+      } catch (DateTimeException ignored) {
+        // 포맷터로 다시 파싱하여 같은 예외를 던진다
+      }
+    }
+    return OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+  }
+
+  static ZonedDateTime parseZonedDateTime(String text) {
+    int end = localDateTimeEnd(text);
+    int offsetEnd = end > 0 ? offsetEnd(text, end) : -1;
+    int length = text.length();
+    if (offsetEnd > 0
+        && (offsetEnd == length
+            || (text.charAt(offsetEnd) == '[' && text.charAt(length - 1) == ']'))) {
+      try {
+        LocalDateTime dateTime = localDateTime(text, end);
+        ZoneOffset offset = offset(text, end);
+        if (offsetEnd == length) {
+          return ZonedDateTime.of(dateTime, offset);
+        }
+        ZoneId zone = ZoneId.of(text.substring(offsetEnd + 1, length - 1));
+        return ZonedDateTime.ofInstant(dateTime, offset, zone);
+      } catch (DateTimeException ignored) {
+        // 포맷터로 다시 파싱하여 같은 예외를 던진다
+      }
+    }
+    return ZonedDateTime.parse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+  }
+
+  static Instant parseInstant(String text) {
+    int end = localDateTimeEnd(text);
+    if (end >= 19 && end == text.length() - 1 && text.charAt(end) == 'Z') {
+      try {
+        return localDateTime(text, end).toInstant(ZoneOffset.UTC);
+      } catch (DateTimeException ignored) {
+        // 포맷터로 다시 파싱하여 같은 예외를 던진다
+      }
+    }
+    return DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+  }
+
+  /**
+   * {@code PT[nH][nM][n[.f]S]} 형태를 정규식 없이 읽는다. 일(D) 단위, 부호, 소문자 등은 {@link Duration#parse}로 처리한다.
+   *
+   * @param text ISO-8601 기간 문자열
+   * @return 기간
+   */
+  static Duration parseDuration(String text) {
+    Duration fast = fastDuration(text);
+    return fast != null ? fast : Duration.parse(text);
+  }
+
+  private static boolean isFastYear(int year) {
+    return year >= 0 && year <= 9999;
+  }
+
+  private static void appendLocalDateTime(StringBuilder out, LocalDateTime value, boolean grouped) {
+    appendDate(out, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    out.append('T');
+    appendTwoDigits(out, value.getHour());
+    out.append(':');
+    appendTwoDigits(out, value.getMinute());
+    out.append(':');
+    appendTwoDigits(out, value.getSecond());
+    appendFraction(out, value.getNano(), grouped);
+  }
+
+  private static void appendDate(StringBuilder out, int year, int month, int day) {
+    appendTwoDigits(out, year / 100);
+    appendTwoDigits(out, year % 100);
+    out.append('-');
+    appendTwoDigits(out, month);
+    out.append('-');
+    appendTwoDigits(out, day);
+  }
+
+  private static void appendTwoDigits(StringBuilder out, int value) {
+    out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+  }
+
+  /**
+   * 소수점 이하 자리를 기록한다. 0이면 기록하지 않는다.
+   *
+   * @param out 대상
+   * @param nano 나노초
+   * @param grouped true면 ISO_INSTANT처럼 3자리 단위, false면 ISO_LOCAL_TIME처럼 끝자리 0을 모두 제거
+   */
+  private static void appendFraction(StringBuilder out, int nano, boolean grouped) {
+    if (nano == 0) {
+      return;
+    }
+    int digits = 9;
+    int value = nano;
+    if (grouped) {
+      if (value % 1_000_000 == 0) {
+        value /= 1_000_000;
+        digits = 3;
+      } else if (value % 1_000 == 0) {
+        value /= 1_000;
+        digits = 6;
+      }
+    } else {
+      while (value % 10 == 0) {
+        value /= 10;
+        digits--;
+      }
+    }
+    out.append('.');
+    for (int divisor = pow10(digits - 1); divisor > 0; divisor /= 10) {
+      out.append((char) ('0' + (value / divisor) % 10));
+    }
+  }
+
+  private static int pow10(int exponent) {
+    int result = 1;
+    for (int i = 0; i < exponent; i++) {
+      result *= 10;
+    }
+    return result;
+  }
+
+  /**
+   * {@code yyyy-MM-ddTHH:mm[:ss[.f]]} 형태가 끝나는 위치를 반환한다.
+   *
+   * @param text 입력
+   * @return 끝 위치 (exclusive), 형태가 다르면 -1
+   */
+  private static int localDateTimeEnd(String text) {
+    int length = text.length();
+    if (length < 16
+        || !isDate(text)
+        || text.charAt(10) != 'T'
+        || !isDigits(text, 11, 13)
+        || text.charAt(13) != ':'
+        || !isDigits(text, 14, 16)) {
+      return -1;
+    }
+    if (length == 16 || text.charAt(16) != ':') {
+      return 16;
+    }
+    if (length < 19 || !isDigits(text, 17, 19)) {
+      return -1;
+    }
+    if (length == 19 || text.charAt(19) != '.') {
+      return 19;
+    }
+    int index = 20;
+    while (index < length && index < 29 && isDigit(text.charAt(index))) {
+      index++;
+    }
+    return index == 20 ? -1 : index;
+  }
+
+  private static LocalDateTime localDateTime(String text, int end) {
+    int second = end > 16 ? number(text, 17, 19) : 0;
+    int nano = 0;
+    if (end > 20) {
+      nano = number(text, 20, end) * pow10(29 - end);
+    }
+    return LocalDateTime.of(
+        number(text, 0, 4),
+        number(text, 5, 7),
+        number(text, 8, 10),
+        number(text, 11, 13),
+        number(text, 14, 16),
+        second,
+        nano);
+  }
+
+  /**
+   * {@code Z} 또는 {@code ±HH:MM} 오프셋이 끝나는 위치를 반환한다.
+   *
+   * @param text 입력
+   * @param start 오프셋 시작 위치
+   * @return 끝 위치 (exclusive), 형태가 다르면 -1
+   */
+  private static int offsetEnd(String text, int start) {
+    if (start >= text.length()) {
+      return -1;
+    }
+    char c = text.charAt(start);
+    if (c == 'Z') {
+      return start + 1;
+    }
+    if ((c == '+' || c == '-')
+        && start + 6 <= text.length()
+        && isDigits(text, start + 1, start + 3)
+        && text.charAt(start + 3) == ':'
+        && isDigits(text, start + 4, start + 6)) {
+      return start + 6;
+    }
+    return -1;
+  }
+
+  private static ZoneOffset offset(String text, int start) {
+    if (text.charAt(start) == 'Z') {
+      return ZoneOffset.UTC;
+    }
+    int hours = number(text, start + 1, start + 3);
+    int minutes = number(text, start + 4, start + 6);
+    return text.charAt(start) == '-'
+        ? ZoneOffset.ofHoursMinutes(-hours, -minutes)
+        : ZoneOffset.ofHoursMinutes(hours, minutes);
+  }
+
+  private static Duration fastDuration(String text) {
+    int length = text.length();
+    if (length < 4 || text.charAt(0) != 'P' || text.charAt(1) != 'T') {
+      return null;
+    }
+    long seconds = 0;
+    int nanos = 0;
+    int index = 2;
+    int unitOrder = 0;
+    while (index < length) {
+      int start = index;
+      while (index < length && isDigit(text.charAt(index))) {
+        index++;
+      }
+      if (index == start || index - start > MAX_DURATION_DIGITS || index == length) {
+        return null;
+      }
+      long value = Long.parseLong(text, start, index, 10);
+      char unit = text.charAt(index);
+      if (unit == 'H' && unitOrder < 1) {
+        seconds += value * 3600;
+        unitOrder = 1;
+      } else if (unit == 'M' && unitOrder < 2) {
+        seconds += value * 60;
+        unitOrder = 2;
+      } else if (unit == 'S' && unitOrder < 3) {
+        seconds += value;
+        unitOrder = 3;
+      } else if (unit == '.' && unitOrder < 3) {
+        int fractionStart = ++index;
+        while (index < length && index - fractionStart < 9 && isDigit(text.charAt(index))) {
+          index++;
+        }
+        if (index == fractionStart || index >= length || text.charAt(index) != 'S') {
+          return null;
+        }
+        seconds += value;
+        nanos = number(text, fractionStart, index) * pow10(9 - (index - fractionStart));
+        unitOrder = 3;
+      } else {
+        return null;
+      }
+      index++;
+    }
+    return Duration.ofSeconds(seconds, nanos);
+  }
+
+  private static boolean isDate(String text) {
+    return isDigits(text, 0, 4)
+        && text.charAt(4) == '-'
+        && isDigits(text, 5, 7)
+        && text.charAt(7) == '-'
+        && isDigits(text, 8, 10);
+  }
+
+  private static boolean isDigits(String text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!isDigit(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int number(String text, int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      value = value * 10 + (text.charAt(i) - '0');
+    }
+    return value;
+  }
+}
@@ -0,0 +1,226 @@
+package com.athenhub.commonutils.gson;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link GsonUtils#iterate(java.io.Reader, Class)}가 반환하는 JSON 배열 지연 반복자.
+ *
+ * <pre>
+ * - 최상위 JSON 배열의 요소를 {@link #next()} 호출 시점에 하나씩 디코딩 (전체 목록/문자열을 만들지 않음)
+ * - 배열 끝에 도달하거나 읽기에 실패하면 원본 입력을 닫음, 중간에 멈출 때는 {@link #close()} 호출
+ * - {@link #stream()}/{@link #batches(int)}로 Stream 변환, Stream을 닫으면 원본 입력도 닫힘
+ * - 빈 입력과 JSON null은 요소가 없는 배열로 처리
+ * </pre>
+ *
+ * <pre>{@code
+ * try (Stream<List<Product>> batches = GsonUtils.iterate(in, Product.class).batches(1_000)) {
+ *   batches.forEach(productRepository::saveAll);
+ * }
+ * }</pre>
+ *
+ * <p>한 스레드가 소유하는 것을 전제로 하며 스레드 안전하지 않다.
+ *
+ * @param <T> 요소 타입
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+  private static final int MAX_INITIAL_BATCH_CAPACITY = 1_024;
+
+  private final JsonReader reader;
+  private final TypeAdapter<T> adapter;
+  private boolean started;
+  private boolean closed;
+
+  JsonArrayIterator(JsonReader reader, TypeAdapter<T> adapter) {
+    this.reader = reader;
+    this.adapter = adapter;
+  }
+
+  /**
+   * 다음 요소가 있는지 확인한다. 배열 끝에 도달하면 문서 뒤에 남은 내용이 없는지 확인하고 원본 입력을 닫는다.
+   *
+   * @return 다음 요소가 있으면 true
+   * @throws JsonSyntaxException 최상위 값이 배열이 아니거나 JSON 형식이 잘못된 경우
+   * @throws JsonIOException 읽기 실패 시
+   */
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    try {
+      if (!started && !begin()) {
+        return false;
+      }
+      if (reader.hasNext()) {
+        return true;
+      }
+      reader.endArray();
+      if (reader.peek() != JsonToken.END_DOCUMENT) {
+        throw new JsonSyntaxException("JSON document was not fully consumed.");
+      }
+      close();
+      return false;
+    } catch (RuntimeException | IOException e) {
+      throw fail(e);
+    }
+  }
+
+  /**
+   * 다음 요소를 디코딩한다.
+   *
+   * @return 다음 요소 (JSON null 요소는 null)
+   * @throws NoSuchElementException 남은 요소가 없는 경우
+   * @throws JsonSyntaxException JSON 형식이 잘못되었거나 타입과 맞지 않는 경우
+   * @throws JsonIOException 읽기 실패 시
+   */
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return adapter.read(reader);
+    } catch (RuntimeException | IOException e) {
+      throw fail(e);
+    }
+  }
+
+  /**
+   * 남은 요소를 순서대로 반환하는 Stream을 만든다. Stream을 닫으면 원본 입력도 닫는다.
+   *
+   * @return 요소 Stream
+   */
+  public Stream<T> stream() {
+    return toStream(this, Spliterator.ORDERED);
+  }
+
+  /**
+   * 남은 요소를 최대 {@code size}개씩 묶은 Stream을 만든다. 마지막 묶음은 더 작을 수 있으며, Stream을 닫으면 원본 입력도 닫는다.
+   *
+   * <p>묶음마다 새 목록을 만들어 반환하므로 메모리에는 처리 중인 묶음만 남는다.
+   *
+   * @param size 묶음 크기
+   * @return 묶음 Stream
+   * @throws IllegalArgumentException 묶음 크기가 0 이하인 경우
+   */
+  public Stream<List<T>> batches(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive: " + size);
+    }
+    Iterator<List<T>> batches =
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return JsonArrayIterator.this.hasNext();
+          }
+
+          @Override
+          public List<T> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            List<T> batch = new ArrayList<>(Math.min(size, MAX_INITIAL_BATCH_CAPACITY));
+            do {
+              batch.add(JsonArrayIterator.this.next());
+            } while (batch.size() < size && hasNext());
+            return batch;
+          }
+        };
+    return toStream(batches, Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  /**
+   * 원본 입력을 닫는다. 이미 닫혔으면 아무것도 하지 않는다.
+   *
+   * @throws JsonIOException 닫기 실패 시
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * 배열 시작을 읽는다.
+   *
+   * @return 읽을 배열이 있으면 true, 빈 입력이나 JSON null이면 입력을 닫고 false
+   * @throws IOException 읽기 실패 시
+   */
+  private boolean begin() throws IOException {
+    started = true;
+    JsonToken token;
+    try {
+      token = reader.peek();
+    } catch (EOFException e) {
+      close();
+      return false;
+    }
+    if (token == JsonToken.NULL) {
+      reader.nextNull();
+      if (reader.peek() != JsonToken.END_DOCUMENT) {
+        throw new JsonSyntaxException("JSON document was not fully consumed.");
+      }
+      close();
+      return false;
+    }
+    reader.beginArray();
+    return true;
+  }
+
+  /**
+   * 읽기 실패 시 원본 입력을 닫고 예외를 변환한다. 형식 오류와 중간에 끝난 입력은 {@link JsonSyntaxException}, 그 밖의 읽기 실패는
+   * {@link JsonIOException}으로 변환한다.
+   *
+   * @param e 발생한 예외
+   * @return 호출 측에서 던질 예외
+   */
+  private RuntimeException fail(Exception e) {
+    closed = true;
+    try {
+      reader.close();
+    } catch (IOException closeFailure) {
+      e.addSuppressed(closeFailure);
+    }
+    if (e instanceof MalformedJsonException
+        || e instanceof EOFException
+        || e instanceof IllegalStateException) {
+      return new JsonSyntaxException(e);
+    }
+    if (e instanceof IOException) {
+      return new JsonIOException(e);
+    }
+    return (RuntimeException) e;
+  }
+
+  private <E> Stream<E> toStream(Iterator<E> iterator, int characteristics) {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+        .onClose(this::close);
+  }
+}
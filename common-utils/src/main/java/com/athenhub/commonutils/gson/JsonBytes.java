@@ -0,0 +1,104 @@
+package com.athenhub.commonutils.gson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * {@link GsonUtils#toJsonBytes(Object)}가 반환하는 UTF-8 JSON 바이트 리스.
+ *
+ * <pre>
+ * - 풀에서 빌린 버퍼를 그대로 담고 있으며, {@link #close()}로 풀에 반납
+ * - 응답 본문/로그 싱크에 {@link #writeTo(OutputStream)}/{@link #writeTo(ByteBuffer)}로 복사 없이 기록
+ * - 닫은 뒤에는 버퍼가 다른 직렬화에 재사용되므로 모든 접근이 {@link IllegalStateException}으로 실패
+ * </pre>
+ *
+ * <pre>{@code
+ * try (JsonBytes json = GsonUtils.toJsonBytes(order)) {
+ *   response.setContentLength(json.length());
+ *   json.writeTo(response.getOutputStream());
+ * }
+ * }</pre>
+ *
+ * <p>한 스레드가 소유하는 것을 전제로 하며 스레드 안전하지 않다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class JsonBytes implements AutoCloseable {
+
+  private final ByteArrayPool pool;
+  private final int length;
+  private byte[] buffer;
+
+  JsonBytes(ByteArrayPool pool, byte[] buffer, int length) {
+    this.pool = pool;
+    this.buffer = buffer;
+    this.length = length;
+  }
+
+  /**
+   * UTF-8 바이트 길이를 반환한다.
+   *
+   * @return 바이트 길이
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * 바이트를 출력 스트림에 기록한다. 스트림은 닫지 않는다.
+   *
+   * @param out 출력 스트림
+   * @throws IOException 기록 실패 시
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    out.write(buffer(), 0, length);
+  }
+
+  /**
+   * 바이트를 대상 버퍼의 현재 position부터 기록한다.
+   *
+   * @param target 대상 버퍼
+   * @throws BufferOverflowException 남은 공간이 부족한 경우 (대상 버퍼는 변경되지 않음)
+   */
+  public void writeTo(ByteBuffer target) {
+    target.put(buffer(), 0, length);
+  }
+
+  /**
+   * 바이트를 읽기 전용 버퍼로 감싸 반환한다. 복사하지 않으므로 리스를 닫기 전까지만 유효하다.
+   *
+   * @return 읽기 전용 버퍼
+   */
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(buffer(), 0, length).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * 바이트를 새 배열로 복사하여 반환한다. 리스를 닫은 뒤에도 유지해야 하는 경우에 사용한다.
+   *
+   * @return 복사한 바이트 배열
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer(), length);
+  }
+
+  /** 버퍼를 풀에 반납한다. 여러 번 호출해도 한 번만 반납한다. */
+  @Override
+  public void close() {
+    if (buffer != null) {
+      pool.release(buffer);
+      buffer = null;
+    }
+  }
+
+  private byte[] buffer() {
+    if (buffer == null) {
+      throw new IllegalStateException("JsonBytes has already been released.");
+    }
+    return buffer;
+  }
+}
@@ -0,0 +1,41 @@
+package com.athenhub.commonutils.gson;
+
+/**
+ * 로그 등 부가 용도로 JSON을 렌더링할 때 적용할 크기 제한 값.
+ *
+ * <ul>
+ *   <li>{@code maxLength} — 출력 문자열의 최대 길이(문자 수). 초과 시 그 지점에서 직렬화를 중단한다.
+ *   <li>{@code maxElements} — 배열/컬렉션 하나당 출력할 최대 요소 수. 나머지는 원래 요소 수와 함께 생략 표시로 대체된다.
+ *   <li>{@code maxDepth} — 출력할 최대 중첩 깊이. 더 깊은 객체/배열은 생략 표시로 대체된다.
+ * </ul>
+ *
+ * @param maxLength 최대 출력 길이
+ * @param maxElements 배열당 최대 요소 수
+ * @param maxDepth 최대 중첩 깊이
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public record JsonRenderLimits(int maxLength, int maxElements, int maxDepth) {
+
+  /** 기본 제한 값 (4096자, 배열당 100개, 깊이 8). */
+  public static final JsonRenderLimits DEFAULT = new JsonRenderLimits(4096, 100, 8);
+
+  /**
+   * 제한 값을 검증한다.
+   *
+   * @param maxLength 최대 출력 길이
+   * @param maxElements 배열당 최대 요소 수
+   * @param maxDepth 최대 중첩 깊이
+   */
+  public JsonRenderLimits {
+    if (maxLength <= 0 || maxElements < 0 || maxDepth <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid JSON render limits: maxLength="
+              + maxLength
+              + ", maxElements="
+              + maxElements
+              + ", maxDepth="
+              + maxDepth);
+    }
+  }
+}
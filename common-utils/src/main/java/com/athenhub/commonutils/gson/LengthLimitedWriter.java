@@ -0,0 +1,107 @@
+package com.athenhub.commonutils.gson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 최대 길이까지만 기록하고, 초과하는 순간 {@link LimitExceededException}으로 직렬화를 중단시키는 Writer.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class LengthLimitedWriter extends Writer {
+
+  private final StringBuilder buffer;
+  private final int maxLength;
+
+  LengthLimitedWriter(int maxLength) {
+    this.buffer = new StringBuilder(Math.min(maxLength, 256));
+    this.maxLength = maxLength;
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    ensureCapacity(1);
+    buffer.append((char) c);
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) throws IOException {
+    int writable = ensureCapacity(length);
+    buffer.append(chars, offset, writable);
+    if (writable < length) {
+      throw new LimitExceededException();
+    }
+  }
+
+  @Override
+  public void write(String str, int offset, int length) throws IOException {
+    int writable = ensureCapacity(length);
+    buffer.append(str, offset, offset + writable);
+    if (writable < length) {
+      throw new LimitExceededException();
+    }
+  }
+
+  @Override
+  public Writer append(CharSequence csq) throws IOException {
+    CharSequence value = csq == null ? "null" : csq;
+    return append(value, 0, value.length());
+  }
+
+  @Override
+  public Writer append(CharSequence csq, int start, int end) throws IOException {
+    CharSequence value = csq == null ? "null" : csq;
+    int writable = ensureCapacity(end - start);
+    buffer.append(value, start, start + writable);
+    if (writable < end - start) {
+      throw new LimitExceededException();
+    }
+    return this;
+  }
+
+  @Override
+  public Writer append(char c) throws IOException {
+    write(c);
+    return this;
+  }
+
+  @Override
+  public void flush() {}
+
+  @Override
+  public void close() {}
+
+  @Override
+  public String toString() {
+    return buffer.toString();
+  }
+
+  /**
+   * 남은 용량 안에서 기록 가능한 길이를 반환한다. 남은 용량이 없으면 즉시 중단한다.
+   *
+   * @param length 기록하려는 길이
+   * @return 실제로 기록 가능한 길이
+   * @throws LimitExceededException 남은 용량이 없을 때
+   */
+  private int ensureCapacity(int length) throws LimitExceededException {
+    int remaining = maxLength - buffer.length();
+    if (remaining <= 0) {
+      throw new LimitExceededException();
+    }
+    return Math.min(remaining, length);
+  }
+
+  /** 최대 길이 초과 시 직렬화를 중단하기 위한 예외. 스택 트레이스를 생성하지 않는다. */
+  static final class LimitExceededException extends IOException {
+
+    LimitExceededException() {
+      super("JSON render length limit exceeded");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+}
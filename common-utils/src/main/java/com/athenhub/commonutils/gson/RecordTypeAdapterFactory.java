@@ -0,0 +1,282 @@
+package com.athenhub.commonutils.gson;
+
+import com.athenhub.commonutils.gson.codegen.GeneratedAdapterSupport;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 레코드 전용 Gson 타입 어댑터 팩토리.
+ *
+ * <pre>
+ * - 타입마다 한 번 레코드 컴포넌트 접근자와 정규 생성자를 {@link MethodHandle}로 변환하여 보관
+ * - 호출마다 Method#invoke/Constructor#newInstance의 접근 검사와 인자 배열 검증을 하지 않음
+ * - 원시 타입 컴포넌트는 타입이 고정된 핸들로 읽어 박싱 없이 JsonWriter에 기록
+ * - JSON 이름/순서, null 처리, 원시 타입 컴포넌트에 null이 오면 예외를 던지는 동작은 Gson 기본 레코드 어댑터와 같음
+ * </pre>
+ *
+ * <p>제네릭 레코드, {@link JsonAdapter}가 붙은 레코드/컴포넌트, MethodHandle로 접근할 수 없는 레코드(패키지를 열지 않은 모듈)는
+ * null을 반환하여 Gson 기본 어댑터로 처리한다. {@link com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter}로
+ * 어댑터가 생성된 레코드는 생성된 어댑터가 우선한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class RecordTypeAdapterFactory implements TypeAdapterFactory {
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+    Class<? super T> type = typeToken.getRawType();
+    if (!type.isRecord()
+        || type.getTypeParameters().length > 0
+        || type.isAnnotationPresent(JsonAdapter.class)) {
+      return null;
+    }
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      RecordComponent[] recordComponents = type.getRecordComponents();
+      Component[] components = new Component[recordComponents.length];
+      Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+      for (int i = 0; i < recordComponents.length; i++) {
+        Component component = component(gson, lookup, type, recordComponents[i]);
+        if (component == null) {
+          return null;
+        }
+        components[i] = component;
+        parameterTypes[i] = recordComponents[i].getType();
+      }
+      Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+      MethodHandle canonical =
+          lookup
+              .unreflectConstructor(constructor)
+              .asSpreader(Object[].class, parameterTypes.length)
+              .asType(MethodType.methodType(Object.class, Object[].class));
+      return (TypeAdapter<T>) new RecordAdapter(gson, type, components, canonical);
+    } catch (IllegalAccessException | NoSuchMethodException | NoSuchFieldException e) {
+      return null;
+    }
+  }
+
+  private static Component component(
+      Gson gson, MethodHandles.Lookup lookup, Class<?> recordType, RecordComponent recordComponent)
+      throws IllegalAccessException, NoSuchFieldException {
+    Field field = recordType.getDeclaredField(recordComponent.getName());
+    if (field.isAnnotationPresent(JsonAdapter.class)) {
+      return null;
+    }
+    Class<?> type = recordComponent.getType();
+    MethodHandle accessor = lookup.unreflect(recordComponent.getAccessor());
+    Class<?> returnType = type.isPrimitive() ? type : Object.class;
+    MethodHandle getter = accessor.asType(MethodType.methodType(returnType, Object.class));
+
+    String[] names;
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    if (serializedName == null) {
+      names = new String[] {recordComponent.getName()};
+    } else {
+      names = new String[serializedName.alternate().length + 1];
+      names[0] = serializedName.value();
+      System.arraycopy(serializedName.alternate(), 0, names, 1, names.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    TypeAdapter<Object> adapter =
+        (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(recordComponent.getGenericType()));
+    return new Component(
+        recordComponent.getName(), names, type, getter, adapter, isRuntimeTyped(type));
+  }
+
+  /** Gson 기본 어댑터처럼 실제 타입 기준으로 써야 하는 컴포넌트인지 판단한다. */
+  private static boolean isRuntimeTyped(Class<?> type) {
+    return !type.isPrimitive()
+        && !type.isArray()
+        && !type.isEnum()
+        && !type.isRecord()
+        && !Modifier.isFinal(type.getModifiers())
+        && type != Object.class
+        && !Collection.class.isAssignableFrom(type)
+        && !Map.class.isAssignableFrom(type);
+  }
+
+  /**
+   * 레코드 컴포넌트 하나의 변환 정보.
+   *
+   * @param name 컴포넌트 이름
+   * @param names JSON 이름 (첫 번째가 출력 이름, 나머지는 읽기 전용 대체 이름)
+   * @param type 컴포넌트 타입
+   * @param getter 접근자 핸들 (원시 타입이면 해당 원시 타입 반환, 아니면 Object 반환)
+   * @param adapter 컴포넌트 타입 어댑터
+   * @param runtimeTyped 실제 타입 기준으로 써야 하는지 여부
+   */
+  private record Component(
+      String name,
+      String[] names,
+      Class<?> type,
+      MethodHandle getter,
+      TypeAdapter<Object> adapter,
+      boolean runtimeTyped) {
+
+    void write(Gson gson, boolean specialFloats, JsonWriter out, Object record) throws Throwable {
+      out.name(names[0]);
+      if (type == int.class) {
+        out.value((int) getter.invokeExact(record));
+      } else if (type == long.class) {
+        out.value((long) getter.invokeExact(record));
+      } else if (type == double.class) {
+        double value = (double) getter.invokeExact(record);
+        out.value(GeneratedAdapterSupport.checkFinite(specialFloats, value));
+      } else if (type == boolean.class) {
+        out.value((boolean) getter.invokeExact(record));
+      } else if (type == float.class) {
+        float value = (float) getter.invokeExact(record);
+        out.value(GeneratedAdapterSupport.checkFinite(specialFloats, value));
+      } else if (type == short.class) {
+        out.value((short) getter.invokeExact(record));
+      } else if (type == byte.class) {
+        out.value((byte) getter.invokeExact(record));
+      } else if (type == char.class) {
+        out.value(String.valueOf((char) getter.invokeExact(record)));
+      } else if (runtimeTyped) {
+        Object value = (Object) getter.invokeExact(record);
+        GeneratedAdapterSupport.writeRuntimeType(gson, adapter, type, out, value);
+      } else {
+        adapter.write(out, (Object) getter.invokeExact(record));
+      }
+    }
+  }
+
+  /** MethodHandle로 레코드를 읽고 쓰는 어댑터. */
+  private static final class RecordAdapter extends TypeAdapter<Object> {
+
+    private final Gson gson;
+    private final Class<?> type;
+    private final Component[] components;
+    private final MethodHandle canonical;
+    private final Map<String, Integer> indexByName = new HashMap<>();
+    private final Object[] defaults;
+    private final boolean specialFloats;
+
+    RecordAdapter(Gson gson, Class<?> type, Component[] components, MethodHandle canonical) {
+      this.gson = gson;
+      this.type = type;
+      this.components = components;
+      this.canonical = canonical;
+      this.defaults = new Object[components.length];
+      this.specialFloats = GeneratedAdapterSupport.serializesSpecialFloatingPointValues(gson);
+      for (int i = 0; i < components.length; i++) {
+        for (String name : components[i].names()) {
+          indexByName.putIfAbsent(name, i);
+        }
+        defaults[i] = defaultValue(components[i].type());
+      }
+    }
+
+    @Override
+    public void write(JsonWriter out, Object value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      for (Component component : components) {
+        try {
+          component.write(gson, specialFloats, out, value);
+        } catch (IOException | RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw new JsonIOException(
+              "Accessor of record component '"
+                  + component.name()
+                  + "' of "
+                  + type.getName()
+                  + " failed during serialization",
+              e);
+        }
+      }
+      out.endObject();
+    }
+
+    @Override
+    public Object read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      Object[] arguments = defaults.clone();
+      in.beginObject();
+      while (in.hasNext()) {
+        Integer index = indexByName.get(in.nextName());
+        if (index == null) {
+          in.skipValue();
+          continue;
+        }
+        Component component = components[index];
+        Object value = component.adapter().read(in);
+        if (value == null && component.type().isPrimitive()) {
+          throw new JsonParseException(
+              "null is not allowed as value for record component '"
+                  + component.name()
+                  + "' of primitive type; at path "
+                  + in.getPath());
+        }
+        arguments[index] = value;
+      }
+      in.endObject();
+      try {
+        return (Object) canonical.invokeExact(arguments);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new JsonIOException("Failed to invoke constructor of " + type.getName(), e);
+      }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+      if (!type.isPrimitive()) {
+        return null;
+      }
+      if (type == boolean.class) {
+        return false;
+      }
+      if (type == char.class) {
+        return '\0';
+      }
+      if (type == long.class) {
+        return 0L;
+      }
+      if (type == float.class) {
+        return 0F;
+      }
+      if (type == double.class) {
+        return 0D;
+      }
+      if (type == byte.class) {
+        return (byte) 0;
+      }
+      if (type == short.class) {
+        return (short) 0;
+      }
+      return 0;
+    }
+  }
+}
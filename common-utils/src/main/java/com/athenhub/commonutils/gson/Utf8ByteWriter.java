@@ -0,0 +1,212 @@
+package com.athenhub.commonutils.gson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * 문자를 String이나 CharsetEncoder를 거치지 않고 풀 버퍼에 바로 UTF-8로 인코딩하는 Writer.
+ *
+ * <pre>
+ * - 출력 스트림이 있으면 버퍼가 찰 때마다 스트림으로 내보내고 버퍼를 재사용 (메모리 사용량이 버퍼 크기로 고정)
+ * - 출력 스트림이 없으면 버퍼를 늘려 전체 결과를 담고, {@link #toJsonBytes()}로 버퍼 소유권을 넘김
+ * - 서로게이트 쌍은 4바이트로 인코딩하고, 짝이 없는 서로게이트는 {@link String#getBytes}와 같이 '?'로 대체
+ * </pre>
+ *
+ * <p>한 번에 한 스레드만 사용해야 하며, 사용 후 {@link #release()} 또는 {@link #toJsonBytes()}로 버퍼를 반납해야 한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class Utf8ByteWriter extends Writer {
+
+  /** 문자 하나를 기록할 때 필요한 최대 바이트 수 (대체 문자 + 3바이트 문자). */
+  private static final int MAX_BYTES_PER_CHAR = 4;
+
+  private final ByteArrayPool pool;
+  private final OutputStream sink;
+  private byte[] buffer;
+  private int count;
+  private char pendingHighSurrogate;
+
+  /**
+   * 전체 결과를 버퍼에 담는 Writer를 생성한다.
+   *
+   * @param pool 버퍼 풀
+   */
+  Utf8ByteWriter(ByteArrayPool pool) {
+    this(pool, null);
+  }
+
+  /**
+   * 버퍼가 찰 때마다 출력 스트림으로 내보내는 Writer를 생성한다.
+   *
+   * @param pool 버퍼 풀
+   * @param sink 출력 스트림, null이면 버퍼를 늘려 전체 결과를 담음
+   */
+  Utf8ByteWriter(ByteArrayPool pool, OutputStream sink) {
+    this.pool = pool;
+    this.sink = sink;
+    this.buffer = pool.acquire();
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    ensureCapacity();
+    encode((char) c);
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) throws IOException {
+    for (int i = offset, end = offset + length; i < end; i++) {
+      ensureCapacity();
+      encode(chars[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int offset, int length) throws IOException {
+    for (int i = offset, end = offset + length; i < end; i++) {
+      ensureCapacity();
+      encode(str.charAt(i));
+    }
+  }
+
+  @Override
+  public Writer append(CharSequence csq) throws IOException {
+    CharSequence value = csq == null ? "null" : csq;
+    return append(value, 0, value.length());
+  }
+
+  @Override
+  public Writer append(CharSequence csq, int start, int end) throws IOException {
+    CharSequence value = csq == null ? "null" : csq;
+    for (int i = start; i < end; i++) {
+      ensureCapacity();
+      encode(value.charAt(i));
+    }
+    return this;
+  }
+
+  @Override
+  public Writer append(char c) throws IOException {
+    write(c);
+    return this;
+  }
+
+  /** 출력 스트림이 있으면 버퍼에 남은 바이트를 내보내고 스트림을 flush한다. */
+  @Override
+  public void flush() throws IOException {
+    if (sink != null) {
+      drain();
+      sink.flush();
+    }
+  }
+
+  /** 스트림과 버퍼는 {@link #release()}/{@link #toJsonBytes()}로 정리하므로 아무것도 하지 않는다. */
+  @Override
+  public void close() {}
+
+  /**
+   * 지금까지 기록한 바이트 수를 반환한다. 출력 스트림으로 내보낸 바이트는 포함하지 않는다.
+   *
+   * @return 버퍼에 담긴 바이트 수
+   */
+  int size() {
+    return count;
+  }
+
+  /**
+   * 기록을 마치고 버퍼 소유권을 {@link JsonBytes}로 넘긴다. 짝이 없이 끝난 서로게이트는 '?'로 기록한다.
+   *
+   * @return 인코딩 결과 리스
+   */
+  JsonBytes toJsonBytes() {
+    finishSurrogate();
+    JsonBytes bytes = new JsonBytes(pool, buffer, count);
+    buffer = null;
+    return bytes;
+  }
+
+  /** 버퍼를 풀에 반납한다. 이미 반납했거나 소유권을 넘긴 경우 아무것도 하지 않는다. */
+  void release() {
+    if (buffer != null) {
+      pool.release(buffer);
+      buffer = null;
+    }
+  }
+
+  private void encode(char c) {
+    if (pendingHighSurrogate != 0) {
+      char high = pendingHighSurrogate;
+      pendingHighSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint(high, c);
+        buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+        return;
+      }
+      buffer[count++] = '?';
+    }
+    if (c < 0x80) {
+      buffer[count++] = (byte) c;
+    } else if (c < 0x800) {
+      buffer[count++] = (byte) (0xC0 | (c >> 6));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      pendingHighSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      buffer[count++] = '?';
+    } else {
+      buffer[count++] = (byte) (0xE0 | (c >> 12));
+      buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    }
+  }
+
+  private void finishSurrogate() {
+    if (pendingHighSurrogate != 0) {
+      pendingHighSurrogate = 0;
+      ensureCapacityUnchecked();
+      buffer[count++] = '?';
+    }
+  }
+
+  /**
+   * 문자 하나를 기록할 공간을 확보한다. 출력 스트림이 있으면 버퍼를 내보내고, 없으면 버퍼를 두 배로 늘린다.
+   *
+   * @throws IOException 출력 스트림 기록 실패 시
+   */
+  private void ensureCapacity() throws IOException {
+    if (count + MAX_BYTES_PER_CHAR <= buffer.length) {
+      return;
+    }
+    if (sink != null) {
+      drain();
+    } else {
+      grow();
+    }
+  }
+
+  private void ensureCapacityUnchecked() {
+    if (count + MAX_BYTES_PER_CHAR > buffer.length) {
+      grow();
+    }
+  }
+
+  private void drain() throws IOException {
+    if (count > 0) {
+      sink.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  private void grow() {
+    byte[] previous = buffer;
+    buffer = Arrays.copyOf(previous, previous.length * 2);
+    pool.release(previous);
+  }
+}
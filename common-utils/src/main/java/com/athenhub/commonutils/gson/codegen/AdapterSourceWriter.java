@@ -0,0 +1,272 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import com.athenhub.commonutils.gson.codegen.GsonAdapterProcessor.Property;
+import java.util.List;
+import javax.lang.model.type.TypeKind;
+
+/**
+ * {@link GsonAdapterProcessor}가 타입 하나에 대해 생성하는 팩토리 소스 코드를 작성한다.
+ *
+ * <p>생성 코드는 import 충돌을 피하기 위해 모든 타입을 정규 이름으로 참조한다. 프로세서 경로에 Gson이 없어도 동작하도록 Gson과
+ * 런타임 타입은 클래스 리터럴 대신 문자열로 참조한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+final class AdapterSourceWriter {
+
+  private static final String GSON = "com.google.gson.Gson";
+  private static final String TYPE_ADAPTER = "com.google.gson.TypeAdapter";
+  private static final String TYPE_TOKEN = "com.google.gson.reflect.TypeToken";
+  private static final String JSON_READER = "com.google.gson.stream.JsonReader";
+  private static final String JSON_WRITER = "com.google.gson.stream.JsonWriter";
+  private static final String JSON_TOKEN = "com.google.gson.stream.JsonToken";
+  private static final String SUPPORT =
+      "com.athenhub.commonutils.gson.codegen.GeneratedAdapterSupport";
+  private static final String FACTORY =
+      "com.athenhub.commonutils.gson.codegen.GeneratedTypeAdapterFactory";
+
+  private final String packageName;
+  private final String factoryName;
+  private final String typeName;
+  private final boolean record;
+  private final List<Property> properties;
+  private final StringBuilder out = new StringBuilder(4096);
+
+  AdapterSourceWriter(
+      String packageName,
+      String factoryName,
+      String typeName,
+      boolean record,
+      List<Property> properties) {
+    this.packageName = packageName;
+    this.factoryName = factoryName;
+    this.typeName = typeName;
+    this.record = record;
+    this.properties = properties;
+  }
+
+  String write() {
+    if (!packageName.isEmpty()) {
+      line(0, "package " + packageName + ";");
+      line(0, "");
+    }
+    String processor = GsonAdapterProcessor.class.getName();
+    line(0, "@javax.annotation.processing.Generated(\"" + processor + "\")");
+    line(0, "public final class " + factoryName);
+    line(2, "implements " + FACTORY + " {");
+    line(0, "");
+    line(1, "@Override");
+    line(1, "public Class<?> type() {");
+    line(2, "return " + typeName + ".class;");
+    line(1, "}");
+    line(0, "");
+    line(1, "@Override");
+    line(1, "@SuppressWarnings(\"unchecked\")");
+    line(1, "public <T> " + TYPE_ADAPTER + "<T> create(");
+    line(3, GSON + " gson, " + TYPE_TOKEN + "<T> typeToken) {");
+    line(2, "return typeToken.getRawType() == " + typeName + ".class");
+    line(4, "? (" + TYPE_ADAPTER + "<T>) new Adapter(gson)");
+    line(4, ": null;");
+    line(1, "}");
+    line(0, "");
+    line(1, "@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+    line(1, "private static final class Adapter extends " + TYPE_ADAPTER + "<" + typeName + "> {");
+    line(0, "");
+    line(2, "private final " + GSON + " gson;");
+    if (hasFloatingPoint()) {
+      line(2, "private final boolean specialFloats;");
+    }
+    for (int i = 0; i < properties.size(); i++) {
+      if (!properties.get(i).isPrimitive()) {
+        line(2, "private final " + TYPE_ADAPTER + "<Object> adapter" + i + ";");
+      }
+    }
+    line(0, "");
+    line(2, "Adapter(" + GSON + " gson) {");
+    line(3, "this.gson = gson;");
+    if (hasFloatingPoint()) {
+      line(3, "this.specialFloats = " + SUPPORT + ".serializesSpecialFloatingPointValues(gson);");
+    }
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      if (!property.isPrimitive()) {
+        line(3, "this.adapter" + i + " =");
+        line(5, "(" + TYPE_ADAPTER + ") gson.getAdapter(");
+        line(7, TYPE_TOKEN + ".get(" + property.typeExpression() + "));");
+      }
+    }
+    line(2, "}");
+    writeMethod();
+    readMethod();
+    line(1, "}");
+    line(0, "}");
+    return out.toString();
+  }
+
+  private void writeMethod() {
+    line(0, "");
+    line(2, "@Override");
+    line(2, "public void write(" + JSON_WRITER + " out, " + typeName + " value)");
+    line(4, "throws java.io.IOException {");
+    line(3, "if (value == null) {");
+    line(4, "out.nullValue();");
+    line(4, "return;");
+    line(3, "}");
+    line(3, "out.beginObject();");
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      String value = "value." + property.access();
+      line(3, "out.name(" + literal(property.names().get(0)) + ");");
+      if (property.isPrimitive()) {
+        String written =
+            switch (property.type().getKind()) {
+              case CHAR -> "String.valueOf(" + value + ")";
+              case DOUBLE, FLOAT -> SUPPORT + ".checkFinite(specialFloats, " + value + ")";
+              default -> value;
+            };
+        line(3, "out.value(" + written + ");");
+      } else if (property.runtimeTyped()) {
+        line(3, SUPPORT + ".writeRuntimeType(");
+        line(5, "gson, adapter" + i + ", " + property.erasure() + ".class, out, " + value + ");");
+      } else {
+        line(3, "adapter" + i + ".write(out, " + value + ");");
+      }
+    }
+    line(3, "out.endObject();");
+    line(2, "}");
+  }
+
+  /** Gson 기본 어댑터와 같이 NaN/Infinity 검사가 필요한 double/float 프로퍼티가 있는지 확인한다. */
+  private boolean hasFloatingPoint() {
+    for (Property property : properties) {
+      TypeKind kind = property.type().getKind();
+      if (kind == TypeKind.DOUBLE || kind == TypeKind.FLOAT) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void readMethod() {
+    line(0, "");
+    line(2, "@Override");
+    line(2, "public " + typeName + " read(" + JSON_READER + " in) throws java.io.IOException {");
+    line(3, "if (in.peek() == " + JSON_TOKEN + ".NULL) {");
+    line(4, "in.nextNull();");
+    line(4, "return null;");
+    line(3, "}");
+    if (record) {
+      for (int i = 0; i < properties.size(); i++) {
+        Property property = properties.get(i);
+        if (property.isPrimitive()) {
+          String initial = defaultValue(property.type().getKind());
+          line(3, property.type() + " v" + i + " = " + initial + ";");
+        } else {
+          line(3, "Object v" + i + " = null;");
+        }
+      }
+    } else {
+      line(3, typeName + " value = new " + typeName + "();");
+    }
+    line(3, "in.beginObject();");
+    line(3, "while (in.hasNext()) {");
+    line(4, "switch (in.nextName()) {");
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      String target = record ? "v" + i : "value." + property.access();
+      StringBuilder labels = new StringBuilder();
+      for (String name : property.names()) {
+        labels.append(labels.isEmpty() ? "" : ", ").append(literal(name));
+      }
+      if (property.isPrimitive()) {
+        line(5, "case " + labels + " -> {");
+        line(6, "if (in.peek() == " + JSON_TOKEN + ".NULL) {");
+        if (record) {
+          // Gson 기본 레코드 어댑터와 같이 원시 타입 컴포넌트의 null은 허용하지 않는다
+          String component = property.access().substring(0, property.access().length() - 2);
+          line(7, "throw new com.google.gson.JsonParseException(");
+          line(9, "\"null is not allowed as value for record component '" + component + "'\"");
+          line(11, "+ \" of primitive type; at path \" + in.getPath());");
+        } else {
+          line(7, "in.nextNull();");
+        }
+        line(6, "} else {");
+        line(7, target + " = " + readPrimitive(property.type().getKind()) + ";");
+        line(6, "}");
+        line(5, "}");
+      } else {
+        String cast = record ? "" : "(" + property.erasure() + ") ";
+        line(5, "case " + labels + " -> " + target + " = " + cast + "adapter" + i + ".read(in);");
+      }
+    }
+    line(5, "default -> in.skipValue();");
+    line(4, "}");
+    line(3, "}");
+    line(3, "in.endObject();");
+    if (record) {
+      StringBuilder arguments = new StringBuilder();
+      for (int i = 0; i < properties.size(); i++) {
+        Property property = properties.get(i);
+        arguments.append(i == 0 ? "" : ", ");
+        if (!property.isPrimitive()) {
+          arguments.append('(').append(property.erasure()).append(") ");
+        }
+        arguments.append('v').append(i);
+      }
+      line(3, "return new " + typeName + "(" + arguments + ");");
+    } else {
+      line(3, "return value;");
+    }
+    line(2, "}");
+  }
+
+  private static String readPrimitive(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> SUPPORT + ".nextBoolean(in)";
+      case CHAR -> SUPPORT + ".nextChar(in)";
+      case BYTE -> SUPPORT + ".nextByte(in)";
+      case SHORT -> SUPPORT + ".nextShort(in)";
+      case INT -> "in.nextInt()";
+      case LONG -> "in.nextLong()";
+      case FLOAT -> "(float) in.nextDouble()";
+      case DOUBLE -> "in.nextDouble()";
+      default -> throw new IllegalArgumentException("Not a primitive type: " + kind);
+    };
+  }
+
+  private static String defaultValue(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> "false";
+      case CHAR -> "'\\0'";
+      case BYTE -> "(byte) 0";
+      case SHORT -> "(short) 0";
+      case LONG -> "0L";
+      case FLOAT -> "0F";
+      case DOUBLE -> "0D";
+      default -> "0";
+    };
+  }
+
+  private static String literal(String value) {
+    StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        literal.append('\\').append(c);
+      } else if (c < 0x20 || c > 0x7E) {
+        literal.append(String.format("\\u%04x", (int) c));
+      } else {
+        literal.append(c);
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  private void line(int indent, String text) {
+    if (!text.isEmpty()) {
+      out.append("  ".repeat(indent)).append(text);
+    }
+    out.append('\n');
+  }
+}
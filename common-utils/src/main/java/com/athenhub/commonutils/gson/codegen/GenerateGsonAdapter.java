@@ -0,0 +1,35 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 빌드 시점에 리플렉션 없는 Gson {@link com.google.gson.TypeAdapter}를 생성할 DTO에 붙이는 애노테이션.
+ *
+ * <pre>
+ * - {@link GsonAdapterProcessor}가 같은 패키지에 {@code <타입명>_GsonAdapterFactory}를 생성
+ * - 생성된 팩토리는 META-INF/services에 등록되어 {@link com.athenhub.commonutils.gson.GsonUtils}가 자동으로 사용
+ * - 레코드는 접근자와 정규 생성자로, 클래스는 private/final이 아닌 필드와 인자 없는 생성자로 읽고 씀
+ * - JSON 필드 이름과 순서는 Gson 기본 동작과 같음 ({@code @SerializedName} 지원, static/transient 필드 제외)
+ * </pre>
+ *
+ * <pre>{@code
+ * // build.gradle
+ * annotationProcessor 'com.athenhub:common-utils:<version>'
+ *
+ * @GenerateGsonAdapter
+ * public record OrderResponse(long id, String name, List<OrderItem> items) {}
+ * }</pre>
+ *
+ * <p>제네릭 타입, private 중첩 타입, {@code @JsonAdapter} 필드처럼 생성 코드로 접근할 수 없는 경우 컴파일 오류로 알린다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateGsonAdapter {}
@@ -0,0 +1,162 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * {@link GsonAdapterProcessor}가 생성한 코드에서 호출하는 보조 메서드 모음. 애플리케이션 코드에서 사용하지 않는다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class GeneratedAdapterSupport {
+
+  private GeneratedAdapterSupport() {}
+
+  /**
+   * 선언 타입이 인터페이스/상속 가능한 클래스인 필드를 Gson 리플렉션 어댑터처럼 실제 타입 기준으로 쓴다.
+   *
+   * @param gson Gson
+   * @param declared 선언 타입 어댑터
+   * @param declaredType 선언 타입
+   * @param out JSON writer
+   * @param value 필드 값
+   * @throws IOException 기록 실패 시
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static void writeRuntimeType(
+      Gson gson, TypeAdapter<Object> declared, Class<?> declaredType, JsonWriter out, Object value)
+      throws IOException {
+    if (value == null || value.getClass() == declaredType) {
+      declared.write(out, value);
+      return;
+    }
+    ((TypeAdapter) gson.getAdapter(value.getClass())).write(out, value);
+  }
+
+  /**
+   * Gson에 NaN/Infinity 직렬화가 허용되어 있는지({@code
+   * GsonBuilder#serializeSpecialFloatingPointValues()}) 확인한다. Gson이 설정 값을 공개하지 않으므로 double 어댑터에
+   * NaN을 한 번 써 본다. 어댑터 생성 시 한 번만 호출한다.
+   *
+   * @param gson Gson
+   * @return NaN/Infinity 직렬화가 허용되면 true
+   */
+  public static boolean serializesSpecialFloatingPointValues(Gson gson) {
+    JsonWriter probe = new JsonWriter(Writer.nullWriter());
+    probe.setStrictness(Strictness.LENIENT);
+    try {
+      gson.getAdapter(double.class).write(probe, Double.NaN);
+      return true;
+    } catch (IllegalArgumentException | IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Gson 기본 double 어댑터와 같이 NaN/Infinity 값을 거부한다.
+   *
+   * @param specialValuesAllowed {@link #serializesSpecialFloatingPointValues(Gson)} 결과
+   * @param value 쓸 값
+   * @return 주어진 값
+   * @throws IllegalArgumentException 허용되지 않은 NaN/Infinity 값인 경우
+   */
+  public static double checkFinite(boolean specialValuesAllowed, double value) {
+    if (!specialValuesAllowed && !Double.isFinite(value)) {
+      throw new IllegalArgumentException(
+          value
+              + " is not a valid double value as per JSON specification. To override this"
+              + " behavior, use GsonBuilder.serializeSpecialFloatingPointValues() method.");
+    }
+    return value;
+  }
+
+  /**
+   * Gson 기본 float 어댑터와 같이 NaN/Infinity 값을 거부한다.
+   *
+   * @param specialValuesAllowed {@link #serializesSpecialFloatingPointValues(Gson)} 결과
+   * @param value 쓸 값
+   * @return 주어진 값
+   * @throws IllegalArgumentException 허용되지 않은 NaN/Infinity 값인 경우
+   */
+  public static float checkFinite(boolean specialValuesAllowed, float value) {
+    checkFinite(specialValuesAllowed, (double) value);
+    return value;
+  }
+
+  /**
+   * Gson 기본 boolean 어댑터와 같이 문자열 "true"/"false"도 허용하여 읽는다.
+   *
+   * @param in JSON reader
+   * @return 읽은 값
+   * @throws IOException 읽기 실패 시
+   */
+  public static boolean nextBoolean(JsonReader in) throws IOException {
+    return in.peek() == JsonToken.STRING
+        ? Boolean.parseBoolean(in.nextString())
+        : in.nextBoolean();
+  }
+
+  /**
+   * Gson 기본 byte 어댑터와 같이 부호 없는 값(최대 255)까지 허용하고, 범위를 벗어나 값이 손실되는 숫자는 오류로 처리한다.
+   *
+   * @param in JSON reader
+   * @return 읽은 값
+   * @throws IOException 읽기 실패 시
+   */
+  public static byte nextByte(JsonReader in) throws IOException {
+    int value = nextInt(in);
+    if (value > 255 || value < Byte.MIN_VALUE) {
+      throw new JsonSyntaxException(
+          "Lossy conversion from " + value + " to byte; at path " + in.getPreviousPath());
+    }
+    return (byte) value;
+  }
+
+  /**
+   * Gson 기본 short 어댑터와 같이 부호 없는 값(최대 65535)까지 허용하고, 범위를 벗어나 값이 손실되는 숫자는 오류로 처리한다.
+   *
+   * @param in JSON reader
+   * @return 읽은 값
+   * @throws IOException 읽기 실패 시
+   */
+  public static short nextShort(JsonReader in) throws IOException {
+    int value = nextInt(in);
+    if (value > 65535 || value < Short.MIN_VALUE) {
+      throw new JsonSyntaxException(
+          "Lossy conversion from " + value + " to short; at path " + in.getPreviousPath());
+    }
+    return (short) value;
+  }
+
+  private static int nextInt(JsonReader in) throws IOException {
+    try {
+      return in.nextInt();
+    } catch (NumberFormatException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  /**
+   * Gson 기본 char 어댑터와 같이 길이 1인 문자열을 읽는다.
+   *
+   * @param in JSON reader
+   * @return 읽은 값
+   * @throws IOException 읽기 실패 시
+   */
+  public static char nextChar(JsonReader in) throws IOException {
+    String value = in.nextString();
+    if (value.length() != 1) {
+      throw new JsonSyntaxException(
+          "Expecting character, got: " + value + "; at " + in.getPreviousPath());
+    }
+    return value.charAt(0);
+  }
+}
@@ -0,0 +1,22 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import com.google.gson.TypeAdapterFactory;
+
+/**
+ * {@link GsonAdapterProcessor}가 생성하는 타입 어댑터 팩토리.
+ *
+ * <p>생성된 구현체는 META-INF/services에 등록되며 {@link GeneratedTypeAdapters}가 {@link
+ * java.util.ServiceLoader}로 찾는다. 직접 구현할 필요는 없다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public interface GeneratedTypeAdapterFactory extends TypeAdapterFactory {
+
+  /**
+   * 이 팩토리가 어댑터를 생성하는 타입을 반환한다.
+   *
+   * @return 대상 타입
+   */
+  Class<?> type();
+}
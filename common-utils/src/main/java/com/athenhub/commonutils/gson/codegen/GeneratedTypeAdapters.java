@@ -0,0 +1,70 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * 빌드 시점에 생성된 {@link GeneratedTypeAdapterFactory}를 모아 Gson에 등록하는 팩토리.
+ *
+ * <pre>
+ * - 클래스패스의 META-INF/services 항목을 생성 시점에 한 번만 읽어 타입별 Map으로 보관
+ * - 생성된 어댑터가 없는 타입은 null을 반환하여 Gson 기본(리플렉션) 어댑터로 처리
+ * - ServiceLoader 등록은 GraalVM native image 빌드에서도 자동으로 포함되므로 별도 리플렉션 설정이 필요 없음
+ * </pre>
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class GeneratedTypeAdapters implements TypeAdapterFactory {
+
+  private final Map<Class<?>, GeneratedTypeAdapterFactory> factories;
+
+  private GeneratedTypeAdapters(Map<Class<?>, GeneratedTypeAdapterFactory> factories) {
+    this.factories = factories;
+  }
+
+  /**
+   * 현재 스레드의 컨텍스트 클래스로더(없으면 이 클래스의 클래스로더)에서 생성된 팩토리를 찾는다.
+   *
+   * @return 생성된 팩토리 모음
+   */
+  public static GeneratedTypeAdapters load() {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    return load(classLoader != null ? classLoader : GeneratedTypeAdapters.class.getClassLoader());
+  }
+
+  /**
+   * 주어진 클래스로더에서 생성된 팩토리를 찾는다.
+   *
+   * @param classLoader 클래스로더
+   * @return 생성된 팩토리 모음
+   */
+  public static GeneratedTypeAdapters load(ClassLoader classLoader) {
+    Map<Class<?>, GeneratedTypeAdapterFactory> factories = new HashMap<>();
+    for (GeneratedTypeAdapterFactory factory :
+        ServiceLoader.load(GeneratedTypeAdapterFactory.class, classLoader)) {
+      factories.put(factory.type(), factory);
+    }
+    return new GeneratedTypeAdapters(Map.copyOf(factories));
+  }
+
+  /**
+   * 생성된 어댑터가 있는 타입 수를 반환한다.
+   *
+   * @return 타입 수
+   */
+  public int size() {
+    return factories.size();
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+    GeneratedTypeAdapterFactory factory = factories.get(typeToken.getRawType());
+    return factory != null ? factory.create(gson, typeToken) : null;
+  }
+}
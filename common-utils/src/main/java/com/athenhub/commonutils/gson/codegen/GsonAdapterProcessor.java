@@ -0,0 +1,392 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * {@link GenerateGsonAdapter}가 붙은 타입마다 리플렉션 없는 Gson 타입 어댑터 팩토리를 생성하는 애노테이션 프로세서.
+ *
+ * <pre>
+ * - 생성 코드는 필드/접근자/생성자를 직접 호출하므로 첫 호출 시 리플렉션 스캔과 필드별 리플렉션 접근이 없음
+ * - 필드 타입의 어댑터는 {@code Gson#getAdapter}로 한 번만 조회하여 보관 (제네릭 타입은 TypeToken.getParameterized로 구성)
+ * - 원시 타입 필드는 JsonReader/JsonWriter를 직접 호출하여 박싱하지 않음
+ * - 마지막 라운드에 META-INF/services/{@link GeneratedTypeAdapterFactory} 파일에 생성한 팩토리를 등록
+ * </pre>
+ *
+ * <p>사용 측 빌드에 {@code annotationProcessor}로 common-utils를 추가하면 동작한다. 생성 코드가 접근할 수 없는 타입은 해당 위치에
+ * 컴파일 오류를 보고한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+@SupportedAnnotationTypes(GsonAdapterProcessor.ANNOTATION)
+public final class GsonAdapterProcessor extends AbstractProcessor {
+
+  static final String ANNOTATION = "com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter";
+  static final String FACTORY_SUFFIX = "_GsonAdapterFactory";
+  static final String SERVICE_FILE =
+      "META-INF/services/com.athenhub.commonutils.gson.codegen.GeneratedTypeAdapterFactory";
+
+  private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+  private static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+
+  private final Set<String> generated = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+    if (annotation != null) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        try {
+          generate(element);
+        } catch (InvalidTypeException e) {
+          error(e.getMessage(), e.element);
+        } catch (IOException e) {
+          error("Failed to write Gson adapter: " + e.getMessage(), element);
+        }
+      }
+    }
+    if (roundEnv.processingOver() && !generated.isEmpty()) {
+      writeServiceFile();
+    }
+    return true;
+  }
+
+  private void generate(Element element) throws IOException {
+    if (!(element instanceof TypeElement type)
+        || (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD)) {
+      throw new InvalidTypeException(
+          "@GenerateGsonAdapter is only supported on classes and records", element);
+    }
+    validateType(type);
+    boolean record = type.getKind() == ElementKind.RECORD;
+    List<Property> properties = record ? recordProperties(type) : classProperties(type);
+
+    String packageName =
+        processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String factoryName = flatName(type, packageName) + FACTORY_SUFFIX;
+    String qualifiedFactoryName =
+        packageName.isEmpty() ? factoryName : packageName + "." + factoryName;
+
+    String source =
+        new AdapterSourceWriter(
+                packageName, factoryName, type.getQualifiedName().toString(), record, properties)
+            .write();
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedFactoryName, type).openWriter()) {
+      writer.write(source);
+    }
+    generated.add(qualifiedFactoryName);
+  }
+
+  private void validateType(TypeElement type) {
+    if (type.getModifiers().contains(Modifier.PRIVATE)) {
+      throw new InvalidTypeException("@GenerateGsonAdapter type must not be private", type);
+    }
+    if (!type.getTypeParameters().isEmpty()) {
+      throw new InvalidTypeException("@GenerateGsonAdapter does not support generic types", type);
+    }
+    if (type.getNestingKind() == NestingKind.LOCAL
+        || type.getNestingKind() == NestingKind.ANONYMOUS
+        || (type.getNestingKind() == NestingKind.MEMBER
+            && !type.getModifiers().contains(Modifier.STATIC))) {
+      throw new InvalidTypeException(
+          "@GenerateGsonAdapter type must be a top-level or static nested type", type);
+    }
+    for (Element enclosing = type.getEnclosingElement();
+        enclosing instanceof TypeElement outer;
+        enclosing = outer.getEnclosingElement()) {
+      if (outer.getModifiers().contains(Modifier.PRIVATE)) {
+        throw new InvalidTypeException(
+            "@GenerateGsonAdapter type must not be nested in a private type", type);
+      }
+    }
+    if (type.getKind() == ElementKind.CLASS) {
+      if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+        throw new InvalidTypeException("@GenerateGsonAdapter type must not be abstract", type);
+      }
+      boolean hasNoArgConstructor =
+          ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+              .anyMatch(
+                  constructor ->
+                      constructor.getParameters().isEmpty()
+                          && !constructor.getModifiers().contains(Modifier.PRIVATE));
+      if (!hasNoArgConstructor) {
+        throw new InvalidTypeException(
+            "@GenerateGsonAdapter class needs a non-private no-arg constructor", type);
+      }
+    }
+  }
+
+  /** 레코드 컴포넌트는 선언 순서대로 읽고, 애노테이션이 전파되는 private 필드에서 이름을 정한다. */
+  private List<Property> recordProperties(TypeElement type) {
+    List<Property> properties = new ArrayList<>();
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (!field.getModifiers().contains(Modifier.STATIC)) {
+        properties.add(property(field, field.getSimpleName() + "()"));
+      }
+    }
+    checkDuplicateNames(properties, type);
+    return properties;
+  }
+
+  /** Gson 리플렉션 어댑터와 같이 하위 클래스 필드부터 상위 클래스 필드 순서로 읽는다. */
+  private List<Property> classProperties(TypeElement type) {
+    String packageName = processingEnv.getElementUtils().getPackageOf(type).toString();
+    List<Property> properties = new ArrayList<>();
+    for (TypeElement current = type; current != null; current = superclass(current)) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+          continue;
+        }
+        boolean samePackage =
+            processingEnv.getElementUtils().getPackageOf(current).toString().equals(packageName);
+        if (modifiers.contains(Modifier.PRIVATE)
+            || (!modifiers.contains(Modifier.PUBLIC) && !samePackage)) {
+          throw new InvalidTypeException(
+              "Field is not accessible from the generated adapter; use a record or a"
+                  + " package-private/public field",
+              field);
+        }
+        if (modifiers.contains(Modifier.FINAL)) {
+          throw new InvalidTypeException(
+              "Final fields of classes cannot be set by the generated adapter; use a record",
+              field);
+        }
+        properties.add(property(field, field.getSimpleName().toString()));
+      }
+    }
+    checkDuplicateNames(properties, type);
+    return properties;
+  }
+
+  private TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  private Property property(VariableElement field, String access) {
+    if (findAnnotation(field, JSON_ADAPTER) != null) {
+      throw new InvalidTypeException(
+          "@JsonAdapter is not supported by @GenerateGsonAdapter", field);
+    }
+    List<String> names = new ArrayList<>();
+    AnnotationMirror serializedName = findAnnotation(field, SERIALIZED_NAME);
+    if (serializedName == null) {
+      names.add(field.getSimpleName().toString());
+    } else {
+      serializedName
+          .getElementValues()
+          .forEach(
+              (key, value) -> {
+                String attribute = key.getSimpleName().toString();
+                if (attribute.equals("value")) {
+                  names.add(0, (String) value.getValue());
+                } else if (attribute.equals("alternate")) {
+                  for (Object alternate : (List<?>) value.getValue()) {
+                    names.add((String) ((AnnotationValue) alternate).getValue());
+                  }
+                }
+              });
+    }
+    TypeMirror type = field.asType();
+    return new Property(
+        names, access, type, typeExpression(type, field), erasure(type), isRuntimeTyped(type));
+  }
+
+  /**
+   * Gson 리플렉션 어댑터처럼 실제 타입 기준으로 써야 하는 필드인지 판단한다. 상속 가능한 클래스/인터페이스가 대상이며, Object와
+   * 컬렉션/Map은 Gson 어댑터가 이미 실제 타입으로 처리하므로 제외한다.
+   */
+  private boolean isRuntimeTyped(TypeMirror type) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+    if (element.getModifiers().contains(Modifier.FINAL)
+        || element.getKind() == ElementKind.ENUM
+        || element.getKind() == ElementKind.RECORD
+        || element.getQualifiedName().contentEquals("java.lang.Object")) {
+      return false;
+    }
+    Types types = processingEnv.getTypeUtils();
+    TypeMirror erased = types.erasure(type);
+    return !isSubtype(erased, "java.util.Collection") && !isSubtype(erased, "java.util.Map");
+  }
+
+  private boolean isSubtype(TypeMirror type, String name) {
+    TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+    Types types = processingEnv.getTypeUtils();
+    return element != null && types.isSubtype(type, types.erasure(element.asType()));
+  }
+
+  private void checkDuplicateNames(List<Property> properties, TypeElement type) {
+    Set<String> seen = new HashSet<>();
+    for (Property property : properties) {
+      for (String name : property.names()) {
+        if (!seen.add(name)) {
+          throw new InvalidTypeException("Duplicate JSON field name: " + name, type);
+        }
+      }
+    }
+  }
+
+  /**
+   * 필드 타입을 나타내는 {@link java.lang.reflect.Type} 식을 만든다. 원시 타입은 null을 반환한다.
+   *
+   * @param type 필드 타입
+   * @param field 오류를 보고할 필드
+   * @return Type 식
+   */
+  private String typeExpression(TypeMirror type, Element field) {
+    return switch (type.getKind()) {
+      case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> null;
+      case ARRAY -> {
+        TypeMirror component = ((ArrayType) type).getComponentType();
+        if (component.getKind().isPrimitive()) {
+          yield erasure(type) + ".class";
+        }
+        yield "com.google.gson.reflect.TypeToken.getArray("
+            + typeExpression(component, field)
+            + ").getType()";
+      }
+      case DECLARED -> {
+        DeclaredType declared = (DeclaredType) type;
+        if (declared.getTypeArguments().isEmpty()) {
+          yield erasure(type) + ".class";
+        }
+        StringBuilder expression =
+            new StringBuilder("com.google.gson.reflect.TypeToken.getParameterized(")
+                .append(erasure(type))
+                .append(".class");
+        for (TypeMirror argument : declared.getTypeArguments()) {
+          expression.append(", ").append(typeArgumentExpression(argument, field));
+        }
+        yield expression.append(").getType()").toString();
+      }
+      default ->
+          throw new InvalidTypeException(
+              "Unsupported field type for @GenerateGsonAdapter: " + type, field);
+    };
+  }
+
+  private String typeArgumentExpression(TypeMirror argument, Element field) {
+    if (argument.getKind() == TypeKind.WILDCARD) {
+      TypeMirror bound = ((WildcardType) argument).getExtendsBound();
+      return bound != null ? typeExpression(bound, field) : "java.lang.Object.class";
+    }
+    return typeExpression(argument, field);
+  }
+
+  private String erasure(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+  private static AnnotationMirror findAnnotation(Element element, String name) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+      if (annotationType.getQualifiedName().contentEquals(name)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private static String flatName(TypeElement type, String packageName) {
+    String qualified = type.getQualifiedName().toString();
+    String simple =
+        packageName.isEmpty() ? qualified : qualified.substring(packageName.length() + 1);
+    return simple.replace('.', '_');
+  }
+
+  private void writeServiceFile() {
+    try {
+      FileObject file =
+          processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (Writer writer = file.openWriter()) {
+        for (String factory : generated) {
+          writer.write(factory);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      error("Failed to write " + SERVICE_FILE + ": " + e.getMessage(), null);
+    }
+  }
+
+  private void error(String message, Element element) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  /**
+   * 생성 대상 프로퍼티.
+   *
+   * @param names JSON 이름 (첫 번째가 출력 이름, 나머지는 읽기 전용 대체 이름)
+   * @param access 값을 읽는 식 ({@code id()} 또는 {@code id})
+   * @param type 필드 타입
+   * @param typeExpression 필드 타입의 Type 식, 원시 타입이면 null
+   * @param erasure 필드 타입의 소거 타입 이름 (캐스팅용)
+   * @param runtimeTyped 실제 타입 기준으로 써야 하는지 여부
+   */
+  record Property(
+      List<String> names,
+      String access,
+      TypeMirror type,
+      String typeExpression,
+      String erasure,
+      boolean runtimeTyped) {
+
+    boolean isPrimitive() {
+      return type.getKind().isPrimitive();
+    }
+  }
+
+  /** 생성 코드로 처리할 수 없는 타입을 만났을 때 오류 위치와 함께 던지는 예외. */
+  private static final class InvalidTypeException extends RuntimeException {
+
+    private final transient Element element;
+
+    InvalidTypeException(String message, Element element) {
+      super(message);
+      this.element = element;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.athenhub.commonutils.json;
+
+import com.athenhub.commonutils.gson.GsonUtils;
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import java.lang.reflect.Type;
+
+/**
+ * {@link GsonUtils}에 위임하는 {@link JsonCodec}.
+ *
+ * <p>java.time 어댑터, 빌드 시 생성된 어댑터, 레코드 어댑터가 등록된 싱글톤 Gson을 사용하며, 크기 제한 직렬화는 {@link
+ * GsonUtils#toJson(Object, JsonRenderLimits)}의 길이/요소 수/깊이 제한을 모두 적용한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class GsonJsonCodec implements JsonCodec {
+
+  @Override
+  public String toJson(Object value) {
+    return GsonUtils.toJson(value);
+  }
+
+  @Override
+  public String toJson(Object value, JsonRenderLimits limits) {
+    return GsonUtils.toJson(value, limits);
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    return GsonUtils.fromJson(json, type);
+  }
+}
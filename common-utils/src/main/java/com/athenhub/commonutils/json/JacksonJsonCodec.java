@@ -0,0 +1,127 @@
+package com.athenhub.commonutils.json;
+
+import com.athenhub.commonutils.gson.GsonUtils;
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+/**
+ * 주어진 {@link ObjectMapper}에 위임하는 {@link JsonCodec}.
+ *
+ * <pre>
+ * - Spring MVC와 같은 ObjectMapper를 사용하면 로그와 응답 본문이 같은 규칙(모듈, 이름 전략, 날짜 형식)으로 직렬화됨
+ * - 변환 실패 시 Jackson 예외를 {@link UncheckedIOException}으로 감싸서 던짐
+ * - 크기 제한 직렬화는 최대 길이만 적용 (요소 수/깊이 제한은 Gson 구현에서만 적용)
+ * - 최대 길이 초과는 Jackson 출력 버퍼 단위로 감지하므로 중단 시점은 근사값 (결과 길이는 정확히 제한됨)
+ * </pre>
+ *
+ * <p>jackson-databind는 선택 의존성이므로 이 클래스를 사용하는 애플리케이션에 있어야 한다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public final class JacksonJsonCodec implements JsonCodec {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 주어진 ObjectMapper로 직렬화하는 코덱을 생성한다.
+   *
+   * @param objectMapper 사용할 ObjectMapper
+   */
+  public JacksonJsonCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>최대 길이를 넘으면 정확히 최대 길이까지의 결과 뒤에 {@link GsonUtils#TRUNCATED_MARKER}를 붙인다.
+   *
+   * <p>직렬화 중단 시점은 근사값이다. Jackson은 출력 버퍼(약 8,000자)가 찰 때마다 Writer에 기록하므로 길이 초과는 버퍼를 비우는 시점에
+   * 감지된다. 따라서 최대 길이 이후 최대 한 버퍼 분량까지 더 직렬화한 뒤 중단하며, 그 뒤쪽 요소는 순회하지 않는다. 긴 문자열 값 하나도 버퍼
+   * 단위로 나누어 기록되므로 같은 범위에서 중단된다.
+   */
+  @Override
+  public String toJson(Object value, JsonRenderLimits limits) {
+    LimitedWriter out = new LimitedWriter(limits.maxLength());
+    try {
+      objectMapper.writeValue(out, value);
+    } catch (IOException e) {
+      if (!out.exceeded) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return out.exceeded ? out + GsonUtils.TRUNCATED_MARKER : out.toString();
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(json, objectMapper.constructType(type));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** 최대 길이까지만 기록하고, 넘는 순간 예외로 Jackson 직렬화를 중단시키는 Writer. */
+  private static final class LimitedWriter extends Writer {
+
+    private final StringBuilder buffer;
+    private final int maxLength;
+    private boolean exceeded;
+
+    private LimitedWriter(int maxLength) {
+      this.buffer = new StringBuilder(Math.min(maxLength, 256));
+      this.maxLength = maxLength;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+      int writable = Math.min(length, maxLength - buffer.length());
+      buffer.append(chars, offset, writable);
+      checkLimit(writable, length);
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+      int writable = Math.min(length, maxLength - buffer.length());
+      buffer.append(str, offset, offset + writable);
+      checkLimit(writable, length);
+    }
+
+    private void checkLimit(int written, int requested) throws IOException {
+      if (written < requested) {
+        exceeded = true;
+        throw new IOException("JSON render limit exceeded");
+      }
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public String toString() {
+      return buffer.toString();
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.athenhub.commonutils.json;
+
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 직렬화 엔진을 교체할 수 있도록 추상화한 코덱.
+ *
+ * <pre>
+ * - {@link GsonJsonCodec}: {@link com.athenhub.commonutils.gson.GsonUtils} 싱글톤 Gson 사용 (기본값)
+ * - {@link JacksonJsonCodec}: 애플리케이션에 설정된 ObjectMapper 사용
+ * - 로그 렌더러와 애플리케이션 코드가 같은 코덱 빈을 주입받아 사용
+ * </pre>
+ *
+ * <p>구현체는 스레드 안전해야 한다. 변환 실패 시 구현체별 런타임 예외를 던진다.
+ *
+ * @author 김형섭
+ * @since 1.5.0
+ */
+public interface JsonCodec {
+
+  /**
+   * 주어진 객체를 JSON 문자열로 변환한다.
+   *
+   * @param value 변환할 객체
+   * @return JSON 문자열
+   */
+  String toJson(Object value);
+
+  /**
+   * 주어진 객체를 크기 제한 내에서 JSON 문자열로 변환한다. 로그 등 부가 용도에 사용하며, 제한을 넘으면 결과가 유효한 JSON이 아닐 수 있다.
+   *
+   * @param value 변환할 객체
+   * @param limits 크기 제한
+   * @return 크기 제한이 적용된 JSON 문자열
+   */
+  String toJson(Object value, JsonRenderLimits limits);
+
+  /**
+   * JSON 문자열을 지정된 타입의 객체로 변환한다.
+   *
+   * @param json JSON 문자열
+   * @param type 대상 타입 (제네릭 타입 가능)
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체
+   */
+  <T> T fromJson(String json, Type type);
+
+  /**
+   * JSON 문자열을 지정된 클래스의 객체로 변환한다.
+   *
+   * @param json JSON 문자열
+   * @param clazz 대상 클래스
+   * @param <T> 반환할 객체 타입
+   * @return 변환된 객체
+   */
+  default <T> T fromJson(String json, Class<T> clazz) {
+    return fromJson(json, (Type) clazz);
+  }
+}
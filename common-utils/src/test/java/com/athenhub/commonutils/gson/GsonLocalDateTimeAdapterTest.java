@@ -54,4 +54,10 @@ class GsonLocalDateTimeAdapterTest {
     assertThatThrownBy(() -> gson.fromJson(invalidJson, LocalDateTime.class))
         .isInstanceOf(DateTimeParseException.class);
   }
+
+  @Test
+  @DisplayName("JSON null은 null로 역직렬화된다")
+  void shouldDeserializeNull() {
+    assertThat(gson.fromJson("null", LocalDateTime.class)).isNull();
+  }
 }
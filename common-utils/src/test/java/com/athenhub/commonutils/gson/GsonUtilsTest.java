@@ -0,0 +1,259 @@
+package com.athenhub.commonutils.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GsonUtilsTest {
+
+  @Test
+  @DisplayName("제한 이내의 객체는 일반 직렬화와 동일한 결과를 반환한다")
+  void shouldSerializeSameAsUnboundedWithinLimits() {
+    Map<String, Object> value = Map.of("name", "athenhub", "tags", List.of("a", "b"));
+
+    String json = GsonUtils.toJson(value, JsonRenderLimits.DEFAULT);
+
+    assertThat(json).isEqualTo(GsonUtils.toJson(value));
+  }
+
+  @Test
+  @DisplayName("null은 JSON null로 변환된다")
+  void shouldSerializeNull() {
+    assertThat(GsonUtils.toJson(null, JsonRenderLimits.DEFAULT)).isEqualTo("null");
+  }
+
+  @Test
+  @DisplayName("최대 길이를 넘으면 잘린 결과 뒤에 생략 표시를 붙인다")
+  void shouldTruncateByLength() {
+    String json = GsonUtils.toJson("x".repeat(100), new JsonRenderLimits(10, 100, 8));
+
+    assertThat(json).isEqualTo("\"xxxxxxxxx" + GsonUtils.TRUNCATED_MARKER);
+  }
+
+  @Test
+  @DisplayName("최상위 컬렉션의 요소 수가 제한을 넘으면 앞쪽 요소와 원래 요소 수만 출력한다")
+  void shouldTruncateTopLevelCollection() {
+    List<Integer> value = IntStream.range(0, 1000).boxed().toList();
+
+    String json = GsonUtils.toJson(value, new JsonRenderLimits(4096, 3, 8));
+
+    assertThat(json).isEqualTo("[0,1,2,\"...(1000 elements)\"]");
+  }
+
+  @Test
+  @DisplayName("중첩 배열의 요소 수가 제한을 넘으면 생략 표시를 넣는다")
+  void shouldTruncateNestedArray() {
+    Map<String, Object> value = Map.of("items", List.of(1, 2, 3, 4, 5));
+
+    String json = GsonUtils.toJson(value, new JsonRenderLimits(4096, 2, 8));
+
+    assertThat(json).isEqualTo("{\"items\":[1,2,\"...(5 elements)\"]}");
+  }
+
+  @Test
+  @DisplayName("최대 깊이보다 깊은 값은 생략 표시로 대체한다")
+  void shouldTruncateByDepth() {
+    Map<String, Object> value = Map.of("a", Map.of("b", Map.of("c", 1)), "d", 2);
+
+    String json = GsonUtils.toJson(value, new JsonRenderLimits(4096, 100, 2));
+
+    assertThat(json)
+        .contains("\"a\":{\"b\":\"" + BoundedJsonWriter.DEPTH_MARKER + "\"}")
+        .contains("\"d\":2");
+  }
+
+  @Test
+  @DisplayName("0 이하의 제한 값은 IllegalArgumentException 발생")
+  void shouldRejectInvalidLimits() {
+    assertThatThrownBy(() -> new JsonRenderLimits(0, 100, 8))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  record Item(String name, int quantity) {}
+
+  private static final TypeToken<List<Item>> ITEMS = new TypeToken<>() {};
+
+  @Test
+  @DisplayName("Appendable과 OutputStream에 쓴 결과는 문자열 직렬화 결과와 같다")
+  void shouldWriteToAppendableAndOutputStream() {
+    List<Item> items = List.of(new Item("책", 1), new Item("펜", 2));
+    StringBuilder builder = new StringBuilder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    GsonUtils.toJson(items, builder);
+    GsonUtils.toJson(items, out);
+
+    assertThat(builder.toString()).isEqualTo(GsonUtils.toJson(items));
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(GsonUtils.toJson(items));
+  }
+
+  @Test
+  @DisplayName("바이트 배열, 입력 스트림, 다이렉트 버퍼에서 제네릭 타입으로 역직렬화한다")
+  void shouldReadGenericTypeFromBytes() {
+    List<Item> items = List.of(new Item("책", 1), new Item("펜", 2));
+    byte[] json = GsonUtils.toJson(items).getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(json.length).put(json).flip();
+
+    assertThat(GsonUtils.fromJson(json, ITEMS)).isEqualTo(items);
+    assertThat(GsonUtils.fromJson(new ByteArrayInputStream(json), ITEMS)).isEqualTo(items);
+    assertThat(GsonUtils.fromJson(buffer, ITEMS)).isEqualTo(items);
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  @DisplayName("빈 입력은 null, 문서 뒤에 남은 내용은 예외로 처리한다")
+  void shouldRejectTrailingData() {
+    assertThat(GsonUtils.fromJson(new byte[0], ITEMS)).isNull();
+    assertThatThrownBy(() -> GsonUtils.fromJson("[] []", ITEMS))
+        .isInstanceOf(JsonSyntaxException.class);
+  }
+
+  @Test
+  @DisplayName("Type 오버로드도 Class 오버로드와 같이 관대한 형식의 JSON을 허용한다")
+  void shouldAcceptLenientInputLikeClassOverload() {
+    String lenient = "{'name':'책',quantity:1}";
+    Type itemType = Item.class;
+
+    Item expected = GsonUtils.fromJson(lenient, Item.class);
+
+    assertThat(expected).isEqualTo(new Item("책", 1));
+    assertThat(GsonUtils.<Item>fromJson(lenient, itemType)).isEqualTo(expected);
+    assertThat(GsonUtils.fromJson(lenient, TypeToken.get(Item.class))).isEqualTo(expected);
+    assertThat(GsonUtils.<Item>fromJson(new StringReader(lenient), itemType)).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("중간에 끝난 JSON은 Class/Type 오버로드 모두 JsonSyntaxException으로 처리한다")
+  void shouldRejectTruncatedInputLikeClassOverload() {
+    String truncated = "{\"name\":\"책\",\"quantity\":";
+    Type itemType = Item.class;
+
+    assertThatThrownBy(() -> GsonUtils.fromJson(truncated, Item.class))
+        .isInstanceOf(JsonSyntaxException.class);
+    assertThatThrownBy(() -> GsonUtils.fromJson(truncated, itemType))
+        .isInstanceOf(JsonSyntaxException.class);
+    assertThatThrownBy(
+            () -> GsonUtils.fromJson(truncated.getBytes(StandardCharsets.UTF_8), itemType))
+        .isInstanceOf(JsonSyntaxException.class);
+  }
+
+  @Test
+  @DisplayName("타입 어댑터는 타입별로 한 번만 생성하여 재사용한다")
+  void shouldCacheAdapter() {
+    assertThat(GsonUtils.adapter(ITEMS))
+        .isSameAs(GsonUtils.adapter(new TypeToken<List<Item>>() {}));
+    assertThat(GsonUtils.adapter(Item.class)).isSameAs(GsonUtils.adapter(Item.class));
+  }
+
+  @Test
+  @DisplayName("바이트 직렬화 결과는 문자열 직렬화 결과의 UTF-8 바이트와 같다")
+  void shouldSerializeToPooledBytes() {
+    List<Item> items = List.of(new Item("책 📚", 1), new Item("pen", 2));
+    byte[] expected = GsonUtils.toJson(items).getBytes(StandardCharsets.UTF_8);
+
+    try (JsonBytes json = GsonUtils.toJsonBytes(items)) {
+      assertThat(json.length()).isEqualTo(expected.length);
+      assertThat(json.toByteArray()).isEqualTo(expected);
+      assertThat(GsonUtils.fromJson(json.asByteBuffer(), ITEMS)).isEqualTo(items);
+    }
+  }
+
+  @Test
+  @DisplayName("닫은 바이트 리스는 더 이상 읽을 수 없다")
+  void shouldRejectReleasedBytes() {
+    JsonBytes json = GsonUtils.toJsonBytes(List.of(1, 2));
+    json.close();
+    json.close();
+
+    assertThatThrownBy(json::toByteArray).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("ByteBuffer에 직렬화하고, 공간이 부족하면 버퍼를 변경하지 않고 예외를 던진다")
+  void shouldSerializeIntoByteBuffer() {
+    Item item = new Item("책", 1);
+    byte[] expected = GsonUtils.toJson(item).getBytes(StandardCharsets.UTF_8);
+    ByteBuffer target = ByteBuffer.allocateDirect(64);
+    ByteBuffer small = ByteBuffer.allocate(4);
+
+    int written = GsonUtils.toJson(item, target);
+
+    assertThat(written).isEqualTo(expected.length);
+    assertThat(target.position()).isEqualTo(expected.length);
+    assertThatThrownBy(() -> GsonUtils.toJson(item, small))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(small.position()).isZero();
+  }
+
+  @Test
+  @DisplayName("JSON 배열을 요소 단위로 읽고, 끝까지 읽으면 입력 스트림을 닫는다")
+  void shouldIterateArrayLazily() {
+    List<Item> items = IntStream.range(0, 5).mapToObj(i -> new Item("item-" + i, i)).toList();
+    AtomicBoolean closed = new AtomicBoolean();
+    ByteArrayInputStream in =
+        new ByteArrayInputStream(GsonUtils.toJson(items).getBytes(StandardCharsets.UTF_8)) {
+          @Override
+          public void close() {
+            closed.set(true);
+          }
+        };
+
+    JsonArrayIterator<Item> iterator = GsonUtils.iterate(in, Item.class);
+
+    assertThat(iterator.next()).isEqualTo(items.get(0));
+    assertThat(closed).isFalse();
+    try (Stream<Item> rest = iterator.stream()) {
+      assertThat(rest.toList()).isEqualTo(items.subList(1, 5));
+    }
+    assertThat(closed).isTrue();
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("지정한 크기로 묶어 읽고, 마지막 묶음은 남은 요소만 담는다")
+  void shouldIterateInBatches() {
+    List<Item> items = IntStream.range(0, 7).mapToObj(i -> new Item("item-" + i, i)).toList();
+
+    try (Stream<List<Item>> batches =
+        GsonUtils.iterate(new StringReader(GsonUtils.toJson(items)), Item.class).batches(3)) {
+      assertThat(batches.toList())
+          .containsExactly(items.subList(0, 3), items.subList(3, 6), items.subList(6, 7));
+    }
+    assertThatThrownBy(() -> GsonUtils.iterate(new StringReader("[]"), Item.class).batches(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("빈 입력과 null은 빈 배열로, 배열이 아니거나 형식이 잘못된 입력은 예외로 처리한다")
+  void shouldRejectInvalidArrayWhileIterating() {
+    assertThat(GsonUtils.iterate(new StringReader(""), Item.class).hasNext()).isFalse();
+    assertThat(GsonUtils.iterate(new StringReader("null"), Item.class).hasNext()).isFalse();
+    assertThat(GsonUtils.iterate(new StringReader("[]"), TypeToken.get(Item.class)).hasNext())
+        .isFalse();
+    assertThatThrownBy(() -> GsonUtils.iterate(new StringReader("{}"), Item.class).hasNext())
+        .isInstanceOf(JsonSyntaxException.class);
+
+    JsonArrayIterator<Item> iterator =
+        GsonUtils.iterate(new StringReader("[{\"name\":\"a\"}, {\"name\""), Item.class);
+
+    assertThat(iterator.next()).isEqualTo(new Item("a", 0));
+    assertThatThrownBy(iterator::next).isInstanceOf(JsonSyntaxException.class);
+    assertThat(iterator.hasNext()).isFalse();
+  }
+}
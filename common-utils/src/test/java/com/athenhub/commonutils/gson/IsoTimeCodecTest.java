@@ -0,0 +1,96 @@
+package com.athenhub.commonutils.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IsoTimeCodecTest {
+
+  private static final List<LocalDateTime> DATE_TIMES =
+      List.of(
+          LocalDateTime.of(2025, 11, 17, 14, 0),
+          LocalDateTime.of(2025, 11, 17, 14, 0, 5),
+          LocalDateTime.of(2025, 1, 2, 3, 4, 5, 120_000_000),
+          LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000),
+          LocalDateTime.of(1, 12, 31, 23, 59, 59, 1),
+          LocalDateTime.of(12345, 6, 7, 8, 9, 10));
+
+  private static final List<ZoneId> ZONES =
+      List.of(
+          ZoneId.of("Asia/Seoul"),
+          ZoneOffset.UTC,
+          ZoneOffset.ofHoursMinutes(-3, -30),
+          ZoneOffset.ofHoursMinutesSeconds(1, 2, 3));
+
+  @Test
+  @DisplayName("날짜/시간 출력은 ISO 포맷터 출력과 같고, 다시 읽으면 같은 값이 된다")
+  void shouldMatchIsoFormatters() {
+    for (LocalDateTime dateTime : DATE_TIMES) {
+      String local = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+      assertThat(IsoTimeCodec.formatLocalDateTime(dateTime)).isEqualTo(local);
+      assertThat(IsoTimeCodec.parseLocalDateTime(local)).isEqualTo(dateTime);
+
+      LocalDate date = dateTime.toLocalDate();
+      assertThat(IsoTimeCodec.formatLocalDate(date))
+          .isEqualTo(DateTimeFormatter.ISO_LOCAL_DATE.format(date));
+      assertThat(IsoTimeCodec.parseLocalDate(date.toString())).isEqualTo(date);
+
+      Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+      assertThat(IsoTimeCodec.formatInstant(instant)).isEqualTo(instant.toString());
+      assertThat(IsoTimeCodec.parseInstant(instant.toString())).isEqualTo(instant);
+
+      for (ZoneId zone : ZONES) {
+        ZonedDateTime zoned = instant.atZone(zone);
+        String zonedText = DateTimeFormatter.ISO_ZONED_DATE_TIME.format(zoned);
+        assertThat(IsoTimeCodec.formatZonedDateTime(zoned)).isEqualTo(zonedText);
+        assertThat(IsoTimeCodec.parseZonedDateTime(zonedText)).isEqualTo(zoned);
+
+        OffsetDateTime offset = zoned.toOffsetDateTime();
+        String offsetText = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offset);
+        assertThat(IsoTimeCodec.formatOffsetDateTime(offset)).isEqualTo(offsetText);
+        assertThat(IsoTimeCodec.parseOffsetDateTime(offsetText)).isEqualTo(offset);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("흔하지 않은 입력은 포맷터로 처리한다")
+  void shouldFallBackToFormatter() {
+    assertThat(IsoTimeCodec.parseLocalDateTime("2025-11-17t14:00"))
+        .isEqualTo(LocalDateTime.of(2025, 11, 17, 14, 0));
+    assertThat(IsoTimeCodec.parseInstant("2025-11-17T14:00:00+09:00"))
+        .isEqualTo(Instant.parse("2025-11-17T05:00:00Z"));
+    assertThat(IsoTimeCodec.parseDuration("P2DT3H")).isEqualTo(Duration.ofHours(51));
+    assertThat(IsoTimeCodec.parseDuration("PT-1.5S")).isEqualTo(Duration.ofMillis(-1500));
+  }
+
+  @Test
+  @DisplayName("기간은 정규식 없이 읽어도 Duration#parse와 같은 값이 된다")
+  void shouldParseDuration() {
+    for (String text : List.of("PT0S", "PT8H6M12.345S", "PT48H", "PT1M", "PT0.000000001S")) {
+      assertThat(IsoTimeCodec.parseDuration(text)).isEqualTo(Duration.parse(text));
+    }
+  }
+
+  @Test
+  @DisplayName("값 범위가 잘못된 입력은 포맷터와 같은 예외를 던진다")
+  void shouldThrowSameExceptionAsFormatter() {
+    assertThatThrownBy(() -> IsoTimeCodec.parseLocalDateTime("2025-02-30T00:00"))
+        .isInstanceOf(DateTimeParseException.class);
+    assertThatThrownBy(() -> IsoTimeCodec.parseLocalDate("2025-13-01"))
+        .isInstanceOf(DateTimeParseException.class);
+  }
+}
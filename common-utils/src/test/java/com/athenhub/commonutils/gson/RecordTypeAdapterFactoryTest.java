@@ -0,0 +1,93 @@
+package com.athenhub.commonutils.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecordTypeAdapterFactoryTest {
+
+  record Item(
+      String name,
+      int quantity,
+      @SerializedName(value = "unit_price", alternate = "price") double price,
+      char grade,
+      float rate,
+      boolean active) {}
+
+  record Order(
+      long id, List<Item> items, Map<String, Integer> counts, Number total, Object extra) {}
+
+  record Page<T>(List<T> content, int size) {}
+
+  private final Gson reflective = new Gson();
+  private final Gson gson =
+      new GsonBuilder().registerTypeAdapterFactory(new RecordTypeAdapterFactory()).create();
+
+  private final Item item = new Item("book", 2, 3.5, 'A', 1.1f, true);
+
+  @Test
+  @DisplayName("레코드는 MethodHandle 어댑터로 처리하고, 결과는 Gson 기본 어댑터와 같다")
+  void shouldMatchReflectiveAdapter() {
+    Order order = new Order(7L, List.of(item), Map.of("k", 1), 10, List.of("x"));
+    String json = reflective.toJson(order);
+
+    assertThat(gson.getAdapter(Order.class).getClass().getEnclosingClass())
+        .isEqualTo(RecordTypeAdapterFactory.class);
+    assertThat(gson.toJson(order)).isEqualTo(json);
+    assertThat(gson.fromJson(reflective.toJson(item), Item.class)).isEqualTo(item);
+    assertThat(gson.fromJson(json, Order.class).items()).containsExactly(item);
+  }
+
+  @Test
+  @DisplayName("대체 이름을 읽고, 없는 컴포넌트는 기본값으로 채우며, 모르는 필드는 건너뛴다")
+  void shouldReadAlternateAndMissingComponents() {
+    Item result = gson.fromJson("{\"price\":9,\"unknown\":{\"a\":[1]}}", Item.class);
+
+    assertThat(result).isEqualTo(new Item(null, 0, 9.0, '\0', 0f, false));
+  }
+
+  @Test
+  @DisplayName("원시 타입 컴포넌트에 null이 오면 Gson 기본 어댑터와 같이 예외를 던진다")
+  void shouldRejectNullForPrimitiveComponent() {
+    assertThatThrownBy(() -> gson.fromJson("{\"quantity\":null}", Item.class))
+        .isInstanceOf(JsonParseException.class)
+        .hasMessageContaining("quantity");
+  }
+
+  @Test
+  @DisplayName("double/float 컴포넌트의 NaN/Infinity는 Gson 기본 어댑터와 같이 설정에 따라 거부하거나 허용한다")
+  void shouldMatchSpecialFloatingPointHandling() {
+    Item nan = new Item("nan", 1, Double.NaN, 'A', 1f, true);
+    Item infinite = new Item("inf", 1, 1.0, 'A', Float.POSITIVE_INFINITY, true);
+
+    for (Item special : List.of(nan, infinite)) {
+      assertThatThrownBy(() -> reflective.toJson(special))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> gson.toJson(special))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("serializeSpecialFloatingPointValues");
+    }
+    assertThatThrownBy(() -> GsonUtils.toJson(nan)).isInstanceOf(IllegalArgumentException.class);
+
+    GsonBuilder lenient = new GsonBuilder().serializeSpecialFloatingPointValues();
+    Gson allowing = lenient.registerTypeAdapterFactory(new RecordTypeAdapterFactory()).create();
+    Gson reflectiveAllowing = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+    assertThat(allowing.toJson(nan)).isEqualTo(reflectiveAllowing.toJson(nan));
+    assertThat(allowing.toJson(infinite)).isEqualTo(reflectiveAllowing.toJson(infinite));
+  }
+
+  @Test
+  @DisplayName("제네릭 레코드는 Gson 기본 어댑터로 처리한다")
+  void shouldSkipGenericRecord() {
+    assertThat(gson.getAdapter(Page.class).getClass().getEnclosingClass())
+        .isNotEqualTo(RecordTypeAdapterFactory.class);
+  }
+}
@@ -0,0 +1,55 @@
+package com.athenhub.commonutils.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Utf8ByteWriterTest {
+
+  @Test
+  @DisplayName("String#getBytes(UTF_8)와 같은 바이트로 인코딩한다")
+  void shouldEncodeSameAsStringGetBytes() throws IOException {
+    String[] values = {"ascii", "한글 주문", "é ß ¢", "emoji 😀👍", "lone \uD83D x", "tail \uDE00"};
+    for (String value : values) {
+      Utf8ByteWriter writer = new Utf8ByteWriter(new ByteArrayPool(1, 4, 1024));
+      writer.write(value);
+
+      try (JsonBytes bytes = writer.toJsonBytes()) {
+        assertThat(bytes.toByteArray()).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("출력 스트림이 있으면 버퍼를 늘리지 않고 찰 때마다 내보낸다")
+  void shouldDrainToSinkWithoutGrowing() throws IOException {
+    ByteArrayPool pool = new ByteArrayPool(1, 8, 8);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    String value = "가나다라마바사 abcdefg 😀".repeat(10);
+
+    Utf8ByteWriter writer = new Utf8ByteWriter(pool, out);
+    writer.write(value);
+    writer.flush();
+    writer.release();
+
+    assertThat(out.toByteArray()).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+    assertThat(pool.pooled()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("반납한 버퍼는 다시 빌려주고, 최대 보관 크기를 넘은 버퍼는 버린다")
+  void shouldReuseReleasedBuffer() {
+    ByteArrayPool pool = new ByteArrayPool(2, 16, 32);
+    byte[] buffer = pool.acquire();
+
+    pool.release(buffer);
+    pool.release(new byte[64]);
+
+    assertThat(pool.pooled()).isEqualTo(1);
+    assertThat(pool.acquire()).isSameAs(buffer);
+  }
+}
@@ -0,0 +1,205 @@
+package com.athenhub.commonutils.gson.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GsonAdapterProcessorTest {
+
+  private static final String DTO =
+      """
+      package com.example;
+
+      import com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter;
+      import com.google.gson.annotations.SerializedName;
+      import java.util.List;
+
+      public class Dtos {
+        @GenerateGsonAdapter
+        public record Item(String name, int quantity, @SerializedName("unit_price") double price) {}
+
+        @GenerateGsonAdapter
+        public record Order(long id, boolean paid, List<Item> items, Object extra) {}
+
+        @GenerateGsonAdapter
+        public static class Legacy {
+          public String name = "default";
+          int count;
+          transient int skipped;
+        }
+      }
+      """;
+
+  @TempDir Path dir;
+
+  @Test
+  @DisplayName("생성된 어댑터는 리플렉션 어댑터와 같은 JSON을 읽고 쓴다")
+  void shouldGenerateAdapterEquivalentToReflection() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = compile(DTO);
+    assertThat(diagnostics.getDiagnostics())
+        .noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+    assertThat(dir.resolve("out").resolve(GsonAdapterProcessor.SERVICE_FILE)).exists();
+
+    try (URLClassLoader loader =
+        new URLClassLoader(
+            new URL[] {dir.resolve("out").toUri().toURL()}, getClass().getClassLoader())) {
+      GeneratedTypeAdapters generated = GeneratedTypeAdapters.load(loader);
+      assertThat(generated.size()).isEqualTo(3);
+      Gson gson = new GsonBuilder().registerTypeAdapterFactory(generated).create();
+      Gson reflective = new Gson();
+
+      Class<?> itemType = loader.loadClass("com.example.Dtos$Item");
+      Class<?> orderType = loader.loadClass("com.example.Dtos$Order");
+      Object item = newRecord(itemType, "book", 2, 3.5);
+      Object order = newRecord(orderType, 7L, true, List.of(item), Map.of("k", 1));
+
+      assertThat(gson.getAdapter(orderType).getClass().getName())
+          .isEqualTo("com.example.Dtos_Order_GsonAdapterFactory$Adapter");
+      String json = reflective.toJson(order);
+      assertThat(gson.toJson(order)).isEqualTo(json);
+      assertThat(gson.fromJson(json, orderType)).isEqualTo(reflective.fromJson(json, orderType));
+      assertThat(gson.fromJson("{\"unit_price\":1,\"unknown\":[1]}", itemType))
+          .isEqualTo(newRecord(itemType, null, 0, 1.0));
+      assertThatThrownBy(() -> gson.fromJson("{\"quantity\":null}", itemType))
+          .isInstanceOf(JsonParseException.class);
+
+      Object nan = newRecord(itemType, "nan", 1, Double.NaN);
+      assertThatThrownBy(() -> reflective.toJson(nan))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> gson.toJson(nan))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("serializeSpecialFloatingPointValues");
+      Gson allowing =
+          new GsonBuilder()
+              .serializeSpecialFloatingPointValues()
+              .registerTypeAdapterFactory(generated)
+              .create();
+      assertThat(allowing.toJson(nan))
+          .isEqualTo(new GsonBuilder().serializeSpecialFloatingPointValues().create().toJson(nan));
+
+      Class<?> legacyType = loader.loadClass("com.example.Dtos$Legacy");
+      Object legacy = gson.fromJson("{\"count\":5,\"skipped\":9}", legacyType);
+      assertThat(gson.toJson(legacy))
+          .isEqualTo(reflective.toJson(legacy))
+          .isEqualTo("{\"name\":\"default\",\"count\":5}");
+    }
+  }
+
+  @Test
+  @DisplayName("생성된 어댑터는 리플렉션 어댑터와 같이 byte/short 범위를 벗어난 값을 거부한다")
+  void shouldRejectLossyNarrowingLikeReflection() throws Exception {
+    String source =
+        """
+        package com.example;
+
+        @com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter
+        public record Narrow(byte small, short medium) {}
+        """;
+
+    DiagnosticCollector<JavaFileObject> diagnostics = compile(source);
+    assertThat(diagnostics.getDiagnostics())
+        .noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+
+    try (URLClassLoader loader =
+        new URLClassLoader(
+            new URL[] {dir.resolve("out").toUri().toURL()}, getClass().getClassLoader())) {
+      Gson gson =
+          new GsonBuilder().registerTypeAdapterFactory(GeneratedTypeAdapters.load(loader)).create();
+      Gson reflective = new Gson();
+      Class<?> narrowType = loader.loadClass("com.example.Narrow");
+
+      String inRange = "{\"small\":-128,\"medium\":65535}";
+      assertThat(gson.fromJson(inRange, narrowType))
+          .isEqualTo(reflective.fromJson(inRange, narrowType));
+      for (String lossy : List.of("{\"small\":300}", "{\"medium\":70000}")) {
+        assertThatThrownBy(() -> reflective.fromJson(lossy, narrowType))
+            .isInstanceOf(JsonSyntaxException.class);
+        assertThatThrownBy(() -> gson.fromJson(lossy, narrowType))
+            .isInstanceOf(JsonSyntaxException.class)
+            .hasMessageContaining("Lossy conversion");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("생성 코드로 접근할 수 없는 필드는 컴파일 오류로 알린다")
+  void shouldReportInaccessibleField() throws IOException {
+    String source =
+        """
+        package com.example;
+
+        @com.athenhub.commonutils.gson.codegen.GenerateGsonAdapter
+        public class Hidden {
+          private String secret;
+        }
+        """;
+
+    DiagnosticCollector<JavaFileObject> diagnostics = compile(source);
+
+    assertThat(diagnostics.getDiagnostics())
+        .anyMatch(
+            diagnostic ->
+                diagnostic.getKind() == Diagnostic.Kind.ERROR
+                    && diagnostic.getMessage(null).contains("not accessible"));
+  }
+
+  private DiagnosticCollector<JavaFileObject> compile(String source) throws IOException {
+    Matcher declaration = Pattern.compile("public (?:class|record) (\\w+)").matcher(source);
+    assertThat(declaration.find()).isTrue();
+    String className = declaration.group(1);
+    Path sourceFile = dir.resolve("src/com/example/" + className + ".java");
+    Files.createDirectories(sourceFile.getParent());
+    Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+    Files.createDirectories(dir.resolve("out"));
+    Files.createDirectories(dir.resolve("generated"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of(
+                  "-classpath", System.getProperty("java.class.path"),
+                  "-d", dir.resolve("out").toString(),
+                  "-s", dir.resolve("generated").toString()),
+              null,
+              fileManager.getJavaFileObjects(sourceFile));
+      task.setProcessors(List.of(new GsonAdapterProcessor()));
+      task.call();
+    }
+    return diagnostics;
+  }
+
+  private static Object newRecord(Class<?> type, Object... values) throws Exception {
+    Constructor<?> constructor = type.getDeclaredConstructors()[0];
+    return constructor.newInstance(values);
+  }
+}
@@ -0,0 +1,81 @@
+package com.athenhub.commonutils.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.commonutils.gson.GsonUtils;
+import com.athenhub.commonutils.gson.JsonRenderLimits;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.reflect.TypeToken;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonCodecTest {
+
+  record Item(String name, int quantity) {}
+
+  private static final Type ITEMS = new TypeToken<List<Item>>() {}.getType();
+
+  private final JsonCodec gson = new GsonJsonCodec();
+  private final JsonCodec jackson = new JacksonJsonCodec(new ObjectMapper());
+
+  @Test
+  @DisplayName("Gson/Jackson 코덱은 같은 DTO를 같은 JSON으로 변환하고 제네릭 타입으로 다시 읽는다")
+  void shouldRoundTripWithBothEngines() {
+    List<Item> items = List.of(new Item("책", 1), new Item("펜", 2));
+
+    assertThat(jackson.toJson(items)).isEqualTo(gson.toJson(items));
+    assertThat(gson.<List<Item>>fromJson(gson.toJson(items), ITEMS)).isEqualTo(items);
+    assertThat(jackson.<List<Item>>fromJson(jackson.toJson(items), ITEMS)).isEqualTo(items);
+    assertThat(jackson.fromJson("{\"name\":\"책\",\"quantity\":1}", Item.class))
+        .isEqualTo(new Item("책", 1));
+  }
+
+  @Test
+  @DisplayName("Jackson 코덱은 최대 길이를 넘으면 잘린 결과 뒤에 생략 표시를 붙인다")
+  void shouldLimitLengthWithJackson() {
+    List<Item> items = IntStream.range(0, 10_000).mapToObj(i -> new Item("item-" + i, i)).toList();
+    JsonRenderLimits limits = new JsonRenderLimits(100, 100, 8);
+
+    String json = jackson.toJson(items, limits);
+
+    assertThat(json).hasSize(100 + GsonUtils.TRUNCATED_MARKER.length());
+    assertThat(json).startsWith("[{\"name\":\"item-0\"").endsWith(GsonUtils.TRUNCATED_MARKER);
+    assertThat(jackson.toJson(items.get(0), limits)).isEqualTo(jackson.toJson(items.get(0)));
+  }
+
+  @Test
+  @DisplayName("Jackson 코덱은 버퍼보다 긴 단일 문자열 값도 최대 길이에서 자른다")
+  void shouldLimitSingleLargeValueWithJackson() {
+    Item large = new Item("x".repeat(1_000_000), 1);
+
+    String json = jackson.toJson(large, new JsonRenderLimits(100, 100, 8));
+
+    assertThat(json).hasSize(100 + GsonUtils.TRUNCATED_MARKER.length());
+    assertThat(json).startsWith("{\"name\":\"xxx").endsWith(GsonUtils.TRUNCATED_MARKER);
+  }
+
+  @Test
+  @DisplayName("Gson 코덱은 GsonUtils.fromJson(String, Class)와 같이 관대한 형식의 JSON을 허용한다")
+  void shouldAcceptLenientInputWithGson() {
+    String lenient = "{'name':'책',quantity:1}";
+
+    assertThat(gson.fromJson(lenient, Item.class))
+        .isEqualTo(GsonUtils.fromJson(lenient, Item.class))
+        .isEqualTo(new Item("책", 1));
+    assertThat(gson.<List<Item>>fromJson("[" + lenient + "]", ITEMS))
+        .containsExactly(new Item("책", 1));
+  }
+
+  @Test
+  @DisplayName("Jackson 코덱의 변환 실패는 UncheckedIOException으로 감싼다")
+  void shouldWrapJacksonFailure() {
+    assertThat(jackson.<Item>fromJson(null, Item.class)).isNull();
+    assertThatThrownBy(() -> jackson.fromJson("{\"name\":", Item.class))
+        .isInstanceOf(UncheckedIOException.class);
+  }
+}